@@ -0,0 +1,56 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Account#credit} and {@link Account#debit}: invariant checks, BigDecimal arithmetic and
+ * building the ledger posting.
+ * The account is re-funded every iteration so debits never run dry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AccountBalanceBenchmark {
+
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("1000000000000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("25.50");
+
+    private Account account;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        account = Account.create(42L, AccountType.CURRENT, Currency.USD);
+        account.credit(OPENING_BALANCE);
+    }
+
+    @Benchmark
+    public BigDecimal credit() {
+        account.credit(AMOUNT);
+        return account.getBalance();
+    }
+
+    @Benchmark
+    public BigDecimal debit() {
+        account.debit(AMOUNT);
+        return account.getBalance();
+    }
+}
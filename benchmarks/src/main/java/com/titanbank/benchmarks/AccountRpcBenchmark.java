@@ -0,0 +1,363 @@
+package com.titanbank.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.titanbank.account.controller.AccountController;
+import com.titanbank.account.controller.ApiResponse;
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.dto.response.AccountResponse;
+import com.titanbank.account.dto.response.TransferResponse;
+import com.titanbank.account.rpc.AccountRpcController;
+import com.titanbank.account.rpc.AccountRpcHandler;
+import com.titanbank.account.service.AccountService;
+import com.titanbank.account.service.IdempotencyService;
+import com.titanbank.account.sharding.ShardRouter;
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.common.security.ForwardedPrincipal;
+import com.titanbank.common.security.ForwardedPrincipalFilter;
+import com.titanbank.common.security.TokenRevocationCheck;
+import com.titanbank.rpc.AccountRpcClient;
+import com.titanbank.rpc.BalanceQuery;
+import com.titanbank.rpc.PostingCommand;
+import com.titanbank.rpc.PostingDirection;
+import com.titanbank.rpc.PostingResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.Http2;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A caller posting to and reading balances from account-service, over the public JSON endpoints
+ * on HTTP/1.1 ({@code rest*}) and over the internal binary API on HTTP/2 ({@code rpc*}).
+ *
+ * <p>Both run against the real controllers in one embedded Tomcat, with the gateway's signed
+ * principal as authentication. The account service is an in-memory stand-in, so what is measured is
+ * everything but the database: client and server encoding, HTTP, Spring MVC and authentication.
+ * {@code bulk*} apply {@value #BULK} credits per operation: one REST call each, one
+ * {@code PostBatch} call, or one {@code StreamPostings} call.
+ *
+ * <p>Client and server share the JVM, so for CPU per call run with
+ * {@code -prof com.titanbank.benchmarks.ProcessCpuProfiler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 15, time = 2)
+@Measurement(iterations = 8, time = 2)
+public class AccountRpcBenchmark {
+
+    static final int BULK = 100;
+
+    private static final long USER_ID = 42L;
+    private static final String SECRET = "benchmark-gateway-principal-secret-0123456789";
+    private static final byte[] CREDIT_BODY = "{\"amount\":1.25}".getBytes();
+    private static final BigDecimal AMOUNT = new BigDecimal("1.25");
+
+    private AnnotationConfigServletWebServerApplicationContext server;
+    private HttpClient restClient;
+    private AccountRpcClient rpcClient;
+    private ObjectMapper objectMapper;
+    private String principal;
+    private URI creditUri;
+    private URI accountsUri;
+    private UUID accountId;
+    private List<PostingCommand> bulk;
+
+    @Setup
+    public void setUp() {
+        server = new AnnotationConfigServletWebServerApplicationContext(Server.class);
+        int port = server.getWebServer().getPort();
+        accountId = server.getBean(InMemoryAccountService.class).open(USER_ID);
+
+        ForwardedPrincipal forwardedPrincipal = server.getBean(ForwardedPrincipal.class);
+        principal = forwardedPrincipal.sign(AuthenticatedUser.of(USER_ID, "bench@titanbank.com", List.of("USER"),
+                System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)));
+        restClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        creditUri = URI.create("http://127.0.0.1:" + port + "/api/v1/accounts/" + accountId + "/credit");
+        accountsUri = URI.create("http://127.0.0.1:" + port + "/api/v1/accounts");
+
+        rpcClient = new AccountRpcClient(URI.create("http://127.0.0.1:" + port), forwardedPrincipal,
+                "benchmarks", Duration.ofSeconds(2), Duration.ofSeconds(10));
+        bulk = new ArrayList<>(BULK);
+        for (int i = 0; i < BULK; i++) {
+            bulk.add(new PostingCommand(null, accountId, USER_ID, PostingDirection.CREDIT, AMOUNT));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public BigDecimal restCredit() throws Exception {
+        return restPost();
+    }
+
+    @Benchmark
+    public BigDecimal rpcPost() {
+        return rpcClient.post(bulk.get(0)).balance();
+    }
+
+    @Benchmark
+    public int restListAccounts() throws Exception {
+        HttpResponse<byte[]> response = restClient.send(HttpRequest.newBuilder(accountsUri)
+                .header(ForwardedPrincipal.HEADER, principal)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        ApiResponse<List<AccountResponse>> body = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+        return body.getData().size();
+    }
+
+    @Benchmark
+    public int rpcGetBalances() {
+        return rpcClient.getBalances(new BalanceQuery(USER_ID, List.of())).accounts().size();
+    }
+
+    @Benchmark
+    public BigDecimal bulkRestCalls() throws Exception {
+        BigDecimal balance = null;
+        for (int i = 0; i < BULK; i++) {
+            balance = restPost();
+        }
+        return balance;
+    }
+
+    @Benchmark
+    public BigDecimal bulkRpcBatch() {
+        List<PostingResult> results = rpcClient.postBatch(bulk);
+        return results.get(results.size() - 1).balance();
+    }
+
+    @Benchmark
+    public BigDecimal bulkRpcStream() {
+        BigDecimal[] balance = new BigDecimal[1];
+        rpcClient.streamPostings(bulk.iterator(), result -> balance[0] = result.balance());
+        return balance[0];
+    }
+
+    // Helper methods
+
+    private BigDecimal restPost() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = restClient.send(HttpRequest.newBuilder(creditUri)
+                .header(ForwardedPrincipal.HEADER, principal)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(CREDIT_BODY))
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        ApiResponse<AccountResponse> body = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+        return body.getData().getBalance();
+    }
+
+    /**
+     * account-service's two controllers behind the forwarded-principal filter, on Tomcat with h2c
+     */
+    @Configuration
+    @EnableWebMvc
+    @Import({AccountController.class, AccountRpcController.class, AccountRpcHandler.class})
+    static class Server implements WebMvcConfigurer {
+
+        @Bean
+        TomcatServletWebServerFactory webServerFactory() {
+            TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+            Http2 http2 = new Http2();
+            http2.setEnabled(true);
+            factory.setHttp2(http2);
+            return factory;
+        }
+
+        @Bean
+        DispatcherServlet dispatcherServlet() {
+            return new DispatcherServlet();
+        }
+
+        @Bean
+        ServletRegistrationBean<DispatcherServlet> dispatcherServletRegistration(DispatcherServlet servlet) {
+            return new ServletRegistrationBean<>(servlet, "/");
+        }
+
+        @Bean
+        ForwardedPrincipal forwardedPrincipal() {
+            return new ForwardedPrincipal(SECRET);
+        }
+
+        @Bean
+        FilterRegistrationBean<ForwardedPrincipalFilter> forwardedPrincipalFilter(
+                ForwardedPrincipal forwardedPrincipal, MeterRegistry meterRegistry) {
+            return new FilterRegistrationBean<>(
+                    new ForwardedPrincipalFilter(forwardedPrincipal, TokenRevocationCheck.NONE, meterRegistry));
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        InMemoryAccountService accountService() {
+            return new InMemoryAccountService();
+        }
+
+        // Only reached with an Idempotency-Key or request id, which the benchmark does not send
+        @Bean
+        IdempotencyService idempotencyService() {
+            return new IdempotencyService() {
+                @Override
+                public <T> T execute(Long userId, String idempotencyKey, String requestFingerprint,
+                                     Class<T> responseType, Supplier<T> mutation) {
+                    return mutation.get();
+                }
+            };
+        }
+
+        @Bean
+        ShardRouter shardRouter() {
+            return new ShardRouter(1);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoOpTransactionManager();
+        }
+
+        @Override
+        public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+            resolvers.add(new AuthenticationPrincipalArgumentResolver());
+        }
+    }
+
+    /**
+     * Accounts in a map, with the entity's own balance rules
+     */
+    static final class InMemoryAccountService implements AccountService {
+        private final Map<UUID, Account> accounts = new ConcurrentHashMap<>();
+
+        UUID open(Long userId) {
+            Account account = Account.create(userId, AccountType.CURRENT, Currency.USD);
+            accounts.put(account.getId(), account);
+            return account.getId();
+        }
+
+        @Override
+        public Account createAccount(Long userId, AccountType accountType, Currency currency) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Account getAccount(UUID accountId, Long userId) {
+            Account account = accounts.get(accountId);
+            if (account == null || !account.getUserId().equals(userId)) {
+                throw new IllegalArgumentException("Account not found or access denied");
+            }
+            return account;
+        }
+
+        @Override
+        public List<Account> getAccountsForUser(Long userId) {
+            return accounts.values().stream().filter(account -> account.getUserId().equals(userId)).toList();
+        }
+
+        @Override
+        public void credit(UUID accountId, Long userId, BigDecimal amount) {
+            Account account = getAccount(accountId, userId);
+            synchronized (account) {
+                account.credit(amount);
+            }
+        }
+
+        @Override
+        public void debit(UUID accountId, Long userId, BigDecimal amount) {
+            Account account = getAccount(accountId, userId);
+            synchronized (account) {
+                account.debit(amount);
+            }
+        }
+
+        @Override
+        public TransferResponse transfer(UUID fromAccountId, UUID toAccountId, Long userId, BigDecimal amount) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void freezeAccount(UUID accountId, Long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void activateAccount(UUID accountId, Long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void closeAccount(UUID accountId, Long userId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.account.domain.enums.AccountStatus;
+import com.titanbank.account.dto.response.BulkStatusChangeResponse;
+import com.titanbank.account.repository.AccountStatusRepository;
+import com.titanbank.account.service.impl.AccountStatusServiceImpl;
+import com.titanbank.account.sharding.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Freezing (and, on alternate invocations, re-activating) every account of 10,000 users with three
+ * accounts each, on the in-memory H2 schema of account-service over one connection.
+ * {@code perAccount} makes the round trips of the single-account endpoint, a locked read and an
+ * update per account in its own transaction; {@code bulk} is {@link AccountStatusServiceImpl} with
+ * the default 1,000 users per chunk. Publishing is stubbed out.
+ *
+ * <p>In-process H2 answers without a network hop, so every statement and commit can be made to
+ * wait {@code roundTripMicros} first, standing in for the trip to a database server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 4)
+@Measurement(iterations = 10)
+public class AccountStatusBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int ACCOUNTS_PER_USER = 3;
+
+    @Param({"0", "200"})
+    public int roundTripMicros;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private AccountStatusServiceImpl service;
+    private List<Long> userIds;
+    private List<Object[]> accounts;
+    private boolean freeze;
+
+    @Setup
+    public void setUp() throws SQLException {
+        dataSource = new SingleConnectionDataSource(withRoundTrip(
+                DriverManager.getConnection("jdbc:h2:mem:account_status", "sa", ""), roundTripMicros * 1_000L), true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Timestamp opened = Timestamp.from(Instant.parse("2024-01-01T00:00:00Z"));
+        userIds = new ArrayList<>(USERS);
+        accounts = new ArrayList<>(USERS * ACCOUNTS_PER_USER);
+        for (long user = 1; user <= USERS; user++) {
+            userIds.add(user);
+            for (int a = 0; a < ACCOUNTS_PER_USER; a++) {
+                accounts.add(new Object[]{UUID.randomUUID(), user});
+            }
+        }
+        List<Object[]> rows = accounts.stream().map(account -> new Object[]{account[0], account[1], opened}).toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO accounts (id, user_id, account_type, currency, balance, status, last_posting_seq,
+                                      version, created_at)
+                VALUES (?, ?, 'CURRENT', 'USD', 0, 'ACTIVE', 0, 0, ?)""", rows);
+
+        KafkaTemplate<String, Object> kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(Map.of())) {
+            @Override
+            public CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object data) {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        service = new AccountStatusServiceImpl(new AccountStatusRepository(new NamedParameterJdbcTemplate(dataSource)),
+                new ShardRouter(1), transactionManager, kafkaTemplate, new SimpleMeterRegistry(),
+                "account-status-changes", 1_000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public int perAccount() {
+        String status = nextStatus().name();
+        int changed = 0;
+        for (Object[] account : accounts) {
+            changed += transactionTemplate.execute(tx -> {
+                jdbcTemplate.queryForObject("SELECT status FROM accounts WHERE id = ? AND user_id = ? FOR UPDATE",
+                        String.class, account[0], account[1]);
+                return jdbcTemplate.update(
+                        "UPDATE accounts SET status = ?, version = version + 1 WHERE id = ?", status, account[0]);
+            });
+        }
+        return changed;
+    }
+
+    @Benchmark
+    public BulkStatusChangeResponse bulk() {
+        return service.changeStatus(userIds, nextStatus(), "benchmark");
+    }
+
+    // Helper methods
+
+    private static Connection withRoundTrip(Connection connection, long nanos) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("commit") || method.getName().equals("rollback")) {
+                        pause(nanos);
+                    }
+                    Object result = invoke(connection, method, args);
+                    return result instanceof Statement statement
+                            ? withRoundTrip(statement, (Class<?>) method.getReturnType(), nanos)
+                            : result;
+                });
+    }
+
+    private static Object withRoundTrip(Statement statement, Class<?> type, long nanos) {
+        return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        pause(nanos);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Spins rather than sleeps: parking overshoots by tens of microseconds
+    private static void pause(long nanos) {
+        long until = System.nanoTime() + nanos;
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private AccountStatus nextStatus() {
+        freeze = !freeze;
+        return freeze ? AccountStatus.FROZEN : AccountStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,71 @@
+package com.titanbank.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.titanbank.user.controller.ApiResponse;
+import com.titanbank.user.dto.response.UserProfileResponse;
+import com.titanbank.user.repository.UserRepository;
+import com.titanbank.user.service.UserServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of the {@link ApiResponse} envelope around a user profile, with an
+ * ObjectMapper configured the way Spring Boot configures its HTTP message converter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter profileWriter;
+    private ApiResponse<UserProfileResponse> profileResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> Optional.of(Fixtures.user()));
+        UserProfileResponse profile = new UserServiceImpl(repository, null, null, null).getUserProfile(42L);
+
+        profileResponse = ApiResponse.success(profile, "Profile retrieved successfully");
+        profileWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(ApiResponse.class, UserProfileResponse.class));
+    }
+
+    /**
+     * What Spring MVC does per response: resolve the serializer through the mapper and write
+     */
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        return objectMapper.writeValueAsBytes(profileResponse);
+    }
+
+    /**
+     * Same payload through a writer bound to the response type
+     */
+    @Benchmark
+    public byte[] typedWriter() throws Exception {
+        return profileWriter.writeValueAsBytes(profileResponse);
+    }
+}
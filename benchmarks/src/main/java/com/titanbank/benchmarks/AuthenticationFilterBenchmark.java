@@ -0,0 +1,74 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.common.security.LeanAuthenticationFilter;
+import com.titanbank.common.security.TokenRevocationCheck;
+import com.titanbank.user.security.JwtKeyRing;
+import com.titanbank.user.security.JwtKeyRingProperties;
+import com.titanbank.user.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bearer request through {@link LeanAuthenticationFilter} as user-service wires it, with metrics.
+ * {@code cacheSize=0} verifies the signature on every request; the default size reuses the
+ * verified authentication. Revocation (a Redis round trip in user-service) is left out. Bytes
+ * allocated per request are kept in the baseline as the GC profiler's {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuthenticationFilterBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    private LeanAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(
+                new JwtKeyRing(new JwtKeyRingProperties(), SECRET, 900L), 900L, 604800L);
+
+        filter = new LeanAuthenticationFilter(tokenProvider::authenticate, TokenRevocationCheck.NONE,
+                cacheSize, new SimpleMeterRegistry());
+
+        request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader("Authorization", "Bearer " + tokenProvider.generateAccessToken(Fixtures.user()));
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws Exception {
+        filter.doFilter(request, response, chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,135 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.account.domain.entity.BalanceCheckpoint;
+import com.titanbank.account.dto.response.BalanceAsOfResponse;
+import com.titanbank.account.repository.BalanceHistoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balance at a random past instant for an account with 1M postings: the checkpoint lookup
+ * ({@link BalanceHistoryRepository}) against summing history, and a 2,000-account audit batch.
+ * Runs on the in-memory H2 schema of account-service, so absolute numbers flatter a real database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class BalanceAsOfBenchmark {
+
+    private static final Instant OPENED = Instant.parse("2025-01-01T00:00:00Z");
+    private static final int HISTORY = 1_000_000;
+    private static final int BATCH_ACCOUNTS = 2_000;
+    private static final int BATCH_POSTINGS = 50;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private BalanceHistoryRepository repository;
+
+    private UUID busyAccount;
+    private List<UUID> batchAccounts;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:balance_as_of", "sa", "", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new BalanceHistoryRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+
+        busyAccount = UUID.randomUUID();
+        insertAccount(busyAccount, HISTORY);
+
+        batchAccounts = new ArrayList<>(BATCH_ACCOUNTS);
+        for (int i = 0; i < BATCH_ACCOUNTS; i++) {
+            UUID id = UUID.randomUUID();
+            batchAccounts.add(id);
+            insertAccount(id, BATCH_POSTINGS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public BigDecimal checkpointLookup() {
+        return repository.findBalancesAt(List.of(busyAccount), randomInstant(HISTORY)).get(0).getBalance();
+    }
+
+    @Benchmark
+    public BigDecimal fullReplay() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM postings WHERE account_id = ? AND posted_at <= ?",
+                BigDecimal.class, busyAccount, Timestamp.from(randomInstant(HISTORY)));
+    }
+
+    @Benchmark
+    public List<BalanceAsOfResponse> batchOf2000Accounts() {
+        Instant at = randomInstant(BATCH_POSTINGS);
+        List<BalanceAsOfResponse> balances = new ArrayList<>(
+                repository.findBalancesAt(batchAccounts.subList(0, BATCH_ACCOUNTS / 2), at));
+        balances.addAll(repository.findBalancesAt(batchAccounts.subList(BATCH_ACCOUNTS / 2, BATCH_ACCOUNTS), at));
+        return balances;
+    }
+
+    // One credit of 1 per second, with a checkpoint wherever the service would write one
+    private void insertAccount(UUID id, int postings) {
+        jdbcTemplate.update("""
+                INSERT INTO accounts (id, user_id, account_type, currency, balance, status, last_posting_seq, version, created_at)
+                VALUES (?, 1, 'SAVINGS', 'USD', ?, 'ACTIVE', ?, 0, ?)""",
+                id, BigDecimal.valueOf(postings), postings, Timestamp.from(OPENED));
+
+        List<Object[]> rows = new ArrayList<>(10_000);
+        List<Object[]> checkpoints = new ArrayList<>();
+        for (int seq = 1; seq <= postings; seq++) {
+            Timestamp postedAt = Timestamp.from(OPENED.plusSeconds(seq));
+            rows.add(new Object[]{id, seq, BigDecimal.ONE, BigDecimal.valueOf(seq), postedAt});
+            if (seq % BalanceCheckpoint.INTERVAL == 0) {
+                checkpoints.add(new Object[]{id, seq, BigDecimal.valueOf(seq), postedAt});
+            }
+            if (rows.size() == 10_000 || seq == postings) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO postings (account_id, seq, amount, balance_after, posted_at) VALUES (?, ?, ?, ?, ?)",
+                        rows);
+                rows.clear();
+            }
+        }
+        if (!checkpoints.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO balance_checkpoints (account_id, seq, balance, posted_at) VALUES (?, ?, ?, ?)",
+                    checkpoints);
+        }
+    }
+
+    private static Instant randomInstant(int postings) {
+        return OPENED.plusSeconds(ThreadLocalRandom.current().nextInt(1, postings + 1));
+    }
+}
@@ -0,0 +1,156 @@
+package com.titanbank.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file against a stored baseline of the same format.
+ *
+ * <p>Entries are matched on benchmark name and parameters. A throughput score that drops, or a
+ * time-per-operation score that rises, by more than the tolerance is a regression. Benchmarks
+ * missing from the baseline are reported as new and never fail the comparison.
+ *
+ * <p>When a run carries the GC profiler's {@code gc.alloc.rate.norm}, it is compared as a second
+ * entry keyed {@code "<benchmark> [alloc]"}: more bytes per operation is worse, but a rise below
+ * {@value #ALLOCATION_NOISE_BYTES} bytes is treated as noise whatever its relative size.
+ *
+ * <pre>
+ *   java -cp benchmarks/target/benchmarks.jar com.titanbank.benchmarks.BaselineComparison \
+ *       jmh-result.json benchmarks/baseline.json [tolerance]
+ * </pre>
+ */
+public final class BaselineComparison {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    static final String ALLOCATION = "gc.alloc.rate.norm";
+    static final double ALLOCATION_NOISE_BYTES = 16;
+
+    private final double tolerance;
+
+    public BaselineComparison(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineComparison <result.json> <baseline.json> [tolerance]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.15;
+
+        List<Entry> entries = new BaselineComparison(tolerance).compare(Path.of(args[0]), Path.of(args[1]));
+        System.exit(report(entries, System.out) ? 1 : 0);
+    }
+
+    public List<Entry> compare(Path results, Path baseline) throws IOException {
+        Map<String, Score> current = read(results);
+        Map<String, Score> previous = read(baseline);
+
+        List<Entry> entries = new ArrayList<>(current.size());
+        for (Map.Entry<String, Score> result : current.entrySet()) {
+            Score score = result.getValue();
+            Score base = previous.get(result.getKey());
+
+            if (base == null || !base.mode.equals(score.mode) || !base.unit.equals(score.unit)) {
+                entries.add(new Entry(result.getKey(), score, null, Double.NaN, Verdict.NEW));
+                continue;
+            }
+
+            // Positive change is always "better", whichever direction the mode counts in
+            double change = score.higherIsBetter()
+                    ? (score.value - base.value) / base.value
+                    : (base.value - score.value) / base.value;
+
+            boolean noise = score.isAllocation() && Math.abs(score.value - base.value) < ALLOCATION_NOISE_BYTES;
+            Verdict verdict = noise ? Verdict.UNCHANGED
+                    : change < -tolerance ? Verdict.REGRESSION
+                    : change > tolerance ? Verdict.IMPROVEMENT
+                    : Verdict.UNCHANGED;
+            entries.add(new Entry(result.getKey(), score, base, change, verdict));
+        }
+        return entries;
+    }
+
+    /**
+     * Print one line per benchmark; returns whether any regressed
+     */
+    public static boolean report(List<Entry> entries, PrintStream out) {
+        boolean regressed = false;
+        out.printf("%n%-72s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Current", "Change", "Verdict");
+        for (Entry entry : entries) {
+            out.printf("%-72s %14s %14.3f %9s  %s%n",
+                    entry.key(),
+                    entry.baseline() == null ? "-" : String.format("%.3f", entry.baseline().value),
+                    entry.current().value,
+                    Double.isNaN(entry.change()) ? "-" : String.format("%+.1f%%", entry.change() * 100),
+                    entry.verdict());
+            regressed |= entry.verdict() == Verdict.REGRESSION;
+        }
+        return regressed;
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : JSON.readTree(Files.readAllBytes(file))) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            if (!params.isMissingNode()) {
+                key.append(' ');
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> param = it.next();
+                    key.append(param.getKey()).append('=').append(param.getValue().asText());
+                    if (it.hasNext()) {
+                        key.append(',');
+                    }
+                }
+            }
+
+            JsonNode metric = run.path("primaryMetric");
+            scores.put(key.toString(), new Score(
+                    run.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    metric.path("scoreUnit").asText()));
+
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION);
+            if (!allocation.isMissingNode()) {
+                scores.put(key + " [alloc]", new Score(
+                        ALLOCATION,
+                        allocation.path("score").asDouble(),
+                        allocation.path("scoreUnit").asText()));
+            }
+        }
+        return scores;
+    }
+
+    public enum Verdict {
+        REGRESSION, UNCHANGED, IMPROVEMENT, NEW
+    }
+
+    public record Score(String mode, double value, String unit) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        boolean isAllocation() {
+            return ALLOCATION.equals(mode);
+        }
+    }
+
+    /**
+     * @param change relative change, positive when better; NaN without a baseline
+     */
+    public record Entry(String key, Score current, Score baseline, double change, Verdict verdict) {
+    }
+}
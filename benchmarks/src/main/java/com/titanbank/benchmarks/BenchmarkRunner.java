@@ -0,0 +1,79 @@
+package com.titanbank.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar: runs JMH, writes JSON results and compares them with the baseline.
+ *
+ * <p>Arguments are passed to JMH unchanged (e.g. a benchmark regex, {@code -f}, {@code -wi}).
+ * The GC profiler always runs, so every result carries {@code gc.alloc.rate.norm} (bytes per operation).
+ * System properties:
+ * <ul>
+ *   <li>{@code benchmarks.result} - result file, default {@code jmh-result.json}</li>
+ *   <li>{@code benchmarks.baseline} - baseline file, default {@code benchmarks/baseline.json}</li>
+ *   <li>{@code benchmarks.tolerance} - allowed relative slowdown, default 0.15</li>
+ *   <li>{@code benchmarks.updateBaseline} - overwrite the baseline with this run instead of comparing</li>
+ * </ul>
+ * Exits with status 1 when any benchmark regressed.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path result = Path.of(System.getProperty("benchmarks.result", "jmh-result.json"));
+        Path baseline = Path.of(System.getProperty("benchmarks.baseline", "benchmarks/baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("benchmarks.tolerance", "0.15"));
+
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString());
+        if (commandLine.getProfilers().stream().noneMatch(BenchmarkRunner::isGcProfiler)) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+
+        if (Boolean.getBoolean("benchmarks.updateBaseline")) {
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline + "; results written to " + result);
+            return;
+        }
+
+        List<BaselineComparison.Entry> entries = new BaselineComparison(tolerance).compare(result, baseline);
+        if (BaselineComparison.report(entries, System.out)) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean isGcProfiler(ProfilerConfig profiler) {
+        return "gc".equals(profiler.getKlass()) || GCProfiler.class.getName().equals(profiler.getKlass());
+    }
+}
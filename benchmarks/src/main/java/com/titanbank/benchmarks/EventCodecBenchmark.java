@@ -0,0 +1,104 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.events.EventSchemas;
+import com.titanbank.events.UserLoggedInEvent;
+import com.titanbank.events.UserProfileUpdatedEvent;
+import com.titanbank.events.UserRegisteredEvent;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user-events values through the {@link EventSchemas} binary codec and through the Spring Kafka
+ * JSON serializer it replaced, which also adds a {@code __TypeId__} header per record. Encoded
+ * sizes, headers included, are printed once per event type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventCodecBenchmark {
+
+    private static final String TOPIC = "user-events";
+
+    @Param({"loggedIn", "registered", "profileUpdated"})
+    public String event;
+
+    private Object value;
+    private byte[] binary;
+
+    private JsonSerializer<Object> jsonSerializer;
+    private JsonDeserializer<Object> jsonDeserializer;
+    private RecordHeaders jsonHeaders;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        long userId = 7_312_845_211_640_963_072L;
+        Instant at = Instant.now();
+        value = switch (event) {
+            case "loggedIn" -> new UserLoggedInEvent(userId, "ada.lovelace@example.com", at);
+            case "registered" -> new UserRegisteredEvent(UUID.randomUUID(), userId, "ada.lovelace@example.com",
+                    "Ada", "Lovelace", UUID.randomUUID().toString(), at);
+            case "profileUpdated" -> new UserProfileUpdatedEvent(userId, at);
+            default -> throw new IllegalArgumentException(event);
+        };
+        binary = EventSchemas.REGISTRY.encode(value);
+
+        jsonSerializer = new JsonSerializer<>();
+        jsonDeserializer = new JsonDeserializer<>();
+        // Type headers are kept so the same record can be decoded on every invocation
+        jsonDeserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "com.titanbank.events",
+                JsonDeserializer.REMOVE_TYPE_INFO_HEADERS, false), false);
+        jsonHeaders = new RecordHeaders();
+        json = jsonSerializer.serialize(TOPIC, jsonHeaders, value);
+
+        int headerBytes = 0;
+        for (Header header : jsonHeaders) {
+            headerBytes += header.key().getBytes(StandardCharsets.UTF_8).length + header.value().length;
+        }
+        System.out.printf("%n%s: binary %d bytes, json %d bytes + %d bytes of type header%n",
+                event, binary.length, json.length, headerBytes);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return EventSchemas.REGISTRY.encode(value);
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return EventSchemas.REGISTRY.decode(binary);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), value);
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return jsonDeserializer.deserialize(TOPIC, jsonHeaders, json);
+    }
+}
@@ -0,0 +1,50 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.common.security.UserRole;
+import com.titanbank.user.model.entity.User;
+import com.titanbank.user.model.entity.UserProfile;
+import com.titanbank.user.model.enums.KYCStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Sample data shared by the suites, shaped like a fully onboarded customer.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static User user() {
+        User user = User.builder()
+                .userId(42L)
+                .email("bench@titanbank.com")
+                .passwordHash("$2a$12$abcdefghijklmnopqrstuuN0aXv0JzHHBbnQ7X2nV4lS1p3.2mZ5y")
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .phoneNumber("+44 20 7946 0000")
+                .dateOfBirth(LocalDate.of(1990, 12, 10))
+                .kycStatus(KYCStatus.APPROVED)
+                .isActive(true)
+                .isEmailVerified(true)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 9, 30))
+                .build();
+        user.addRole(UserRole.USER);
+        user.addRole(UserRole.TRADER);
+
+        user.setProfile(UserProfile.builder()
+                .userId(42L)
+                .user(user)
+                .addressLine1("12 St James's Square")
+                .city("London")
+                .state("Greater London")
+                .postalCode("SW1Y 4LB")
+                .country("GB")
+                .employmentStatus("EMPLOYED")
+                .annualIncome(new BigDecimal("85000.00"))
+                .build());
+        return user;
+    }
+}
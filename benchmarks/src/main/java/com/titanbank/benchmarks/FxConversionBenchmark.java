@@ -0,0 +1,80 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.fx.FxRateTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One currency conversion: {@link FxRateTable#convert} on minor units against the same conversion
+ * done with {@code BigDecimal} arithmetic on the loaded rates. Amounts and currency pairs are drawn
+ * from a pre-generated table so the random source is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FxConversionBenchmark {
+
+    private static final int SAMPLES = 4_096;
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private FxRateTable rates;
+    private long[] amounts;
+    private BigDecimal[] decimalAmounts;
+    private Currency[] from;
+    private Currency[] to;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        rates = FxRateTable.of(Currency.USD,
+                Map.of(Currency.EUR, new BigDecimal("0.9214"), Currency.INR, new BigDecimal("83.2650")),
+                Instant.now());
+        SplittableRandom random = new SplittableRandom(42);
+        amounts = new long[SAMPLES];
+        decimalAmounts = new BigDecimal[SAMPLES];
+        from = new Currency[SAMPLES];
+        to = new Currency[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            amounts[i] = random.nextLong(1, 100_000_000_000L);
+            decimalAmounts[i] = BigDecimal.valueOf(amounts[i], 2);
+            from[i] = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            to[i] = CURRENCIES[random.nextInt(CURRENCIES.length)];
+        }
+    }
+
+    @Benchmark
+    public long minorUnits() {
+        int i = next++ & (SAMPLES - 1);
+        return rates.convert(amounts[i], from[i], to[i], RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        int i = next++ & (SAMPLES - 1);
+        Map<Currency, BigDecimal> perBase = rates.getUnitsPerBase();
+        return decimalAmounts[i]
+                .multiply(perBase.get(to[i]))
+                .divide(perBase.get(from[i]), MathContext.DECIMAL64)
+                .setScale(to[i].getFractionDigits(), RoundingMode.HALF_EVEN);
+    }
+}
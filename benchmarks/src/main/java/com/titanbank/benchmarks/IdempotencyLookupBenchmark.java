@@ -0,0 +1,116 @@
+package com.titanbank.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.titanbank.account.domain.entity.IdempotencyRecord;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.dto.response.TransferResponse;
+import com.titanbank.account.repository.IdempotencyRecordRepository;
+import com.titanbank.account.service.impl.IdempotencyServiceImpl;
+import com.titanbank.account.sharding.ShardRouter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replay of a repeated Idempotency-Key from the in-process tier of {@link IdempotencyServiceImpl}:
+ * fingerprint hash, LRU lookup and response deserialization, sampled for the latency distribution
+ * (the target is a p99 under 100 µs). {@value #KEYS} keys are claimed once in setup, through a
+ * repository and transaction manager that only accept the claim, so a miss fails the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IdempotencyLookupBenchmark {
+
+    private static final int KEYS = 10_000;
+    private static final long USER_ID = 42L;
+    private static final String FINGERPRINT = "POST:/api/v1/accounts/transfer:" + UUID.nameUUIDFromBytes(new byte[0]);
+
+    private IdempotencyServiceImpl service;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        service = new IdempotencyServiceImpl(
+                claimOnlyRepository(),
+                new ShardRouter(1),
+                noOpTransactionManager(),
+                new ObjectMapper().findAndRegisterModules(),
+                new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class),
+                Duration.ofHours(24),
+                KEYS,
+                false);
+        TransferResponse response = response();
+        for (int k = 0; k < KEYS; k++) {
+            service.execute(USER_ID, key(k), FINGERPRINT, TransferResponse.class, () -> response);
+        }
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public TransferResponse cacheHit() {
+        return service.execute(USER_ID, key(random.nextInt(KEYS)), FINGERPRINT, TransferResponse.class, () -> {
+            throw new IllegalStateException("Replay ran the mutation");
+        });
+    }
+
+    private static String key(int k) {
+        return "transfer-" + k;
+    }
+
+    private static TransferResponse response() {
+        return TransferResponse.builder()
+                .fromAccountId(UUID.randomUUID())
+                .toAccountId(UUID.randomUUID())
+                .debitedAmount(new BigDecimal("125.00"))
+                .debitedCurrency(Currency.USD)
+                .creditedAmount(new BigDecimal("115.31"))
+                .creditedCurrency(Currency.EUR)
+                .rate(new BigDecimal("0.92248"))
+                .rateAsOf(Instant.parse("2026-10-19T09:00:00Z"))
+                .build();
+    }
+
+    private static IdempotencyRecordRepository claimOnlyRepository() {
+        return (IdempotencyRecordRepository) Proxy.newProxyInstance(
+                IdempotencyRecordRepository.class.getClassLoader(),
+                new Class<?>[]{IdempotencyRecordRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("saveAndFlush") && args[0] instanceof IdempotencyRecord record) {
+                        return record;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static PlatformTransactionManager noOpTransactionManager() {
+        return (PlatformTransactionManager) Proxy.newProxyInstance(
+                PlatformTransactionManager.class.getClassLoader(),
+                new Class<?>[]{PlatformTransactionManager.class},
+                (proxy, method, args) -> method.getName().equals("getTransaction")
+                        ? new SimpleTransactionStatus()
+                        : null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.interest.InterestAccrualJob;
+import com.titanbank.account.interest.InterestProperties;
+import com.titanbank.account.repository.InterestAccrualRepository;
+import com.titanbank.account.sharding.ShardRouter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One day of {@link InterestAccrualJob} over 100,000 active savings accounts, one accrual date per
+ * invocation, by chunk size. Single connection and worker, on the in-memory H2 schema of
+ * account-service; accounts per second is {@code 100,000 / score}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class InterestAccrualBenchmark {
+
+    private static final int ACCOUNTS = 100_000;
+    private static final int USER_ID_STEP = 3;
+
+    @Param({"100", "2000"})
+    public int chunkSize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private InterestAccrualJob job;
+    private LocalDate accrualDate = LocalDate.of(2025, 1, 1);
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:interest_accrual", "sa", "", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Timestamp opened = Timestamp.from(Instant.parse("2024-01-01T00:00:00Z"));
+        List<Object[]> rows = new ArrayList<>(10_000);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), 1_000L + (long) i * USER_ID_STEP,
+                    BigDecimal.valueOf(100 + i % 50_000), opened});
+            if (rows.size() == 10_000) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO accounts (id, user_id, account_type, currency, balance, status,
+                                              last_posting_seq, version, created_at)
+                        VALUES (?, ?, 'SAVINGS', 'USD', ?, 'ACTIVE', 0, 0, ?)""", rows);
+                rows.clear();
+            }
+        }
+
+        InterestProperties properties = new InterestProperties();
+        properties.setAnnualRates(Map.of(Currency.USD, new BigDecimal("0.04")));
+        properties.setChunkSize(chunkSize);
+        properties.setParallelism(1);
+        job = new InterestAccrualJob(new InterestAccrualRepository(jdbcTemplate),
+                new DataSourceTransactionManager(dataSource), new ShardRouter(1), properties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public InterestAccrualJob.Run accrueDay() {
+        accrualDate = accrualDate.plusDays(1);
+        return job.run(accrualDate);
+    }
+}
@@ -0,0 +1,114 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.common.security.UserRole;
+import com.titanbank.user.model.entity.User;
+import com.titanbank.user.security.JwtKeyRing;
+import com.titanbank.user.security.JwtKeyRingProperties;
+import com.titanbank.user.security.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token sign, verify and parse throughput with 32 concurrent threads.
+ *
+ * The legacy* benchmarks reproduce the previous JwtTokenProvider: key derived from the
+ * secret and a parser built on every call, signed with jjwt's built-in HS512.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+    private String token;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRingProperties.Key next = new JwtKeyRingProperties.Key();
+        next.setKid("next");
+        next.setSecret(SECRET + "-next");
+        next.setActivateAt(Instant.now().plusSeconds(86400));
+
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setKeys(List.of(next));
+
+        tokenProvider = new JwtTokenProvider(new JwtKeyRing(properties, SECRET, 900L), 900L, 604800L);
+
+        user = User.builder()
+                .userId(42L)
+                .email("bench@titanbank.com")
+                .build();
+        user.addRole(UserRole.USER);
+
+        token = tokenProvider.generateAccessToken(user);
+        legacyToken = legacySign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser parse() {
+        return tokenProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public String legacySign() {
+        return Jwts.builder()
+                .subject(user.getUserId().toString())
+                .claim("email", user.getEmail())
+                .claim("roles", List.of(UserRole.USER.name()))
+                .issuedAt(new java.util.Date())
+                .expiration(new java.util.Date(System.currentTimeMillis() + 900_000))
+                .signWith(legacyKey(), Jwts.SIG.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public Long legacyVerify() {
+        return Long.parseLong(Jwts.parser()
+                .verifyWith(legacyKey())
+                .build()
+                .parseSignedClaims(legacyToken)
+                .getPayload()
+                .getSubject());
+    }
+
+    private static SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.events.EventSchemas;
+import com.titanbank.events.UserLoggedInEvent;
+import com.titanbank.user.analytics.LoginAnalytics;
+import com.titanbank.user.analytics.LoginAnalyticsListener;
+import com.titanbank.user.analytics.LoginAnalyticsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per login event of the analytics consumer: schema check, binary decode, minute and hour
+ * windows, HyperLogLog and burst tracking. Batches are the size of a consumer poll; one million
+ * users log in over ten minutes, so the tracked-user bound is constantly evicting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoginAnalyticsBenchmark {
+
+    private static final int BATCH = 2_000;
+    private static final int BATCHES = 100;
+
+    private LoginAnalyticsListener listener;
+    private List<List<ConsumerRecord<String, byte[]>>> batches;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        listener = new LoginAnalyticsListener(
+                new LoginAnalytics(new LoginAnalyticsProperties(), new SimpleMeterRegistry()));
+
+        SplittableRandom random = new SplittableRandom(42);
+        Instant start = Instant.parse("2026-05-01T10:00:00Z");
+        batches = new ArrayList<>(BATCHES);
+        long offset = 0;
+        for (int b = 0; b < BATCHES; b++) {
+            List<ConsumerRecord<String, byte[]>> batch = new ArrayList<>(BATCH);
+            for (int i = 0; i < BATCH; i++, offset++) {
+                long userId = (1_000_000L + random.nextInt(1_000_000)) << 22;
+                // 200k logins over ten minutes
+                Instant at = start.plusMillis(offset * 3);
+                byte[] value = EventSchemas.REGISTRY.encode(
+                        new UserLoggedInEvent(userId, "user" + userId + "@example.com", at));
+                batch.add(new ConsumerRecord<>("user-events", 0, offset, Long.toString(userId), value));
+            }
+            batches.add(batch);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void consumeBatch() {
+        listener.onUserEvents(batches.get(next));
+        next = (next + 1) % BATCHES;
+    }
+}
@@ -0,0 +1,65 @@
+package com.titanbank.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU time of the whole benchmark process per operation, in the benchmark's time unit, for suites
+ * whose work runs on other threads than the benchmark's, such as a server in the same JVM. Includes
+ * JIT and GC threads, so compare it between benchmarks of one run only.
+ *
+ * <p>Enable with {@code -prof com.titanbank.benchmarks.ProcessCpuProfiler}.
+ */
+public class ProcessCpuProfiler implements InternalProfiler {
+
+    private long startNanos;
+
+    @Override
+    public String getDescription() {
+        return "Process CPU time per operation";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        startNanos = processCpuNanos();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+            BenchmarkParams benchmarkParams,
+            IterationParams iterationParams,
+            IterationResult result) {
+        long cpuNanos = processCpuNanos() - startNanos;
+        long operations = Math.max(1, result.getMetadata().getMeasuredOps());
+        TimeUnit unit = benchmarkParams.getTimeUnit();
+        double perOperation = (double) cpuNanos / operations / TimeUnit.NANOSECONDS.convert(1, unit);
+        return List.of(new ScalarResult("cpu", perOperation, unitLabel(unit) + "/op", AggregationPolicy.AVG));
+    }
+
+    // Helper methods
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    private static String unitLabel(TimeUnit unit) {
+        return switch (unit) {
+            case NANOSECONDS -> "ns";
+            case MICROSECONDS -> "us";
+            case MILLISECONDS -> "ms";
+            case SECONDS -> "s";
+            default -> unit.name().toLowerCase();
+        };
+    }
+}
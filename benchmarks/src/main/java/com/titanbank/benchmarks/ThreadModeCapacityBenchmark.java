@@ -0,0 +1,238 @@
+package com.titanbank.benchmarks;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Platform-pool vs virtual-thread comparison for a login-shaped request:
+ * user lookup, user save, Redis write and Kafka send, each simulated as
+ * blocking I/O with the latencies below. BCrypt is CPU-bound and costs the
+ * same in both modes, so it is left out.
+ *
+ * Reports, per mode:
+ *  - peak concurrent in-flight requests (all requests parked on a gate, as
+ *    with slow downstreams) and the memory each one holds: heap, resident
+ *    set size, and thread stacks as reserved and committed,
+ *  - throughput and latency percentiles for a fixed batch of requests.
+ *
+ * Platform-thread stacks live outside the heap, so heap alone undercounts
+ * them; virtual-thread stacks are heap objects. RSS is read from
+ * /proc/self/status (Linux only). Stack figures come from Native Memory
+ * Tracking and need -XX:NativeMemoryTracking=summary.
+ *
+ * Run on Java 21 for the virtual-thread half:
+ *   java -XX:NativeMemoryTracking=summary -cp benchmarks/target/benchmarks.jar \
+ *       com.titanbank.benchmarks.ThreadModeCapacityBenchmark [inFlight] [poolSize]
+ */
+public final class ThreadModeCapacityBenchmark {
+
+    private static final long[] LOGIN_IO_MILLIS = {4, 3, 1, 2}; // DB lookup, DB save, Redis, Kafka
+    private static final Pattern RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+    private static final Pattern NMT_THREAD = Pattern.compile("Thread \\(reserved=(\\d+)KB, committed=(\\d+)KB\\)");
+
+    private ThreadModeCapacityBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int inFlight = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int poolSize = args.length > 1 ? Integer.parseInt(args[1]) : 200; // Tomcat default max threads
+
+        System.out.printf("Login-shaped workload, %d concurrent clients%n%n", inFlight);
+
+        try (Mode platform = new Mode("platform(" + poolSize + ")", Executors.newFixedThreadPool(poolSize))) {
+            report(platform, inFlight);
+        }
+
+        ExecutorService virtual = newVirtualThreadExecutor();
+        if (virtual == null) {
+            System.out.println("virtual: skipped (requires Java 21)");
+            return;
+        }
+        try (Mode mode = new Mode("virtual", virtual)) {
+            report(mode, inFlight);
+        }
+    }
+
+    private static void report(Mode mode, int inFlight) throws InterruptedException {
+        Capacity capacity = measureCapacity(mode.executor, inFlight);
+        long[] latencies = measureLatency(mode.executor, inFlight);
+        Arrays.sort(latencies);
+
+        long wallMicros = latencies[latencies.length - 1];
+        System.out.printf(
+                "%-16s in-flight=%-6d per in-flight: heap=%6.1f KB  rss=%s  stack reserved=%s committed=%s"
+                        + "  throughput=%8.0f req/s  p50=%6.1f ms  p99=%6.1f ms  max=%6.1f ms%n",
+                mode.name,
+                capacity.peakInFlight,
+                capacity.perRequest(Memory::heapUsed) / 1024.0,
+                kilobytes(capacity.perRequest(Memory::rss)),
+                kilobytes(capacity.perRequest(Memory::stackReserved)),
+                kilobytes(capacity.perRequest(Memory::stackCommitted)),
+                inFlight / (wallMicros / 1_000_000.0),
+                percentile(latencies, 0.50) / 1000.0,
+                percentile(latencies, 0.99) / 1000.0,
+                wallMicros / 1000.0
+        );
+    }
+
+    /**
+     * Park every request on a gate and count how many the executor admits at once.
+     */
+    private static Capacity measureCapacity(ExecutorService executor, int inFlight) throws InterruptedException {
+        System.gc();
+        Memory before = Memory.snapshot();
+
+        AtomicInteger active = new AtomicInteger();
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(inFlight);
+
+        for (int i = 0; i < inFlight; i++) {
+            executor.execute(() -> {
+                active.incrementAndGet();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        Thread.sleep(1_000); // let the executor admit as many as it can
+        int peak = active.get();
+        Memory atPeak = Memory.snapshot();
+
+        gate.countDown();
+        done.await(5, TimeUnit.MINUTES);
+
+        return new Capacity(peak, before, atPeak);
+    }
+
+    /**
+     * Submit all requests at once and record submit-to-completion latency in micros.
+     */
+    private static long[] measureLatency(ExecutorService executor, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        CountDownLatch done = new CountDownLatch(requests);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < requests; i++) {
+            int slot = i;
+            executor.execute(() -> {
+                try {
+                    simulateLogin();
+                } finally {
+                    latencies[slot] = (System.nanoTime() - start) / 1_000;
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await(10, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    private static void simulateLogin() {
+        try {
+            for (long millis : LOGIN_IO_MILLIS) {
+                Thread.sleep(millis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String kilobytes(double bytes) {
+        return Double.isNaN(bytes) ? "    n/a" : String.format("%6.1f KB", bytes / 1024.0);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    /**
+     * Reflective so this compiles on the Java 17 baseline.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private record Capacity(int peakInFlight, Memory before, Memory atPeak) {
+
+        /**
+         * Growth of one memory figure per admitted request; NaN when it could not be read
+         */
+        double perRequest(ToLongFunction<Memory> figure) {
+            long from = figure.applyAsLong(before);
+            long to = figure.applyAsLong(atPeak);
+            if (from < 0 || to < 0) {
+                return Double.NaN;
+            }
+            return Math.max(0, to - from) / (double) Math.max(1, peakInFlight);
+        }
+    }
+
+    /**
+     * Bytes in use at one instant; -1 where the figure is unavailable on this JVM or platform.
+     */
+    private record Memory(long heapUsed, long rss, long stackReserved, long stackCommitted) {
+
+        static Memory snapshot() {
+            long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            long rss = -1;
+            try {
+                Matcher m = RSS.matcher(Files.readString(Path.of("/proc/self/status")));
+                if (m.find()) {
+                    rss = Long.parseLong(m.group(1)) * 1024;
+                }
+            } catch (IOException e) {
+                // not Linux
+            }
+
+            long reserved = -1;
+            long committed = -1;
+            try {
+                String summary = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                        new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                        "vmNativeMemory",
+                        new Object[]{new String[]{"summary"}},
+                        new String[]{String[].class.getName()});
+                Matcher m = NMT_THREAD.matcher(summary);
+                if (m.find()) {
+                    reserved = Long.parseLong(m.group(1)) * 1024;
+                    committed = Long.parseLong(m.group(2)) * 1024;
+                }
+            } catch (JMException e) {
+                // no diagnostic command MBean; NMT being off leaves the summary without a Thread line
+            }
+            return new Memory(heap, rss, reserved, committed);
+        }
+    }
+
+    private record Mode(String name, ExecutorService executor) implements AutoCloseable {
+
+        @Override
+        public void close() throws InterruptedException {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
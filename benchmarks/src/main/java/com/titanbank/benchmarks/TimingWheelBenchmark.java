@@ -0,0 +1,80 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.transaction.scheduler.HierarchicalTimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One scheduler tick of the standing order scheduler: expire the orders due in the last second and
+ * schedule each one's next occurrence up to ten minutes out, so the number held stays at
+ * {@code pending}. The wheel uses the scheduler's default geometry; a binary heap ordered by
+ * deadline is the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TimingWheelBenchmark {
+
+    private static final long TICK_MS = 1_000;
+    private static final int LOOK_AHEAD_MS = 600_000;
+
+    @Param({"10000", "1000000"})
+    private int pending;
+
+    private HierarchicalTimingWheel<Long> wheel;
+    private PriorityQueue<Timer> heap;
+    private SplittableRandom random;
+    private long wheelNow;
+    private long heapNow;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        wheel = new HierarchicalTimingWheel<>(TICK_MS, 64, 3, 0);
+        heap = new PriorityQueue<>(pending, Comparator.comparingLong(Timer::deadline));
+        for (long i = 0; i < pending; i++) {
+            long deadline = random.nextInt(LOOK_AHEAD_MS);
+            wheel.schedule(i, deadline);
+            heap.add(new Timer(i, deadline));
+        }
+    }
+
+    @Benchmark
+    public int wheelTick() {
+        long now = wheelNow += TICK_MS;
+        return wheel.advanceTo(now, (order, deadline) -> wheel.schedule(order, now + random.nextInt(LOOK_AHEAD_MS)));
+    }
+
+    @Benchmark
+    public int heapTick() {
+        long now = heapNow += TICK_MS;
+        int expired = 0;
+        while (heap.peek().deadline() <= now) {
+            Timer timer = heap.poll();
+            heap.add(new Timer(timer.order(), now + random.nextInt(LOOK_AHEAD_MS)));
+            expired++;
+        }
+        return expired;
+    }
+
+    private record Timer(long order, long deadline) {
+    }
+}
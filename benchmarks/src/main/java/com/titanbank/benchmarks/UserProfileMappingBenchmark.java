@@ -0,0 +1,63 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.user.dto.response.UserProfileResponse;
+import com.titanbank.user.model.entity.User;
+import com.titanbank.user.repository.UserRepository;
+import com.titanbank.user.service.UserServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping behind {@code GET /api/v1/users/me}.
+ *
+ * <p>{@code mapToProfileResponse} is private, so this goes through {@link UserServiceImpl#getUserProfile}
+ * with a repository that returns a preloaded user; the remainder is one log call at INFO
+ * (disabled by the suite's logback.xml).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserProfileMappingBenchmark {
+
+    private UserServiceImpl userService;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        User user = Fixtures.user();
+        userId = user.getUserId();
+
+        Optional<User> found = Optional.of(user);
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return found;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        userService = new UserServiceImpl(repository, null, null, null);
+    }
+
+    @Benchmark
+    public UserProfileResponse getUserProfile() {
+        return userService.getUserProfile(userId);
+    }
+}
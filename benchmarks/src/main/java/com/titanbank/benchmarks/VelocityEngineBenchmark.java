@@ -0,0 +1,95 @@
+package com.titanbank.benchmarks;
+
+import com.titanbank.account.velocity.VelocityEngine;
+import com.titanbank.account.velocity.VelocityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debit-path cost of {@link VelocityEngine} with the default rules (burst, hourly, daily) over
+ * 100,000 accounts that each already hold 90 debits from the last day, the most the daily rule
+ * leaves room for. {@code admit} releases its debit again so the state stays the same size;
+ * {@code record} is a replicated posting arriving from the stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VelocityEngineBenchmark {
+
+    private static final int ACCOUNTS = 100_000;
+    private static final int DEBITS_PER_ACCOUNT = 90;
+    private static final long NOW = 1_760_000_000_000L;
+    private static final long DAY_MS = Duration.ofDays(1).toMillis();
+    private static final BigDecimal AMOUNT = new BigDecimal("12.50");
+
+    private VelocityEngine engine;
+    private UUID[] accounts;
+    private SplittableRandom random;
+    private long nextSeq = 1_000_000;
+
+    @Setup
+    public void setUp() {
+        VelocityProperties properties = new VelocityProperties();
+        properties.setRules(List.of(
+                rule("burst", Duration.ofMinutes(1), 10, null),
+                rule("hourly", Duration.ofHours(1), 30, new BigDecimal("20000")),
+                rule("daily", Duration.ofDays(1), 100, new BigDecimal("50000"))));
+        engine = new VelocityEngine(properties, new SimpleMeterRegistry());
+
+        random = new SplittableRandom(42);
+        accounts = new UUID[ACCOUNTS];
+        for (int a = 0; a < ACCOUNTS; a++) {
+            accounts[a] = new UUID(random.nextLong(), random.nextLong());
+            for (int seq = 1; seq <= DEBITS_PER_ACCOUNT; seq++) {
+                // Spread over the day, none in the last minute
+                long at = NOW - DAY_MS + (long) seq * (DAY_MS - 60_000) / DEBITS_PER_ACCOUNT;
+                engine.record(accounts[a], seq, AMOUNT, at);
+            }
+        }
+    }
+
+    @Benchmark
+    public long admit() {
+        UUID account = accounts[random.nextInt(ACCOUNTS)];
+        long seq = nextSeq++;
+        engine.admit(account, seq, AMOUNT, NOW);
+        engine.release(account, seq);
+        return seq;
+    }
+
+    @Benchmark
+    public long record() {
+        UUID account = accounts[random.nextInt(ACCOUNTS)];
+        long seq = nextSeq++;
+        engine.record(account, seq, AMOUNT, NOW - DAY_MS / 2);
+        return seq;
+    }
+
+    private static VelocityProperties.Rule rule(String name, Duration window, int maxCount, BigDecimal maxAmount) {
+        VelocityProperties.Rule rule = new VelocityProperties.Rule();
+        rule.setName(name);
+        rule.setWindow(window);
+        rule.setMaxCount(maxCount);
+        rule.setMaxAmount(maxAmount);
+        return rule;
+    }
+}
@@ -0,0 +1,111 @@
+package com.titanbank.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaselineComparisonTest {
+
+    @TempDir
+    Path dir;
+
+    private final BaselineComparison comparison = new BaselineComparison(0.10);
+
+    @Test
+    void testThroughputDrop_IsRegression() throws Exception {
+        // Given
+        Path baseline = write("baseline.json", run("JwtBench.sign", "thrpt", 100.0, "ops/ms", null));
+        Path result = write("result.json", run("JwtBench.sign", "thrpt", 80.0, "ops/ms", null));
+
+        // When
+        List<BaselineComparison.Entry> entries = comparison.compare(result, baseline);
+
+        // Then
+        assertThat(entries).singleElement()
+                .extracting(BaselineComparison.Entry::verdict)
+                .isEqualTo(BaselineComparison.Verdict.REGRESSION);
+    }
+
+    @Test
+    void testAverageTimeDrop_IsImprovement() throws Exception {
+        // Given
+        Path baseline = write("baseline.json", run("AccountBench.credit", "avgt", 50.0, "ns/op", null));
+        Path result = write("result.json", run("AccountBench.credit", "avgt", 40.0, "ns/op", null));
+
+        // When
+        BaselineComparison.Entry entry = comparison.compare(result, baseline).get(0);
+
+        // Then
+        assertThat(entry.verdict()).isEqualTo(BaselineComparison.Verdict.IMPROVEMENT);
+        assertThat(entry.change()).isCloseTo(0.2, org.assertj.core.data.Offset.offset(1e-9));
+    }
+
+    @Test
+    void testParamsAreMatchedSeparately() throws Exception {
+        // Given
+        Path baseline = write("baseline.json",
+                run("BCrypt.encode", "avgt", 1.0, "ms/op", "4") + ","
+                        + run("BCrypt.encode", "avgt", 200.0, "ms/op", "12"));
+        Path result = write("result.json",
+                run("BCrypt.encode", "avgt", 1.05, "ms/op", "4") + ","
+                        + run("BCrypt.encode", "avgt", 300.0, "ms/op", "12") + ","
+                        + run("BCrypt.matches", "avgt", 200.0, "ms/op", "12"));
+
+        // When
+        List<BaselineComparison.Entry> entries = comparison.compare(result, baseline);
+
+        // Then
+        assertThat(entries).extracting(BaselineComparison.Entry::verdict).containsExactly(
+                BaselineComparison.Verdict.UNCHANGED,
+                BaselineComparison.Verdict.REGRESSION,
+                BaselineComparison.Verdict.NEW);
+        assertThat(BaselineComparison.report(entries, new java.io.PrintStream(java.io.OutputStream.nullOutputStream())))
+                .isTrue();
+    }
+
+    @Test
+    void testAllocationRise_IsRegressionUnlessBelowNoise() throws Exception {
+        // Given
+        Path baseline = write("baseline.json",
+                allocatingRun("Filter.cached", 96.0) + "," + allocatingRun("Filter.uncached", 4.0));
+        Path result = write("result.json",
+                allocatingRun("Filter.cached", 400.0) + "," + allocatingRun("Filter.uncached", 12.0));
+
+        // When
+        List<BaselineComparison.Entry> entries = comparison.compare(result, baseline);
+
+        // Then - the primary scores are unchanged; 4 -> 12 bytes triples but stays within the noise floor
+        assertThat(entries).extracting(BaselineComparison.Entry::key).containsExactly(
+                "Filter.cached", "Filter.cached [alloc]", "Filter.uncached", "Filter.uncached [alloc]");
+        assertThat(entries).extracting(BaselineComparison.Entry::verdict).containsExactly(
+                BaselineComparison.Verdict.UNCHANGED,
+                BaselineComparison.Verdict.REGRESSION,
+                BaselineComparison.Verdict.UNCHANGED,
+                BaselineComparison.Verdict.UNCHANGED);
+    }
+
+    private Path write(String name, String runs) throws Exception {
+        return Files.writeString(dir.resolve(name), "[" + runs + "]");
+    }
+
+    private static String run(String benchmark, String mode, double score, String unit, String strength) {
+        String params = strength == null ? "" : ", \"params\": {\"strength\": \"" + strength + "\"}";
+        return """
+                {"benchmark": "%s", "mode": "%s"%s,
+                 "primaryMetric": {"score": %s, "scoreError": 0.5, "scoreUnit": "%s"}}
+                """.formatted(benchmark, mode, params, score, unit);
+    }
+
+    private static String allocatingRun(String benchmark, double bytes) {
+        return """
+                {"benchmark": "%s", "mode": "avgt",
+                 "primaryMetric": {"score": 500.0, "scoreError": 0.5, "scoreUnit": "ns/op"},
+                 "secondaryMetrics": {"gc.alloc.rate.norm": {"score": %s, "scoreError": 0.1, "scoreUnit": "B/op"}}}
+                """.formatted(benchmark, bytes);
+    }
+}
@@ -0,0 +1,68 @@
+package com.titanbank.common.datasource;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Read-your-writes session of the current thread.
+ *
+ * <p>The session carries the commit time, in epoch millis, of the caller's last write. Read-only
+ * transactions go only to replicas that have replayed everything committed by then. Each write
+ * committed while the session is bound moves that time forward and is reported to the session's
+ * listener, which hands it back to the caller as a token for its next request.
+ */
+public final class ReadConsistency {
+
+    /** Request and response header carrying the token */
+    public static final String HEADER = "X-TitanBank-Read-After";
+
+    private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    /**
+     * Earliest commit time a replica must have replayed to serve the current thread
+     */
+    public static long notBefore() {
+        Session session = CURRENT.get();
+        return session == null ? Long.MIN_VALUE : session.notBefore;
+    }
+
+    /**
+     * @param notBefore commit time of the caller's last write, or {@link Long#MIN_VALUE}
+     * @param onWrite   receives the new token after each write committed in this session
+     */
+    public static Binding bind(long notBefore, LongConsumer onWrite) {
+        Session previous = CURRENT.get();
+        CURRENT.set(new Session(notBefore, onWrite));
+        return previous == null ? CURRENT::remove : () -> CURRENT.set(previous);
+    }
+
+    static void committed(long committedAt) {
+        Session session = CURRENT.get();
+        if (session != null && committedAt > session.notBefore) {
+            session.notBefore = committedAt;
+            session.onWrite.accept(committedAt);
+        }
+    }
+
+    /**
+     * Restores the previous session on close
+     */
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static final class Session {
+        private final LongConsumer onWrite;
+        private long notBefore;
+
+        Session(long notBefore, LongConsumer onWrite) {
+            this.notBefore = notBefore;
+            this.onWrite = onWrite;
+        }
+    }
+}
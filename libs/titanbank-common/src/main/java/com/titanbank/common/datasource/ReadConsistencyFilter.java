@@ -0,0 +1,50 @@
+package com.titanbank.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds each request to a {@link ReadConsistency} session.
+ *
+ * <p>The session starts from the request's {@link ReadConsistency#HEADER} token, moved on by the
+ * allowed clock skew because the token may come from another instance. A write committed during the
+ * request sets the header on the response; clients send the latest token they have received back
+ * with their next requests. A missing or malformed token places no constraint on reads.
+ */
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    private final long clockSkewMillis;
+
+    public ReadConsistencyFilter(long clockSkewMillis) {
+        this.clockSkewMillis = clockSkewMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        long notBefore = Long.MIN_VALUE;
+        String token = request.getHeader(ReadConsistency.HEADER);
+        if (token != null) {
+            try {
+                notBefore = Long.parseLong(token) + clockSkewMillis;
+            } catch (NumberFormatException e) {
+                // Ignored
+            }
+        }
+
+        try (ReadConsistency.Binding ignored = ReadConsistency.bind(notBefore, committedAt -> {
+            if (!response.isCommitted()) {
+                response.setHeader(ReadConsistency.HEADER, String.valueOf(committedAt));
+            }
+        })) {
+            chain.doFilter(request, response);
+        }
+    }
+}
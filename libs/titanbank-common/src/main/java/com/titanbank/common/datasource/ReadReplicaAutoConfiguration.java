@@ -0,0 +1,55 @@
+package com.titanbank.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to the replicas in {@code titanbank.read-replicas} when it is
+ * enabled. The data source built from {@code spring.datasource} is replaced unless the service
+ * defines its own, which can route through {@link ReadReplicaDataSources} with the probe registered
+ * here.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass({AbstractRoutingDataSource.class, HikariDataSource.class})
+@ConditionalOnProperty(prefix = "titanbank.read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({ReadReplicaProperties.class, DataSourceProperties.class})
+public class ReadReplicaAutoConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagProbe replicaLagProbe(ReadReplicaProperties properties) {
+        return new ReplicaLagProbe(properties.getProbeInterval());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public ReadConsistencyFilter readConsistencyFilter(ReadReplicaProperties properties) {
+        return new ReadConsistencyFilter(properties.getClockSkew().toMillis());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(DataSource.class)
+    public DataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            ReadReplicaProperties properties,
+            ReplicaLagProbe probe,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        DataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        return ReadReplicaDataSources.lazy(ReadReplicaDataSources.route("primary", primary,
+                properties.getReplicas(), properties, probe, meterRegistry.getIfAvailable()));
+    }
+}
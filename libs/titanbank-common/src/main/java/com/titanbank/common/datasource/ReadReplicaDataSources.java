@@ -0,0 +1,64 @@
+package com.titanbank.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * Builds replica-routing data sources from {@link ReadReplicaProperties}.
+ */
+public final class ReadReplicaDataSources {
+
+    private ReadReplicaDataSources() {
+    }
+
+    /**
+     * Route read-only transactions on {@code primary} to the given replicas, probed by {@code probe}
+     *
+     * @param name          names the primary in logs and metrics
+     * @param meterRegistry registry for the routing metrics, or null
+     * @return {@code primary} itself when there are no replicas
+     */
+    public static DataSource route(String name, DataSource primary, List<ReadReplicaProperties.Replica> replicas,
+                                   ReadReplicaProperties properties, ReplicaLagProbe probe,
+                                   MeterRegistry meterRegistry) {
+        if (properties.getMaxLag().compareTo(properties.getProbeInterval()) <= 0) {
+            throw new IllegalArgumentException("titanbank.read-replicas.max-lag must be longer than probe-interval");
+        }
+        if (replicas.isEmpty()) {
+            return primary;
+        }
+
+        List<DataSource> pools = replicas.stream()
+                .map(replica -> {
+                    HikariDataSource dataSource = DataSourceBuilder.create()
+                            .type(HikariDataSource.class)
+                            .url(replica.getUrl())
+                            .username(replica.getUsername())
+                            .password(replica.getPassword())
+                            .build();
+                    dataSource.setMaximumPoolSize(properties.getPoolSize());
+                    dataSource.setReadOnly(true);
+                    return (DataSource) dataSource;
+                })
+                .toList();
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(name, primary, pools, ReplicationPositions.POSTGRESQL,
+                properties.getMaxLag(), Clock.systemUTC());
+        probe.register(monitor);
+        return new ReadReplicaRoutingDataSource(primary, monitor, meterRegistry);
+    }
+
+    /**
+     * Defer taking a connection until the first statement, by which time the transaction's
+     * read-only flag is known
+     */
+    public static DataSource lazy(DataSource dataSource) {
+        return new LazyConnectionDataSourceProxy(dataSource);
+    }
+}
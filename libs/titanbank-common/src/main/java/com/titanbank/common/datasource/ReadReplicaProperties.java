@@ -0,0 +1,39 @@
+package com.titanbank.common.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming replicas of {@code spring.datasource} that serve read-only transactions.
+ */
+@Data
+@ConfigurationProperties(prefix = "titanbank.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    /** Replicas further behind the primary than this are skipped; must be longer than the probe interval */
+    private Duration maxLag = Duration.ofSeconds(1);
+
+    /** How often replication positions are sampled */
+    private Duration probeInterval = Duration.ofMillis(200);
+
+    /** Allowed clock difference between instances when honouring a read token issued by another one */
+    private Duration clockSkew = Duration.ofMillis(50);
+
+    /** Connections per replica */
+    private int poolSize = 10;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,109 @@
+package com.titanbank.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything
+ * else.
+ *
+ * <p>A replica is chosen by the {@link ReplicaLagMonitor}; when none qualifies the read goes to the
+ * primary. The transaction's read-only flag is only set once it has begun, so this must sit behind
+ * a lazy connection proxy (see {@link ReadReplicaDataSources#lazy}). Writes committed in a
+ * transaction are reported to the thread's {@link ReadConsistency} session.
+ *
+ * <p>Given a {@link MeterRegistry}, reads are counted as {@code datasource.reads} by target and
+ * fallback reason, and each replica's lag is gauged as {@code datasource.replica.lag}.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor monitor;
+
+    // Null when metrics are disabled
+    private final Counter replicaReads;
+    private final Counter laggingReads;
+    private final Counter sessionReads;
+
+    /**
+     * @param meterRegistry registry for the read counters and lag gauges, or null
+     */
+    public ReadReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor monitor, MeterRegistry meterRegistry) {
+        this.monitor = monitor;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<DataSource> replicas = monitor.replicas();
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            targets.put(replica, replicas.get(replica));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        if (meterRegistry == null) {
+            replicaReads = laggingReads = sessionReads = null;
+            return;
+        }
+        replicaReads = readCounter(meterRegistry, "replica", "none");
+        laggingReads = readCounter(meterRegistry, PRIMARY, "lag");
+        sessionReads = readCounter(meterRegistry, PRIMARY, "session");
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            int index = replica;
+            Gauge.builder("datasource.replica.lag", monitor, m -> m.lagMillis(index))
+                    .description("Time a replica is known to be behind its primary; -1 while it cannot be probed")
+                    .baseUnit("milliseconds")
+                    .tags("datasource", monitor.name(), "replica", String.valueOf(replica))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        ReadConsistency.committed(monitor.clock().millis());
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        int replica = monitor.pick(ReadConsistency.notBefore());
+        if (replica >= 0) {
+            increment(replicaReads);
+            return replica;
+        }
+        increment(replica == ReplicaLagMonitor.BEHIND_SESSION ? sessionReads : laggingReads);
+        return PRIMARY;
+    }
+
+    // Helper methods
+
+    private Counter readCounter(MeterRegistry meterRegistry, String target, String fallback) {
+        return Counter.builder("datasource.reads")
+                .description("Read-only transactions by the node that served them")
+                .tags("datasource", monitor.name(), "target", target, "fallback", fallback)
+                .register(meterRegistry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
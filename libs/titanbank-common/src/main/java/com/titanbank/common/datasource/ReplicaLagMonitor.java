@@ -0,0 +1,166 @@
+package com.titanbank.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks, for each replica of one primary, the latest moment whose commits it is known to have
+ * replayed.
+ *
+ * <p>Each probe stamps the time and then reads the primary's log position, so every commit that
+ * finished before the stamp lies at or below that position. A replica that has replayed up to a
+ * sampled position is therefore visible as of that sample's time, and its lag is the time since.
+ * Samples are kept for about the maximum lag. A replica that cannot be probed is not used until
+ * a later probe succeeds.
+ *
+ * <p>{@link #probe()} is called from one thread; {@link #pick(long)} from any.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /** {@link #pick(long)}: no replica is within the maximum lag */
+    public static final int LAGGING = -1;
+
+    /** {@link #pick(long)}: replicas are within the maximum lag, but none has the caller's last write yet */
+    public static final int BEHIND_SESSION = -2;
+
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
+    private final String name;
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReplicationPositions positions;
+    private final long maxLagMillis;
+    private final Clock clock;
+
+    // Primary positions, oldest first, and whether the last read succeeded; probing thread only
+    private final ArrayDeque<Sample> samples = new ArrayDeque<>();
+    private boolean primaryProbed = true;
+    private final AtomicLongArray visibleAsOf;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaLagMonitor(String name, DataSource primary, List<DataSource> replicas,
+                             ReplicationPositions positions, Duration maxLag, Clock clock) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.name = name;
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.positions = positions;
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+        this.visibleAsOf = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            visibleAsOf.set(i, UNKNOWN);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public List<DataSource> replicas() {
+        return replicas;
+    }
+
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * Sample the primary's position, then each replica's
+     */
+    public void probe() {
+        long sampledAt = clock.millis();
+        try {
+            samples.addLast(new Sample(sampledAt, positions.written(primary)));
+        } catch (SQLException | RuntimeException e) {
+            // Replicas keep their last visibility and age out of use if this persists
+            if (primaryProbed) {
+                primaryProbed = false;
+                log.warn("Could not read the log position of {}: {}", name, e.getMessage());
+            }
+            return;
+        }
+        primaryProbed = true;
+        // One sample older than the maximum lag is kept, so that a lagging replica still has a lag
+        while (samples.size() > 1) {
+            Sample oldest = samples.removeFirst();
+            if (samples.peekFirst().at() >= sampledAt - maxLagMillis) {
+                samples.addFirst(oldest);
+                break;
+            }
+        }
+
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                visibleAsOf.set(i, visibleAsOf(positions.replayed(replicas.get(i))));
+            } catch (SQLException | RuntimeException e) {
+                if (visibleAsOf.getAndSet(i, UNKNOWN) != UNKNOWN) {
+                    log.warn("Not reading from replica {} of {}: {}", i, name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Replica to read from, taking turns among those within the maximum lag that have replayed every
+     * commit up to {@code notBefore} (epoch millis)
+     *
+     * @return the replica's index, or {@link #LAGGING} or {@link #BEHIND_SESSION} to read from the primary
+     */
+    public int pick(long notBefore) {
+        long now = clock.millis();
+        int count = replicas.size();
+        int first = Math.floorMod(next.getAndIncrement(), count);
+        int fallback = LAGGING;
+        for (int n = 0; n < count; n++) {
+            int replica = (first + n) % count;
+            long visible = visibleAsOf.get(replica);
+            if (visible == UNKNOWN || now - visible > maxLagMillis) {
+                continue;
+            }
+            if (visible < notBefore) {
+                fallback = BEHIND_SESSION;
+                continue;
+            }
+            return replica;
+        }
+        return fallback;
+    }
+
+    /**
+     * Milliseconds the replica is known to be behind, or -1 while it cannot be probed or is behind
+     * every sample kept
+     */
+    public long lagMillis(int replica) {
+        long visible = visibleAsOf.get(replica);
+        return visible == UNKNOWN ? -1 : Math.max(0, clock.millis() - visible);
+    }
+
+    // Helper methods
+
+    private long visibleAsOf(long replayed) {
+        Iterator<Sample> newestFirst = samples.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Sample sample = newestFirst.next();
+            if (sample.position() <= replayed) {
+                return sample.at();
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private record Sample(long at, long position) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.titanbank.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probes every registered {@link ReplicaLagMonitor} at a fixed interval, on one thread.
+ */
+@Slf4j
+public class ReplicaLagProbe {
+
+    private final long intervalMillis;
+    private final List<ReplicaLagMonitor> monitors = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaLagProbe(Duration interval) {
+        this.intervalMillis = interval.toMillis();
+    }
+
+    public void register(ReplicaLagMonitor monitor) {
+        monitors.add(monitor);
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::probe, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // Helper methods
+
+    private void probe() {
+        for (ReplicaLagMonitor monitor : monitors) {
+            try {
+                monitor.probe();
+            } catch (RuntimeException e) {
+                log.error("Replica probe of {} failed", monitor.name(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.titanbank.common.datasource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reads how far the primary has written and how far a replica has replayed, as positions in one
+ * ever-increasing log.
+ */
+public interface ReplicationPositions {
+
+    /** WAL positions as byte offsets */
+    ReplicationPositions POSTGRESQL = new ReplicationPositions() {
+        @Override
+        public long written(DataSource primary) throws SQLException {
+            return query(primary, "SELECT pg_current_wal_lsn() - '0/0'::pg_lsn");
+        }
+
+        @Override
+        public long replayed(DataSource replica) throws SQLException {
+            return query(replica, "SELECT pg_last_wal_replay_lsn() - '0/0'::pg_lsn");
+        }
+    };
+
+    long written(DataSource primary) throws SQLException;
+
+    long replayed(DataSource replica) throws SQLException;
+
+    private static long query(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            long position = rs.getLong(1);
+            if (rs.wasNull()) {
+                throw new SQLException("Not a streaming replica");
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.titanbank.common.id;
+
+import java.util.UUID;
+
+/**
+ * Spreads ids that share most of their bits (Snowflake sequences, UUIDv7 timestamps) over the
+ * full 64-bit range before they pick a shard, stripe or sketch register.
+ *
+ * <p>This is the MurmurHash3 64-bit finalizer: every input bit affects every output bit, and
+ * the result is stable across JVMs and releases, so it can key data that is stored.
+ */
+public final class IdHashing {
+
+    private IdHashing() {
+    }
+
+    public static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    public static long mix(UUID id) {
+        return mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,52 @@
+package com.titanbank.common.id;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Random UUIDs for secrets such as verification, reset and refresh tokens.
+ *
+ * <p>{@link UUID#randomUUID()} draws from one shared {@code NativePRNG}, which serialises every
+ * caller on a global lock. Here requests are spread over {@code SHA1PRNG} instances, each self-seeded
+ * from the operating system on first use and locking only itself, so the output stays
+ * cryptographically strong without the contention.
+ * Identifiers that are not secret should use {@link UuidV7} or {@link SnowflakeIdGenerator}.
+ */
+public final class SecureTokens {
+
+    private static final SecureRandom[] STRIPES = createStripes();
+
+    private SecureTokens() {
+    }
+
+    public static UUID randomUuid() {
+        byte[] bytes = new byte[16];
+        STRIPES[ThreadLocalRandom.current().nextInt(STRIPES.length)].nextBytes(bytes);
+
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x40); // version 4
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80); // IETF variant
+
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = (msb << 8) | (bytes[i] & 0xff);
+            lsb = (lsb << 8) | (bytes[i + 8] & 0xff);
+        }
+        return new UUID(msb, lsb);
+    }
+
+    private static SecureRandom[] createStripes() {
+        // Twice the cores, rounded to a power of two, keeps two threads on one stripe unlikely
+        SecureRandom[] stripes = new SecureRandom[Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2];
+        for (int i = 0; i < stripes.length; i++) {
+            try {
+                stripes[i] = SecureRandom.getInstance("SHA1PRNG");
+            } catch (NoSuchAlgorithmException ex) {
+                stripes[i] = new SecureRandom();
+            }
+        }
+        return stripes;
+    }
+}
@@ -0,0 +1,63 @@
+package com.titanbank.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free, time-ordered 64-bit ids: 41 bits of milliseconds since 2024-01-01, a 10-bit node id
+ * and a 12-bit per-millisecond sequence.
+ *
+ * <p>The last issued (millisecond, sequence) pair is one {@link AtomicLong}. A burst beyond 4096 ids
+ * in a millisecond carries into the next one instead of spinning, and a clock that steps backwards
+ * keeps counting from the last issued id, so ids from one generator never repeat or go backwards.
+ * Uniqueness across instances relies on each one having its own node id.
+ */
+public final class SnowflakeIdGenerator {
+
+    /** 2024-01-01T00:00:00Z; ids stay positive until 2093 */
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static volatile SnowflakeIdGenerator shared = new SnowflakeIdGenerator(0);
+
+    private final long nodeBits;
+
+    // (millis since epoch << SEQUENCE_BITS) | sequence, of the last id handed out
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    /**
+     * Process-wide generator used by {@link TimeOrderedId}; node 0 until configured
+     */
+    public static SnowflakeIdGenerator shared() {
+        return shared;
+    }
+
+    public static void setShared(SnowflakeIdGenerator generator) {
+        shared = generator;
+    }
+
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long issued = last.accumulateAndGet(now, (previous, current) -> current > previous ? current : previous + 1);
+        return ((issued >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (issued & SEQUENCE_MASK);
+    }
+
+    public static long epochMillis(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeId(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
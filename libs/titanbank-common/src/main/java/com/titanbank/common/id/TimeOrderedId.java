@@ -0,0 +1,21 @@
+package com.titanbank.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates the id in memory when the entity is persisted: a {@link SnowflakeIdGenerator} id for
+ * {@code Long} ids, a {@link UuidV7} for {@code UUID} ids. Unlike {@code IDENTITY}, no insert has
+ * to run before the id is known, so Hibernate can batch inserts.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,44 @@
+package com.titanbank.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * Hibernate side of {@link TimeOrderedId}
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    private final boolean uuid;
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        Class<?> type = member instanceof Field field ? field.getType() : ((Method) member).getReturnType();
+
+        if (type == UUID.class) {
+            this.uuid = true;
+        } else if (type == Long.class || type == long.class) {
+            this.uuid = false;
+        } else {
+            throw new IllegalArgumentException("@TimeOrderedId needs a Long or UUID id, found " + type.getName());
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return uuid ? UuidV7.next() : SnowflakeIdGenerator.shared().nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,20 @@
+package com.titanbank.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configures the process-wide {@link SnowflakeIdGenerator} from {@code titanbank.id.node-id}, which
+ * must be unique among the running instances of a service.
+ */
+@AutoConfiguration
+public class TitanBankIdAutoConfiguration {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${titanbank.id.node-id:0}") int nodeId) {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(nodeId);
+        SnowflakeIdGenerator.setShared(generator);
+        return generator;
+    }
+}
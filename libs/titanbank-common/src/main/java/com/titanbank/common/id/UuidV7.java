@@ -0,0 +1,42 @@
+package com.titanbank.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7).
+ *
+ * <p>The top 48 bits are the Unix epoch milliseconds, so keys generated close together land on the
+ * same B-tree pages instead of scattering like {@link UUID#randomUUID()}. The remaining 74 bits come
+ * from {@link ThreadLocalRandom}: these are identifiers, not secrets, and do not need to contend on
+ * the shared {@code SecureRandom}.
+ */
+public final class UuidV7 {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        return of(System.currentTimeMillis(), ThreadLocalRandom.current());
+    }
+
+    static UUID of(long epochMillis, ThreadLocalRandom random) {
+        long msb = (epochMillis << 16) | VERSION_7 | (random.nextInt() & 0x0FFF);
+        long lsb = (random.nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Creation time embedded in a version 7 UUID
+     */
+    public static long epochMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,41 @@
+package com.titanbank.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot-path timers, registered once and held in fields.
+ *
+ * <p>Call sites record {@code System.nanoTime()} deltas into a pre-built {@link Timer}; no tags,
+ * samples or lambdas are created per call. Each timer publishes client-side percentiles (backed by
+ * HdrHistogram) and a bucketed histogram for server-side quantiles across instances.
+ */
+public final class LatencyTimers {
+
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(10_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private LatencyTimers() {
+    }
+
+    public static Timer timer(MeterRegistry registry, String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(registry);
+    }
+
+    /**
+     * Record the time since {@code startNanos}, taken from {@link System#nanoTime()}
+     */
+    public static void recordSince(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,63 @@
+package com.titanbank.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@code repository.invocations} timers per repository, method and outcome.
+ *
+ * <p>Replaces Spring Boot's repository auto-timing, which builds its tags on every call. Timers are
+ * created on the first invocation of each method and looked up by identity afterwards.
+ */
+public class RepositoryLatencyListener implements RepositoryMethodInvocationListener {
+
+    private static final RepositoryMethodInvocationResult.State[] STATES =
+            RepositoryMethodInvocationResult.State.values();
+
+    private final Supplier<MeterRegistry> registry;
+    private final Map<Class<?>, Map<Method, Timer[]>> timers = new ConcurrentHashMap<>();
+    private final Function<Class<?>, Map<Method, Timer[]>> newMethodMap = repository -> new ConcurrentHashMap<>();
+
+    public RepositoryLatencyListener(Supplier<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        Class<?> repository = invocation.getRepositoryInterface();
+        Method method = invocation.getMethod();
+
+        Map<Method, Timer[]> byMethod = timers.get(repository);
+        if (byMethod == null) {
+            byMethod = timers.computeIfAbsent(repository, newMethodMap);
+        }
+        Timer[] byState = byMethod.get(method);
+        if (byState == null) {
+            byState = byMethod.computeIfAbsent(method, m -> register(repository, m));
+        }
+
+        RepositoryMethodInvocationResult result = invocation.getResult();
+        int state = result != null ? result.getState().ordinal() : 0;
+        byState[state].record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] register(Class<?> repository, Method method) {
+        Timer[] byState = new Timer[STATES.length];
+        for (RepositoryMethodInvocationResult.State state : STATES) {
+            byState[state.ordinal()] = LatencyTimers.timer(registry.get(), "repository.invocations",
+                    "Spring Data repository call latency",
+                    "repository", repository.getSimpleName(),
+                    "method", method.getName(),
+                    "state", state.name());
+        }
+        return byState;
+    }
+}
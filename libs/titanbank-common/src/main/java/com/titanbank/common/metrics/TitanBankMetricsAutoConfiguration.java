@@ -0,0 +1,36 @@
+package com.titanbank.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Registers {@link RepositoryLatencyListener} on every Spring Data repository.
+ * Set {@code management.metrics.data.repository.autotime.enabled=false} to avoid timing twice.
+ */
+@AutoConfiguration
+@ConditionalOnClass({MeterRegistry.class, RepositoryFactoryBeanSupport.class})
+@ConditionalOnProperty(prefix = "titanbank.metrics.repository", name = "enabled", matchIfMissing = true)
+public class TitanBankMetricsAutoConfiguration {
+
+    @Bean
+    public static BeanPostProcessor repositoryLatencyBeanPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        // Resolved lazily: post-processors are created before the registry
+        RepositoryLatencyListener listener = new RepositoryLatencyListener(registry::getObject);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
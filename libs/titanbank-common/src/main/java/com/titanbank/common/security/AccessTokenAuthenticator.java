@@ -0,0 +1,13 @@
+package com.titanbank.common.security;
+
+/**
+ * Verifies an access token (signature, expiry) and maps its claims to a principal
+ */
+@FunctionalInterface
+public interface AccessTokenAuthenticator {
+
+    /**
+     * @throws RuntimeException if the token is invalid; the request then continues unauthenticated
+     */
+    AuthenticatedUser authenticate(String token);
+}
@@ -0,0 +1,49 @@
+package com.titanbank.common.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Principal of an authenticated request, built once per access token and reused for every
+ * request that presents the same token.
+ *
+ * @param expiresAtMillis access token expiry, epoch millis
+ */
+public record AuthenticatedUser(
+        Long userId,
+        String email,
+        Set<UserRole> roles,
+        List<GrantedAuthority> authorities,
+        long expiresAtMillis
+) implements Serializable {
+
+    /**
+     * Build from token claims; role names this service doesn't know are ignored
+     */
+    public static AuthenticatedUser of(Long userId, String email, Collection<String> roleNames, long expiresAtMillis) {
+        EnumSet<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        if (roleNames != null) {
+            for (String roleName : roleNames) {
+                for (UserRole role : UserRole.values()) {
+                    if (role.name().equals(roleName)) {
+                        roles.add(role);
+                    }
+                }
+            }
+        }
+        return new AuthenticatedUser(userId, email, Set.copyOf(roles), RoleAuthorities.of(roles), expiresAtMillis);
+    }
+
+    public boolean hasRole(UserRole role) {
+        return roles.contains(role);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,44 @@
+package com.titanbank.common.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verified authentications by raw Authorization header, dropped once the token expires.
+ * Keying by the header avoids even the substring allocation on a hit.
+ */
+final class AuthenticationCache {
+
+    private final Map<String, TokenAuthentication> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    AuthenticationCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    TokenAuthentication get(String authorizationHeader, long nowMillis) {
+        TokenAuthentication authentication = entries.get(authorizationHeader);
+        if (authentication != null && authentication.getUser().isExpired(nowMillis)) {
+            entries.remove(authorizationHeader, authentication);
+            return null;
+        }
+        return authentication;
+    }
+
+    void put(String authorizationHeader, TokenAuthentication authentication, long nowMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(cached -> cached.getUser().isExpired(nowMillis));
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(authorizationHeader, authentication);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,104 @@
+package com.titanbank.common.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Principal the API gateway has already authenticated, passed to the services in the
+ * {@value #HEADER} header so they need not verify the access token again.
+ *
+ * <p>The header is {@code base64url(userId;expiresAtMillis;roles;email) "." base64url(HMAC-SHA256)},
+ * signed with a secret shared by the gateway and the services only. Checking it is one HMAC over
+ * some sixty bytes instead of an ECDSA or EdDSA verification. The gateway always replaces any copy
+ * of the header sent by a client.
+ */
+public final class ForwardedPrincipal {
+
+    public static final String HEADER = "X-TitanBank-Principal";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+
+    public ForwardedPrincipal(String secret) {
+        if (secret == null || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException(
+                    "titanbank.gateway.principal-secret must be at least " + MIN_SECRET_LENGTH + " characters");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Header value for {@code user}, valid until the user's access token expires
+     */
+    public String sign(AuthenticatedUser user) {
+        StringBuilder payload = new StringBuilder(64)
+                .append(user.userId()).append(';')
+                .append(user.expiresAtMillis()).append(';');
+        for (UserRole role : user.roles()) {
+            payload.append(role.name()).append(',');
+        }
+        payload.append(';').append(user.email() != null ? user.email() : "");
+
+        byte[] bytes = payload.toString().getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(bytes) + '.' + ENCODER.encodeToString(mac().doFinal(bytes));
+    }
+
+    /**
+     * The principal in a header value
+     *
+     * @throws IllegalArgumentException if the value is malformed, not signed with the shared secret
+     *                                  or expired
+     */
+    public AuthenticatedUser verify(String header, long nowMillis) {
+        int dot = header.indexOf('.');
+        if (dot < 0) {
+            throw new IllegalArgumentException("Malformed forwarded principal");
+        }
+        byte[] payload = DECODER.decode(header.substring(0, dot));
+        byte[] signature = DECODER.decode(header.substring(dot + 1));
+        if (!MessageDigest.isEqual(mac().doFinal(payload), signature)) {
+            throw new IllegalArgumentException("Forwarded principal is not signed by the gateway");
+        }
+
+        String[] fields = new String(payload, StandardCharsets.UTF_8).split(";", 4);
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Malformed forwarded principal");
+        }
+        long expiresAtMillis = Long.parseLong(fields[1]);
+        if (nowMillis >= expiresAtMillis) {
+            throw new IllegalArgumentException("Forwarded principal has expired");
+        }
+        List<String> roles = new ArrayList<>(2);
+        for (String role : fields[2].split(",")) {
+            if (!role.isEmpty()) {
+                roles.add(role);
+            }
+        }
+        return AuthenticatedUser.of(Long.parseLong(fields[0]), fields[3].isEmpty() ? null : fields[3], roles,
+                expiresAtMillis);
+    }
+
+    // Mac instances are not thread-safe; a clone of the initialised prototype skips key setup
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " cannot be cloned", e);
+        }
+    }
+}
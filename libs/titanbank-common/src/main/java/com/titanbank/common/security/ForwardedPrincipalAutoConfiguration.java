@@ -0,0 +1,20 @@
+package com.titanbank.common.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers a {@link ForwardedPrincipal} when {@code titanbank.gateway.principal-secret} is set; the
+ * gateway signs with it and the services' security configurations trust it
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "titanbank.gateway", name = "principal-secret")
+public class ForwardedPrincipalAutoConfiguration {
+
+    @Bean
+    public ForwardedPrincipal forwardedPrincipal(@Value("${titanbank.gateway.principal-secret}") String secret) {
+        return new ForwardedPrincipal(secret);
+    }
+}
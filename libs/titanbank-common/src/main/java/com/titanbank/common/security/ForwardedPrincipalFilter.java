@@ -0,0 +1,84 @@
+package com.titanbank.common.security;
+
+import com.titanbank.common.metrics.LatencyTimers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests relayed by the API gateway from their {@link ForwardedPrincipal} header.
+ *
+ * <p>Runs before {@link LeanAuthenticationFilter}, which then leaves the request alone. A missing or
+ * invalid header is ignored, so requests that reach the service directly still authenticate with
+ * their bearer token. The access token, when the gateway passed it on, is still checked for
+ * revocation. Given a {@link MeterRegistry}, the check is timed as {@code auth.filter} with an
+ * {@code outcome} of forwarded.
+ */
+@Slf4j
+public class ForwardedPrincipalFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ForwardedPrincipal forwardedPrincipal;
+    private final TokenRevocationCheck revocationCheck;
+    private final SecurityContextHolderStrategy contextHolder = SecurityContextHolder.getContextHolderStrategy();
+
+    // Null when metrics are disabled
+    private final Timer forwardedTimer;
+
+    /**
+     * @param meterRegistry registry for the {@code auth.filter} timer, or null
+     */
+    public ForwardedPrincipalFilter(ForwardedPrincipal forwardedPrincipal, TokenRevocationCheck revocationCheck,
+                                    MeterRegistry meterRegistry) {
+        this.forwardedPrincipal = forwardedPrincipal;
+        this.revocationCheck = revocationCheck;
+        this.forwardedTimer = meterRegistry == null ? null : LatencyTimers.timer(meterRegistry, "auth.filter",
+                "Bearer token resolution in the authentication filter", "outcome", "forwarded");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String header = request.getHeader(ForwardedPrincipal.HEADER);
+
+        if (header != null) {
+            long start = System.nanoTime();
+            try {
+                AuthenticatedUser user = forwardedPrincipal.verify(header, System.currentTimeMillis());
+                String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+                String token = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                        ? authorization.substring(BEARER_PREFIX.length())
+                        : null;
+
+                if (token == null || !revocationCheck.isRevoked(token)) {
+                    SecurityContext context = contextHolder.createEmptyContext();
+                    context.setAuthentication(new TokenAuthentication(user, token));
+                    contextHolder.setContext(context);
+                }
+            } catch (RuntimeException e) {
+                // Fall back to the bearer token, if any
+                log.warn("Ignoring forwarded principal: {}", e.getMessage());
+            }
+            if (forwardedTimer != null) {
+                LatencyTimers.recordSince(forwardedTimer, start);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,27 @@
+package com.titanbank.common.security;
+
+import com.titanbank.jwt.TokenVerifier;
+import com.titanbank.jwt.VerifiedToken;
+
+/**
+ * Authenticates with user-service's published keys, without a network hop per request
+ */
+public class JwksAccessTokenAuthenticator implements AccessTokenAuthenticator {
+
+    private final TokenVerifier tokenVerifier;
+
+    public JwksAccessTokenAuthenticator(TokenVerifier tokenVerifier) {
+        this.tokenVerifier = tokenVerifier;
+    }
+
+    @Override
+    public AuthenticatedUser authenticate(String token) {
+        VerifiedToken verified = tokenVerifier.verify(token);
+        return AuthenticatedUser.of(
+                verified.userId(),
+                verified.email(),
+                verified.roles(),
+                verified.expiresAt().toEpochMilli()
+        );
+    }
+}
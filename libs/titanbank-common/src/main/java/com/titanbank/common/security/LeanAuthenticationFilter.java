@@ -0,0 +1,151 @@
+package com.titanbank.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.titanbank.common.metrics.LatencyTimers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Bearer-token authentication shared by all services.
+ *
+ * <p>A token is verified once; later requests with the same Authorization header reuse the same
+ * immutable {@link TokenAuthentication}, whose authorities come from {@link RoleAuthorities}.
+ * On that path the only per-request allocation is the {@link SecurityContext}. Revocation is
+ * still checked on every request. A request already authenticated by an earlier filter, such as
+ * {@link ForwardedPrincipalFilter}, is passed through untouched.
+ *
+ * <p>Given a {@link MeterRegistry}, token resolution is timed as {@code auth.filter} with an
+ * {@code outcome} of cached, verified or rejected.
+ */
+@Slf4j
+public class LeanAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private final AccessTokenAuthenticator authenticator;
+    private final TokenRevocationCheck revocationCheck;
+    private final AuthenticationCache cache;
+    private final SecurityContextHolderStrategy contextHolder = SecurityContextHolder.getContextHolderStrategy();
+
+    // Null when metrics are disabled
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public LeanAuthenticationFilter(AccessTokenAuthenticator authenticator, TokenRevocationCheck revocationCheck) {
+        this(authenticator, revocationCheck, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize verified tokens kept in memory; 0 verifies every request
+     */
+    public LeanAuthenticationFilter(AccessTokenAuthenticator authenticator, TokenRevocationCheck revocationCheck,
+                                    int cacheSize) {
+        this(authenticator, revocationCheck, cacheSize, null);
+    }
+
+    public LeanAuthenticationFilter(AccessTokenAuthenticator authenticator, TokenRevocationCheck revocationCheck,
+                                    MeterRegistry meterRegistry) {
+        this(authenticator, revocationCheck, DEFAULT_CACHE_SIZE, meterRegistry);
+    }
+
+    /**
+     * @param cacheSize verified tokens kept in memory; 0 verifies every request
+     * @param meterRegistry registry for {@code auth.filter} timers, or null
+     */
+    public LeanAuthenticationFilter(AccessTokenAuthenticator authenticator, TokenRevocationCheck revocationCheck,
+                                    int cacheSize, MeterRegistry meterRegistry) {
+        this.authenticator = authenticator;
+        this.revocationCheck = revocationCheck;
+        this.cache = new AuthenticationCache(cacheSize);
+        this.cachedTimer = filterTimer(meterRegistry, "cached");
+        this.verifiedTimer = filterTimer(meterRegistry, "verified");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+    }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return meterRegistry == null ? null : LatencyTimers.timer(meterRegistry, "auth.filter",
+                "Bearer token resolution in the authentication filter", "outcome", outcome);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.startsWith(BEARER_PREFIX) && !authenticatedByGateway(request)) {
+            try {
+                TokenAuthentication authentication = authenticate(header);
+
+                if (authentication != null && !revocationCheck.isRevoked(authentication.getToken())) {
+                    SecurityContext context = contextHolder.createEmptyContext();
+                    context.setAuthentication(authentication);
+                    contextHolder.setContext(context);
+                }
+            } catch (RuntimeException e) {
+                // Fail closed: the request continues unauthenticated
+                log.warn("Could not authenticate request: {}", e.getMessage());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Only looks at the context when a principal was forwarded, so the usual path allocates none
+    private boolean authenticatedByGateway(HttpServletRequest request) {
+        return request.getHeader(ForwardedPrincipal.HEADER) != null
+                && contextHolder.getContext().getAuthentication() != null;
+    }
+
+    private TokenAuthentication authenticate(String header) {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+
+        TokenAuthentication cached = cache.get(header, now);
+        if (cached != null) {
+            record(cachedTimer, start);
+            return cached;
+        }
+
+        String token = header.substring(BEARER_PREFIX.length());
+        AuthenticatedUser user;
+        try {
+            user = authenticator.authenticate(token);
+        } catch (RuntimeException e) {
+            log.debug("Rejected access token: {}", e.getMessage());
+            record(rejectedTimer, start);
+            return null;
+        }
+
+        if (user == null || user.isExpired(now)) {
+            record(rejectedTimer, start);
+            return null;
+        }
+
+        TokenAuthentication authentication = new TokenAuthentication(user, token);
+        cache.put(header, authentication, now);
+        record(verifiedTimer, start);
+        return authentication;
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        if (timer != null) {
+            LatencyTimers.recordSince(timer, startNanos);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.titanbank.common.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * One {@link SimpleGrantedAuthority} per {@link UserRole}, and one immutable authority list per
+ * combination of roles, built once at class load. Authenticating a request never allocates
+ * authorities.
+ */
+public final class RoleAuthorities {
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final GrantedAuthority[] BY_ROLE = new GrantedAuthority[ROLES.length];
+    private static final List<?>[] BY_MASK = new List<?>[1 << ROLES.length];
+
+    static {
+        for (UserRole role : ROLES) {
+            BY_ROLE[role.ordinal()] = new SimpleGrantedAuthority("ROLE_" + role.name());
+        }
+        for (int mask = 0; mask < BY_MASK.length; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>(Integer.bitCount(mask));
+            for (UserRole role : ROLES) {
+                if ((mask & (1 << role.ordinal())) != 0) {
+                    authorities.add(BY_ROLE[role.ordinal()]);
+                }
+            }
+            BY_MASK[mask] = List.copyOf(authorities);
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * Authority for a single role, e.g. ROLE_USER
+     */
+    public static GrantedAuthority of(UserRole role) {
+        return BY_ROLE[role.ordinal()];
+    }
+
+    /**
+     * Shared, immutable authority list for a set of roles
+     */
+    @SuppressWarnings("unchecked")
+    public static List<GrantedAuthority> of(Collection<UserRole> roles) {
+        int mask = 0;
+        for (UserRole role : roles) {
+            mask |= 1 << role.ordinal();
+        }
+        return (List<GrantedAuthority>) BY_MASK[mask];
+    }
+}
@@ -0,0 +1,79 @@
+package com.titanbank.common.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Immutable {@link Authentication} for a verified access token.
+ *
+ * <p>Shared between all requests carrying the same token, so it carries no per-request details
+ * and cannot be flipped to unauthenticated. {@link #getName()} is the userId, as before.
+ */
+public final class TokenAuthentication implements Authentication {
+
+    private final AuthenticatedUser user;
+    private final String token;
+    private final String name;
+
+    public TokenAuthentication(AuthenticatedUser user, String token) {
+        this.user = user;
+        this.token = token;
+        this.name = String.valueOf(user.userId());
+    }
+
+    public AuthenticatedUser getUser() {
+        return user;
+    }
+
+    /**
+     * Raw access token, e.g. for revocation checks; null for a gateway-forwarded principal that came
+     * without one
+     */
+    public String getToken() {
+        return token;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.authorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return user;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (!isAuthenticated) {
+            throw new IllegalArgumentException("Token authentications are shared and cannot be revoked in place");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenAuthentication[userId=" + user.userId() + ", roles=" + user.roles() + "]";
+    }
+}
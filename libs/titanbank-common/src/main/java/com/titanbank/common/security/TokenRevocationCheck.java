@@ -0,0 +1,12 @@
+package com.titanbank.common.security;
+
+/**
+ * Checked on every request, including for cached authentications, so logout takes effect at once
+ */
+@FunctionalInterface
+public interface TokenRevocationCheck {
+
+    TokenRevocationCheck NONE = token -> false;
+
+    boolean isRevoked(String token);
+}
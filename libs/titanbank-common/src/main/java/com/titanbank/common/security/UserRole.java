@@ -0,0 +1,11 @@
+package com.titanbank.common.security;
+
+public enum UserRole {
+    USER,
+    TRADER,
+    PREMIUM,
+    ADMIN,
+    COMPLIANCE_OFFICER,
+    /** Another TitanBank service on the internal API; never issued to a user */
+    SERVICE
+}
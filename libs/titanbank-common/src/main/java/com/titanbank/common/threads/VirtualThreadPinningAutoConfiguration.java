@@ -0,0 +1,24 @@
+package com.titanbank.common.threads;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Starts {@link VirtualThreadPinningMonitor} in every service when
+ * {@code titanbank.threads.pinning-monitor.enabled} is set.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "titanbank.threads.pinning-monitor", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningAutoConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${titanbank.threads.pinning-monitor.threshold:20ms}") Duration threshold,
+            @Value("${titanbank.threads.pinning-monitor.max-frames:12}") int maxFrames) {
+        return new VirtualThreadPinningMonitor(threshold, maxFrames);
+    }
+}
@@ -0,0 +1,126 @@
+package com.titanbank.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private final ReplicaLagMonitorTest.MutableClock clock = new ReplicaLagMonitorTest.MutableClock(1_000_000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor("primary", primary, List.of(replica),
+            new ReplicationPositions() {
+                @Override
+                public long written(DataSource primary) {
+                    return 100;
+                }
+
+                @Override
+                public long replayed(DataSource replica) {
+                    return 100;
+                }
+            }, Duration.ofSeconds(1), clock);
+    private final ReadReplicaRoutingDataSource dataSource =
+            new ReadReplicaRoutingDataSource(primary, monitor, meterRegistry);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        monitor.probe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGetConnection_ReadOnlyTransaction_UsesReplica() throws Exception {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(replicaConnection);
+        assertThat(reads("replica", "none")).isEqualTo(1);
+    }
+
+    @Test
+    void testGetConnection_ReplicasLagging_UsesPrimary() throws Exception {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        clock.advance(1500);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(reads("primary", "lag")).isEqualTo(1);
+    }
+
+    @Test
+    void testGetConnection_WriteCommitted_ReadsWaitForReplica() throws Exception {
+        // Given
+        List<Long> tokens = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        try (ReadConsistency.Binding ignored = ReadConsistency.bind(Long.MIN_VALUE, tokens::add)) {
+            // When
+            Connection writeConnection = dataSource.getConnection();
+            clock.advance(10);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.clearSynchronization();
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            Connection readConnection = dataSource.getConnection();
+
+            // Then
+            assertThat(writeConnection).isSameAs(primaryConnection);
+            assertThat(tokens).containsExactly(1_000_010L);
+            assertThat(readConnection).isSameAs(primaryConnection);
+            assertThat(reads("primary", "session")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testReplicaLag_Gauged() {
+        // When
+        clock.advance(300);
+
+        // Then
+        assertThat(meterRegistry.get("datasource.replica.lag")
+                .tags("datasource", "primary", "replica", "0")
+                .gauge().value()).isEqualTo(300);
+    }
+
+    private double reads(String target, String fallback) {
+        return meterRegistry.get("datasource.reads")
+                .tags("datasource", "primary", "target", target, "fallback", fallback)
+                .counter().count();
+    }
+}
@@ -0,0 +1,177 @@
+package com.titanbank.common.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReplicaLagMonitorTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica0 = mock(DataSource.class);
+    private final DataSource replica1 = mock(DataSource.class);
+
+    private final MutableClock clock = new MutableClock(1_000_000);
+    private final StubPositions positions = new StubPositions();
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor("primary", primary,
+            List.of(replica0, replica1), positions, Duration.ofSeconds(1), clock);
+
+    @Test
+    void testPick_BeforeFirstProbe_ReturnsLagging() {
+        // When
+        int picked = monitor.pick(Long.MIN_VALUE);
+
+        // Then
+        assertThat(picked).isEqualTo(ReplicaLagMonitor.LAGGING);
+    }
+
+    @Test
+    void testPick_CaughtUpReplicas_TakeTurns() {
+        // Given
+        positions.at(primary, 100).at(replica0, 100).at(replica1, 100);
+        monitor.probe();
+
+        // When
+        int first = monitor.pick(Long.MIN_VALUE);
+        int second = monitor.pick(Long.MIN_VALUE);
+
+        // Then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void testPick_ReplicaBehindMaxLag_Skipped() {
+        // Given
+        positions.at(primary, 100).at(replica0, 100).at(replica1, 100);
+        monitor.probe();
+        clock.advance(600);
+        positions.at(primary, 200).at(replica0, 200);
+        monitor.probe();
+        clock.advance(600);
+        positions.at(primary, 300).at(replica0, 300);
+        monitor.probe();
+
+        // When
+        int first = monitor.pick(Long.MIN_VALUE);
+        int second = monitor.pick(Long.MIN_VALUE);
+
+        // Then
+        assertThat(monitor.lagMillis(0)).isZero();
+        assertThat(monitor.lagMillis(1)).isEqualTo(1200);
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+    }
+
+    @Test
+    void testPick_ReplicaWithoutSessionWrite_FallsBack() {
+        // Given
+        positions.at(primary, 100).at(replica0, 100).at(replica1, 100);
+        monitor.probe();
+        long committedAt = clock.millis() + 10;
+        clock.advance(200);
+        positions.at(primary, 150);
+        monitor.probe();
+
+        // When
+        int beforeReplay = monitor.pick(committedAt);
+        positions.at(replica1, 150);
+        monitor.probe();
+        int afterReplay = monitor.pick(committedAt);
+
+        // Then
+        assertThat(beforeReplay).isEqualTo(ReplicaLagMonitor.BEHIND_SESSION);
+        assertThat(afterReplay).isEqualTo(1);
+    }
+
+    @Test
+    void testProbe_ReplicaFails_NotUsedUntilItRecovers() {
+        // Given
+        positions.at(primary, 100).at(replica0, 100).at(replica1, 100);
+        monitor.probe();
+        positions.failing(replica1);
+
+        // When
+        monitor.probe();
+        int first = monitor.pick(Long.MIN_VALUE);
+        int second = monitor.pick(Long.MIN_VALUE);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(monitor.lagMillis(1)).isEqualTo(-1);
+    }
+
+    private static final class StubPositions implements ReplicationPositions {
+        private final Map<DataSource, Long> positions = new HashMap<>();
+
+        StubPositions at(DataSource dataSource, long position) {
+            positions.put(dataSource, position);
+            return this;
+        }
+
+        void failing(DataSource dataSource) {
+            positions.remove(dataSource);
+        }
+
+        @Override
+        public long written(DataSource primary) throws SQLException {
+            return position(primary);
+        }
+
+        @Override
+        public long replayed(DataSource replica) throws SQLException {
+            return position(replica);
+        }
+
+        private long position(DataSource dataSource) throws SQLException {
+            Long position = positions.get(dataSource);
+            if (position == null) {
+                throw new SQLException("Connection refused");
+            }
+            return position;
+        }
+    }
+
+    static final class MutableClock extends Clock {
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
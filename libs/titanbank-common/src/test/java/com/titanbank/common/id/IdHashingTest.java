@@ -0,0 +1,43 @@
+package com.titanbank.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdHashingTest {
+
+    @Test
+    void testMix_MatchesMurmur3Finalizer() {
+        // Then - shard routing depends on these exact values
+        assertThat(IdHashing.mix(0L)).isZero();
+        assertThat(IdHashing.mix(1L)).isEqualTo(0xb456bcfc34c2cb2cL);
+        assertThat(IdHashing.mix(364_385_627_498_389_505L)).isEqualTo(0x5e7e481209abc75bL);
+    }
+
+    @Test
+    void testMix_SequentialIdsSpreadEvenly() {
+        // Given
+        int[] buckets = new int[16];
+
+        // When
+        for (long id = 0; id < 16_000; id++) {
+            buckets[(int) (IdHashing.mix(id) & 15)]++;
+        }
+
+        // Then
+        assertThat(Arrays.stream(buckets).min().getAsInt()).isGreaterThan(850);
+        assertThat(Arrays.stream(buckets).max().getAsInt()).isLessThan(1150);
+    }
+
+    @Test
+    void testMix_UuidFoldsBothHalves() {
+        // Given
+        UUID id = new UUID(0x0190_0000_0000_7000L, 0x8000_0000_0000_0001L);
+
+        // When & Then
+        assertThat(IdHashing.mix(id)).isEqualTo(IdHashing.mix(0x0190_0000_0000_7000L ^ 0x8000_0000_0000_0001L));
+    }
+}
@@ -0,0 +1,21 @@
+package com.titanbank.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecureTokensTest {
+
+    @Test
+    void testRandomUuid_Version4AndDistinct() {
+        // When
+        UUID token = SecureTokens.randomUuid();
+
+        // Then
+        assertThat(token.version()).isEqualTo(4);
+        assertThat(token.variant()).isEqualTo(2);
+        assertThat(SecureTokens.randomUuid()).isNotEqualTo(token);
+    }
+}
@@ -0,0 +1,54 @@
+package com.titanbank.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void testNext_SetsVersionVariantAndTimestamp() {
+        // When
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.epochMillis(uuid)).isBetween(before, after);
+    }
+
+    @Test
+    void testLaterMillisecond_SortsAfter() {
+        // Given
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // When
+        UUID earlier = UuidV7.of(1_700_000_000_000L, random);
+        UUID later = UuidV7.of(1_700_000_000_001L, random);
+
+        // Then - the string form, and so a UUID column's byte order, follows creation time
+        assertThat(later.toString()).isGreaterThan(earlier.toString());
+    }
+
+    @Test
+    void testNext_Unique() {
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(seen.add(UuidV7.next())).isTrue();
+        }
+    }
+
+    @Test
+    void testEpochMillis_RejectsRandomUuid() {
+        assertThatThrownBy(() -> UuidV7.epochMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,63 @@
+package com.titanbank.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryLatencyListenerTest {
+
+    interface AccountRepository extends Repository<Object, Long> {
+        Object findByAccountNumber(String accountNumber);
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RepositoryLatencyListener listener = new RepositoryLatencyListener(() -> meterRegistry);
+
+    @Test
+    void testInvocations_TimedPerMethodAndState() throws Exception {
+        // Given
+        Method method = AccountRepository.class.getMethod("findByAccountNumber", String.class);
+
+        // When
+        listener.afterInvocation(invocation(method, result(RepositoryMethodInvocationResult.State.SUCCESS)));
+        listener.afterInvocation(invocation(method, result(RepositoryMethodInvocationResult.State.SUCCESS)));
+        listener.afterInvocation(invocation(method, result(RepositoryMethodInvocationResult.State.ERROR)));
+
+        // Then
+        Timer success = meterRegistry.get("repository.invocations")
+                .tags("repository", "AccountRepository", "method", "findByAccountNumber", "state", "SUCCESS")
+                .timer();
+        Timer error = meterRegistry.get("repository.invocations")
+                .tags("repository", "AccountRepository", "method", "findByAccountNumber", "state", "ERROR")
+                .timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10);
+        assertThat(error.count()).isEqualTo(1);
+    }
+
+    private static RepositoryMethodInvocationResult result(RepositoryMethodInvocationResult.State state) {
+        return new RepositoryMethodInvocationResult() {
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public Throwable getError() {
+                return null;
+            }
+        };
+    }
+
+    private static RepositoryMethodInvocation invocation(Method method, RepositoryMethodInvocationResult result) {
+        return new RepositoryMethodInvocation(AccountRepository.class, method, result, TimeUnit.MILLISECONDS.toNanos(5));
+    }
+}
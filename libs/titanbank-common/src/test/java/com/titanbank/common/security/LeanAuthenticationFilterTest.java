@@ -0,0 +1,149 @@
+package com.titanbank.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeanAuthenticationFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final Set<String> revoked = new java.util.HashSet<>();
+    private final FilterChain chain = (request, response) -> { };
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LeanAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AccessTokenAuthenticator authenticator = token -> {
+            verifications.incrementAndGet();
+            if (!TOKEN.equals(token)) {
+                throw new IllegalArgumentException("bad signature");
+            }
+            return AuthenticatedUser.of(7L, "test@example.com", List.of("USER", "TRADER", "UNKNOWN"),
+                    System.currentTimeMillis() + 60_000);
+        };
+        filter = new LeanAuthenticationFilter(authenticator, revoked::contains, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testValidToken_SetsAuthentication() throws Exception {
+        // When
+        filter.doFilter(request("Bearer " + TOKEN), new MockHttpServletResponse(), chain);
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isInstanceOf(TokenAuthentication.class);
+        assertThat(authentication.getName()).isEqualTo("7");
+        assertThat(authentication.getAuthorities())
+                .extracting("authority")
+                .containsExactly("ROLE_USER", "ROLE_TRADER");
+    }
+
+    @Test
+    void testInvalidToken_LeavesRequestUnauthenticated() throws Exception {
+        // When
+        filter.doFilter(request("Bearer forged"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void testRepeatedToken_VerifiedOnceAndReused() throws Exception {
+        // When
+        filter.doFilter(request("Bearer " + TOKEN), new MockHttpServletResponse(), chain);
+        Authentication first = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request("Bearer " + TOKEN), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(first);
+    }
+
+    @Test
+    void testRevokedToken_RejectedEvenWhenCached() throws Exception {
+        // Given
+        filter.doFilter(request("Bearer " + TOKEN), new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+
+        // When
+        revoked.add(TOKEN);
+        filter.doFilter(request("Bearer " + TOKEN), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void testTimers_RecordEachOutcome() throws Exception {
+        // When
+        filter.doFilter(request("Bearer " + TOKEN), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("Bearer " + TOKEN), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("Bearer forged"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(meterRegistry.get("auth.filter").tag("outcome", "verified").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.filter").tag("outcome", "cached").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.filter").tag("outcome", "rejected").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCachedPath_AllocatesOnlyTheSecurityContext() throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // Given - fixed header lookup, so only the filter's own allocations are counted
+        String header = "Bearer " + TOKEN;
+        HttpServletRequestWrapper request = new HttpServletRequestWrapper(request(header)) {
+            @Override
+            public String getHeader(String name) {
+                return header;
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        for (int i = 0; i < 50_000; i++) {
+            filter.doFilterInternal(request, response, chain);
+        }
+
+        // When
+        int requests = 100_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < requests; i++) {
+            filter.doFilterInternal(request, response, chain);
+        }
+        long bytesPerRequest = (threads.getCurrentThreadAllocatedBytes() - before) / requests;
+
+        // Then - SecurityContextImpl is 16-24 bytes and timing adds nothing; the previous filter allocated several KB
+        assertThat(bytesPerRequest).isLessThan(64);
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}
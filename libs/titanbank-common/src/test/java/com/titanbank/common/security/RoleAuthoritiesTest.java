@@ -0,0 +1,32 @@
+package com.titanbank.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleAuthoritiesTest {
+
+    @Test
+    void testSameListForSameRoles() {
+        // When
+        var first = RoleAuthorities.of(EnumSet.of(UserRole.ADMIN, UserRole.USER));
+        var second = RoleAuthorities.of(List.of(UserRole.USER, UserRole.ADMIN));
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first).extracting("authority").containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void testUnknownRoleNamesIgnored() {
+        // When
+        AuthenticatedUser user = AuthenticatedUser.of(1L, "a@b.c", List.of("USER", "SUPERUSER"), 0L);
+
+        // Then
+        assertThat(user.roles()).containsExactly(UserRole.USER);
+        assertThat(user.authorities()).isSameAs(RoleAuthorities.of(EnumSet.of(UserRole.USER)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.titanbank.events;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Accounts moved to {@code status} together by one bulk status change; {@code userIds} are their
+ * distinct owners, for consumers that cache by user
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountStatusChangedEvent {
+    private UUID batchId;
+    private String status;
+    private String reason;
+    private Instant changedAt;
+    private List<Long> userIds;
+    private List<UUID> accountIds;
+}
@@ -0,0 +1,253 @@
+package com.titanbank.events;
+
+import com.titanbank.events.codec.EventCodec;
+import com.titanbank.events.codec.EventReader;
+import com.titanbank.events.codec.EventSchemaRegistry;
+import com.titanbank.events.codec.EventWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Schema ids and binary layouts of every published event. Ids are permanent: to change a layout,
+ * add a codec with the next free id and keep the old one registered until no topic still holds it.
+ */
+public final class EventSchemas {
+
+    public static final int USER_REGISTERED_V1 = 1;
+    public static final int USER_LOGGED_IN_V1 = 2;
+    public static final int USER_PROFILE_UPDATED_V1 = 3;
+    public static final int POSTING_RECORDED_V1 = 4;
+    public static final int TRANSFER_REQUESTED_V1 = 5;
+    public static final int ACCOUNT_STATUS_CHANGED_V1 = 6;
+
+    public static final EventSchemaRegistry REGISTRY = new EventSchemaRegistry()
+            .register(new UserRegisteredV1())
+            .register(new UserLoggedInV1())
+            .register(new UserProfileUpdatedV1())
+            .register(new PostingRecordedV1())
+            .register(new TransferRequestedV1())
+            .register(new AccountStatusChangedV1());
+
+    private EventSchemas() {
+    }
+
+    // userId is a Snowflake id (close to 2^63), so it is written fixed-width rather than as a varint
+    private static long requireUserId(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId is required");
+        }
+        return userId;
+    }
+
+    private static final class UserRegisteredV1 implements EventCodec<UserRegisteredEvent> {
+
+        @Override
+        public int schemaId() {
+            return USER_REGISTERED_V1;
+        }
+
+        @Override
+        public Class<UserRegisteredEvent> type() {
+            return UserRegisteredEvent.class;
+        }
+
+        @Override
+        public void write(UserRegisteredEvent event, EventWriter writer) {
+            writer.writeUuid(event.getEventId());
+            writer.writeFixedLong(requireUserId(event.getUserId()));
+            writer.writeString(event.getEmail());
+            writer.writeString(event.getFirstName());
+            writer.writeString(event.getLastName());
+            writer.writeString(event.getVerificationToken());
+            writer.writeInstant(event.getTimestamp());
+        }
+
+        @Override
+        public UserRegisteredEvent read(EventReader reader) {
+            return new UserRegisteredEvent(
+                    reader.readUuid(),
+                    reader.readFixedLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readInstant());
+        }
+    }
+
+    private static final class UserLoggedInV1 implements EventCodec<UserLoggedInEvent> {
+
+        @Override
+        public int schemaId() {
+            return USER_LOGGED_IN_V1;
+        }
+
+        @Override
+        public Class<UserLoggedInEvent> type() {
+            return UserLoggedInEvent.class;
+        }
+
+        @Override
+        public void write(UserLoggedInEvent event, EventWriter writer) {
+            writer.writeFixedLong(requireUserId(event.getUserId()));
+            writer.writeString(event.getEmail());
+            writer.writeInstant(event.getTimestamp());
+        }
+
+        @Override
+        public UserLoggedInEvent read(EventReader reader) {
+            return new UserLoggedInEvent(reader.readFixedLong(), reader.readString(), reader.readInstant());
+        }
+    }
+
+    private static final class UserProfileUpdatedV1 implements EventCodec<UserProfileUpdatedEvent> {
+
+        @Override
+        public int schemaId() {
+            return USER_PROFILE_UPDATED_V1;
+        }
+
+        @Override
+        public Class<UserProfileUpdatedEvent> type() {
+            return UserProfileUpdatedEvent.class;
+        }
+
+        @Override
+        public void write(UserProfileUpdatedEvent event, EventWriter writer) {
+            writer.writeFixedLong(requireUserId(event.getUserId()));
+            writer.writeInstant(event.getTimestamp());
+        }
+
+        @Override
+        public UserProfileUpdatedEvent read(EventReader reader) {
+            return new UserProfileUpdatedEvent(reader.readFixedLong(), reader.readInstant());
+        }
+    }
+
+    private static final class PostingRecordedV1 implements EventCodec<PostingRecordedEvent> {
+
+        @Override
+        public int schemaId() {
+            return POSTING_RECORDED_V1;
+        }
+
+        @Override
+        public Class<PostingRecordedEvent> type() {
+            return PostingRecordedEvent.class;
+        }
+
+        @Override
+        public void write(PostingRecordedEvent event, EventWriter writer) {
+            writer.writeUuid(event.getAccountId());
+            writer.writeVarLong(event.getSeq());
+            writer.writeDecimal(event.getAmount());
+            writer.writeDecimal(event.getBalanceAfter());
+            writer.writeInstant(event.getPostedAt());
+        }
+
+        @Override
+        public PostingRecordedEvent read(EventReader reader) {
+            return new PostingRecordedEvent(
+                    reader.readUuid(),
+                    reader.readVarLong(),
+                    reader.readDecimal(),
+                    reader.readDecimal(),
+                    reader.readInstant());
+        }
+    }
+
+    private static final class TransferRequestedV1 implements EventCodec<TransferRequestedEvent> {
+
+        @Override
+        public int schemaId() {
+            return TRANSFER_REQUESTED_V1;
+        }
+
+        @Override
+        public Class<TransferRequestedEvent> type() {
+            return TransferRequestedEvent.class;
+        }
+
+        @Override
+        public void write(TransferRequestedEvent event, EventWriter writer) {
+            writer.writeUuid(event.getTransferId());
+            writer.writeFixedLong(requireUserId(event.getUserId()));
+            writer.writeUuid(event.getFromAccountId());
+            writer.writeUuid(event.getToAccountId());
+            writer.writeDecimal(event.getAmount());
+            writer.writeInstant(event.getDueAt());
+        }
+
+        @Override
+        public TransferRequestedEvent read(EventReader reader) {
+            return new TransferRequestedEvent(
+                    reader.readUuid(),
+                    reader.readFixedLong(),
+                    reader.readUuid(),
+                    reader.readUuid(),
+                    reader.readDecimal(),
+                    reader.readInstant());
+        }
+    }
+
+    /**
+     * List elements are never null, so ids are written without a presence byte: 16 bytes per
+     * account and 8 per user after a varint count
+     */
+    private static final class AccountStatusChangedV1 implements EventCodec<AccountStatusChangedEvent> {
+
+        @Override
+        public int schemaId() {
+            return ACCOUNT_STATUS_CHANGED_V1;
+        }
+
+        @Override
+        public Class<AccountStatusChangedEvent> type() {
+            return AccountStatusChangedEvent.class;
+        }
+
+        @Override
+        public void write(AccountStatusChangedEvent event, EventWriter writer) {
+            writer.writeUuid(event.getBatchId());
+            writer.writeString(event.getStatus());
+            writer.writeString(event.getReason());
+            writer.writeInstant(event.getChangedAt());
+            List<Long> userIds = event.getUserIds() != null ? event.getUserIds() : List.of();
+            writer.writeVarLong(userIds.size());
+            for (Long userId : userIds) {
+                writer.writeFixedLong(requireUserId(userId));
+            }
+            List<UUID> accountIds = event.getAccountIds() != null ? event.getAccountIds() : List.of();
+            writer.writeVarLong(accountIds.size());
+            for (UUID accountId : accountIds) {
+                writer.writeFixedLong(accountId.getMostSignificantBits());
+                writer.writeFixedLong(accountId.getLeastSignificantBits());
+            }
+        }
+
+        @Override
+        public AccountStatusChangedEvent read(EventReader reader) {
+            AccountStatusChangedEvent event = new AccountStatusChangedEvent();
+            event.setBatchId(reader.readUuid());
+            event.setStatus(reader.readString());
+            event.setReason(reader.readString());
+            event.setChangedAt(reader.readInstant());
+            // Not presized: a corrupt count must fail on the missing bytes, not on allocation
+            long users = reader.readVarLong();
+            List<Long> userIds = new ArrayList<>();
+            for (long i = 0; i < users; i++) {
+                userIds.add(reader.readFixedLong());
+            }
+            event.setUserIds(userIds);
+            long accounts = reader.readVarLong();
+            List<UUID> accountIds = new ArrayList<>();
+            for (long i = 0; i < accounts; i++) {
+                accountIds.add(new UUID(reader.readFixedLong(), reader.readFixedLong()));
+            }
+            event.setAccountIds(accountIds);
+            return event;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.titanbank.events;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed ledger posting; {@code amount} is negative for debits
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingRecordedEvent {
+    private UUID accountId;
+    private long seq;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private Instant postedAt;
+}
@@ -0,0 +1,25 @@
+package com.titanbank.events;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A transfer between two of a user's accounts, due at {@code dueAt}; {@code transferId} is stable
+ * across redeliveries and retries of the same execution
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferRequestedEvent {
+    private UUID transferId;
+    private Long userId;
+    private UUID fromAccountId;
+    private UUID toAccountId;
+    /** In the source account's currency */
+    private BigDecimal amount;
+    private Instant dueAt;
+}
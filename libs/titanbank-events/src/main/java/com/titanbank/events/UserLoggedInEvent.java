@@ -1,8 +1,8 @@
-package com.titanbank.user.event;
+package com.titanbank.events;
 
 import lombok.*;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 
 @Data
 @Builder
@@ -11,5 +11,5 @@ import java.time.LocalDateTime;
 public class UserLoggedInEvent {
     private Long userId;
     private String email;
-    private LocalDateTime timestamp;
-}
\ No newline at end of file
+    private Instant timestamp;
+}
@@ -1,8 +1,8 @@
-package com.titanbank.user.event;
+package com.titanbank.events;
 
 import lombok.*;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 
 @Data
 @Builder
@@ -10,5 +10,5 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class UserProfileUpdatedEvent {
     private Long userId;
-    private LocalDateTime timestamp;
-}
\ No newline at end of file
+    private Instant timestamp;
+}
@@ -1,18 +1,21 @@
-package com.titanbank.user.event;
+package com.titanbank.events;
 
 import lombok.*;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.util.UUID;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserRegisteredEvent {
+    /** Unique per event; consumers use it to drop redeliveries */
+    private UUID eventId;
     private Long userId;
     private String email;
     private String firstName;
     private String lastName;
     private String verificationToken;
-    private LocalDateTime timestamp;
-}
\ No newline at end of file
+    private Instant timestamp;
+}
@@ -0,0 +1,19 @@
+package com.titanbank.events.codec;
+
+/**
+ * Field layout of one version of one event type. A layout is never changed once published; a new
+ * field order or type is a new codec with a new schema id, registered next to the old one.
+ *
+ * @param <T> the event type
+ */
+public interface EventCodec<T> {
+
+    /** Written at the front of every encoded event; unique across all types and versions */
+    int schemaId();
+
+    Class<T> type();
+
+    void write(T event, EventWriter writer);
+
+    T read(EventReader reader);
+}
@@ -0,0 +1,92 @@
+package com.titanbank.events.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Reads the fields written by {@link EventWriter}, in the same order. Malformed or truncated input
+ * fails with {@link IllegalArgumentException}.
+ */
+public final class EventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public EventReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint longer than 10 bytes");
+    }
+
+    public long readFixedLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    public String readString() {
+        long encoded = readVarLong();
+        if (encoded == 0) {
+            return null;
+        }
+        if (encoded - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("String length out of range: " + (encoded - 1));
+        }
+        int length = (int) (encoded - 1);
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public UUID readUuid() {
+        if (readByte() == 0) {
+            return null;
+        }
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    public Instant readInstant() {
+        long encoded = readVarLong();
+        return encoded == 0 ? null : Instant.ofEpochMilli(encoded - 1);
+    }
+
+    public BigDecimal readDecimal() {
+        long encoded = readVarLong();
+        if (encoded == 0) {
+            return null;
+        }
+        if (encoded - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Decimal scale out of range: " + (encoded - 1));
+        }
+        long zigzag = readVarLong();
+        return BigDecimal.valueOf((zigzag >>> 1) ^ -(zigzag & 1), (int) (encoded - 1));
+    }
+
+    private void require(int bytes) {
+        if (bytes > buffer.length - position) {
+            throw new IllegalArgumentException("Event truncated at byte " + position);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.titanbank.events.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for a schema registry: maps schema ids to codecs for reading and each event
+ * type to the codec it is written with.
+ *
+ * <p>Encoded form: {@link #MAGIC}, the schema id as a varint, then the codec's fields. No type
+ * header is needed on the record, and readers keep decoding older versions for as long as their
+ * codecs stay registered.
+ */
+public final class EventSchemaRegistry {
+
+    /** First byte of every encoded event; not a valid first byte of JSON, so both can share a topic */
+    public static final int MAGIC = 0xB1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<Integer, EventCodec<?>> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, EventCodec<?>> writers = new ConcurrentHashMap<>();
+
+    /**
+     * Add a codec for reading, and make it the writer for its type. Registering a different codec
+     * under a schema id already in use is refused, as a registry would refuse an incompatible schema.
+     */
+    public synchronized EventSchemaRegistry register(EventCodec<?> codec) {
+        EventCodec<?> existing = readers.putIfAbsent(codec.schemaId(), codec);
+        if (existing != null && existing.getClass() != codec.getClass()) {
+            throw new IllegalStateException("Schema id " + codec.schemaId() + " is already registered to "
+                    + existing.getClass().getName());
+        }
+        writers.put(codec.type(), codec);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object event) {
+        EventCodec<Object> codec = (EventCodec<Object>) writers.get(event.getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException("No schema registered for " + event.getClass().getName());
+        }
+        EventWriter writer = new EventWriter(INITIAL_CAPACITY);
+        writer.writeByte(MAGIC);
+        writer.writeVarLong(codec.schemaId());
+        codec.write(event, writer);
+        return writer.toByteArray();
+    }
+
+    public Object decode(byte[] bytes) {
+        EventReader reader = new EventReader(bytes, 0);
+        if (reader.readByte() != MAGIC) {
+            throw new IllegalArgumentException("Not an encoded event");
+        }
+        long schemaId = reader.readVarLong();
+        EventCodec<?> codec = schemaId > Integer.MAX_VALUE ? null : readers.get((int) schemaId);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown schema id " + schemaId);
+        }
+        return codec.read(reader);
+    }
+
+    /**
+     * The schema id at the front of {@code bytes}, or -1 when they are not in this format; lets a
+     * consumer skip event types it does not handle without decoding them
+     */
+    public static int schemaIdOf(byte[] bytes) {
+        if (bytes == null || bytes.length < 2 || (bytes[0] & 0xFF) != MAGIC) {
+            return -1;
+        }
+        try {
+            long schemaId = new EventReader(bytes, 1).readVarLong();
+            return schemaId > Integer.MAX_VALUE ? -1 : (int) schemaId;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
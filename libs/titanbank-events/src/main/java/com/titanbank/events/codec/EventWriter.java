@@ -0,0 +1,132 @@
+package com.titanbank.events.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Appends primitive fields to a growable buffer. Integers are unsigned LEB128 varints unless they
+ * are ids that fill most of 64 bits; every reference type has a one-byte (or zero-length) null form.
+ */
+public final class EventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public EventWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensure(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * Big-endian, for Snowflake ids: 8 bytes where a varint would take 9
+     */
+    public void writeFixedLong(long value) {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    /**
+     * Length + 1 as a varint (0 for null), then UTF-8
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        int length = value.length();
+        if (isAscii(value, length)) {
+            writeVarLong(length + 1L);
+            ensure(length);
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) value.charAt(i);
+            }
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(utf8.length + 1L);
+        ensure(utf8.length);
+        System.arraycopy(utf8, 0, buffer, position, utf8.length);
+        position += utf8.length;
+    }
+
+    /**
+     * Presence byte, then the 16 raw bytes
+     */
+    public void writeUuid(UUID value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeFixedLong(value.getMostSignificantBits());
+        writeFixedLong(value.getLeastSignificantBits());
+    }
+
+    /**
+     * Epoch milliseconds + 1 as a varint (0 for null); sub-millisecond precision is dropped
+     */
+    public void writeInstant(Instant value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long millis = value.toEpochMilli();
+        if (millis < 0) {
+            throw new IllegalArgumentException("Timestamps before 1970 are not encodable: " + value);
+        }
+        writeVarLong(millis + 1);
+    }
+
+    /**
+     * Scale + 1 as a varint (0 for null), then the zigzag-encoded unscaled value; it must fit in a long
+     */
+    public void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value.scale() < 0) {
+            value = value.setScale(0);
+        }
+        long unscaled = value.unscaledValue().longValueExact();
+        writeVarLong(value.scale() + 1L);
+        writeVarLong((unscaled << 1) ^ (unscaled >> 63));
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensure(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+
+    private static boolean isAscii(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
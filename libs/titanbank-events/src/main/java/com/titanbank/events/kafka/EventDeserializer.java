@@ -0,0 +1,15 @@
+package com.titanbank.events.kafka;
+
+import com.titanbank.events.EventSchemas;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka value deserializer for any event registered in {@link EventSchemas}
+ */
+public class EventDeserializer implements Deserializer<Object> {
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return data == null ? null : EventSchemas.REGISTRY.decode(data);
+    }
+}
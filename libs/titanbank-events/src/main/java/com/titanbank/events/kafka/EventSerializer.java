@@ -0,0 +1,15 @@
+package com.titanbank.events.kafka;
+
+import com.titanbank.events.EventSchemas;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer for any event registered in {@link EventSchemas}
+ */
+public class EventSerializer implements Serializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Object event) {
+        return event == null ? null : EventSchemas.REGISTRY.encode(event);
+    }
+}
@@ -0,0 +1,145 @@
+package com.titanbank.events;
+
+import com.titanbank.events.codec.EventCodec;
+import com.titanbank.events.codec.EventReader;
+import com.titanbank.events.codec.EventSchemaRegistry;
+import com.titanbank.events.codec.EventWriter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventSchemasTest {
+
+    private static final long USER_ID = 7_312_845_211_640_963_072L;
+    private static final Instant AT = Instant.parse("2026-03-14T09:26:53.589Z");
+
+    @Test
+    void testEveryEvent_RoundTrips() {
+        // Given
+        Object[] events = {
+                new UserRegisteredEvent(UUID.randomUUID(), USER_ID, "ada@example.com", "Ada", "Lovelace",
+                        UUID.randomUUID().toString(), AT),
+                new UserLoggedInEvent(USER_ID, "ada@example.com", AT),
+                new UserProfileUpdatedEvent(USER_ID, AT),
+                new PostingRecordedEvent(UUID.randomUUID(), 1_001, new BigDecimal("-250.0000"),
+                        new BigDecimal("749.5000"), AT),
+                new TransferRequestedEvent(UUID.randomUUID(), USER_ID, UUID.randomUUID(), UUID.randomUUID(),
+                        new BigDecimal("125.50"), AT),
+                new AccountStatusChangedEvent(UUID.randomUUID(), "FROZEN", "Sanctions list 2026-03", AT,
+                        List.of(USER_ID, USER_ID + 1), List.of(UUID.randomUUID(), UUID.randomUUID()))
+        };
+
+        for (Object event : events) {
+            // When
+            byte[] encoded = EventSchemas.REGISTRY.encode(event);
+
+            // Then
+            assertThat(EventSchemas.REGISTRY.decode(encoded)).isEqualTo(event);
+        }
+    }
+
+    @Test
+    void testNullableFields_RoundTripAsNull() {
+        // Given
+        UserRegisteredEvent event = UserRegisteredEvent.builder().userId(USER_ID).build();
+
+        // When
+        Object decoded = EventSchemas.REGISTRY.decode(EventSchemas.REGISTRY.encode(event));
+
+        // Then
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void testLoginEvent_IsFewerThan40Bytes() {
+        // When
+        byte[] encoded = EventSchemas.REGISTRY.encode(new UserLoggedInEvent(USER_ID, "ada@example.com", AT));
+
+        // Then - magic + schema id 2, user id 8, email 16, millis 6
+        assertThat(encoded).hasSize(32);
+        assertThat(EventSchemaRegistry.schemaIdOf(encoded)).isEqualTo(EventSchemas.USER_LOGGED_IN_V1);
+    }
+
+    @Test
+    void testStatusBatch_Is16BytesPerAccount() {
+        // Given - a thousand accounts of 500 users
+        List<Long> users = new ArrayList<>();
+        List<UUID> accounts = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            accounts.add(UUID.randomUUID());
+            if (i % 2 == 0) {
+                users.add(USER_ID + i);
+            }
+        }
+
+        // When
+        byte[] encoded = EventSchemas.REGISTRY.encode(
+                new AccountStatusChangedEvent(UUID.randomUUID(), "FROZEN", null, AT, users, accounts));
+
+        // Then
+        assertThat(encoded.length).isLessThan(1_000 * 16 + 500 * 8 + 64);
+    }
+
+    @Test
+    void testSchemaIdOf_NotAnEvent() {
+        assertThat(EventSchemaRegistry.schemaIdOf("{\"userId\":1}".getBytes(StandardCharsets.UTF_8))).isEqualTo(-1);
+        assertThat(EventSchemaRegistry.schemaIdOf(new byte[0])).isEqualTo(-1);
+        assertThat(EventSchemaRegistry.schemaIdOf(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void testDecode_UnknownSchemaOrTruncated() {
+        // Given
+        byte[] encoded = EventSchemas.REGISTRY.encode(new UserProfileUpdatedEvent(USER_ID, AT));
+        byte[] unknown = encoded.clone();
+        unknown[1] = 99;
+
+        // Then
+        assertThatThrownBy(() -> EventSchemas.REGISTRY.decode(unknown))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("99");
+        assertThatThrownBy(() -> EventSchemas.REGISTRY.decode(Arrays.copyOf(encoded, 5)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testRegister_ConflictingSchemaIdRefused() {
+        // Given
+        EventCodec<String> conflicting = new EventCodec<>() {
+            @Override
+            public int schemaId() {
+                return EventSchemas.USER_REGISTERED_V1;
+            }
+
+            @Override
+            public Class<String> type() {
+                return String.class;
+            }
+
+            @Override
+            public void write(String event, EventWriter writer) {
+                writer.writeString(event);
+            }
+
+            @Override
+            public String read(EventReader reader) {
+                return reader.readString();
+            }
+        };
+
+        // Then
+        assertThatThrownBy(() -> EventSchemas.REGISTRY.register(conflicting))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> EventSchemas.REGISTRY.encode("not an event"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
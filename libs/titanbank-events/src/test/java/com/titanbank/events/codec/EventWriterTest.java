@@ -0,0 +1,109 @@
+package com.titanbank.events.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventWriterTest {
+
+    @Test
+    void testVarLong_BoundariesRoundTrip() {
+        // Given
+        long[] values = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+        EventWriter writer = new EventWriter(1);
+
+        // When
+        for (long value : values) {
+            writer.writeVarLong(value);
+        }
+        EventReader reader = new EventReader(writer.toByteArray(), 0);
+
+        // Then
+        for (long value : values) {
+            assertThat(reader.readVarLong()).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void testVarLong_SmallValuesTakeOneByte() {
+        // Given
+        EventWriter writer = new EventWriter(16);
+
+        // When
+        writer.writeVarLong(127);
+
+        // Then
+        assertThat(writer.toByteArray()).hasSize(1);
+    }
+
+    @Test
+    void testStrings_AsciiUnicodeEmptyAndNull() {
+        // Given
+        String[] values = {"plain", "Zoë Ünal", "日本語", "🚀 launch", "", null};
+        EventWriter writer = new EventWriter(4);
+
+        // When
+        for (String value : values) {
+            writer.writeString(value);
+        }
+        EventReader reader = new EventReader(writer.toByteArray(), 0);
+
+        // Then
+        for (String value : values) {
+            assertThat(reader.readString()).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void testFixedWidthAndNullableFields_RoundTrip() {
+        // Given
+        UUID id = UUID.randomUUID();
+        Instant at = Instant.parse("2026-01-01T00:00:00.123Z");
+        EventWriter writer = new EventWriter(8);
+
+        // When
+        writer.writeFixedLong(Long.MIN_VALUE);
+        writer.writeUuid(id);
+        writer.writeUuid(null);
+        writer.writeInstant(at);
+        writer.writeInstant(Instant.EPOCH);
+        writer.writeInstant(null);
+        EventReader reader = new EventReader(writer.toByteArray(), 0);
+
+        // Then
+        assertThat(reader.readFixedLong()).isEqualTo(Long.MIN_VALUE);
+        assertThat(reader.readUuid()).isEqualTo(id);
+        assertThat(reader.readUuid()).isNull();
+        assertThat(reader.readInstant()).isEqualTo(at);
+        assertThat(reader.readInstant()).isEqualTo(Instant.EPOCH);
+        assertThat(reader.readInstant()).isNull();
+    }
+
+    @Test
+    void testDecimals_KeepSignAndScale() {
+        // Given
+        BigDecimal[] values = {
+                new BigDecimal("-250.0000"), new BigDecimal("0.0001"), BigDecimal.ZERO,
+                new BigDecimal("1E+3"), BigDecimal.valueOf(Long.MIN_VALUE, 4), null
+        };
+        EventWriter writer = new EventWriter(4);
+
+        // When
+        for (BigDecimal value : values) {
+            writer.writeDecimal(value);
+        }
+        EventReader reader = new EventReader(writer.toByteArray(), 0);
+
+        // Then - negative scales are widened to 0
+        assertThat(reader.readDecimal()).isEqualTo(new BigDecimal("-250.0000"));
+        assertThat(reader.readDecimal()).isEqualTo(new BigDecimal("0.0001"));
+        assertThat(reader.readDecimal()).isEqualTo(BigDecimal.ZERO);
+        assertThat(reader.readDecimal()).isEqualTo(new BigDecimal("1000"));
+        assertThat(reader.readDecimal()).isEqualTo(BigDecimal.valueOf(Long.MIN_VALUE, 4));
+        assertThat(reader.readDecimal()).isNull();
+    }
+}
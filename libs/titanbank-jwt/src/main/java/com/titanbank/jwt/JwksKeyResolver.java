@@ -0,0 +1,149 @@
+package com.titanbank.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Public keys from user-service's JWKS endpoint, cached by {@code kid}.
+ *
+ * <p>Verification never waits on the network for a known key: once the cache is older than
+ * {@code ttl} it is refreshed in the background while the cached keys keep serving. Only a kid
+ * that is not cached yet (a freshly rotated key) triggers a synchronous fetch, at most once per
+ * {@code minRefreshInterval}; requests that arrive while it runs wait for it instead of fetching again.
+ */
+@Slf4j
+public class JwksKeyResolver extends LocatorAdapter<Key> {
+
+    private final Callable<String> jwksFetcher;
+    private final long ttlMillis;
+    private final long minRefreshIntervalMillis;
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "jwks-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long fetchedAtMillis;
+    private volatile long fetchCount;
+
+    public JwksKeyResolver(URI jwksUri, Duration ttl, Duration minRefreshInterval) {
+        this(httpFetcher(jwksUri), ttl, minRefreshInterval);
+    }
+
+    JwksKeyResolver(Callable<String> jwksFetcher, Duration ttl, Duration minRefreshInterval) {
+        this.jwksFetcher = jwksFetcher;
+        this.ttlMillis = ttl.toMillis();
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new SignatureException("Access token has no kid header");
+        }
+
+        long seenFetchCount = fetchCount;
+        PublicKey key = keys.get(kid);
+        if (key == null && System.currentTimeMillis() - fetchedAtMillis >= minRefreshIntervalMillis) {
+            key = fetchUnknown(kid, seenFetchCount);
+        } else if (key != null && System.currentTimeMillis() - fetchedAtMillis >= ttlMillis) {
+            refreshInBackground();
+        }
+
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * Fetch the key set now; on failure the previous keys stay in place
+     */
+    public synchronized void refresh() {
+        try {
+            JwkSet jwkSet = Jwks.setParser()
+                    .ignoreUnsupported(true)
+                    .build()
+                    .parse(jwksFetcher.call());
+
+            Map<String, PublicKey> fetched = new HashMap<>();
+            for (Jwk<?> jwk : jwkSet) {
+                if (jwk.getId() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                    fetched.put(jwk.getId(), publicKey);
+                }
+            }
+
+            keys = Map.copyOf(fetched);
+            log.debug("Loaded {} JWKS keys: {}", fetched.size(), fetched.keySet());
+        } catch (Exception e) {
+            log.warn("JWKS refresh failed, keeping {} cached keys: {}", keys.size(), e.getMessage());
+        } finally {
+            fetchedAtMillis = System.currentTimeMillis();
+            fetchCount++;
+        }
+    }
+
+    // A caller that queued behind another fetch takes its result rather than fetching again
+    private synchronized PublicKey fetchUnknown(String kid, long seenFetchCount) {
+        PublicKey key = keys.get(kid);
+        if (key == null && fetchCount == seenFetchCount
+                && System.currentTimeMillis() - fetchedAtMillis >= minRefreshIntervalMillis) {
+            refresh();
+            key = keys.get(kid);
+        }
+        return key;
+    }
+
+    private void refreshInBackground() {
+        if (refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    private static Callable<String> httpFetcher(URI jwksUri) {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(Duration.ofSeconds(2))
+                .header("Accept", "application/json")
+                .build();
+
+        return () -> {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("JWKS endpoint returned " + response.statusCode());
+            }
+            return response.body();
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.titanbank.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import java.util.List;
+
+/**
+ * Verifies user-service access tokens locally.
+ *
+ * <p>Only asymmetric algorithms are accepted, so a token signed with a shared HMAC secret (or
+ * with a public key used as an HMAC secret) is rejected.
+ */
+public class TokenVerifier {
+
+    private final JwtParser jwtParser;
+
+    public TokenVerifier(JwksKeyResolver keyResolver) {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyResolver)
+                .sig().clear().add(Jwts.SIG.ES256).add(Jwts.SIG.EdDSA).and()
+                .build();
+    }
+
+    /**
+     * Check signature and expiry, returning the claims
+     *
+     * @throws JwtException if the token is malformed, expired or not signed by a published key
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+        @SuppressWarnings("unchecked")
+        List<String> roles = claims.get("roles", List.class);
+
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                roles != null ? List.copyOf(roles) : List.of(),
+                claims.getExpiration().toInstant()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.titanbank.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of an access token whose signature and expiry have been checked.
+ *
+ * @param roles role names as issued by user-service, e.g. {@code USER}
+ */
+public record VerifiedToken(Long userId, String email, List<String> roles, Instant expiresAt) {
+}
@@ -0,0 +1,34 @@
+package com.titanbank.jwt.autoconfigure;
+
+import com.titanbank.jwt.JwksKeyResolver;
+import com.titanbank.jwt.TokenVerifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers a {@link TokenVerifier} when {@code titanbank.jwt.jwks-uri} is set
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "titanbank.jwt", name = "jwks-uri")
+@EnableConfigurationProperties(TitanBankJwtProperties.class)
+public class TitanBankJwtAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwksKeyResolver jwksKeyResolver(TitanBankJwtProperties properties) {
+        return new JwksKeyResolver(
+                properties.getJwksUri(),
+                properties.getCacheTtl(),
+                properties.getMinRefreshInterval()
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TokenVerifier tokenVerifier(JwksKeyResolver jwksKeyResolver) {
+        return new TokenVerifier(jwksKeyResolver);
+    }
+}
@@ -0,0 +1,21 @@
+package com.titanbank.jwt.autoconfigure;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "titanbank.jwt")
+public class TitanBankJwtProperties {
+
+    /** user-service JWKS endpoint, e.g. http://user-service:8081/.well-known/jwks.json */
+    private URI jwksUri;
+
+    /** Age after which cached keys are refreshed in the background */
+    private Duration cacheTtl = Duration.ofMinutes(5);
+
+    /** Minimum time between fetches triggered by an unknown kid */
+    private Duration minRefreshInterval = Duration.ofSeconds(30);
+}
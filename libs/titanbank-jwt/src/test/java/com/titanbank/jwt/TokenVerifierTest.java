@@ -0,0 +1,176 @@
+package com.titanbank.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenVerifierTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, PublicKey> published = new LinkedHashMap<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private volatile long fetchDelayMillis;
+
+    private KeyPair ecKeyPair;
+    private TokenVerifier tokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        ecKeyPair = Jwts.SIG.ES256.keyPair().build();
+        published.put("es-1", ecKeyPair.getPublic());
+
+        JwksKeyResolver resolver = new JwksKeyResolver(this::jwksJson, Duration.ofMinutes(5), Duration.ZERO);
+        tokenVerifier = new TokenVerifier(resolver);
+    }
+
+    @Test
+    void testVerify_Success() {
+        // Given
+        String token = Jwts.builder()
+                .header().keyId("es-1").and()
+                .subject("7")
+                .claim("email", "test@example.com")
+                .claim("roles", List.of("USER"))
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(ecKeyPair.getPrivate(), Jwts.SIG.ES256)
+                .compact();
+
+        // When
+        VerifiedToken verified = tokenVerifier.verify(token);
+
+        // Then
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.email()).isEqualTo("test@example.com");
+        assertThat(verified.roles()).containsExactly("USER");
+    }
+
+    @Test
+    void testVerify_KeysAreCached() {
+        // Given
+        String token = signEs256("es-1", 60_000);
+
+        // When
+        tokenVerifier.verify(token);
+        tokenVerifier.verify(token);
+
+        // Then
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testVerify_RotatedKeyFetchedOnDemand() {
+        // Given
+        tokenVerifier.verify(signEs256("es-1", 60_000));
+        KeyPair edKeyPair = Jwks.CRV.Ed25519.keyPair().build();
+        published.put("ed-2", edKeyPair.getPublic());
+
+        String token = Jwts.builder()
+                .header().keyId("ed-2").and()
+                .subject("7")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(edKeyPair.getPrivate(), Jwts.SIG.EdDSA)
+                .compact();
+
+        // When
+        VerifiedToken verified = tokenVerifier.verify(token);
+
+        // Then
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testVerify_ConcurrentRequestsOnColdCache_FetchOnce() throws Exception {
+        // Given - a slow endpoint and no keys cached yet
+        fetchDelayMillis = 200;
+        String token = signEs256("es-1", 60_000);
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<VerifiedToken>> verified = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                verified.add(executor.submit(() -> {
+                    start.await();
+                    return tokenVerifier.verify(token);
+                }));
+            }
+
+            // When
+            start.countDown();
+
+            // Then
+            for (Future<VerifiedToken> result : verified) {
+                assertThat(result.get(10, TimeUnit.SECONDS).userId()).isEqualTo(7L);
+            }
+            assertThat(fetches.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testVerify_ExpiredTokenRejected() {
+        // Given
+        String token = signEs256("es-1", -1_000);
+
+        // When & Then
+        assertThatThrownBy(() -> tokenVerifier.verify(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void testVerify_HmacTokenRejected() {
+        // Given
+        String token = Jwts.builder()
+                .header().keyId("es-1").and()
+                .subject("7")
+                .signWith(Keys.hmacShaKeyFor("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8)),
+                        Jwts.SIG.HS256)
+                .compact();
+
+        // When & Then
+        assertThatThrownBy(() -> tokenVerifier.verify(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private String signEs256(String kid, long expiresInMillis) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("7")
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(ecKeyPair.getPrivate(), Jwts.SIG.ES256)
+                .compact();
+    }
+
+    private String jwksJson() throws Exception {
+        fetches.incrementAndGet();
+        Thread.sleep(fetchDelayMillis);
+        List<Object> keys = new ArrayList<>();
+        published.forEach((kid, key) -> keys.add(Jwks.builder().key(key).id(kid).build()));
+        return objectMapper.writeValueAsString(Map.of("keys", keys));
+    }
+}
@@ -0,0 +1,11 @@
+package com.titanbank.rpc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * @param currency ISO code
+ * @param status   account status name, e.g. ACTIVE or FROZEN
+ */
+public record AccountBalance(UUID accountId, String currency, String status, BigDecimal balance) {
+}
@@ -0,0 +1,188 @@
+package com.titanbank.rpc;
+
+import com.titanbank.events.codec.EventReader;
+import com.titanbank.events.codec.EventWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Contract of account-service's internal API: one path per method and the encoding of each
+ * message, in the field encoding of the event codec. Every request and response body is made of
+ * {@link RpcFrames}:
+ * <ul>
+ *   <li>{@value #POST}: one {@link PostingCommand}, answered by one {@link PostingResult}</li>
+ *   <li>{@value #POST_BATCH}: one list of commands, answered by one list of results in the same
+ *       order; each posting stands alone, so one failure does not undo the others</li>
+ *   <li>{@value #GET_BALANCES}: one {@link BalanceQuery}, answered by one {@link BalanceResult}</li>
+ *   <li>{@value #STREAM_POSTINGS}: a frame per command, answered by a frame per result as each
+ *       posting completes</li>
+ * </ul>
+ * Decoding fails with {@link IllegalArgumentException} on malformed input.
+ */
+public final class AccountRpc {
+
+    public static final String CONTENT_TYPE = "application/x-titanbank-rpc";
+
+    public static final String BASE_PATH = "/internal/rpc/v1/accounts/";
+    public static final String POST = BASE_PATH + "Post";
+    public static final String POST_BATCH = BASE_PATH + "PostBatch";
+    public static final String GET_BALANCES = BASE_PATH + "GetBalances";
+    public static final String STREAM_POSTINGS = BASE_PATH + "StreamPostings";
+
+    private static final PostingDirection[] DIRECTIONS = PostingDirection.values();
+    // Preallocate no more than this for a list, whatever count the sender claims
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private AccountRpc() {
+    }
+
+    public static byte[] encode(PostingCommand command) {
+        EventWriter writer = new EventWriter(64);
+        write(writer, command);
+        return writer.toByteArray();
+    }
+
+    public static PostingCommand decodeCommand(byte[] message) {
+        return readCommand(new EventReader(message, 0));
+    }
+
+    public static byte[] encodeCommands(List<PostingCommand> commands) {
+        EventWriter writer = new EventWriter(16 + commands.size() * 64);
+        writer.writeVarLong(commands.size());
+        for (PostingCommand command : commands) {
+            write(writer, command);
+        }
+        return writer.toByteArray();
+    }
+
+    public static List<PostingCommand> decodeCommands(byte[] message) {
+        EventReader reader = new EventReader(message, 0);
+        int count = readCount(reader);
+        List<PostingCommand> commands = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < count; i++) {
+            commands.add(readCommand(reader));
+        }
+        return commands;
+    }
+
+    public static byte[] encode(PostingResult result) {
+        EventWriter writer = new EventWriter(48);
+        write(writer, result);
+        return writer.toByteArray();
+    }
+
+    public static PostingResult decodeResult(byte[] message) {
+        return readResult(new EventReader(message, 0));
+    }
+
+    public static byte[] encodeResults(List<PostingResult> results) {
+        EventWriter writer = new EventWriter(16 + results.size() * 48);
+        writer.writeVarLong(results.size());
+        for (PostingResult result : results) {
+            write(writer, result);
+        }
+        return writer.toByteArray();
+    }
+
+    public static List<PostingResult> decodeResults(byte[] message) {
+        EventReader reader = new EventReader(message, 0);
+        int count = readCount(reader);
+        List<PostingResult> results = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < count; i++) {
+            results.add(readResult(reader));
+        }
+        return results;
+    }
+
+    public static byte[] encode(BalanceQuery query) {
+        EventWriter writer = new EventWriter(16 + query.accountIds().size() * 17);
+        writer.writeFixedLong(query.userId());
+        writer.writeVarLong(query.accountIds().size());
+        for (UUID accountId : query.accountIds()) {
+            writer.writeUuid(accountId);
+        }
+        return writer.toByteArray();
+    }
+
+    public static BalanceQuery decodeQuery(byte[] message) {
+        EventReader reader = new EventReader(message, 0);
+        long userId = reader.readFixedLong();
+        int count = readCount(reader);
+        List<UUID> accountIds = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < count; i++) {
+            accountIds.add(reader.readUuid());
+        }
+        return new BalanceQuery(userId, accountIds);
+    }
+
+    public static byte[] encode(BalanceResult result) {
+        EventWriter writer = new EventWriter(16 + result.accounts().size() * 40);
+        writer.writeVarLong(result.status().code());
+        writer.writeString(result.message());
+        writer.writeVarLong(result.accounts().size());
+        for (AccountBalance account : result.accounts()) {
+            writer.writeUuid(account.accountId());
+            writer.writeString(account.currency());
+            writer.writeString(account.status());
+            writer.writeDecimal(account.balance());
+        }
+        return writer.toByteArray();
+    }
+
+    public static BalanceResult decodeBalances(byte[] message) {
+        EventReader reader = new EventReader(message, 0);
+        RpcStatus status = RpcStatus.of((int) reader.readVarLong());
+        String text = reader.readString();
+        int count = readCount(reader);
+        List<AccountBalance> accounts = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < count; i++) {
+            accounts.add(new AccountBalance(reader.readUuid(), reader.readString(), reader.readString(),
+                    reader.readDecimal()));
+        }
+        return new BalanceResult(status, text, accounts);
+    }
+
+    // Helper methods
+
+    private static void write(EventWriter writer, PostingCommand command) {
+        writer.writeUuid(command.requestId());
+        writer.writeUuid(command.accountId());
+        // userId is a Snowflake id, so fixed-width as in the event schemas
+        writer.writeFixedLong(command.userId());
+        writer.writeByte(command.direction().ordinal());
+        writer.writeDecimal(command.amount());
+    }
+
+    private static PostingCommand readCommand(EventReader reader) {
+        UUID requestId = reader.readUuid();
+        UUID accountId = reader.readUuid();
+        long userId = reader.readFixedLong();
+        int direction = reader.readByte();
+        if (direction >= DIRECTIONS.length) {
+            throw new IllegalArgumentException("Unknown posting direction: " + direction);
+        }
+        return new PostingCommand(requestId, accountId, userId, DIRECTIONS[direction], reader.readDecimal());
+    }
+
+    private static void write(EventWriter writer, PostingResult result) {
+        writer.writeUuid(result.requestId());
+        writer.writeVarLong(result.status().code());
+        writer.writeString(result.message());
+        writer.writeDecimal(result.balance());
+    }
+
+    private static PostingResult readResult(EventReader reader) {
+        return new PostingResult(reader.readUuid(), RpcStatus.of((int) reader.readVarLong()), reader.readString(),
+                reader.readDecimal());
+    }
+
+    private static int readCount(EventReader reader) {
+        long count = reader.readVarLong();
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("List length out of range: " + count);
+        }
+        return (int) count;
+    }
+}
@@ -0,0 +1,225 @@
+package com.titanbank.rpc;
+
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.common.security.ForwardedPrincipal;
+import com.titanbank.common.security.UserRole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Client of account-service's internal API ({@link AccountRpc}) over HTTP/2 cleartext, falling back
+ * to HTTP/1.1 where the server does not upgrade. One connection carries every concurrent call.
+ *
+ * <p>Calls authenticate as a service: the principal is signed with the secret the services share
+ * with the gateway and carries the {@link UserRole#SERVICE} role only. Thread-safe.
+ */
+public class AccountRpcClient {
+
+    private static final Duration PRINCIPAL_TTL = Duration.ofMinutes(10);
+
+    private final URI baseUri;
+    private final ForwardedPrincipal forwardedPrincipal;
+    private final String serviceName;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+
+    private volatile SignedPrincipal principal;
+
+    /**
+     * @param baseUri     account-service, e.g. {@code http://account-service:8082}
+     * @param serviceName the calling service, recorded as the principal's email
+     */
+    public AccountRpcClient(URI baseUri, ForwardedPrincipal forwardedPrincipal, String serviceName,
+                            Duration connectTimeout, Duration requestTimeout) {
+        this.baseUri = baseUri;
+        this.forwardedPrincipal = forwardedPrincipal;
+        this.serviceName = serviceName;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    /**
+     * Apply one posting; a posting the server refused comes back with a non-OK status
+     *
+     * @throws RpcException if the call itself failed, in which case the posting may or may not have
+     *                      been applied; retry with the same request id
+     */
+    public PostingResult post(PostingCommand command) {
+        return AccountRpc.decodeResult(unary(AccountRpc.POST, AccountRpc.encode(command)));
+    }
+
+    /**
+     * Apply several postings in one round trip; results are in command order
+     */
+    public List<PostingResult> postBatch(List<PostingCommand> commands) {
+        return AccountRpc.decodeResults(unary(AccountRpc.POST_BATCH, AccountRpc.encodeCommands(commands)));
+    }
+
+    public BalanceResult getBalances(BalanceQuery query) {
+        return AccountRpc.decodeBalances(unary(AccountRpc.GET_BALANCES, AccountRpc.encode(query)));
+    }
+
+    /**
+     * Stream postings to the server and each result back as soon as its posting completes, for bulk
+     * work too large for one batch. {@code commands} is drained, several at a time, on a client
+     * thread while {@code results} is called on this one, in command order; returns once the server
+     * has answered every command.
+     */
+    public void streamPostings(Iterator<PostingCommand> commands, Consumer<PostingResult> results) {
+        AtomicBoolean subscribed = new AtomicBoolean();
+        HttpRequest request = request(AccountRpc.STREAM_POSTINGS)
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> {
+                    // The iterator can be drained once; a resent body would silently be empty
+                    if (!subscribed.compareAndSet(false, true)) {
+                        throw new IllegalStateException("Posting stream cannot be replayed");
+                    }
+                    return new FramingInputStream(commands);
+                }))
+                .build();
+
+        HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            checkStatus(response.statusCode());
+            byte[] message;
+            while ((message = RpcFrames.read(body)) != null) {
+                results.accept(AccountRpc.decodeResult(message));
+            }
+        } catch (IOException e) {
+            throw new RpcException(RpcStatus.UNAVAILABLE, "Posting stream broke off: " + e.getMessage(), e);
+        }
+    }
+
+    // Helper methods
+
+    private byte[] unary(String path, byte[] message) {
+        HttpRequest request = request(path)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(RpcFrames.frame(message)))
+                .build();
+        HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            checkStatus(response.statusCode());
+            byte[] reply = RpcFrames.read(body);
+            if (reply == null) {
+                throw new RpcException(RpcStatus.INTERNAL, "Empty response from " + path);
+            }
+            return reply;
+        } catch (IOException e) {
+            throw new RpcException(RpcStatus.UNAVAILABLE, "Response from " + path + " broke off", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Content-Type", AccountRpc.CONTENT_TYPE)
+                .header(ForwardedPrincipal.HEADER, principal());
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        try {
+            return httpClient.send(request, handler);
+        } catch (HttpTimeoutException e) {
+            throw new RpcException(RpcStatus.DEADLINE_EXCEEDED, request.uri().getPath() + " timed out", e);
+        } catch (IOException e) {
+            throw new RpcException(RpcStatus.UNAVAILABLE, request.uri().getPath() + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RpcException(RpcStatus.CANCELLED, request.uri().getPath() + " was interrupted", e);
+        }
+    }
+
+    private static void checkStatus(int statusCode) {
+        if (statusCode == 200) {
+            return;
+        }
+        RpcStatus status = switch (statusCode) {
+            case 400 -> RpcStatus.INVALID_ARGUMENT;
+            case 401 -> RpcStatus.UNAUTHENTICATED;
+            case 403 -> RpcStatus.PERMISSION_DENIED;
+            case 502, 503, 504 -> RpcStatus.UNAVAILABLE;
+            default -> RpcStatus.INTERNAL;
+        };
+        throw new RpcException(status, "account-service answered HTTP " + statusCode);
+    }
+
+    // Signing is an HMAC per header; the header is reused until half its lifetime has passed
+    private String principal() {
+        long now = System.currentTimeMillis();
+        SignedPrincipal current = principal;
+        if (current == null || now >= current.refreshAtMillis()) {
+            long expiresAt = now + PRINCIPAL_TTL.toMillis();
+            AuthenticatedUser service = AuthenticatedUser.of(0L, serviceName, List.of(UserRole.SERVICE.name()),
+                    expiresAt);
+            current = new SignedPrincipal(forwardedPrincipal.sign(service), now + PRINCIPAL_TTL.toMillis() / 2);
+            principal = current;
+        }
+        return current.header();
+    }
+
+    private record SignedPrincipal(String header, long refreshAtMillis) {
+    }
+
+    /**
+     * Encodes commands only as the client reads the body, so a stream of any length is sent in
+     * constant memory. A read takes as many whole commands as fit, because Tomcat counts small
+     * DATA frames as abuse and closes a connection that sends too many.
+     */
+    private static final class FramingInputStream extends InputStream {
+        private final Iterator<PostingCommand> commands;
+        private byte[] frame = new byte[0];
+        private int position;
+
+        FramingInputStream(Iterator<PostingCommand> commands) {
+            this.commands = commands;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return frame[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int count = 0;
+            while (count < length && fill()) {
+                int chunk = Math.min(length - count, frame.length - position);
+                System.arraycopy(frame, position, buffer, offset + count, chunk);
+                position += chunk;
+                count += chunk;
+            }
+            return count == 0 ? -1 : count;
+        }
+
+        private boolean fill() {
+            if (position < frame.length) {
+                return true;
+            }
+            if (!commands.hasNext()) {
+                return false;
+            }
+            frame = RpcFrames.frame(AccountRpc.encode(commands.next()));
+            position = 0;
+            return true;
+        }
+    }
+}
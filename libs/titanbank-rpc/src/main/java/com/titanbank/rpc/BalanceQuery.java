@@ -0,0 +1,12 @@
+package com.titanbank.rpc;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Balances of a user's accounts
+ *
+ * @param accountIds the accounts to return; empty for all of the user's accounts
+ */
+public record BalanceQuery(long userId, List<UUID> accountIds) {
+}
@@ -0,0 +1,18 @@
+package com.titanbank.rpc;
+
+import java.util.List;
+
+public record BalanceResult(RpcStatus status, String message, List<AccountBalance> accounts) {
+
+    public static BalanceResult ok(List<AccountBalance> accounts) {
+        return new BalanceResult(RpcStatus.OK, null, accounts);
+    }
+
+    public static BalanceResult failed(RpcStatus status, String message) {
+        return new BalanceResult(status, message, List.of());
+    }
+
+    public boolean isOk() {
+        return status == RpcStatus.OK;
+    }
+}
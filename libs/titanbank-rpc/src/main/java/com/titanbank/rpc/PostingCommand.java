@@ -0,0 +1,19 @@
+package com.titanbank.rpc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Credit or debit one account.
+ *
+ * @param requestId when set, the posting is applied at most once per user and id; a retry with the
+ *                  same id and a different posting is rejected
+ */
+public record PostingCommand(
+        UUID requestId,
+        UUID accountId,
+        long userId,
+        PostingDirection direction,
+        BigDecimal amount
+) {
+}
@@ -0,0 +1,6 @@
+package com.titanbank.rpc;
+
+public enum PostingDirection {
+    CREDIT,
+    DEBIT
+}
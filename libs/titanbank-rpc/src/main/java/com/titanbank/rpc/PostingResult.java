@@ -0,0 +1,29 @@
+package com.titanbank.rpc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Outcome of one {@link PostingCommand}, echoing its request id
+ *
+ * @param balance the account balance after the posting, or {@code null} if it failed
+ */
+public record PostingResult(
+        UUID requestId,
+        RpcStatus status,
+        String message,
+        BigDecimal balance
+) {
+
+    public static PostingResult ok(UUID requestId, BigDecimal balance) {
+        return new PostingResult(requestId, RpcStatus.OK, null, balance);
+    }
+
+    public static PostingResult failed(UUID requestId, RpcStatus status, String message) {
+        return new PostingResult(requestId, status, message, null);
+    }
+
+    public boolean isOk() {
+        return status == RpcStatus.OK;
+    }
+}
@@ -0,0 +1,24 @@
+package com.titanbank.rpc;
+
+/**
+ * A call that failed as a whole: transport errors, rejected credentials or malformed frames.
+ * Failures of a single posting come back in its {@link PostingResult} instead.
+ */
+public class RpcException extends RuntimeException {
+
+    private final RpcStatus status;
+
+    public RpcException(RpcStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public RpcException(RpcStatus status, String message, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+    public RpcStatus getStatus() {
+        return status;
+    }
+}
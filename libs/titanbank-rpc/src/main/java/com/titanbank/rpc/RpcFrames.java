@@ -0,0 +1,69 @@
+package com.titanbank.rpc;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Message framing on a request or response body, as in gRPC: a flag byte (0, uncompressed), the
+ * message length as four big-endian bytes, then the message. A body carries one frame for unary
+ * calls and any number for streams.
+ */
+public final class RpcFrames {
+
+    public static final int HEADER_BYTES = 5;
+    public static final int MAX_MESSAGE_BYTES = 4 * 1024 * 1024;
+
+    private RpcFrames() {
+    }
+
+    public static void write(OutputStream out, byte[] message) throws IOException {
+        out.write(header(message.length));
+        out.write(message);
+    }
+
+    /**
+     * {@code message} with its frame header, ready to send as a whole body
+     */
+    public static byte[] frame(byte[] message) {
+        byte[] frame = new byte[HEADER_BYTES + message.length];
+        System.arraycopy(header(message.length), 0, frame, 0, HEADER_BYTES);
+        System.arraycopy(message, 0, frame, HEADER_BYTES, message.length);
+        return frame;
+    }
+
+    /**
+     * The next message, or {@code null} when the body ends cleanly between frames
+     *
+     * @throws IllegalArgumentException for a compressed or oversized frame
+     * @throws EOFException             if the body ends inside a frame
+     */
+    public static byte[] read(InputStream in) throws IOException {
+        int flag = in.read();
+        if (flag < 0) {
+            return null;
+        }
+        if (flag != 0) {
+            throw new IllegalArgumentException("Compressed frames are not supported");
+        }
+        byte[] header = in.readNBytes(HEADER_BYTES - 1);
+        if (header.length < HEADER_BYTES - 1) {
+            throw new EOFException("Body ended inside a frame header");
+        }
+        int length = (header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16 | (header[2] & 0xFF) << 8 | header[3] & 0xFF;
+        if (length < 0 || length > MAX_MESSAGE_BYTES) {
+            throw new IllegalArgumentException("Frame of " + Integer.toUnsignedString(length) + " bytes exceeds "
+                    + MAX_MESSAGE_BYTES);
+        }
+        byte[] message = in.readNBytes(length);
+        if (message.length < length) {
+            throw new EOFException("Body ended inside a " + length + " byte frame");
+        }
+        return message;
+    }
+
+    private static byte[] header(int length) {
+        return new byte[]{0, (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length};
+    }
+}
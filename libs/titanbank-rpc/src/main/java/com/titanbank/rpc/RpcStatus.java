@@ -0,0 +1,50 @@
+package com.titanbank.rpc;
+
+/**
+ * Outcome of a call, with the numeric codes of gRPC so the two read the same in logs and
+ * dashboards
+ */
+public enum RpcStatus {
+
+    OK(0),
+    CANCELLED(1),
+    INVALID_ARGUMENT(3),
+    DEADLINE_EXCEEDED(4),
+    NOT_FOUND(5),
+    PERMISSION_DENIED(7),
+    RESOURCE_EXHAUSTED(8),
+    FAILED_PRECONDITION(9),
+    ABORTED(10),
+    INTERNAL(13),
+    UNAVAILABLE(14),
+    UNAUTHENTICATED(16);
+
+    private static final RpcStatus[] BY_CODE = new RpcStatus[17];
+
+    static {
+        for (RpcStatus status : values()) {
+            BY_CODE[status.code] = status;
+        }
+    }
+
+    private final int code;
+
+    RpcStatus(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    /**
+     * @throws IllegalArgumentException for a code this version does not know
+     */
+    public static RpcStatus of(int code) {
+        RpcStatus status = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown RPC status: " + code);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,108 @@
+package com.titanbank.rpc;
+
+import com.sun.net.httpserver.HttpServer;
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.common.security.ForwardedPrincipal;
+import com.titanbank.common.security.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountRpcClientTest {
+
+    private static final String SECRET = "test-only-gateway-principal-secret-0123";
+
+    private final ForwardedPrincipal forwardedPrincipal = new ForwardedPrincipal(SECRET);
+    private final AtomicReference<AuthenticatedUser> caller = new AtomicReference<>();
+    private HttpServer server;
+    private AccountRpcClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // Echoes every posting back as credited with its amount as the balance
+        server.createContext(AccountRpc.BASE_PATH, exchange -> {
+            caller.set(forwardedPrincipal.verify(exchange.getRequestHeaders().getFirst(ForwardedPrincipal.HEADER),
+                    System.currentTimeMillis()));
+            if (exchange.getRequestURI().getPath().equals(AccountRpc.GET_BALANCES)) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", AccountRpc.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, 0);
+            try (InputStream in = exchange.getRequestBody(); OutputStream out = exchange.getResponseBody()) {
+                byte[] message;
+                while ((message = RpcFrames.read(in)) != null) {
+                    PostingCommand command = AccountRpc.decodeCommand(message);
+                    RpcFrames.write(out, AccountRpc.encode(PostingResult.ok(command.requestId(), command.amount())));
+                }
+            }
+        });
+        server.start();
+        client = new AccountRpcClient(URI.create("http://127.0.0.1:" + server.getAddress().getPort()),
+                forwardedPrincipal, "transaction-service", Duration.ofSeconds(2), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testPost_SignsAServicePrincipal() {
+        // Given
+        PostingCommand command = command(1);
+
+        // When
+        PostingResult result = client.post(command);
+
+        // Then
+        assertThat(result).isEqualTo(PostingResult.ok(command.requestId(), command.amount()));
+        assertThat(caller.get().roles()).containsExactly(UserRole.SERVICE);
+        assertThat(caller.get().email()).isEqualTo("transaction-service");
+    }
+
+    @Test
+    void testStreamPostings_DeliversEveryResultInOrder() {
+        // Given
+        List<PostingCommand> commands = IntStream.rangeClosed(1, 500).mapToObj(this::command).toList();
+        List<PostingResult> results = new ArrayList<>();
+
+        // When
+        client.streamPostings(commands.iterator(), results::add);
+
+        // Then
+        assertThat(results).hasSize(500);
+        assertThat(results).extracting(PostingResult::requestId)
+                .containsExactlyElementsOf(commands.stream().map(PostingCommand::requestId).toList());
+    }
+
+    @Test
+    void testGetBalances_HttpErrorBecomesRpcStatus() {
+        // When / Then
+        assertThatThrownBy(() -> client.getBalances(new BalanceQuery(1L, List.of())))
+                .isInstanceOfSatisfying(RpcException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(RpcStatus.UNAVAILABLE));
+    }
+
+    private PostingCommand command(int i) {
+        return new PostingCommand(UUID.randomUUID(), UUID.randomUUID(), 42L, PostingDirection.CREDIT,
+                BigDecimal.valueOf(i, 2));
+    }
+}
@@ -0,0 +1,116 @@
+package com.titanbank.rpc;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountRpcTest {
+
+    private static final long USER_ID = 7_234_567_890_123_456_789L;
+
+    @Test
+    void testCommands_RoundTripSingleAndBatch() {
+        // Given
+        PostingCommand credit = new PostingCommand(UUID.randomUUID(), UUID.randomUUID(), USER_ID,
+                PostingDirection.CREDIT, new BigDecimal("125.5000"));
+        PostingCommand debit = new PostingCommand(null, UUID.randomUUID(), USER_ID,
+                PostingDirection.DEBIT, new BigDecimal("0.0001"));
+
+        // When
+        PostingCommand single = AccountRpc.decodeCommand(AccountRpc.encode(credit));
+        List<PostingCommand> batch = AccountRpc.decodeCommands(AccountRpc.encodeCommands(List.of(credit, debit)));
+
+        // Then
+        assertThat(single).isEqualTo(credit);
+        assertThat(batch).containsExactly(credit, debit);
+    }
+
+    @Test
+    void testResults_RoundTripOkAndFailed() {
+        // Given
+        PostingResult ok = PostingResult.ok(UUID.randomUUID(), new BigDecimal("99.9900"));
+        PostingResult failed = PostingResult.failed(null, RpcStatus.FAILED_PRECONDITION, "Insufficient funds");
+
+        // When
+        List<PostingResult> results = AccountRpc.decodeResults(AccountRpc.encodeResults(List.of(ok, failed)));
+
+        // Then
+        assertThat(results).containsExactly(ok, failed);
+        assertThat(results.get(0).isOk()).isTrue();
+        assertThat(results.get(1).isOk()).isFalse();
+    }
+
+    @Test
+    void testBalances_RoundTrip() {
+        // Given
+        BalanceQuery query = new BalanceQuery(USER_ID, List.of(UUID.randomUUID(), UUID.randomUUID()));
+        BalanceResult result = BalanceResult.ok(List.of(
+                new AccountBalance(UUID.randomUUID(), "EUR", "ACTIVE", new BigDecimal("10.0000")),
+                new AccountBalance(UUID.randomUUID(), "USD", "FROZEN", new BigDecimal("-3.2500"))));
+
+        // When / Then
+        assertThat(AccountRpc.decodeQuery(AccountRpc.encode(query))).isEqualTo(query);
+        assertThat(AccountRpc.decodeBalances(AccountRpc.encode(result))).isEqualTo(result);
+    }
+
+    @Test
+    void testDecode_UnknownDirectionOrStatusIsRejected() {
+        // Given
+        byte[] command = AccountRpc.encode(new PostingCommand(null, null, USER_ID, PostingDirection.DEBIT,
+                BigDecimal.ONE));
+        command[2 + 8] = 9; // two absent UUIDs, then the user id, then the direction
+        byte[] result = AccountRpc.encode(PostingResult.failed(null, RpcStatus.INTERNAL, null));
+        result[1] = 2; // status code right after the absent request id
+
+        // When / Then
+        assertThatThrownBy(() -> AccountRpc.decodeCommand(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("direction");
+        assertThatThrownBy(() -> AccountRpc.decodeResult(result))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("status");
+    }
+
+    @Test
+    void testFrames_SeveralMessagesThenCleanEnd() throws Exception {
+        // Given
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        RpcFrames.write(body, new byte[]{1, 2, 3});
+        RpcFrames.write(body, new byte[0]);
+        body.write(RpcFrames.frame(new byte[]{4}));
+        ByteArrayInputStream in = new ByteArrayInputStream(body.toByteArray());
+
+        // When / Then
+        assertThat(RpcFrames.read(in)).containsExactly(1, 2, 3);
+        assertThat(RpcFrames.read(in)).isEmpty();
+        assertThat(RpcFrames.read(in)).containsExactly(4);
+        assertThat(RpcFrames.read(in)).isNull();
+    }
+
+    @Test
+    void testFrames_TruncatedCompressedAndOversizedAreRejected() throws Exception {
+        // Given
+        byte[] frame = RpcFrames.frame(new byte[]{1, 2, 3});
+        byte[] compressed = frame.clone();
+        compressed[0] = 1;
+        byte[] oversized = {0, 0x7F, 0, 0, 0};
+
+        // When / Then
+        assertThatThrownBy(() -> RpcFrames.read(new ByteArrayInputStream(Arrays.copyOf(frame, 6))))
+                .isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> RpcFrames.read(new ByteArrayInputStream(compressed)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RpcFrames.read(new ByteArrayInputStream(oversized)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exceeds");
+    }
+}
@@ -0,0 +1,7 @@
+#!/usr/bin/env bash
+# Build the services and run the load test against in-process stand-ins.
+#   loadtest/run.sh --users 100 --iterations 500
+set -euo pipefail
+cd "$(dirname "$0")/.."
+mvn -B -q -pl loadtest -am install -DskipTests
+exec mvn -B -q -f loadtest/pom.xml exec:java -Dexec.args="$*"
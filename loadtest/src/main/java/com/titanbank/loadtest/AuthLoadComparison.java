@@ -0,0 +1,102 @@
+package com.titanbank.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Side-by-side closed-loop load test of the login endpoint on a servlet node and a reactive
+ * node ({@code SPRING_PROFILES_ACTIVE=reactive}) of user-service sharing one database. Unlike
+ * {@link LoadTest}, the nodes are started separately and only their URLs are given here.
+ *
+ * <pre>
+ *   mvn -f loadtest/pom.xml exec:java -Dloadtest.main=com.titanbank.loadtest.AuthLoadComparison \
+ *       -Dexec.args="http://localhost:8081 http://localhost:8091 user@titanbank.com Secret@123 2000 30"
+ * </pre>
+ *
+ * Args: servletBaseUrl reactiveBaseUrl email password [concurrency] [durationSeconds]
+ */
+public final class AuthLoadComparison {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private AuthLoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("usage: AuthLoadComparison servletUrl reactiveUrl email password [concurrency] [seconds]");
+            System.exit(1);
+        }
+
+        String body = "{\"email\":\"" + args[2] + "\",\"password\":\"" + args[3] + "\"}";
+        int concurrency = args.length > 4 ? Integer.parseInt(args[4]) : 1_000;
+        Duration duration = Duration.ofSeconds(args.length > 5 ? Long.parseLong(args[5]) : 30);
+
+        System.out.printf("POST /api/v1/auth/login, %d concurrent clients, %ds per run%n%n",
+                concurrency, duration.toSeconds());
+
+        run("servlet", args[0], body, concurrency, duration);
+        run("reactive", args[1], body, concurrency, duration);
+    }
+
+    private static void run(String label, String baseUrl, String body, int concurrency, Duration duration)
+            throws InterruptedException {
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        Recorder latencies = new Recorder(MAX_LATENCY_MICROS, 3);
+        AtomicLong errors = new AtomicLong();
+        Semaphore permits = new Semaphore(concurrency);
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            permits.acquire();
+            long sent = System.nanoTime();
+
+            CompletableFuture<HttpResponse<Void>> response =
+                    client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+
+            response.whenComplete((result, failure) -> {
+                if (failure != null || result.statusCode() != 200) {
+                    errors.incrementAndGet();
+                } else {
+                    latencies.recordValue(Math.min((System.nanoTime() - sent) / 1_000, MAX_LATENCY_MICROS));
+                }
+                permits.release();
+            });
+        }
+
+        permits.acquire(concurrency); // drain in-flight requests
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Histogram histogram = latencies.getIntervalHistogram();
+        System.out.printf(
+                "%-9s ok=%-8d errors=%-6d throughput=%8.0f req/s  p50=%7.1f ms  p99=%7.1f ms  p99.9=%7.1f ms%n",
+                label, histogram.getTotalCount(), errors.get(), histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.titanbank.loadtest;
+
+/**
+ * Operations in the mix. Latency and errors are recorded per endpoint.
+ */
+enum Endpoint {
+
+    REGISTER("POST /api/v1/users/register"),
+    LOGIN("POST /api/v1/auth/login"),
+    PROFILE("GET /api/v1/users/profile"),
+    ACCOUNT_CREATE("POST /api/v1/accounts"),
+    CREDIT("POST /api/v1/accounts/{id}/credit"),
+    DEBIT("POST /api/v1/accounts/{id}/debit");
+
+    final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+}
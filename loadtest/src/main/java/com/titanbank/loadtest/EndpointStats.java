@@ -0,0 +1,69 @@
+package com.titanbank.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency (microseconds, HdrHistogram) and error counts per endpoint, safe for concurrent recording.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Endpoint, Recorder> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, AtomicReference<String>> firstError = new EnumMap<>(Endpoint.class);
+
+    EndpointStats() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new Recorder(MAX_LATENCY_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+            firstError.put(endpoint, new AtomicReference<>());
+        }
+    }
+
+    void record(Endpoint endpoint, long startNanos, int status, String body) {
+        long micros = (System.nanoTime() - startNanos) / 1_000;
+        latencies.get(endpoint).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+        if (status >= 400) {
+            errors.get(endpoint).increment();
+            firstError.get(endpoint).compareAndSet(null, status + " " + body);
+        }
+    }
+
+    void recordFailure(Endpoint endpoint, Exception e) {
+        errors.get(endpoint).increment();
+        firstError.get(endpoint).compareAndSet(null, e.toString());
+    }
+
+    /**
+     * Drop everything recorded so far (end of warmup)
+     */
+    void reset() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.get(endpoint).getIntervalHistogram();
+            errors.get(endpoint).reset();
+            firstError.get(endpoint).set(null);
+        }
+    }
+
+    Map<Endpoint, Snapshot> snapshot() {
+        Map<Endpoint, Snapshot> snapshot = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            snapshot.put(endpoint, new Snapshot(
+                    latencies.get(endpoint).getIntervalHistogram(),
+                    errors.get(endpoint).sum(),
+                    firstError.get(endpoint).get()));
+        }
+        return snapshot;
+    }
+
+    record Snapshot(Histogram latencyMicros, long errors, String firstError) {
+    }
+}
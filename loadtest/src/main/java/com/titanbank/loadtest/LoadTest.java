@@ -0,0 +1,117 @@
+package com.titanbank.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * End-to-end load test: starts the stand-ins and both services in this JVM, warms them up,
+ * then drives a closed-loop retail mix and reports throughput and latency per endpoint.
+ *
+ * <pre>
+ *   loadtest/run.sh [--users 50] [--iterations 200] [--warmup-users 20] [--seed 42]
+ *                   [--report loadtest-report.json]
+ * </pre>
+ *
+ * Each virtual user registers, logs in, opens and funds an account, then performs
+ * {@code iterations} operations back to back. The same seed and user count replay the same
+ * requests against freshly started services.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "200"));
+        int warmupUsers = Integer.parseInt(options.getOrDefault("warmup-users", "20"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Path reportFile = Path.of(options.getOrDefault("report", "loadtest-report.json"));
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", users);
+        settings.put("iterations", iterations);
+        settings.put("warmupUsers", warmupUsers);
+        settings.put("seed", seed);
+        settings.put("java", Runtime.version().toString());
+
+        try (StandIns standIns = StandIns.start();
+             Services services = Services.start(standIns)) {
+
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            EndpointStats stats = new EndpointStats();
+            Mix mix = Mix.retail();
+
+            // Warmup users get their own index range so measured users register fresh emails
+            System.out.printf("Warming up with %d users...%n", warmupUsers);
+            drive(warmupUsers, users, iterations / 4, seed, http, services, stats, mix);
+            stats.reset();
+
+            System.out.printf("Measuring %d users x %d operations...%n", users, iterations);
+            long start = System.nanoTime();
+            drive(users, 0, iterations, seed, http, services, stats, mix);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            Report report = new Report(stats.snapshot(), elapsed, settings);
+            report.print(System.out);
+            report.write(reportFile);
+            System.out.printf("%nReport written to %s%n", reportFile.toAbsolutePath());
+        }
+    }
+
+    private static void drive(int users, int firstIndex, int iterations, long seed, HttpClient http,
+                              Services services, EndpointStats stats, Mix mix) throws Exception {
+        ExecutorService executor = newExecutor(users);
+        try {
+            List<Future<?>> running = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                VirtualUser user = new VirtualUser(firstIndex + i, seed, http, services, stats, mix);
+                running.add(executor.submit(() -> {
+                    user.onboard();
+                    for (int n = 0; n < iterations; n++) {
+                        user.iterate();
+                    }
+                }));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * One thread per user: virtual threads on Java 21, platform threads otherwise
+     */
+    private static ExecutorService newExecutor(int users) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(users);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,42 @@
+package com.titanbank.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted choice of the next operation for a logged-in user.
+ */
+final class Mix {
+
+    private final Endpoint[] table;
+
+    private Mix(Map<Endpoint, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        table = new Endpoint[total];
+        int i = 0;
+        for (Map.Entry<Endpoint, Integer> weight : weights.entrySet()) {
+            for (int n = 0; n < weight.getValue(); n++) {
+                table[i++] = weight.getKey();
+            }
+        }
+    }
+
+    /**
+     * Read-heavy retail banking mix: mostly profile views and small transfers, occasional
+     * re-login (BCrypt) and account opening
+     */
+    static Mix retail() {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        weights.put(Endpoint.PROFILE, 40);
+        weights.put(Endpoint.CREDIT, 25);
+        weights.put(Endpoint.DEBIT, 20);
+        weights.put(Endpoint.LOGIN, 10);
+        weights.put(Endpoint.ACCOUNT_CREATE, 5);
+        return new Mix(weights);
+    }
+
+    Endpoint next(Random random) {
+        return table[random.nextInt(table.length)];
+    }
+}
@@ -0,0 +1,105 @@
+package com.titanbank.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per endpoint, printed as a table and written as JSON.
+ */
+final class Report {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<Endpoint, EndpointStats.Snapshot> snapshot;
+    private final Duration elapsed;
+    private final Map<String, Object> settings;
+
+    Report(Map<Endpoint, EndpointStats.Snapshot> snapshot, Duration elapsed, Map<String, Object> settings) {
+        this.snapshot = snapshot;
+        this.elapsed = elapsed;
+        this.settings = settings;
+    }
+
+    void print(PrintStream out) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf("%nMeasured %.1f s%n", seconds);
+        out.printf("%-36s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Endpoint, EndpointStats.Snapshot> entry : snapshot.entrySet()) {
+            Histogram latency = entry.getValue().latencyMicros();
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            print(out, entry.getKey().label, latency, entry.getValue().errors(), seconds);
+            total.add(latency);
+            totalErrors += entry.getValue().errors();
+        }
+        print(out, "TOTAL", total, totalErrors, seconds);
+
+        snapshot.forEach((endpoint, stats) -> {
+            if (stats.firstError() != null) {
+                out.printf("%n%s first error: %s%n", endpoint.label, abbreviate(stats.firstError()));
+            }
+        });
+    }
+
+    void write(Path file) throws IOException {
+        double seconds = elapsed.toNanos() / 1e9;
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        snapshot.forEach((endpoint, stats) -> {
+            Histogram latency = stats.latencyMicros();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint.label);
+            row.put("requests", latency.getTotalCount());
+            row.put("errors", stats.errors());
+            row.put("throughputPerSecond", latency.getTotalCount() / seconds);
+            Map<String, Object> percentiles = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                percentiles.put("p" + percentile, millis(latency.getValueAtPercentile(percentile)));
+            }
+            percentiles.put("max", millis(latency.getMaxValue()));
+            row.put("latencyMillis", percentiles);
+            endpoints.add(row);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("elapsedSeconds", seconds);
+        report.put("endpoints", endpoints);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static void print(PrintStream out, String label, Histogram latency, long errors, double seconds) {
+        out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label,
+                latency.getTotalCount(),
+                errors,
+                latency.getTotalCount() / seconds,
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() > 300 ? message.substring(0, 300) + "..." : message;
+    }
+}
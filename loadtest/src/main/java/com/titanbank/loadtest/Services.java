@@ -0,0 +1,134 @@
+package com.titanbank.loadtest;
+
+import com.titanbank.account.AccountServiceApplication;
+import com.titanbank.user.UserServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * user-service and account-service started in this JVM, each with its own application.yaml
+ * and stand-in endpoints layered on top. Postgres becomes in-memory H2 in PostgreSQL mode.
+ */
+final class Services implements AutoCloseable {
+
+    private static final String H2_POSTGRES_MODE = ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final ConfigurableApplicationContext userService;
+    private final ConfigurableApplicationContext accountService;
+    private final int userPort;
+    private final int accountPort;
+
+    private Services(ConfigurableApplicationContext userService, int userPort,
+                     ConfigurableApplicationContext accountService, int accountPort) {
+        this.userService = userService;
+        this.userPort = userPort;
+        this.accountService = accountService;
+        this.accountPort = accountPort;
+    }
+
+    static Services start(StandIns standIns) throws IOException {
+        int userPort = StandIns.freePort();
+        int accountPort = StandIns.freePort();
+
+        Map<String, Object> user = common(standIns, userPort);
+        user.put("spring.datasource.url", "jdbc:h2:mem:titanbank_users" + H2_POSTGRES_MODE);
+        user.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        user.put("spring.datasource.username", "sa");
+        user.put("spring.datasource.password", "");
+        user.put("spring.jpa.hibernate.ddl-auto", "create");
+        user.put("spring.kafka.bootstrap-servers", standIns.kafkaBootstrapServers());
+        // A key pair for this run only, supplied the way a deployment would
+        KeyPair signing = es256KeyPair();
+        user.put("JWT_ES256_PRIVATE_KEY", Base64.getEncoder().encodeToString(signing.getPrivate().getEncoded()));
+        user.put("JWT_ES256_PUBLIC_KEY", Base64.getEncoder().encodeToString(signing.getPublic().getEncoded()));
+        ConfigurableApplicationContext userService = run(UserServiceApplication.class, user);
+
+        // account-service already runs on H2; it needs Redis, user-service's keys and its events
+        Map<String, Object> account = common(standIns, accountPort);
+        account.put("titanbank.jwt.jwks-uri", "http://localhost:" + userPort + "/.well-known/jwks.json");
+        account.put("spring.kafka.bootstrap-servers", standIns.kafkaBootstrapServers());
+        // Virtual users debit far faster than a person; keep the engine on the path but never rejecting
+        account.put("velocity.rules[0].name", "loadtest");
+        account.put("velocity.rules[0].window", "PT1H");
+        account.put("velocity.rules[0].max-amount", "1000000000");
+        // user-service's R2DBC driver shares this classpath; a ConnectionFactory would displace the DataSource
+        account.put("spring.autoconfigure.exclude", String.join(",",
+                "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+                "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration",
+                "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration",
+                "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration"));
+
+        ConfigurableApplicationContext accountService;
+        try {
+            accountService = run(AccountServiceApplication.class, account);
+        } catch (RuntimeException e) {
+            userService.close();
+            throw e;
+        }
+
+        return new Services(userService, userPort, accountService, accountPort);
+    }
+
+    private static Map<String, Object> common(StandIns standIns, int port) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", port);
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", standIns.redisPort());
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.devtools.restart.enabled", false);
+        // Per-request INFO logging would measure the console, not the services
+        properties.put("logging.level.com.titanbank", "WARN");
+        return properties;
+    }
+
+    private static KeyPair es256KeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate an ES256 key pair", e);
+        }
+    }
+
+    private static ConfigurableApplicationContext run(Class<?> application, Map<String, Object> properties) {
+        // Both service jars carry an application.yaml; load the one that belongs to this service
+        properties.put("spring.config.location", applicationYaml(application));
+
+        // As command-line arguments, so they override the service's own configuration
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(application).run(args);
+    }
+
+    private static String applicationYaml(Class<?> application) {
+        URL location = application.getProtectionDomain().getCodeSource().getLocation();
+        String path = location.toString();
+        return path.endsWith(".jar") ? "jar:" + path + "!/application.yaml" : path + "application.yaml";
+    }
+
+    String userServiceUrl() {
+        return "http://localhost:" + userPort;
+    }
+
+    String accountServiceUrl() {
+        return "http://localhost:" + accountPort;
+    }
+
+    @Override
+    public void close() {
+        accountService.close();
+        userService.close();
+    }
+}
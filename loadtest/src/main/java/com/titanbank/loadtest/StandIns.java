@@ -0,0 +1,63 @@
+package com.titanbank.loadtest;
+
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * Containerless replacements for the infrastructure the services expect: an embedded Redis
+ * server and a single-node in-process Kafka (KRaft) broker. Postgres is replaced per service
+ * by an in-memory H2 database in PostgreSQL mode, see {@link Services}.
+ */
+final class StandIns implements AutoCloseable {
+
+    static final String[] TOPICS = {"user-events"};
+
+    private final RedisServer redis;
+    private final EmbeddedKafkaKraftBroker kafka;
+    private final int redisPort;
+
+    private StandIns(RedisServer redis, int redisPort, EmbeddedKafkaKraftBroker kafka) {
+        this.redis = redis;
+        this.redisPort = redisPort;
+        this.kafka = kafka;
+    }
+
+    static StandIns start() throws IOException {
+        int redisPort = freePort();
+        RedisServer redis = RedisServer.newRedisServer()
+                .port(redisPort)
+                .setting("bind 127.0.0.1")
+                .setting("save \"\"")
+                .setting("appendonly no")
+                .build();
+        redis.start();
+
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, 1, TOPICS);
+        kafka.afterPropertiesSet();
+
+        return new StandIns(redis, redisPort, kafka);
+    }
+
+    int redisPort() {
+        return redisPort;
+    }
+
+    String kafkaBootstrapServers() {
+        return kafka.getBrokersAsString();
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        kafka.destroy();
+        redis.stop();
+    }
+}
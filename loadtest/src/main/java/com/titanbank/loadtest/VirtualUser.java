@@ -0,0 +1,156 @@
+package com.titanbank.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * One simulated customer: registers and logs in, opens an account, then runs a weighted
+ * mix of profile reads, re-logins, account openings, credits and debits.
+ *
+ * <p>All choices come from a Random seeded per user, so a run with the same seed and user
+ * count issues the same requests.
+ */
+final class VirtualUser {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String PASSWORD = "LoadTest@2024";
+    private static final String[] CURRENCIES = {"USD", "EUR", "INR"};
+    private static final String[] ACCOUNT_TYPES = {"SAVINGS", "CURRENT", "INVESTMENT"};
+
+    private final int index;
+    private final Random random;
+    private final HttpClient http;
+    private final String userServiceUrl;
+    private final String accountServiceUrl;
+    private final EndpointStats stats;
+    private final Mix mix;
+
+    private final String email;
+    private String accessToken;
+    private final List<String> accountIds = new ArrayList<>();
+
+    VirtualUser(int index, long seed, HttpClient http, Services services, EndpointStats stats, Mix mix) {
+        this.index = index;
+        this.random = new Random(seed * 31 + index);
+        this.http = http;
+        this.userServiceUrl = services.userServiceUrl();
+        this.accountServiceUrl = services.accountServiceUrl();
+        this.stats = stats;
+        this.mix = mix;
+        this.email = "loadtest-" + index + "@titanbank.test";
+    }
+
+    /**
+     * Registration, first login and an opening deposit
+     */
+    void onboard() {
+        send(Endpoint.REGISTER, post(userServiceUrl + "/api/v1/users/register", """
+                {"email":"%s","password":"%s","firstName":"Load","lastName":"User%d",
+                 "phoneNumber":"+1555%07d","dateOfBirth":"1990-01-01","acceptTerms":true}
+                """.formatted(email, PASSWORD, index, index), false));
+        login();
+        openAccount();
+        credit(new BigDecimal("1000.00"));
+    }
+
+    void iterate() {
+        switch (mix.next(random)) {
+            case PROFILE -> send(Endpoint.PROFILE, get(userServiceUrl + "/api/v1/users/profile"));
+            case LOGIN -> login();
+            case ACCOUNT_CREATE -> openAccount();
+            case CREDIT -> credit(amount(20, 200));
+            case DEBIT -> debit(amount(1, 20));
+            default -> throw new IllegalStateException();
+        }
+    }
+
+    private void login() {
+        JsonNode body = send(Endpoint.LOGIN, post(userServiceUrl + "/api/v1/auth/login", """
+                {"email":"%s","password":"%s","rememberMe":false}
+                """.formatted(email, PASSWORD), false));
+        if (body != null) {
+            accessToken = body.path("data").path("accessToken").asText(null);
+        }
+    }
+
+    private void openAccount() {
+        String currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+        String type = ACCOUNT_TYPES[random.nextInt(ACCOUNT_TYPES.length)];
+        JsonNode body = send(Endpoint.ACCOUNT_CREATE, post(accountServiceUrl + "/api/v1/accounts", """
+                {"accountType":"%s","currency":"%s"}
+                """.formatted(type, currency), true));
+        if (body != null && body.path("data").hasNonNull("accountId")) {
+            accountIds.add(body.path("data").path("accountId").asText());
+        }
+    }
+
+    private void credit(BigDecimal amount) {
+        String account = primaryAccount();
+        if (account != null) {
+            send(Endpoint.CREDIT, post(accountServiceUrl + "/api/v1/accounts/" + account + "/credit",
+                    "{\"amount\":" + amount + "}", true));
+        }
+    }
+
+    private void debit(BigDecimal amount) {
+        String account = primaryAccount();
+        if (account != null) {
+            send(Endpoint.DEBIT, post(accountServiceUrl + "/api/v1/accounts/" + account + "/debit",
+                    "{\"amount\":" + amount + "}", true));
+        }
+    }
+
+    // Money moves through the first account, which the opening deposit funded
+    private String primaryAccount() {
+        return accountIds.isEmpty() ? null : accountIds.get(0);
+    }
+
+    private BigDecimal amount(int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100), 2);
+    }
+
+    private HttpRequest.Builder get(String url) {
+        return authorized(HttpRequest.newBuilder(URI.create(url)).GET());
+    }
+
+    private HttpRequest.Builder post(String url, String json, boolean idempotent) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (idempotent) {
+            // Clients retry with the same key; every logical operation here is new
+            request.header("Idempotency-Key", new UUID(random.nextLong(), random.nextLong()).toString());
+        }
+        return url.startsWith(accountServiceUrl) ? authorized(request) : request;
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder request) {
+        return accessToken == null ? request : request.header("Authorization", "Bearer " + accessToken);
+    }
+
+    private JsonNode send(Endpoint endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            stats.record(endpoint, start, response.statusCode(), response.body());
+            return response.statusCode() < 400 ? JSON.readTree(response.body()) : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.recordFailure(endpoint, e);
+            return null;
+        } catch (Exception e) {
+            stats.recordFailure(endpoint, e);
+            return null;
+        }
+    }
+}
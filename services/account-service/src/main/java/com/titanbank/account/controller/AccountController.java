@@ -0,0 +1,231 @@
+package com.titanbank.account.controller;
+
+import com.titanbank.account.dto.request.AmountRequest;
+import com.titanbank.account.dto.request.CreateAccountRequest;
+import com.titanbank.account.dto.request.TransferRequest;
+import com.titanbank.account.dto.response.AccountResponse;
+import com.titanbank.account.dto.response.TransferResponse;
+import com.titanbank.account.service.AccountService;
+import com.titanbank.account.service.IdempotencyService;
+import com.titanbank.common.security.AuthenticatedUser;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+@Slf4j
+public class AccountController {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final AccountService accountService;
+    private final IdempotencyService idempotencyService;
+
+    /**
+     * Open a new account
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<AccountResponse>> createAccount(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateAccountRequest request) {
+        Long userId = user.userId();
+
+        log.info("Opening {} account in {} for user: {}", request.getAccountType(), request.getCurrency(), userId);
+
+        AccountResponse response = idempotent(userId, idempotencyKey,
+                "create:" + request.getAccountType() + ":" + request.getCurrency(),
+                () -> AccountResponse.from(
+                        accountService.createAccount(userId, request.getAccountType(), request.getCurrency())
+                ));
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Account created successfully"));
+    }
+
+    /**
+     * Get a single account owned by the caller
+     */
+    @GetMapping("/{accountId}")
+    public ResponseEntity<ApiResponse<AccountResponse>> getAccount(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID accountId) {
+        Long userId = user.userId();
+
+        return ResponseEntity.ok(ApiResponse.success(
+                AccountResponse.from(accountService.getAccount(accountId, userId))
+        ));
+    }
+
+    /**
+     * List all accounts owned by the caller
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AccountResponse>>> getAccounts(
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.userId();
+
+        List<AccountResponse> accounts = accountService.getAccountsForUser(userId).stream()
+                .map(AccountResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(accounts));
+    }
+
+    /**
+     * Credit an account
+     */
+    @PostMapping("/{accountId}/credit")
+    public ResponseEntity<ApiResponse<AccountResponse>> credit(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable UUID accountId,
+            @Valid @RequestBody AmountRequest request) {
+        Long userId = user.userId();
+
+        AccountResponse response = idempotent(userId, idempotencyKey,
+                "credit:" + accountId + ":" + request.getAmount().toPlainString(),
+                () -> {
+                    accountService.credit(accountId, userId, request.getAmount());
+                    return AccountResponse.from(accountService.getAccount(accountId, userId));
+                });
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Account credited successfully"));
+    }
+
+    /**
+     * Debit an account
+     */
+    @PostMapping("/{accountId}/debit")
+    public ResponseEntity<ApiResponse<AccountResponse>> debit(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable UUID accountId,
+            @Valid @RequestBody AmountRequest request) {
+        Long userId = user.userId();
+
+        AccountResponse response = idempotent(userId, idempotencyKey,
+                "debit:" + accountId + ":" + request.getAmount().toPlainString(),
+                () -> {
+                    accountService.debit(accountId, userId, request.getAmount());
+                    return AccountResponse.from(accountService.getAccount(accountId, userId));
+                });
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Account debited successfully"));
+    }
+
+    /**
+     * Move money to another of the caller's accounts, converting currency if they differ
+     */
+    @PostMapping("/{accountId}/transfer")
+    public ResponseEntity<ApiResponse<TransferResponse>> transfer(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable UUID accountId,
+            @Valid @RequestBody TransferRequest request) {
+        Long userId = user.userId();
+
+        TransferResponse response = idempotent(userId, idempotencyKey,
+                "transfer:" + accountId + ":" + request.getToAccountId() + ":" + request.getAmount().toPlainString(),
+                TransferResponse.class,
+                () -> accountService.transfer(accountId, request.getToAccountId(), userId, request.getAmount()));
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Transfer completed"));
+    }
+
+    /**
+     * Freeze an account
+     */
+    @PostMapping("/{accountId}/freeze")
+    public ResponseEntity<ApiResponse<AccountResponse>> freeze(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable UUID accountId) {
+        Long userId = user.userId();
+
+        AccountResponse response = idempotent(userId, idempotencyKey, "freeze:" + accountId, () -> {
+            accountService.freezeAccount(accountId, userId);
+            return AccountResponse.from(accountService.getAccount(accountId, userId));
+        });
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Account frozen"));
+    }
+
+    /**
+     * Re-activate a frozen account
+     */
+    @PostMapping("/{accountId}/activate")
+    public ResponseEntity<ApiResponse<AccountResponse>> activate(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable UUID accountId) {
+        Long userId = user.userId();
+
+        AccountResponse response = idempotent(userId, idempotencyKey, "activate:" + accountId, () -> {
+            accountService.activateAccount(accountId, userId);
+            return AccountResponse.from(accountService.getAccount(accountId, userId));
+        });
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Account activated"));
+    }
+
+    /**
+     * Close an account
+     */
+    @PostMapping("/{accountId}/close")
+    public ResponseEntity<ApiResponse<AccountResponse>> close(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable UUID accountId) {
+        Long userId = user.userId();
+
+        AccountResponse response = idempotent(userId, idempotencyKey, "close:" + accountId, () -> {
+            accountService.closeAccount(accountId, userId);
+            return AccountResponse.from(accountService.getAccount(accountId, userId));
+        });
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Account closed"));
+    }
+
+    /**
+     * Mutations without a key keep their old at-least-once behaviour.
+     */
+    private AccountResponse idempotent(
+            Long userId,
+            String idempotencyKey,
+            String requestFingerprint,
+            Supplier<AccountResponse> mutation) {
+        return idempotent(userId, idempotencyKey, requestFingerprint, AccountResponse.class, mutation);
+    }
+
+    private <T> T idempotent(
+            Long userId,
+            String idempotencyKey,
+            String requestFingerprint,
+            Class<T> responseType,
+            Supplier<T> mutation) {
+
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return mutation.get();
+        }
+        if (idempotencyKey.length() > 128) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most 128 characters");
+        }
+
+        return idempotencyService.execute(
+                userId, idempotencyKey, requestFingerprint, responseType, mutation
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.titanbank.account.controller;
+
+import com.titanbank.account.dto.request.BulkStatusChangeRequest;
+import com.titanbank.account.dto.response.BulkStatusChangeResponse;
+import com.titanbank.account.service.AccountStatusService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/accounts/status")
+@RequiredArgsConstructor
+@Slf4j
+public class AccountStatusController {
+
+    private final AccountStatusService accountStatusService;
+
+    /**
+     * Freeze, re-activate or close every account of many users, for compliance actions
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COMPLIANCE_OFFICER')")
+    public ResponseEntity<ApiResponse<BulkStatusChangeResponse>> changeStatus(
+            @Valid @RequestBody BulkStatusChangeRequest request) {
+
+        log.info("Bulk status change to {} requested for {} users", request.getStatus(), request.getUserIds().size());
+
+        return ResponseEntity.ok(ApiResponse.success(
+                accountStatusService.changeStatus(request.getUserIds(), request.getStatus(), request.getReason()),
+                "Account statuses updated"
+        ));
+    }
+}
@@ -0,0 +1,33 @@
+package com.titanbank.account.controller;
+
+import com.titanbank.account.dto.request.BalanceAsOfRequest;
+import com.titanbank.account.dto.response.BalanceAsOfResponse;
+import com.titanbank.account.service.LedgerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/accounts/balances")
+@RequiredArgsConstructor
+public class BalanceHistoryController {
+
+    private final LedgerService ledgerService;
+
+    /**
+     * Balances of many accounts at one past instant, for audit
+     */
+    @PostMapping("/as-of")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COMPLIANCE_OFFICER')")
+    public ResponseEntity<ApiResponse<List<BalanceAsOfResponse>>> getBalancesAt(
+            @Valid @RequestBody BalanceAsOfRequest request) {
+
+        return ResponseEntity.ok(ApiResponse.success(
+                ledgerService.getBalancesAt(request.getAccountIds(), request.getAt())
+        ));
+    }
+}
@@ -0,0 +1,25 @@
+package com.titanbank.account.controller;
+
+import com.titanbank.account.dto.response.FxRatesResponse;
+import com.titanbank.account.fx.FxRates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/fx")
+@RequiredArgsConstructor
+public class FxController {
+
+    private final FxRates fxRates;
+
+    /**
+     * Rates that transfers are currently converted at
+     */
+    @GetMapping("/rates")
+    public ResponseEntity<ApiResponse<FxRatesResponse>> getRates() {
+        return ResponseEntity.ok(ApiResponse.success(FxRatesResponse.from(fxRates.current())));
+    }
+}
@@ -0,0 +1,78 @@
+package com.titanbank.account.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.titanbank.account.dto.response.PostingResponse;
+import com.titanbank.account.dto.response.StatementPageResponse;
+import com.titanbank.account.service.LedgerService;
+import com.titanbank.common.security.AuthenticatedUser;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/accounts/{accountId}/statement")
+public class StatementController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final LedgerService ledgerService;
+    private final ObjectWriter postingWriter;
+
+    public StatementController(LedgerService ledgerService, ObjectMapper objectMapper) {
+        this.ledgerService = ledgerService;
+        // One line per posting into the response buffer; the container decides when to flush
+        this.postingWriter = objectMapper.writerFor(PostingResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    /**
+     * One page of postings after {@code afterSeq}, oldest first
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<StatementPageResponse>> getStatementPage(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID accountId,
+            @RequestParam(defaultValue = "0") long afterSeq,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        return ResponseEntity.ok(ApiResponse.success(
+                ledgerService.getStatementPage(accountId, user.userId(), afterSeq, limit)
+        ));
+    }
+
+    /**
+     * Every posting in {@code [from, to)} as newline-delimited JSON, written while it is read
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public void streamStatement(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+
+        ledgerService.streamStatement(accountId, user.userId(), from, to, posting -> {
+            try {
+                postingWriter.writeValue(out, posting);
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        out.flush();
+    }
+}
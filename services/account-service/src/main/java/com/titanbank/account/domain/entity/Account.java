@@ -3,6 +3,7 @@ package com.titanbank.account.domain.entity;
 import com.titanbank.account.domain.enums.AccountStatus;
 import com.titanbank.account.domain.enums.AccountType;
 import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.common.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -15,12 +16,12 @@ import java.util.UUID;
 @Getter
 public class Account {
 
+    // UUIDv7, assigned on creation so callers have it before flush; @TimeOrderedId does the same at persist
     @Id
-    @GeneratedValue
     private UUID id;
 
     @Column(nullable = false, updatable = false)
-    private UUID userId;
+    private Long userId;
 
     @Column(nullable = false, updatable = false)
     @Enumerated(EnumType.STRING)
@@ -37,6 +38,10 @@ public class Account {
     @Column(nullable = false)
     private AccountStatus status;
 
+    /** Sequence of the latest posting; the next credit or debit is posted as this + 1 */
+    @Column(name = "last_posting_seq", nullable = false)
+    private long lastPostingSeq;
+
     @Version
     private Long version;
 
@@ -48,10 +53,11 @@ public class Account {
     }
 
     private Account(
-            UUID userId,
+            Long userId,
             AccountType accountType,
             Currency currency
     ) {
+        this.id = UuidV7.next();
         this.userId = userId;
         this.accountType = accountType;
         this.currency = currency;
@@ -65,7 +71,7 @@ public class Account {
        ========================= */
 
     public static Account create(
-            UUID userId,
+            Long userId,
             AccountType accountType,
             Currency currency
     ) {
@@ -76,7 +82,24 @@ public class Account {
        Domain Behavior
        ========================= */
 
-    public void credit(BigDecimal amount) {
+    public Posting credit(BigDecimal amount) {
+        checkCredit(amount);
+
+        this.balance = this.balance.add(amount);
+        return post(amount);
+    }
+
+    public Posting debit(BigDecimal amount) {
+        checkDebit(amount);
+
+        this.balance = this.balance.subtract(amount);
+        return post(amount.negate());
+    }
+
+    /**
+     * Throw what {@link #credit} would throw for this amount, without changing the account
+     */
+    public void checkCredit(BigDecimal amount) {
         assertAmountPositive(amount);
 
         if (!status.allowsCredit()) {
@@ -84,11 +107,12 @@ public class Account {
                     "Credits are not allowed when account status is " + status
             );
         }
-
-        this.balance = this.balance.add(amount);
     }
 
-    public void debit(BigDecimal amount) {
+    /**
+     * Throw what {@link #debit} would throw for this amount, without changing the account
+     */
+    public void checkDebit(BigDecimal amount) {
         assertAmountPositive(amount);
 
         if (!status.allowsDebit()) {
@@ -97,13 +121,9 @@ public class Account {
             );
         }
 
-        BigDecimal newBalance = this.balance.subtract(amount);
-
-        if (newBalance.signum() < 0) {
+        if (this.balance.subtract(amount).signum() < 0) {
             throw new IllegalStateException("Insufficient balance");
         }
-
-        this.balance = newBalance;
     }
 
     public void freeze() {
@@ -124,6 +144,15 @@ public class Account {
         this.status = AccountStatus.CLOSED;
     }
 
+    /* =========================
+       Ledger
+       ========================= */
+
+    private Posting post(BigDecimal signedAmount) {
+        this.lastPostingSeq++;
+        return new Posting(id, lastPostingSeq, signedAmount, balance, Instant.now());
+    }
+
     /* =========================
        Invariant Guards
        ========================= */
@@ -0,0 +1,83 @@
+package com.titanbank.account.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Balance after every {@link #INTERVAL}th posting of an account. A balance at any past instant is
+ * the latest checkpoint at or before it plus at most {@link #INTERVAL} postings, and checkpoints
+ * outlive archived posting partitions.
+ */
+@Entity
+@Table(name = "balance_checkpoints")
+@IdClass(BalanceCheckpoint.Key.class)
+@Getter
+public class BalanceCheckpoint implements Persistable<BalanceCheckpoint.Key> {
+
+    /**
+     * Fixed: history queries bound their replay window by it, so changing it means rebuilding
+     * every checkpoint
+     */
+    public static final int INTERVAL = 1000;
+
+    @Id
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Id
+    @Column(name = "seq", nullable = false, updatable = false)
+    private long seq;
+
+    @Column(nullable = false, updatable = false)
+    private BigDecimal balance;
+
+    @Column(name = "posted_at", nullable = false, updatable = false)
+    private Instant postedAt;
+
+    protected BalanceCheckpoint() {
+        // JPA
+    }
+
+    private BalanceCheckpoint(UUID accountId, long seq, BigDecimal balance, Instant postedAt) {
+        this.accountId = accountId;
+        this.seq = seq;
+        this.balance = balance;
+        this.postedAt = postedAt;
+    }
+
+    public static BalanceCheckpoint of(Posting posting) {
+        return new BalanceCheckpoint(
+                posting.getAccountId(),
+                posting.getSeq(),
+                posting.getBalanceAfter(),
+                posting.getPostedAt()
+        );
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(accountId, seq);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID accountId;
+        private long seq;
+    }
+}
@@ -0,0 +1,92 @@
+package com.titanbank.account.domain.entity;
+
+import com.titanbank.common.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_idempotency_user_key",
+                columnNames = {"user_id", "idempotency_key"}
+        )
+)
+@Getter
+public class IdempotencyRecord {
+
+    @Id
+    @TimeOrderedId
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, updatable = false, length = 128)
+    private String idempotencyKey;
+
+    @Column(name = "request_fingerprint", nullable = false, updatable = false, length = 64)
+    private String requestFingerprint;
+
+    // Plain string binding: CLOB on H2, TEXT on PostgreSQL (a @Lob String there expects an oid)
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    protected IdempotencyRecord() {
+        // JPA
+    }
+
+    private IdempotencyRecord(
+            Long userId,
+            String idempotencyKey,
+            String requestFingerprint,
+            Instant expiresAt
+    ) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = requestFingerprint;
+        this.createdAt = Instant.now();
+        this.expiresAt = expiresAt;
+    }
+
+    /* =========================
+       Factory Method
+       ========================= */
+
+    public static IdempotencyRecord claim(
+            Long userId,
+            String idempotencyKey,
+            String requestFingerprint,
+            Instant expiresAt
+    ) {
+        return new IdempotencyRecord(userId, idempotencyKey, requestFingerprint, expiresAt);
+    }
+
+    /* =========================
+       Domain Behavior
+       ========================= */
+
+    public void complete(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public boolean isCompleted() {
+        return responseBody != null;
+    }
+
+    public boolean matches(String fingerprint) {
+        return requestFingerprint.equals(fingerprint);
+    }
+}
@@ -0,0 +1,82 @@
+package com.titanbank.account.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One balance movement, appended in the same transaction as the account update and never changed.
+ * Keyed by {@code (account_id, seq)} so an account's statement is one contiguous index range.
+ */
+@Entity
+@Table(name = "postings")
+@IdClass(Posting.Key.class)
+@Getter
+public class Posting implements Persistable<Posting.Key> {
+
+    @Id
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Id
+    @Column(name = "seq", nullable = false, updatable = false)
+    private long seq;
+
+    /** Positive for credits, negative for debits */
+    @Column(nullable = false, updatable = false)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after", nullable = false, updatable = false)
+    private BigDecimal balanceAfter;
+
+    @Column(name = "posted_at", nullable = false, updatable = false)
+    private Instant postedAt;
+
+    protected Posting() {
+        // JPA
+    }
+
+    Posting(UUID accountId, long seq, BigDecimal amount, BigDecimal balanceAfter, Instant postedAt) {
+        this.accountId = accountId;
+        this.seq = seq;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.postedAt = postedAt;
+    }
+
+    /**
+     * Whether this posting's balance is also kept as a {@link BalanceCheckpoint}
+     */
+    public boolean isCheckpoint() {
+        return seq % BalanceCheckpoint.INTERVAL == 0;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(accountId, seq);
+    }
+
+    /**
+     * Always an insert: postings are append-only, so skip the merge lookup for assigned keys
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID accountId;
+        private long seq;
+    }
+}
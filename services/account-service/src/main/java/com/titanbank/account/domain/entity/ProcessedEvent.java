@@ -0,0 +1,47 @@
+package com.titanbank.account.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Marks a consumed event as applied. Written in the same transaction as its effects, so a
+ * redelivered event is either fully applied already or not at all.
+ */
+@Entity
+@Table(name = "processed_events")
+@Getter
+public class ProcessedEvent implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private UUID eventId;
+
+    @Column(name = "processed_at", nullable = false, updatable = false)
+    private Instant processedAt;
+
+    protected ProcessedEvent() {
+        // JPA
+    }
+
+    public ProcessedEvent(UUID eventId, Instant processedAt) {
+        this.eventId = eventId;
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public UUID getId() {
+        return eventId;
+    }
+
+    /**
+     * Always an insert; a duplicate fails on the primary key instead of being merged
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -1,8 +1,39 @@
 package com.titanbank.account.domain.enums;
 
+import java.math.BigDecimal;
+
 public enum Currency {
 
-    INR,
-    USD,
-    EUR
-}
\ No newline at end of file
+    INR(2),
+    USD(2),
+    EUR(2);
+
+    /** ISO 4217 minor-unit digits: amounts are whole multiples of 10^-fractionDigits */
+    private final int fractionDigits;
+
+    Currency(int fractionDigits) {
+        this.fractionDigits = fractionDigits;
+    }
+
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    /**
+     * The amount as a whole number of minor units
+     *
+     * @throws IllegalArgumentException if it has more decimals than the currency or does not fit a long
+     */
+    public long toMinorUnits(BigDecimal amount) {
+        try {
+            return amount.movePointRight(fractionDigits).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    this + " amounts have at most " + fractionDigits + " decimal places");
+        }
+    }
+
+    public BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, fractionDigits);
+    }
+}
@@ -0,0 +1,20 @@
+package com.titanbank.account.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmountRequest {
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.0001", message = "Amount must be positive")
+    @Digits(integer = 15, fraction = 4, message = "Amount has too many digits")
+    private BigDecimal amount;
+}
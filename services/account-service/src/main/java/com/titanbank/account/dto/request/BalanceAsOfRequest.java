@@ -0,0 +1,26 @@
+package com.titanbank.account.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceAsOfRequest {
+
+    @NotEmpty(message = "At least one account is required")
+    @Size(max = 10000, message = "At most 10000 accounts per request")
+    private List<UUID> accountIds;
+
+    @NotNull(message = "Timestamp is required")
+    @PastOrPresent(message = "Timestamp must not be in the future")
+    private Instant at;
+}
@@ -0,0 +1,29 @@
+package com.titanbank.account.dto.request;
+
+import com.titanbank.account.domain.enums.AccountStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeRequest {
+
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = 10000, message = "At most 10000 users per request")
+    private List<Long> userIds;
+
+    @NotNull(message = "Target status is required")
+    private AccountStatus status;
+
+    /** Recorded on the published event, e.g. the sanctions list or case reference */
+    @NotBlank(message = "Reason is required")
+    @Size(max = 200, message = "Reason must be at most 200 characters")
+    private String reason;
+}
@@ -0,0 +1,19 @@
+package com.titanbank.account.dto.request;
+
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateAccountRequest {
+
+    @NotNull(message = "Account type is required")
+    private AccountType accountType;
+
+    @NotNull(message = "Currency is required")
+    private Currency currency;
+}
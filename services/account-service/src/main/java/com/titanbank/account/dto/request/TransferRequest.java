@@ -0,0 +1,25 @@
+package com.titanbank.account.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferRequest {
+
+    @NotNull(message = "Target account is required")
+    private UUID toAccountId;
+
+    /** In the source account's currency */
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Digits(integer = 15, fraction = 2, message = "Amount has too many digits")
+    private BigDecimal amount;
+}
@@ -0,0 +1,41 @@
+package com.titanbank.account.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.enums.AccountStatus;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountResponse {
+
+    private UUID accountId;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long userId;
+    private AccountType accountType;
+    private Currency currency;
+    private BigDecimal balance;
+    private AccountStatus status;
+    private Instant createdAt;
+
+    public static AccountResponse from(Account account) {
+        return AccountResponse.builder()
+                .accountId(account.getId())
+                .userId(account.getUserId())
+                .accountType(account.getAccountType())
+                .currency(account.getCurrency())
+                .balance(account.getBalance())
+                .status(account.getStatus())
+                .createdAt(account.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.titanbank.account.dto.response;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceAsOfResponse {
+
+    private UUID accountId;
+    private Instant at;
+    private BigDecimal balance;
+
+    /** Last posting included in the balance; 0 when none had been posted yet */
+    private long seq;
+}
@@ -0,0 +1,20 @@
+package com.titanbank.account.dto.response;
+
+import com.titanbank.account.domain.enums.AccountStatus;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeResponse {
+
+    private AccountStatus status;
+    private int users;
+    /** Accounts moved to {@code status} */
+    private int changed;
+    /** Accounts already in {@code status} */
+    private int unchanged;
+    /** Closed accounts, which keep their status */
+    private int refused;
+}
@@ -0,0 +1,30 @@
+package com.titanbank.account.dto.response;
+
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.fx.FxRateTable;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FxRatesResponse {
+
+    private Currency base;
+
+    /** Units of each currency per unit of {@code base} */
+    private Map<Currency, BigDecimal> rates;
+    private Instant asOf;
+
+    public static FxRatesResponse from(FxRateTable table) {
+        return FxRatesResponse.builder()
+                .base(table.getBase())
+                .rates(table.getUnitsPerBase())
+                .asOf(table.getAsOf())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.titanbank.account.dto.response;
+
+import com.titanbank.account.domain.entity.Posting;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingResponse {
+
+    private long seq;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private Instant postedAt;
+
+    public static PostingResponse from(Posting posting) {
+        return new PostingResponse(
+                posting.getSeq(),
+                posting.getAmount(),
+                posting.getBalanceAfter(),
+                posting.getPostedAt()
+        );
+    }
+}
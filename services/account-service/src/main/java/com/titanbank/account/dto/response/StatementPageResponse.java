@@ -0,0 +1,19 @@
+package com.titanbank.account.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementPageResponse {
+
+    private UUID accountId;
+    private List<PostingResponse> postings;
+
+    /** Pass as {@code afterSeq} for the next page; null on the last page */
+    private Long nextAfterSeq;
+}
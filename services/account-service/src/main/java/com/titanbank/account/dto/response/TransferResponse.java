@@ -0,0 +1,26 @@
+package com.titanbank.account.dto.response;
+
+import com.titanbank.account.domain.enums.Currency;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferResponse {
+
+    private UUID fromAccountId;
+    private UUID toAccountId;
+    private BigDecimal debitedAmount;
+    private Currency debitedCurrency;
+    private BigDecimal creditedAmount;
+    private Currency creditedCurrency;
+
+    /** Units of the credited currency per unit debited; 1 within one currency */
+    private BigDecimal rate;
+    private Instant rateAsOf;
+}
@@ -0,0 +1,63 @@
+package com.titanbank.account.event;
+
+import com.titanbank.account.service.TransferExecutionService;
+import com.titanbank.events.EventSchemas;
+import com.titanbank.events.TransferRequestedEvent;
+import com.titanbank.events.codec.EventSchemaRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch consumer of transfers requested by transaction-service, such as standing orders falling
+ * due. A poll is applied as one batch per shard; offsets are committed after it, and a redelivered
+ * transfer is recognised by its id.
+ */
+@Component
+@Slf4j
+public class TransferRequestsListener {
+
+    private final TransferExecutionService transferExecutionService;
+
+    public TransferRequestsListener(TransferExecutionService transferExecutionService) {
+        this.transferExecutionService = transferExecutionService;
+    }
+
+    @KafkaListener(id = "transfer-execution", topics = "${payments.topic:transfer-requests}")
+    public void onTransferRequests(List<ConsumerRecord<String, byte[]>> records) {
+        List<TransferRequestedEvent> requests = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            TransferRequestedEvent request = readRequest(record);
+            if (request != null) {
+                requests.add(request);
+            }
+        }
+        if (!requests.isEmpty()) {
+            transferExecutionService.executeTransfers(requests);
+        }
+    }
+
+    // A record that cannot be read would fail every redelivery, so it is logged and skipped
+    private static TransferRequestedEvent readRequest(ConsumerRecord<String, byte[]> record) {
+        if (EventSchemaRegistry.schemaIdOf(record.value()) != EventSchemas.TRANSFER_REQUESTED_V1) {
+            log.warn("Skipping unexpected record at {}-{}@{}", record.topic(), record.partition(), record.offset());
+            return null;
+        }
+        try {
+            TransferRequestedEvent request = (TransferRequestedEvent) EventSchemas.REGISTRY.decode(record.value());
+            if (request.getTransferId() == null || request.getFromAccountId() == null
+                    || request.getToAccountId() == null || request.getAmount() == null || request.getDueAt() == null) {
+                throw new IllegalArgumentException("incomplete transfer request");
+            }
+            return request;
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping unreadable transfer request at {}-{}@{}: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+            return null;
+        }
+    }
+}
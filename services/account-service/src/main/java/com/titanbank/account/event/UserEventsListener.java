@@ -0,0 +1,143 @@
+package com.titanbank.account.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.titanbank.account.service.AccountProvisioningService;
+import com.titanbank.events.EventSchemas;
+import com.titanbank.events.UserRegisteredEvent;
+import com.titanbank.events.codec.EventSchemaRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch consumer of {@code user-events} that opens a default account for every registration.
+ *
+ * <p>Values arrive as bytes and only registrations are decoded: the schema id at the front of the
+ * binary encoding (or the type header of JSON records published before it) is checked first, so
+ * the far more frequent login and profile events are skipped unread. Offsets are committed after
+ * the whole batch is applied; a failed batch is redelivered and the event ids make the retry a
+ * no-op for the part that already committed.
+ */
+@Component
+@Slf4j
+public class UserEventsListener {
+
+    private static final byte[] LEGACY_USER_REGISTERED = "userRegistered".getBytes(StandardCharsets.UTF_8);
+
+    private final AccountProvisioningService provisioningService;
+    private final ObjectMapper objectMapper;
+
+    private final Timer eventLag;
+    private final Counter registrations;
+    private final Counter accountsCreated;
+    private final Counter malformed;
+
+    public UserEventsListener(
+            AccountProvisioningService provisioningService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.provisioningService = provisioningService;
+        this.objectMapper = objectMapper;
+        // Publish-to-apply delay; the offset lag is kafka.consumer.fetch.manager.records.lag
+        this.eventLag = Timer.builder("account.provisioning.lag")
+                .description("Delay between a registration event being published and its account being opened")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(30))
+                .register(meterRegistry);
+        this.registrations = counter(meterRegistry, "registration");
+        this.accountsCreated = counter(meterRegistry, "account_created");
+        this.malformed = counter(meterRegistry, "malformed");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("account.provisioning.events")
+                .description("User events handled by account provisioning")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(id = "account-provisioning", topics = "${provisioning.topic:user-events}")
+    public void onUserEvents(List<ConsumerRecord<String, byte[]>> records) {
+        List<UserRegisteredEvent> events = new ArrayList<>(records.size());
+        long oldestTimestamp = Long.MAX_VALUE;
+        for (ConsumerRecord<String, byte[]> record : records) {
+            UserRegisteredEvent event = readRegistration(record);
+            if (event != null) {
+                events.add(event);
+                oldestTimestamp = Math.min(oldestTimestamp, record.timestamp());
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        int created = provisioningService.provisionDefaultAccounts(events);
+
+        registrations.increment(events.size());
+        accountsCreated.increment(created);
+        eventLag.record(System.currentTimeMillis() - oldestTimestamp, TimeUnit.MILLISECONDS);
+    }
+
+    // A record that cannot be read would fail every redelivery, so it is logged and skipped
+    private UserRegisteredEvent readRegistration(ConsumerRecord<String, byte[]> record) {
+        byte[] value = record.value();
+        try {
+            UserRegisteredEvent event;
+            if (EventSchemaRegistry.schemaIdOf(value) == EventSchemas.USER_REGISTERED_V1) {
+                event = (UserRegisteredEvent) EventSchemas.REGISTRY.decode(value);
+            } else if (isLegacyRegistration(record)) {
+                event = readLegacy(value);
+            } else {
+                return null;
+            }
+            if (event.getEventId() == null) {
+                // Published before events carried ids; the partition offset is unique and stable
+                event.setEventId(UUID.nameUUIDFromBytes(
+                        (record.topic() + '/' + record.partition() + '/' + record.offset())
+                                .getBytes(StandardCharsets.UTF_8)));
+            }
+            return event;
+        } catch (IOException | IllegalArgumentException e) {
+            malformed.increment();
+            log.warn("Skipping unreadable registration event at {}-{}@{}: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isLegacyRegistration(ConsumerRecord<String, byte[]> record) {
+        Header type = record.headers().lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        return type != null && record.value() != null && Arrays.equals(type.value(), LEGACY_USER_REGISTERED);
+    }
+
+    // JSON written by user-service's JsonSerializer before the binary encoding; only the ids are needed
+    private UserRegisteredEvent readLegacy(byte[] value) throws IOException {
+        JsonNode json = objectMapper.readTree(value);
+        if (!json.path("userId").canConvertToLong()) {
+            throw new IOException("missing userId");
+        }
+        JsonNode eventId = json.path("eventId");
+        return UserRegisteredEvent.builder()
+                .eventId(eventId.isTextual() ? UUID.fromString(eventId.asText()) : null)
+                .userId(json.get("userId").asLong())
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.titanbank.account.exception;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestControllerAdvice
+@Slf4j
+public class GlobalExceptionHandler {
+
+    /**
+     * Handle all TitanBank business exceptions
+     */
+    @ExceptionHandler(TitanBankException.class)
+    public ResponseEntity<ErrorResponse> handleTitanBankException(TitanBankException ex) {
+        log.error("Business exception: {} - {}", ex.getErrorCode(), ex.getMessage());
+        return build(ex.getHttpStatus(), ex.getErrorCode(), ex.getMessage());
+    }
+
+    /**
+     * Handle invalid arguments and lookups that fail ownership checks
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.error("Invalid request: {}", ex.getMessage());
+        return build(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", ex.getMessage());
+    }
+
+    /**
+     * Handle domain invariant violations (status rules, insufficient balance)
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException ex) {
+        log.error("Rejected by account rules: {}", ex.getMessage());
+        return build(HttpStatus.CONFLICT, "ACCOUNT_RULE_VIOLATION", ex.getMessage());
+    }
+
+    /**
+     * Handle validation errors (from @Valid)
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(
+            MethodArgumentNotValidException ex) {
+
+        log.error("Validation exception: {}", ex.getMessage());
+
+        Map<String, String> fieldErrors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            fieldErrors.put(fieldName, error.getDefaultMessage());
+        });
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status("error")
+                .errorCode("VALIDATION_ERROR")
+                .message("Input validation failed")
+                .fieldErrors(fieldErrors)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Handle optimistic locking failures (concurrent updates)
+     */
+    @ExceptionHandler(OptimisticLockException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockException(
+            OptimisticLockException ex) {
+
+        log.error("Optimistic lock exception: {}", ex.getMessage());
+        return build(HttpStatus.CONFLICT, "CONCURRENT_UPDATE",
+                "Resource was modified by another transaction. Please retry.");
+    }
+
+    /**
+     * Handle all other unexpected exceptions
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        log.error("Unexpected exception", ex);
+        return build(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR",
+                "An unexpected error occurred. Please try again later.");
+    }
+
+    private ResponseEntity<ErrorResponse> build(HttpStatus status, String errorCode, String message) {
+        ErrorResponse error = ErrorResponse.builder()
+                .status("error")
+                .errorCode(errorCode)
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(status).body(error);
+    }
+}
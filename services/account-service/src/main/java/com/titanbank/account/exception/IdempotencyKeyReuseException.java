@@ -0,0 +1,10 @@
+package com.titanbank.account.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyReuseException extends TitanBankException {
+
+    public IdempotencyKeyReuseException(String message) {
+        super(message, "IDEMPOTENCY_KEY_REUSED", HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
@@ -0,0 +1,10 @@
+package com.titanbank.account.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotentRequestInProgressException extends TitanBankException {
+
+    public IdempotentRequestInProgressException(String message) {
+        super(message, "IDEMPOTENT_REQUEST_IN_PROGRESS", HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,23 @@
+package com.titanbank.account.fx;
+
+import com.titanbank.account.domain.enums.Currency;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.RoundingMode;
+
+/**
+ * Where exchange rates come from and how converted amounts are rounded
+ */
+@Data
+@ConfigurationProperties(prefix = "fx")
+public class FxProperties {
+
+    /** CSV of {@code CURRENCY,units per base}; any Spring resource location */
+    private String ratesLocation = "classpath:fx/rates.csv";
+
+    private Currency baseCurrency = Currency.USD;
+
+    /** Applied to the credited side of a cross-currency transfer */
+    private RoundingMode rounding = RoundingMode.HALF_EVEN;
+}
@@ -0,0 +1,157 @@
+package com.titanbank.account.fx;
+
+import com.titanbank.account.domain.enums.Currency;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of exchange rates. Every cross rate is computed once, when the snapshot is
+ * built, as a fixed-point multiplier from source minor units to target minor units with nine
+ * decimal places; a conversion is then one 128-bit multiply and divide on {@code long}s with an
+ * explicit rounding mode, and allocates nothing.
+ */
+public final class FxRateTable {
+
+    /** Cross rates carry this many decimal places */
+    public static final int RATE_SCALE = 9;
+
+    private static final long RATE_ONE = 1_000_000_000L;
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int N = CURRENCIES.length;
+
+    private final Currency base;
+    private final Map<Currency, BigDecimal> unitsPerBase;
+    private final Instant asOf;
+    private final long[] crossRates;
+
+    private FxRateTable(Currency base, Map<Currency, BigDecimal> unitsPerBase, Instant asOf, long[] crossRates) {
+        this.base = base;
+        this.unitsPerBase = unitsPerBase;
+        this.asOf = asOf;
+        this.crossRates = crossRates;
+    }
+
+    /**
+     * Build a snapshot from the units of every currency that one unit of {@code base} buys
+     */
+    public static FxRateTable of(Currency base, Map<Currency, BigDecimal> unitsPerBase, Instant asOf) {
+        Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+        rates.putAll(unitsPerBase);
+        rates.put(base, BigDecimal.ONE);
+        for (Currency currency : CURRENCIES) {
+            BigDecimal rate = rates.get(currency);
+            if (rate == null || rate.signum() <= 0) {
+                throw new IllegalArgumentException("No positive " + base + "/" + currency + " rate");
+            }
+        }
+
+        long[] crossRates = new long[N * N];
+        for (Currency from : CURRENCIES) {
+            for (Currency to : CURRENCIES) {
+                // to minor units per from minor unit = (to per base / from per base) * 10^(to digits - from digits)
+                BigDecimal cross = rates.get(to)
+                        .divide(rates.get(from), MathContext.DECIMAL128)
+                        .scaleByPowerOfTen(to.getFractionDigits() - from.getFractionDigits())
+                        .setScale(RATE_SCALE, RoundingMode.HALF_EVEN);
+                if (cross.signum() <= 0) {
+                    throw new IllegalArgumentException(from + "/" + to + " rate underflows " + RATE_SCALE + " decimals");
+                }
+                crossRates[from.ordinal() * N + to.ordinal()] = cross.unscaledValue().longValueExact();
+            }
+        }
+        return new FxRateTable(base, Collections.unmodifiableMap(rates), asOf, crossRates);
+    }
+
+    /**
+     * Convert an amount in {@code from} minor units to {@code to} minor units
+     *
+     * @throws ArithmeticException if the result does not fit in a {@code long}, or if
+     *                             {@code RoundingMode.UNNECESSARY} is given and rounding is needed
+     */
+    public long convert(long amountMinor, Currency from, Currency to, RoundingMode rounding) {
+        if (from == to) {
+            return amountMinor;
+        }
+        return multiplyDivide(amountMinor, crossRates[from.ordinal() * N + to.ordinal()], rounding);
+    }
+
+    /**
+     * Units of {@code to} per unit of {@code from}, as held in the snapshot (minor-unit scaling removed)
+     */
+    public BigDecimal rate(Currency from, Currency to) {
+        return BigDecimal.valueOf(crossRates[from.ordinal() * N + to.ordinal()], RATE_SCALE)
+                .scaleByPowerOfTen(from.getFractionDigits() - to.getFractionDigits())
+                .stripTrailingZeros();
+    }
+
+    public Currency getBase() {
+        return base;
+    }
+
+    /**
+     * Units of each currency per unit of {@link #getBase()}, as loaded
+     */
+    public Map<Currency, BigDecimal> getUnitsPerBase() {
+        return unitsPerBase;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    // amount * rate / 10^9, through a 128-bit product split into 32-bit limbs so nothing overflows early
+    static long multiplyDivide(long amount, long rate, RoundingMode rounding) {
+        if (amount == Long.MIN_VALUE) {
+            throw new ArithmeticException("Amount out of range");
+        }
+        boolean negative = amount < 0;
+        long magnitude = Math.abs(amount);
+        long high = Math.multiplyHigh(magnitude, rate);
+        long low = magnitude * rate;
+
+        long remainder = 0;
+        long quotientHigh = 0;
+        long quotientLow = 0;
+        for (int limb = 3; limb >= 0; limb--) {
+            long word = limb >= 2 ? high : low;
+            long digit = (word >>> ((limb & 1) * 32)) & 0xFFFF_FFFFL;
+            long dividend = (remainder << 32) | digit;
+            long q = Long.divideUnsigned(dividend, RATE_ONE);
+            remainder = Long.remainderUnsigned(dividend, RATE_ONE);
+            if (limb >= 2) {
+                quotientHigh = (quotientHigh << 32) | q;
+            } else {
+                quotientLow = (quotientLow << 32) | q;
+            }
+        }
+        if (quotientHigh != 0 || quotientLow < 0) {
+            throw new ArithmeticException("Converted amount out of range");
+        }
+
+        long result = quotientLow;
+        if (remainder != 0 && roundsAway(rounding, negative, result, remainder)) {
+            result = Math.addExact(result, 1);
+        }
+        return negative ? -result : result;
+    }
+
+    private static boolean roundsAway(RoundingMode rounding, boolean negative, long truncated, long remainder) {
+        long twice = remainder * 2;
+        return switch (rounding) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> !negative;
+            case FLOOR -> negative;
+            case HALF_UP -> twice >= RATE_ONE;
+            case HALF_DOWN -> twice > RATE_ONE;
+            case HALF_EVEN -> twice > RATE_ONE || (twice == RATE_ONE && (truncated & 1) == 1);
+            case UNNECESSARY -> throw new ArithmeticException("Conversion needs rounding");
+        };
+    }
+}
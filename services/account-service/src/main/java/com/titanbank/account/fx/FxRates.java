@@ -0,0 +1,113 @@
+package com.titanbank.account.fx;
+
+import com.titanbank.account.domain.enums.Currency;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds the current {@link FxRateTable}. Readers take the volatile reference and never lock;
+ * a reload builds a complete new table and swaps it in, so a conversion never sees half an update.
+ * The rate file stands in for a market-data feed: it is re-read on a fixed delay, and a file that
+ * fails to parse leaves the previous table in place.
+ */
+@Component
+@EnableConfigurationProperties(FxProperties.class)
+@Slf4j
+public class FxRates {
+
+    private final FxProperties properties;
+    private final ResourceLoader resourceLoader;
+
+    private volatile FxRateTable current;
+
+    public FxRates(FxProperties properties, ResourceLoader resourceLoader) {
+        this.properties = properties;
+        this.resourceLoader = resourceLoader;
+        try {
+            this.current = load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read FX rates from " + properties.getRatesLocation(), e);
+        }
+    }
+
+    public FxRateTable current() {
+        return current;
+    }
+
+    /**
+     * Swap in a table built elsewhere, such as from a feed
+     */
+    public void publish(FxRateTable table) {
+        this.current = table;
+    }
+
+    @Scheduled(fixedDelayString = "${fx.refresh-interval-ms:60000}", initialDelayString = "${fx.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            FxRateTable loaded = load();
+            if (!loaded.getUnitsPerBase().equals(current.getUnitsPerBase())) {
+                log.info("FX rates updated from {}: {}", properties.getRatesLocation(), loaded.getUnitsPerBase());
+            }
+            publish(loaded);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Keeping FX rates as of {}; reload from {} failed: {}",
+                    current.getAsOf(), properties.getRatesLocation(), e.getMessage());
+        }
+    }
+
+    private FxRateTable load() throws IOException {
+        Resource resource = resourceLoader.getResource(properties.getRatesLocation());
+        Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length != 2) {
+                    throw new IllegalArgumentException("Expected CURRENCY,rate but got: " + line);
+                }
+                Currency currency = currencyOf(fields[0].strip());
+                if (currency != null) {
+                    rates.put(currency, new BigDecimal(fields[1].strip()));
+                }
+            }
+        }
+        return FxRateTable.of(properties.getBaseCurrency(), rates, asOf(resource));
+    }
+
+    // Feeds quote more currencies than accounts can hold
+    private static Currency currencyOf(String code) {
+        for (Currency currency : Currency.values()) {
+            if (currency.name().equals(code)) {
+                return currency;
+            }
+        }
+        return null;
+    }
+
+    private static Instant asOf(Resource resource) {
+        try {
+            return Instant.ofEpochMilli(resource.lastModified());
+        } catch (IOException e) {
+            return Instant.now();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.titanbank.account.interest;
+
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.repository.InterestAccrualRepository;
+import com.titanbank.account.repository.InterestAccrualRepository.Candidate;
+import com.titanbank.account.repository.InterestAccrualRepository.Credit;
+import com.titanbank.account.sharding.ShardContext;
+import com.titanbank.account.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Credits a day's interest to every active savings account.
+ *
+ * <p>A run first splits each shard's eligible user ids into ranges, each with a cursor in
+ * {@code interest_accrual_checkpoints}. The ranges of all shards are then accrued on a fork/join
+ * pool. A range is walked in chunks, one transaction each: lock the cursor, lock the next accounts
+ * after it in key order, write their credits, postings and one journal entry per currency, and move
+ * the cursor. A chunk's postings are stamped after its accounts are locked, so posting times follow
+ * the sequence even when the accounts were posted to earlier in the run. A run that dies, on this
+ * node or another, is resumed by running the same date again; a committed chunk is never credited
+ * twice, and concurrent runs of a date serialize on the cursors.
+ *
+ * <p>Accounts of users beyond the highest user id seen when the date was planned earn nothing that
+ * day. Credits update the account version, so a concurrent JPA update of the same account fails its
+ * optimistic check instead of overwriting the credit.
+ */
+@Component
+@ConditionalOnProperty(prefix = "interest", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(InterestProperties.class)
+@Slf4j
+public class InterestAccrualJob {
+
+    /** Daily rates carry this many decimals; credits are truncated to the ledger's four */
+    private static final int DAILY_RATE_SCALE = 12;
+    private static final int AMOUNT_SCALE = 4;
+
+    private final InterestAccrualRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final InterestProperties properties;
+    private final Map<Currency, BigDecimal> dailyRates;
+    private final Clock clock;
+
+    public InterestAccrualJob(
+            InterestAccrualRepository repository,
+            PlatformTransactionManager transactionManager,
+            ShardRouter shardRouter,
+            InterestProperties properties
+    ) {
+        if (properties.getRanges() < 1 || properties.getChunkSize() < 1 || properties.getParallelism() < 1) {
+            throw new IllegalArgumentException("interest.ranges, chunk-size and parallelism must be positive");
+        }
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        this.dailyRates = new EnumMap<>(Currency.class);
+        properties.getAnnualRates().forEach((currency, annual) -> dailyRates.put(currency,
+                annual.divide(BigDecimal.valueOf(properties.getDayCount()), DAILY_RATE_SCALE, RoundingMode.HALF_EVEN)));
+        this.clock = Clock.systemUTC();
+    }
+
+    @Scheduled(cron = "${interest.cron:0 0 1 * * *}", zone = "UTC")
+    public void accrueYesterday() {
+        run(LocalDate.now(clock).minusDays(1));
+    }
+
+    /**
+     * Accrue one day, or finish a run of it that was interrupted
+     */
+    public Run run(LocalDate accrualDate) {
+        long startedAt = System.nanoTime();
+        List<RangeTask> tasks = new ArrayList<>();
+        shardRouter.forEachShard(shard -> {
+            plan(accrualDate);
+            for (int range : repository.findOpenRanges(accrualDate)) {
+                tasks.add(new RangeTask(shard, range));
+            }
+        });
+
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+        ForkJoinPool pool = new ForkJoinPool(properties.getParallelism());
+        try {
+            pool.invoke(new Ranges(accrualDate, tasks, 0, tasks.size(), failures));
+        } finally {
+            pool.shutdown();
+        }
+        // Every other range has stopped by now, so a rerun does not race this one
+        RuntimeException failure = failures.poll();
+        if (failure != null) {
+            failures.forEach(failure::addSuppressed);
+            throw failure;
+        }
+
+        long[] totals = new long[3];
+        shardRouter.forEachShard(shard -> {
+            long[] progress = repository.progress(accrualDate);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += progress[i];
+            }
+        });
+        Run run = new Run(accrualDate, totals[0], (int) totals[1], (int) totals[2],
+                Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Interest accrual for {}: {} accounts, {}/{} ranges complete, {} ranges this run in {}",
+                accrualDate, run.accounts(), run.completedRanges(), run.ranges(), tasks.size(), run.elapsed());
+        return run;
+    }
+
+    // Helper methods
+
+    private void plan(LocalDate accrualDate) {
+        if (repository.isPlanned(accrualDate)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    repository.planRanges(accrualDate, properties.getRanges()));
+        } catch (DuplicateKeyException e) {
+            log.debug("Interest accrual for {} was planned concurrently", accrualDate);
+        }
+    }
+
+    private void accrueRange(LocalDate accrualDate, RangeTask task) {
+        try (ShardContext.Binding ignored = ShardContext.bind(task.shard())) {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                    accrueChunk(accrualDate, task.range())))) {
+                // next chunk
+            }
+        }
+    }
+
+    /**
+     * @return whether the range has accounts left
+     */
+    private boolean accrueChunk(LocalDate accrualDate, int range) {
+        InterestAccrualRepository.Cursor cursor = repository.lockRange(accrualDate, range);
+        if (cursor == null) {
+            return false;
+        }
+        List<Candidate> page = repository.lockPage(cursor, properties.getChunkSize());
+        // Taken once the accounts are locked, so it follows every posting already committed to them
+        Instant postedAt = Instant.now(clock);
+        List<Credit> credits = new ArrayList<>(page.size());
+        Map<Currency, JournalEntry> journal = new EnumMap<>(Currency.class);
+        for (Candidate account : page) {
+            BigDecimal interest = interestOn(account);
+            if (interest.signum() > 0) {
+                credits.add(new Credit(account.accountId(), account.userId(), account.lastPostingSeq() + 1,
+                        interest, account.balance().add(interest)));
+                journal.computeIfAbsent(account.currency(), currency -> new JournalEntry(account.accountId()))
+                        .add(account.accountId(), interest);
+            }
+        }
+
+        repository.credit(credits, postedAt);
+        journal.forEach((currency, entry) -> repository.journal(accrualDate, range, currency, entry.accounts,
+                entry.total, entry.firstAccountId, entry.lastAccountId, postedAt));
+        boolean complete = page.size() < properties.getChunkSize();
+        repository.advance(accrualDate, range, page, complete);
+        return !complete;
+    }
+
+    BigDecimal interestOn(Candidate account) {
+        BigDecimal dailyRate = dailyRates.get(account.currency());
+        if (dailyRate == null || account.balance().signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return account.balance().multiply(dailyRate).setScale(AMOUNT_SCALE, RoundingMode.DOWN);
+    }
+
+    /**
+     * Outcome of a run, counted over every run of the date so far
+     */
+    public record Run(LocalDate accrualDate, long accounts, int completedRanges, int ranges, Duration elapsed) {
+
+        public boolean isComplete() {
+            return completedRanges == ranges;
+        }
+    }
+
+    private record RangeTask(int shard, int range) {
+    }
+
+    private static final class JournalEntry {
+        private final UUID firstAccountId;
+        private UUID lastAccountId;
+        private int accounts;
+        private BigDecimal total = BigDecimal.ZERO;
+
+        JournalEntry(UUID firstAccountId) {
+            this.firstAccountId = firstAccountId;
+        }
+
+        void add(UUID accountId, BigDecimal interest) {
+            lastAccountId = accountId;
+            accounts++;
+            total = total.add(interest);
+        }
+    }
+
+    /**
+     * Halves the range list until one range is left, which it accrues on the calling worker. A failed
+     * range is collected rather than thrown, so the others run to the end of their ranges.
+     */
+    private final class Ranges extends RecursiveAction {
+        private final LocalDate accrualDate;
+        private final List<RangeTask> tasks;
+        private final int from;
+        private final int to;
+        private final Queue<RuntimeException> failures;
+
+        Ranges(LocalDate accrualDate, List<RangeTask> tasks, int from, int to, Queue<RuntimeException> failures) {
+            this.accrualDate = accrualDate;
+            this.tasks = tasks;
+            this.from = from;
+            this.to = to;
+            this.failures = failures;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                try {
+                    accrueRange(accrualDate, tasks.get(from));
+                } catch (RuntimeException e) {
+                    log.warn("Interest accrual for {} stopped in range {} of shard {}: {}",
+                            accrualDate, tasks.get(from).range(), tasks.get(from).shard(), e.getMessage());
+                    failures.add(e);
+                }
+            } else if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Ranges(accrualDate, tasks, from, mid, failures),
+                        new Ranges(accrualDate, tasks, mid, to, failures));
+            }
+        }
+    }
+}
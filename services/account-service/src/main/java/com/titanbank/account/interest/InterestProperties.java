@@ -0,0 +1,37 @@
+package com.titanbank.account.interest;
+
+import com.titanbank.account.domain.enums.Currency;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rates and sizing of the nightly savings interest accrual
+ */
+@Data
+@ConfigurationProperties(prefix = "interest")
+public class InterestProperties {
+
+    private boolean enabled = true;
+
+    /** When the previous UTC day is accrued */
+    private String cron = "0 0 1 * * *";
+
+    /** Nominal annual rate per currency, as a fraction; currencies without one earn nothing */
+    private Map<Currency, BigDecimal> annualRates = new EnumMap<>(Currency.class);
+
+    /** Days per year the annual rate is divided by */
+    private int dayCount = 365;
+
+    /** User-id ranges each shard's accounts are split into; the unit of parallelism and restart */
+    private int ranges = 64;
+
+    /** Accounts credited per transaction and journal entry */
+    private int chunkSize = 2000;
+
+    /** Ranges accrued concurrently; each holds a connection, so keep it below the pool size */
+    private int parallelism = 8;
+}
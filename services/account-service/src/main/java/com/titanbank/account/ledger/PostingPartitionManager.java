@@ -0,0 +1,186 @@
+package com.titanbank.account.ledger;
+
+import com.titanbank.account.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the monthly {@code postings} partitions on PostgreSQL: creates the coming months ahead of
+ * time and moves months past retention into gzip CSV files, one per partition and shard, before
+ * detaching and dropping them. Archiving is a sequential read of one partition in
+ * {@code (account_id, seq)} order, so files replay statement order directly.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ledger.partitions", name = "enabled", havingValue = "true")
+@Slf4j
+public class PostingPartitionManager {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("postings_(\\d{4})_(\\d{2})");
+    private static final String CSV_HEADER = "account_id,seq,amount,balance_after,posted_at\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final int retainMonths;
+    private final Path archiveDirectory;
+
+    public PostingPartitionManager(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ShardRouter shardRouter,
+            @Value("${ledger.partitions.months-ahead:2}") int monthsAhead,
+            @Value("${ledger.archive.retain-months:24}") int retainMonths,
+            @Value("${ledger.archive.directory:ledger-archive}") Path archiveDirectory
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // PostgreSQL only streams with a cursor inside a transaction and with a fetch size
+        this.jdbcTemplate.setFetchSize(1000);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+        this.clock = Clock.systemUTC();
+        this.monthsAhead = monthsAhead;
+        this.retainMonths = retainMonths;
+        this.archiveDirectory = archiveDirectory;
+    }
+
+    /**
+     * Postings without a partition for their month land in the default one, so create the months
+     * before traffic reaches them
+     */
+    @PostConstruct
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now(clock);
+        shardRouter.forEachShard(shard -> {
+            for (int i = 0; i <= monthsAhead; i++) {
+                createPartition(current.plusMonths(i));
+            }
+        });
+    }
+
+    @Scheduled(cron = "${ledger.archive.cron:0 30 2 * * *}", zone = "UTC")
+    public void maintain() {
+        createUpcomingPartitions();
+
+        YearMonth oldestRetained = YearMonth.now(clock).minusMonths(retainMonths);
+        shardRouter.forEachShard(shard -> {
+            for (String partition : jdbcTemplate.queryForList("""
+                    SELECT c.relname FROM pg_inherits i
+                    JOIN pg_class c ON c.oid = i.inhrelid
+                    JOIN pg_class p ON p.oid = i.inhparent
+                    WHERE p.relname = 'postings'""", String.class)) {
+                Matcher matcher = PARTITION_NAME.matcher(partition);
+                if (matcher.matches()
+                        && YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+                        .isBefore(oldestRetained)) {
+                    archive(partition, shard);
+                }
+            }
+        });
+    }
+
+    // Helper methods
+
+    // A month posted to before it had a partition, such as before partitions were enabled, has rows in
+    // the default partition; attaching over them would fail, so they move into the new one first
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        String from = "'" + month.atDay(1) + " 00:00:00+00'";
+        String to = "'" + month.plusMonths(1).atDay(1) + " 00:00:00+00'";
+        transactionTemplate.executeWithoutResult(status -> {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+                return;
+            }
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE postings INCLUDING ALL)");
+            jdbcTemplate.execute("CREATE UNIQUE INDEX uk_" + partition + "_account_seq ON " + partition
+                    + " (account_id, seq)");
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM postings_default"
+                    + " WHERE posted_at >= " + from + " AND posted_at < " + to + " RETURNING *)"
+                    + " INSERT INTO " + partition + " SELECT * FROM moved");
+            jdbcTemplate.execute("ALTER TABLE postings ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM (" + from + ") TO (" + to + ")");
+            if (moved > 0) {
+                log.info("Moved {} postings from postings_default into {}", moved, partition);
+            }
+        });
+    }
+
+    private void archive(String partition, int shard) {
+        Path target = archiveDirectory.resolve("shard-" + shard).resolve(partition + ".csv.gz");
+        Path partial = target.resolveSibling(partition + ".csv.gz.part");
+
+        try {
+            Files.createDirectories(target.getParent());
+            long rows = export(partition, partial);
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // Only once the file is complete; a crash before this re-exports on the next run
+            jdbcTemplate.execute("ALTER TABLE postings DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+
+            log.info("Archived {} postings from {} on shard {} to {}", rows, partition, shard, target);
+        } catch (IOException | UncheckedIOException ex) {
+            log.error("Archiving {} on shard {} failed; partition kept", partition, shard, ex);
+        }
+    }
+
+    private long export(String partition, Path file) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file), 1 << 16), StandardCharsets.UTF_8), 1 << 16)) {
+            writer.write(CSV_HEADER);
+            AtomicLong rows = new AtomicLong();
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                    "SELECT account_id, seq, amount, balance_after, posted_at FROM " + partition
+                            + " ORDER BY account_id, seq",
+                    rs -> {
+                        try {
+                            writer.write(rs.getString(1));
+                            writer.write(',');
+                            writer.write(Long.toString(rs.getLong(2)));
+                            writer.write(',');
+                            writer.write(rs.getBigDecimal(3).toPlainString());
+                            writer.write(',');
+                            writer.write(rs.getBigDecimal(4).toPlainString());
+                            writer.write(',');
+                            writer.write(rs.getTimestamp(5).toInstant().toString());
+                            writer.write('\n');
+                            rows.incrementAndGet();
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    }));
+            return rows.get();
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("postings_%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+}
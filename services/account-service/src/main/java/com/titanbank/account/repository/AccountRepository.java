@@ -3,16 +3,25 @@ package com.titanbank.account.repository;
 import com.titanbank.account.domain.entity.Account;
 import com.titanbank.account.domain.enums.AccountStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface AccountRepository extends JpaRepository<Account, UUID> {
 
-    Optional<Account> findByIdAndUserId(UUID accountId, UUID userId);
+    Optional<Account> findByIdAndUserId(UUID accountId, Long userId);
 
-    List<Account> findAllByUserId(UUID userId);
+    List<Account> findAllByUserId(Long userId);
 
-    boolean existsByUserIdAndStatus(UUID userId, AccountStatus status);
+    boolean existsByIdAndUserId(UUID accountId, Long userId);
+
+    boolean existsByUserIdAndStatus(Long userId, AccountStatus status);
+
+    @Query("SELECT DISTINCT a.userId FROM Account a WHERE a.userId IN :userIds")
+    Set<Long> findUserIdsWithAccounts(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
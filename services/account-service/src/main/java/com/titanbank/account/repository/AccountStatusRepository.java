@@ -0,0 +1,57 @@
+package com.titanbank.account.repository;
+
+import com.titanbank.account.domain.enums.AccountStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based status changes over many users' accounts, on whichever shard the thread is bound to
+ */
+@Repository
+public class AccountStatusRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AccountStatusRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Every account of the given users, locked until the transaction ends
+     */
+    public List<AccountState> lockByUserIds(Collection<Long> userIds) {
+        return jdbcTemplate.query("""
+                        SELECT id, user_id, status FROM accounts
+                        WHERE user_id IN (:userIds)
+                        ORDER BY id
+                        FOR UPDATE""",
+                new MapSqlParameterSource("userIds", userIds),
+                (rs, row) -> new AccountState(
+                        rs.getObject("id", UUID.class),
+                        rs.getLong("user_id"),
+                        AccountStatus.valueOf(rs.getString("status"))));
+    }
+
+    /**
+     * Move the given accounts to {@code status} in one statement
+     *
+     * @return the number of accounts updated
+     */
+    public int updateStatus(Collection<UUID> accountIds, AccountStatus status) {
+        // The version bump makes in-flight JPA updates of these accounts fail their optimistic check
+        return jdbcTemplate.update("""
+                        UPDATE accounts SET status = :status, version = COALESCE(version, 0) + 1
+                        WHERE id IN (:accountIds)""",
+                new MapSqlParameterSource()
+                        .addValue("status", status.name())
+                        .addValue("accountIds", accountIds));
+    }
+
+    public record AccountState(UUID accountId, long userId, AccountStatus status) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.titanbank.account.repository;
+
+import com.titanbank.account.domain.entity.BalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, BalanceCheckpoint.Key> {
+}
@@ -0,0 +1,79 @@
+package com.titanbank.account.repository;
+
+import com.titanbank.account.domain.entity.BalanceCheckpoint;
+import com.titanbank.account.dto.response.BalanceAsOfResponse;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Point-in-time balances for many accounts in one statement.
+ *
+ * <p>Per account: the latest checkpoint at or before {@code at}, then the last posting at or before
+ * {@code at} within the next {@link BalanceCheckpoint#INTERVAL} sequence numbers. Both are range
+ * probes on the {@code (account_id, seq)} keys, so cost is independent of history length. Every
+ * posting carries its running balance, so nothing is summed. Postings past the window are later
+ * than the next checkpoint, which is itself later than {@code at}.
+ */
+@Repository
+public class BalanceHistoryRepository {
+
+    private static final String BALANCES_AT = """
+            SELECT w.account_id,
+                   COALESCE(w.last_seq, w.from_seq) AS seq,
+                   CASE
+                       WHEN w.last_seq IS NOT NULL THEN
+                           (SELECT p.balance_after FROM postings p
+                            WHERE p.account_id = w.account_id AND p.seq = w.last_seq AND p.posted_at <= :at)
+                       WHEN w.from_seq > 0 THEN
+                           (SELECT c.balance FROM balance_checkpoints c
+                            WHERE c.account_id = w.account_id AND c.seq = w.from_seq)
+                       ELSE 0
+                   END AS balance
+            FROM (
+                SELECT x.account_id,
+                       x.from_seq,
+                       (SELECT MAX(p.seq) FROM postings p
+                        WHERE p.account_id = x.account_id
+                          AND p.seq >= x.from_seq
+                          AND p.seq < x.from_seq + :interval
+                          AND p.posted_at <= :at) AS last_seq
+                FROM (
+                    SELECT a.id AS account_id,
+                           COALESCE((SELECT MAX(c.seq) FROM balance_checkpoints c
+                                     WHERE c.account_id = a.id AND c.posted_at <= :at), 0) AS from_seq
+                    FROM accounts a
+                    WHERE a.id IN (:accountIds) AND a.created_at <= :at
+                ) x
+            ) w""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BalanceHistoryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Balances of the given accounts as of {@code at}; accounts that are unknown here or did not
+     * exist yet are left out
+     */
+    public List<BalanceAsOfResponse> findBalancesAt(Collection<UUID> accountIds, Instant at) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountIds", accountIds)
+                .addValue("at", Timestamp.from(at))
+                .addValue("interval", BalanceCheckpoint.INTERVAL);
+
+        return jdbcTemplate.query(BALANCES_AT, params, (rs, row) -> BalanceAsOfResponse.builder()
+                .accountId(rs.getObject("account_id", UUID.class))
+                .at(at)
+                .seq(rs.getLong("seq"))
+                .balance(rs.getBigDecimal("balance"))
+                .build());
+    }
+}
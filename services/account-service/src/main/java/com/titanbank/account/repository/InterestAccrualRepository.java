@@ -0,0 +1,211 @@
+package com.titanbank.account.repository;
+
+import com.titanbank.account.domain.entity.BalanceCheckpoint;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.common.id.UuidV7;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based reads and writes of the interest accrual run, on whichever shard the thread is bound to.
+ *
+ * <p>Eligible accounts are walked in {@code (user_id, id)} order, the accounts primary key on
+ * PostgreSQL, within user-id ranges fixed when the run starts. A range's cursor lives in
+ * {@code interest_accrual_checkpoints} and is advanced in the same transaction as the credits it
+ * covers, so a restarted run continues exactly where the last commit left off.
+ */
+@Repository
+public class InterestAccrualRepository {
+
+    /** Lower bound of every cursor: no account has the nil UUID as its id */
+    private static final UUID NIL = new UUID(0, 0);
+
+    private static final String ELIGIBLE = "account_type = 'SAVINGS' AND status = 'ACTIVE'";
+
+    private static final String LOCK_RANGE = """
+            SELECT range_end, last_user_id, last_account_id, completed_at
+            FROM interest_accrual_checkpoints
+            WHERE accrual_date = ? AND range_index = ?
+            FOR UPDATE""";
+
+    private static final String PAGE = """
+            SELECT id, user_id, currency, balance, last_posting_seq
+            FROM accounts
+            WHERE %s AND (user_id, id) > (?, ?) AND user_id <= ?
+            ORDER BY user_id, id
+            LIMIT ?
+            FOR UPDATE""".formatted(ELIGIBLE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InterestAccrualRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Range indexes of the run that are not finished yet; empty if the run was never planned
+     */
+    public List<Integer> findOpenRanges(LocalDate accrualDate) {
+        return jdbcTemplate.queryForList("""
+                SELECT range_index FROM interest_accrual_checkpoints
+                WHERE accrual_date = ? AND completed_at IS NULL
+                ORDER BY range_index""", Integer.class, Date.valueOf(accrualDate));
+    }
+
+    public boolean isPlanned(LocalDate accrualDate) {
+        Integer planned = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM interest_accrual_checkpoints WHERE accrual_date = ?",
+                Integer.class, Date.valueOf(accrualDate));
+        return planned != null && planned > 0;
+    }
+
+    /**
+     * Split the user ids of eligible accounts into at most {@code ranges} contiguous ranges and
+     * record a cursor for each; no rows when nothing is eligible
+     */
+    public int planRanges(LocalDate accrualDate, int ranges) {
+        List<long[]> bounds = jdbcTemplate.query(
+                "SELECT MIN(user_id), MAX(user_id) FROM accounts WHERE " + ELIGIBLE,
+                (rs, row) -> rs.getObject(1) == null ? null : new long[]{rs.getLong(1), rs.getLong(2)});
+        if (bounds.isEmpty() || bounds.get(0) == null) {
+            return 0;
+        }
+        long min = bounds.get(0)[0];
+        long max = bounds.get(0)[1];
+        // User ids are positive snowflakes, so the span cannot overflow
+        long width = (max - min) / ranges + 1;
+
+        List<Object[]> rows = new ArrayList<>();
+        for (long start = min; start <= max; start += width) {
+            long end = Math.min(max, start + width - 1);
+            rows.add(new Object[]{Date.valueOf(accrualDate), rows.size(), start, end, start, NIL});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO interest_accrual_checkpoints
+                    (accrual_date, range_index, range_start, range_end, last_user_id, last_account_id, accounts)
+                VALUES (?, ?, ?, ?, ?, ?, 0)""", rows);
+        return rows.size();
+    }
+
+    /**
+     * Lock a range's cursor for the current transaction; {@code null} once the range is complete
+     */
+    public Cursor lockRange(LocalDate accrualDate, int rangeIndex) {
+        List<Cursor> cursors = jdbcTemplate.query(LOCK_RANGE, (rs, row) ->
+                rs.getTimestamp("completed_at") != null ? null : new Cursor(
+                        rangeIndex,
+                        rs.getLong("range_end"),
+                        rs.getLong("last_user_id"),
+                        rs.getObject("last_account_id", UUID.class)),
+                Date.valueOf(accrualDate), rangeIndex);
+        return cursors.isEmpty() ? null : cursors.get(0);
+    }
+
+    /**
+     * Next eligible accounts after the cursor, locked for the current transaction
+     */
+    public List<Candidate> lockPage(Cursor cursor, int limit) {
+        return jdbcTemplate.query(PAGE, (rs, row) -> new Candidate(
+                        rs.getObject("id", UUID.class),
+                        rs.getLong("user_id"),
+                        Currency.valueOf(rs.getString("currency")),
+                        rs.getBigDecimal("balance"),
+                        rs.getLong("last_posting_seq")),
+                cursor.lastUserId(), cursor.lastAccountId(), cursor.rangeEnd(), limit);
+    }
+
+    /**
+     * Apply interest credits: new balances, their postings and any due balance checkpoints
+     */
+    public void credit(List<Credit> credits, Instant postedAt) {
+        if (credits.isEmpty()) {
+            return;
+        }
+        Timestamp at = Timestamp.from(postedAt);
+        List<Object[]> accounts = new ArrayList<>(credits.size());
+        List<Object[]> postings = new ArrayList<>(credits.size());
+        List<Object[]> checkpoints = new ArrayList<>();
+        for (Credit credit : credits) {
+            accounts.add(new Object[]{credit.balanceAfter(), credit.seq(), credit.userId(), credit.accountId()});
+            postings.add(new Object[]{credit.accountId(), credit.seq(), credit.amount(), credit.balanceAfter(), at});
+            if (credit.seq() % BalanceCheckpoint.INTERVAL == 0) {
+                checkpoints.add(new Object[]{credit.accountId(), credit.seq(), credit.balanceAfter(), at});
+            }
+        }
+        // The version bump makes in-flight JPA updates of these accounts fail their optimistic check
+        jdbcTemplate.batchUpdate("""
+                UPDATE accounts SET balance = ?, last_posting_seq = ?, version = COALESCE(version, 0) + 1
+                WHERE user_id = ? AND id = ?""", accounts);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO postings (account_id, seq, amount, balance_after, posted_at)
+                VALUES (?, ?, ?, ?, ?)""", postings);
+        if (!checkpoints.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO balance_checkpoints (account_id, seq, balance, posted_at)
+                    VALUES (?, ?, ?, ?)""", checkpoints);
+        }
+    }
+
+    /**
+     * One journal entry for a chunk's interest in one currency
+     */
+    public void journal(LocalDate accrualDate, int rangeIndex, Currency currency, int accounts,
+                        BigDecimal totalInterest, UUID firstAccountId, UUID lastAccountId, Instant postedAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO interest_journal
+                            (id, accrual_date, range_index, currency, accounts, total_interest,
+                             first_account_id, last_account_id, posted_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""",
+                UuidV7.next(), Date.valueOf(accrualDate), rangeIndex, currency.name(), accounts, totalInterest,
+                firstAccountId, lastAccountId, Timestamp.from(postedAt));
+    }
+
+    /**
+     * Move a range's cursor past the last account read, completing the range if the page was short
+     */
+    public void advance(LocalDate accrualDate, int rangeIndex, List<Candidate> page, boolean complete) {
+        Date date = Date.valueOf(accrualDate);
+        if (!page.isEmpty()) {
+            Candidate last = page.get(page.size() - 1);
+            jdbcTemplate.update("""
+                            UPDATE interest_accrual_checkpoints
+                            SET last_user_id = ?, last_account_id = ?, accounts = accounts + ?
+                            WHERE accrual_date = ? AND range_index = ?""",
+                    last.userId(), last.accountId(), page.size(), date, rangeIndex);
+        }
+        if (complete) {
+            jdbcTemplate.update("""
+                            UPDATE interest_accrual_checkpoints SET completed_at = ?
+                            WHERE accrual_date = ? AND range_index = ?""",
+                    Timestamp.from(Instant.now()), date, rangeIndex);
+        }
+    }
+
+    /**
+     * Accounts visited and ranges finished by the run so far
+     */
+    public long[] progress(LocalDate accrualDate) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT COALESCE(SUM(accounts), 0), COUNT(completed_at), COUNT(*)
+                        FROM interest_accrual_checkpoints WHERE accrual_date = ?""",
+                (rs, row) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)}, Date.valueOf(accrualDate));
+    }
+
+    public record Cursor(int rangeIndex, long rangeEnd, long lastUserId, UUID lastAccountId) {
+    }
+
+    public record Candidate(UUID accountId, long userId, Currency currency, BigDecimal balance, long lastPostingSeq) {
+    }
+
+    public record Credit(UUID accountId, long userId, long seq, BigDecimal amount, BigDecimal balanceAfter) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.titanbank.account.repository;
+
+import com.titanbank.account.domain.entity.Posting;
+import com.titanbank.account.dto.response.PostingResponse;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface PostingRepository extends JpaRepository<Posting, Posting.Key> {
+
+    /**
+     * Keyset page: the next {@code limit} postings after {@code afterSeq}
+     */
+    List<Posting> findByAccountIdAndSeqGreaterThanOrderBySeqAsc(UUID accountId, long afterSeq, Limit limit);
+
+    /**
+     * Postings in {@code [from, to)} as unmanaged DTOs, read through a cursor; must be consumed
+     * inside a transaction and closed
+     */
+    @Query("""
+            select new com.titanbank.account.dto.response.PostingResponse(p.seq, p.amount, p.balanceAfter, p.postedAt)
+            from Posting p
+            where p.accountId = :accountId and p.postedAt >= :from and p.postedAt < :to
+            order by p.seq""")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<PostingResponse> streamStatement(
+            @Param("accountId") UUID accountId,
+            @Param("from") Instant from,
+            @Param("to") Instant to);
+}
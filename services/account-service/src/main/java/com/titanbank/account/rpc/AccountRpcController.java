@@ -0,0 +1,116 @@
+package com.titanbank.account.rpc;
+
+import com.titanbank.common.metrics.LatencyTimers;
+import com.titanbank.rpc.AccountRpc;
+import com.titanbank.rpc.RpcFrames;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Internal binary API of account-service for other services ({@link AccountRpc}), next to the JSON
+ * endpoints kept for external clients. Bodies are read and written as raw frames, without message
+ * converters or {@code ApiResponse} wrapping. Only principals with the SERVICE role get here.
+ */
+@RestController
+public class AccountRpcController {
+
+    private static final String RPC_TIMER = "account.rpc";
+
+    private final AccountRpcHandler handler;
+    private final Timer postTimer;
+    private final Timer postBatchTimer;
+    private final Timer getBalancesTimer;
+    private final Timer streamTimer;
+
+    public AccountRpcController(AccountRpcHandler handler, MeterRegistry meterRegistry) {
+        this.handler = handler;
+        this.postTimer = rpcTimer(meterRegistry, "Post");
+        this.postBatchTimer = rpcTimer(meterRegistry, "PostBatch");
+        this.getBalancesTimer = rpcTimer(meterRegistry, "GetBalances");
+        // Per posting; a stream lasts as long as its sender keeps it open
+        this.streamTimer = rpcTimer(meterRegistry, "StreamPostings");
+    }
+
+    private static Timer rpcTimer(MeterRegistry meterRegistry, String method) {
+        return LatencyTimers.timer(meterRegistry, RPC_TIMER, "Internal RPC latency, including decoding",
+                "method", method);
+    }
+
+    @PostMapping(path = AccountRpc.POST, consumes = AccountRpc.CONTENT_TYPE)
+    public void post(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long start = System.nanoTime();
+        byte[] reply = AccountRpc.encode(handler.post(AccountRpc.decodeCommand(readOne(request))));
+        LatencyTimers.recordSince(postTimer, start);
+        write(response, reply);
+    }
+
+    @PostMapping(path = AccountRpc.POST_BATCH, consumes = AccountRpc.CONTENT_TYPE)
+    public void postBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long start = System.nanoTime();
+        byte[] reply = AccountRpc.encodeResults(handler.postAll(AccountRpc.decodeCommands(readOne(request))));
+        LatencyTimers.recordSince(postBatchTimer, start);
+        write(response, reply);
+    }
+
+    @PostMapping(path = AccountRpc.GET_BALANCES, consumes = AccountRpc.CONTENT_TYPE)
+    public void getBalances(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long start = System.nanoTime();
+        byte[] reply = AccountRpc.encode(handler.getBalances(AccountRpc.decodeQuery(readOne(request))));
+        LatencyTimers.recordSince(getBalancesTimer, start);
+        write(response, reply);
+    }
+
+    /**
+     * Answers each posting as it completes. Output is flushed whenever the sender has nothing
+     * further buffered, so a burst of postings shares packets while a slow sender still sees each
+     * result at once.
+     */
+    @PostMapping(path = AccountRpc.STREAM_POSTINGS, consumes = AccountRpc.CONTENT_TYPE)
+    public void streamPostings(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(AccountRpc.CONTENT_TYPE);
+        ServletInputStream in = request.getInputStream();
+        ServletOutputStream out = response.getOutputStream();
+        byte[] message;
+        while ((message = RpcFrames.read(in)) != null) {
+            long start = System.nanoTime();
+            RpcFrames.write(out, AccountRpc.encode(handler.post(AccountRpc.decodeCommand(message))));
+            LatencyTimers.recordSince(streamTimer, start);
+            if (in.available() == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+
+    // Helper methods
+
+    private static byte[] readOne(HttpServletRequest request) throws IOException {
+        InputStream in = request.getInputStream();
+        try {
+            byte[] message = RpcFrames.read(in);
+            if (message == null || in.read() >= 0) {
+                throw new IllegalArgumentException("A unary call takes exactly one message");
+            }
+            return message;
+        } catch (EOFException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static void write(HttpServletResponse response, byte[] message) throws IOException {
+        byte[] frame = RpcFrames.frame(message);
+        response.setContentType(AccountRpc.CONTENT_TYPE);
+        response.setContentLength(frame.length);
+        response.getOutputStream().write(frame);
+    }
+}
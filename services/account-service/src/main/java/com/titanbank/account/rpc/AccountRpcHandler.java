@@ -0,0 +1,158 @@
+package com.titanbank.account.rpc;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.exception.TitanBankException;
+import com.titanbank.account.service.AccountService;
+import com.titanbank.account.service.IdempotencyService;
+import com.titanbank.account.sharding.ShardContext;
+import com.titanbank.account.sharding.ShardRouter;
+import com.titanbank.rpc.AccountBalance;
+import com.titanbank.rpc.BalanceQuery;
+import com.titanbank.rpc.BalanceResult;
+import com.titanbank.rpc.PostingCommand;
+import com.titanbank.rpc.PostingDirection;
+import com.titanbank.rpc.PostingResult;
+import com.titanbank.rpc.RpcStatus;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The internal API's operations on {@link AccountService}. Every posting is routed to its user's
+ * shard and runs in its own transaction, so a posting that fails does not affect the others of a
+ * batch or stream; failures come back as a status on the result rather than as an exception.
+ */
+@Component
+@Slf4j
+public class AccountRpcHandler {
+
+    // Keeps request ids apart from Idempotency-Key values sent to the REST endpoints
+    private static final String IDEMPOTENCY_PREFIX = "rpc:";
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("999999999999999.9999");
+
+    private final AccountService accountService;
+    private final IdempotencyService idempotencyService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountRpcHandler(
+            AccountService accountService,
+            IdempotencyService idempotencyService,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager) {
+        this.accountService = accountService;
+        this.idempotencyService = idempotencyService;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public PostingResult post(PostingCommand command) {
+        try (ShardContext.Binding ignored = shardRouter.bindUser(command.userId())) {
+            validate(command);
+            BigDecimal balance = command.requestId() == null
+                    ? transactionTemplate.execute(status -> apply(command))
+                    : idempotencyService.execute(command.userId(), IDEMPOTENCY_PREFIX + command.requestId(),
+                            fingerprint(command), BigDecimal.class, () -> apply(command));
+            return PostingResult.ok(command.requestId(), balance);
+        } catch (RuntimeException e) {
+            RpcStatus status = statusOf(e);
+            return PostingResult.failed(command.requestId(), status, messageOf(status, e));
+        }
+    }
+
+    public List<PostingResult> postAll(List<PostingCommand> commands) {
+        List<PostingResult> results = new ArrayList<>(commands.size());
+        for (PostingCommand command : commands) {
+            results.add(post(command));
+        }
+        return results;
+    }
+
+    public BalanceResult getBalances(BalanceQuery query) {
+        try (ShardContext.Binding ignored = shardRouter.bindUser(query.userId())) {
+            Set<UUID> wanted = new HashSet<>(query.accountIds());
+            List<AccountBalance> balances = new ArrayList<>();
+            for (Account account : accountService.getAccountsForUser(query.userId())) {
+                if (wanted.isEmpty() || wanted.remove(account.getId())) {
+                    balances.add(new AccountBalance(account.getId(), account.getCurrency().name(),
+                            account.getStatus().name(), account.getBalance()));
+                }
+            }
+            if (!wanted.isEmpty()) {
+                return BalanceResult.failed(RpcStatus.NOT_FOUND, "Account not found or access denied");
+            }
+            return BalanceResult.ok(balances);
+        } catch (RuntimeException e) {
+            RpcStatus status = statusOf(e);
+            return BalanceResult.failed(status, messageOf(status, e));
+        }
+    }
+
+    // Helper methods
+
+    // The posting and the read of the new balance share one transaction
+    private BigDecimal apply(PostingCommand command) {
+        if (command.direction() == PostingDirection.CREDIT) {
+            accountService.credit(command.accountId(), command.userId(), command.amount());
+        } else {
+            accountService.debit(command.accountId(), command.userId(), command.amount());
+        }
+        return accountService.getAccount(command.accountId(), command.userId()).getBalance();
+    }
+
+    // The same bounds as the REST AmountRequest
+    private static void validate(PostingCommand command) {
+        if (command.accountId() == null || command.direction() == null || command.amount() == null) {
+            throw new IllegalArgumentException("accountId, direction and amount are required");
+        }
+        if (command.amount().signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        if (command.amount().scale() > 4 || command.amount().compareTo(MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException("Amount has too many digits");
+        }
+    }
+
+    private static String fingerprint(PostingCommand command) {
+        return command.direction() + ":" + command.accountId() + ":" + command.amount().toPlainString();
+    }
+
+    static RpcStatus statusOf(RuntimeException e) {
+        if (e instanceof IllegalArgumentException) {
+            return RpcStatus.INVALID_ARGUMENT;
+        }
+        if (e instanceof IllegalStateException) {
+            return RpcStatus.FAILED_PRECONDITION;
+        }
+        if (e instanceof OptimisticLockException || e instanceof OptimisticLockingFailureException) {
+            return RpcStatus.ABORTED;
+        }
+        if (e instanceof TitanBankException titanBank) {
+            return switch (titanBank.getHttpStatus()) {
+                case NOT_FOUND -> RpcStatus.NOT_FOUND;
+                case CONFLICT -> RpcStatus.ABORTED;
+                case TOO_MANY_REQUESTS -> RpcStatus.RESOURCE_EXHAUSTED;
+                default -> titanBank.getHttpStatus().is4xxClientError()
+                        ? RpcStatus.FAILED_PRECONDITION
+                        : RpcStatus.INTERNAL;
+            };
+        }
+        log.error("Unexpected exception in internal RPC", e);
+        return RpcStatus.INTERNAL;
+    }
+
+    // Unexpected failures are logged here, not described to the caller
+    private static String messageOf(RpcStatus status, RuntimeException e) {
+        return status == RpcStatus.INTERNAL ? "Internal error" : e.getMessage();
+    }
+}
@@ -0,0 +1,86 @@
+package com.titanbank.account.security;
+
+import com.titanbank.account.sharding.ShardRouter;
+import com.titanbank.account.sharding.ShardRoutingFilter;
+import com.titanbank.common.security.ForwardedPrincipal;
+import com.titanbank.common.security.ForwardedPrincipalFilter;
+import com.titanbank.common.security.JwksAccessTokenAuthenticator;
+import com.titanbank.common.security.LeanAuthenticationFilter;
+import com.titanbank.common.security.TokenRevocationCheck;
+import com.titanbank.common.security.UserRole;
+import com.titanbank.jwt.TokenVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+@Configuration
+@EnableWebSecurity
+@EnableMethodSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    // Auto-configured by titanbank-jwt from titanbank.jwt.jwks-uri
+    private final TokenVerifier tokenVerifier;
+    private final MeterRegistry meterRegistry;
+    // Present when titanbank.gateway.principal-secret is set
+    private final ObjectProvider<ForwardedPrincipal> forwardedPrincipal;
+    private final ShardRouter shardRouter;
+
+    /**
+     * Configure HTTP security
+     */
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+                // Disable CSRF (we're using JWT, not cookies)
+                .csrf(AbstractHttpConfigurer::disable)
+
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // Other services only, authenticated by a signed SERVICE principal
+                        .requestMatchers("/internal/rpc/**").hasRole(UserRole.SERVICE.name())
+                        .anyRequest().authenticated()
+                )
+
+                // Stateless session (no session stored on server)
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+
+                .exceptionHandling(exceptions ->
+                        exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+
+                // Tokens are verified locally against user-service's published keys.
+                // Logout blacklisting lives in user-service; access tokens here expire within 15 minutes.
+                .addFilterBefore(
+                        new LeanAuthenticationFilter(
+                                new JwksAccessTokenAuthenticator(tokenVerifier),
+                                TokenRevocationCheck.NONE,
+                                meterRegistry
+                        ),
+                        UsernamePasswordAuthenticationFilter.class
+                )
+
+                // Everything after authentication runs against the caller's shard
+                .addFilterAfter(new ShardRoutingFilter(shardRouter), LeanAuthenticationFilter.class);
+
+        // Behind the gateway the principal arrives signed and the token is not verified again
+        forwardedPrincipal.ifAvailable(principal -> http.addFilterBefore(
+                new ForwardedPrincipalFilter(principal, TokenRevocationCheck.NONE, meterRegistry),
+                LeanAuthenticationFilter.class));
+
+        return http.build();
+    }
+}
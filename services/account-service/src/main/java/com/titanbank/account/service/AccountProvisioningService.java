@@ -0,0 +1,16 @@
+package com.titanbank.account.service;
+
+import com.titanbank.events.UserRegisteredEvent;
+
+import java.util.List;
+
+public interface AccountProvisioningService {
+
+    /**
+     * Open the default account for each newly registered user, skipping events already applied
+     * and users that already have an account
+     *
+     * @return the number of accounts created
+     */
+    int provisionDefaultAccounts(List<UserRegisteredEvent> events);
+}
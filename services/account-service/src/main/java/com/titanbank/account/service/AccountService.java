@@ -3,6 +3,7 @@ package com.titanbank.account.service;
 import com.titanbank.account.domain.entity.Account;
 import com.titanbank.account.domain.enums.AccountType;
 import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.dto.response.TransferResponse;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -10,19 +11,25 @@ import java.util.UUID;
 
 public interface AccountService {
 
-    Account createAccount(UUID userId, AccountType accountType, Currency currency);
+    Account createAccount(Long userId, AccountType accountType, Currency currency);
 
-    Account getAccount(UUID accountId, UUID userId);
+    Account getAccount(UUID accountId, Long userId);
 
-    List<Account> getAccountsForUser(UUID userId);
+    List<Account> getAccountsForUser(Long userId);
 
-    void credit(UUID accountId, UUID userId, BigDecimal amount);
+    void credit(UUID accountId, Long userId, BigDecimal amount);
 
-    void debit(UUID accountId, UUID userId, BigDecimal amount);
+    void debit(UUID accountId, Long userId, BigDecimal amount);
 
-    void freezeAccount(UUID accountId, UUID userId);
+    /**
+     * Move {@code amount} (in the source currency) between two of the user's accounts, converting
+     * at the current FX rate when their currencies differ
+     */
+    TransferResponse transfer(UUID fromAccountId, UUID toAccountId, Long userId, BigDecimal amount);
 
-    void activateAccount(UUID accountId, UUID userId);
+    void freezeAccount(UUID accountId, Long userId);
 
-    void closeAccount(UUID accountId, UUID userId);
+    void activateAccount(UUID accountId, Long userId);
+
+    void closeAccount(UUID accountId, Long userId);
 }
\ No newline at end of file
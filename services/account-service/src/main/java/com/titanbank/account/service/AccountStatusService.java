@@ -0,0 +1,15 @@
+package com.titanbank.account.service;
+
+import com.titanbank.account.domain.enums.AccountStatus;
+import com.titanbank.account.dto.response.BulkStatusChangeResponse;
+
+import java.util.Collection;
+
+public interface AccountStatusService {
+
+    /**
+     * Move every account of the given users to {@code status}, except closed accounts, which stay
+     * closed. Safe to repeat: accounts already in {@code status} are left alone.
+     */
+    BulkStatusChangeResponse changeStatus(Collection<Long> userIds, AccountStatus status, String reason);
+}
@@ -0,0 +1,19 @@
+package com.titanbank.account.service;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Run a mutation at most once per (userId, idempotencyKey).
+     * A repeated key with the same request fingerprint replays the stored response;
+     * a repeated key with a different fingerprint is rejected.
+     */
+    <T> T execute(
+            Long userId,
+            String idempotencyKey,
+            String requestFingerprint,
+            Class<T> responseType,
+            Supplier<T> mutation
+    );
+}
@@ -0,0 +1,27 @@
+package com.titanbank.account.service;
+
+import com.titanbank.account.dto.response.BalanceAsOfResponse;
+import com.titanbank.account.dto.response.PostingResponse;
+import com.titanbank.account.dto.response.StatementPageResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface LedgerService {
+
+    StatementPageResponse getStatementPage(UUID accountId, Long userId, long afterSeq, int limit);
+
+    /**
+     * Feed every posting in {@code [from, to)} to {@code sink} in sequence order without
+     * materialising the statement
+     */
+    void streamStatement(UUID accountId, Long userId, Instant from, Instant to, Consumer<PostingResponse> sink);
+
+    /**
+     * Balances of any accounts as of {@code at}, for audit; accounts that did not exist yet are
+     * left out
+     */
+    List<BalanceAsOfResponse> getBalancesAt(List<UUID> accountIds, Instant at);
+}
@@ -0,0 +1,17 @@
+package com.titanbank.account.service;
+
+import com.titanbank.events.TransferRequestedEvent;
+
+import java.util.List;
+
+public interface TransferExecutionService {
+
+    /**
+     * Apply requested transfers, skipping those already applied; a transfer the account rules
+     * refuse is recorded as handled and not retried, and one that keeps conflicting with other writers
+     * is sent to the dead-letter topic
+     *
+     * @return the number of transfers applied
+     */
+    int executeTransfers(List<TransferRequestedEvent> requests);
+}
@@ -0,0 +1,125 @@
+package com.titanbank.account.service.impl;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.entity.ProcessedEvent;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.repository.AccountRepository;
+import com.titanbank.account.repository.ProcessedEventRepository;
+import com.titanbank.account.service.AccountProvisioningService;
+import com.titanbank.account.sharding.ShardContext;
+import com.titanbank.account.sharding.ShardRouter;
+import com.titanbank.events.UserRegisteredEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Opens default accounts from registration events in set-based batches: one transaction per shard
+ * reads which events and users are already done, then inserts the new accounts and event markers
+ * through JDBC batching.
+ */
+@Service
+@Slf4j
+public class AccountProvisioningServiceImpl implements AccountProvisioningService {
+
+    private final AccountRepository accountRepository;
+    private final ProcessedEventRepository processedEventRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountType defaultType;
+    private final Currency defaultCurrency;
+    private final Duration processedEventRetention;
+
+    public AccountProvisioningServiceImpl(
+            AccountRepository accountRepository,
+            ProcessedEventRepository processedEventRepository,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            @Value("${provisioning.default-type:SAVINGS}") AccountType defaultType,
+            @Value("${provisioning.default-currency:USD}") Currency defaultCurrency,
+            @Value("${provisioning.processed-event-retention:P7D}") Duration processedEventRetention
+    ) {
+        this.accountRepository = accountRepository;
+        this.processedEventRepository = processedEventRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultType = defaultType;
+        this.defaultCurrency = defaultCurrency;
+        this.processedEventRetention = processedEventRetention;
+    }
+
+    @Override
+    public int provisionDefaultAccounts(List<UserRegisteredEvent> events) {
+        // Last delivery of an event id wins; each shard's share is applied atomically
+        Map<Integer, Map<UUID, UserRegisteredEvent>> byShard = new HashMap<>();
+        for (UserRegisteredEvent event : events) {
+            byShard.computeIfAbsent(shardRouter.shardFor(event.getUserId()), shard -> new LinkedHashMap<>())
+                    .put(event.getEventId(), event);
+        }
+
+        int created = 0;
+        for (Map.Entry<Integer, Map<UUID, UserRegisteredEvent>> shard : byShard.entrySet()) {
+            try (ShardContext.Binding ignored = ShardContext.bind(shard.getKey())) {
+                Integer count = transactionTemplate.execute(status -> provisionOnShard(shard.getValue()));
+                created += count == null ? 0 : count;
+            }
+        }
+        return created;
+    }
+
+    private int provisionOnShard(Map<UUID, UserRegisteredEvent> events) {
+        Set<UUID> processed = processedEventRepository.findProcessedIds(events.keySet());
+
+        Set<Long> userIds = new HashSet<>();
+        List<ProcessedEvent> markers = new ArrayList<>(events.size());
+        Instant now = Instant.now();
+        for (UserRegisteredEvent event : events.values()) {
+            if (!processed.contains(event.getEventId())) {
+                userIds.add(event.getUserId());
+                markers.add(new ProcessedEvent(event.getEventId(), now));
+            }
+        }
+        if (markers.isEmpty()) {
+            return 0;
+        }
+
+        // Covers events replayed after their marker was purged and users who opened an account themselves
+        userIds.removeAll(accountRepository.findUserIdsWithAccounts(userIds));
+
+        List<Account> accounts = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            accounts.add(Account.create(userId, defaultType, defaultCurrency));
+        }
+        accountRepository.saveAll(accounts);
+        processedEventRepository.saveAll(markers);
+        return accounts.size();
+    }
+
+    @Scheduled(cron = "${provisioning.cleanup-cron:0 15 3 * * *}")
+    public void purgeProcessedEvents() {
+        Instant cutoff = Instant.now().minus(processedEventRetention);
+        shardRouter.forEachShard(shard -> {
+            Integer removed = transactionTemplate.execute(status ->
+                    processedEventRepository.deleteProcessedBefore(cutoff)
+            );
+            if (removed != null && removed > 0) {
+                log.info("Purged {} processed event markers on shard {}", removed, shard);
+            }
+        });
+    }
+}
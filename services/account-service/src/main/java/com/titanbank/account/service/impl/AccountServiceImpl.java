@@ -1,15 +1,28 @@
 package com.titanbank.account.service.impl;
 
 import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.entity.BalanceCheckpoint;
+import com.titanbank.account.domain.entity.Posting;
 import com.titanbank.account.domain.enums.AccountStatus;
 import com.titanbank.account.domain.enums.AccountType;
 import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.dto.response.TransferResponse;
+import com.titanbank.account.fx.FxProperties;
+import com.titanbank.account.fx.FxRateTable;
+import com.titanbank.account.fx.FxRates;
 import com.titanbank.account.repository.AccountRepository;
+import com.titanbank.account.repository.BalanceCheckpointRepository;
+import com.titanbank.account.repository.PostingRepository;
 import com.titanbank.account.service.AccountService;
-import jakarta.transaction.Transactional;
+import com.titanbank.account.velocity.VelocityGuard;
+import com.titanbank.common.metrics.LatencyTimers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,63 +30,206 @@ import java.util.UUID;
 @Transactional
 public class AccountServiceImpl implements AccountService {
 
+    private static final String OPERATION_TIMER = "account.operation";
+
     private final AccountRepository accountRepository;
+    private final PostingRepository postingRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final VelocityGuard velocityGuard;
+    private final FxRates fxRates;
+    private final RoundingMode fxRounding;
+
+    // One timer per operation, registered up front; excludes the transaction commit
+    private final Timer createTimer;
+    private final Timer getTimer;
+    private final Timer listTimer;
+    private final Timer creditTimer;
+    private final Timer debitTimer;
+    private final Timer transferTimer;
+    private final Timer freezeTimer;
+    private final Timer activateTimer;
+    private final Timer closeTimer;
 
-    public AccountServiceImpl(AccountRepository accountRepository) {
+    public AccountServiceImpl(
+            AccountRepository accountRepository,
+            PostingRepository postingRepository,
+            BalanceCheckpointRepository balanceCheckpointRepository,
+            VelocityGuard velocityGuard,
+            FxRates fxRates,
+            FxProperties fxProperties,
+            MeterRegistry meterRegistry) {
         this.accountRepository = accountRepository;
+        this.postingRepository = postingRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.velocityGuard = velocityGuard;
+        this.fxRates = fxRates;
+        this.fxRounding = fxProperties.getRounding();
+        this.createTimer = operationTimer(meterRegistry, "create");
+        this.getTimer = operationTimer(meterRegistry, "get");
+        this.listTimer = operationTimer(meterRegistry, "list");
+        this.creditTimer = operationTimer(meterRegistry, "credit");
+        this.debitTimer = operationTimer(meterRegistry, "debit");
+        this.transferTimer = operationTimer(meterRegistry, "transfer");
+        this.freezeTimer = operationTimer(meterRegistry, "freeze");
+        this.activateTimer = operationTimer(meterRegistry, "activate");
+        this.closeTimer = operationTimer(meterRegistry, "close");
+    }
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, String operation) {
+        return LatencyTimers.timer(meterRegistry, OPERATION_TIMER, "Account service operation latency",
+                "operation", operation);
     }
 
     @Override
-    public Account createAccount(UUID userId, AccountType accountType, Currency currency) {
-        Account account = Account.create(userId, accountType, currency);
-        return accountRepository.save(account);
+    public Account createAccount(Long userId, AccountType accountType, Currency currency) {
+        long start = System.nanoTime();
+        try {
+            Account account = Account.create(userId, accountType, currency);
+            return accountRepository.save(account);
+        } finally {
+            LatencyTimers.recordSince(createTimer, start);
+        }
     }
 
     @Override
-    public Account getAccount(UUID accountId, UUID userId) {
-        return accountRepository.findByIdAndUserId(accountId, userId)
-                .orElseThrow(() ->
-                        new IllegalArgumentException("Account not found or access denied")
-                );
+    @Transactional(readOnly = true)
+    public Account getAccount(UUID accountId, Long userId) {
+        long start = System.nanoTime();
+        try {
+            return findAccount(accountId, userId);
+        } finally {
+            LatencyTimers.recordSince(getTimer, start);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Account> getAccountsForUser(Long userId) {
+        long start = System.nanoTime();
+        try {
+            return accountRepository.findAllByUserId(userId);
+        } finally {
+            LatencyTimers.recordSince(listTimer, start);
+        }
     }
 
     @Override
-    public List<Account> getAccountsForUser(UUID userId) {
-        return accountRepository.findAllByUserId(userId);
+    public void credit(UUID accountId, Long userId, BigDecimal amount) {
+        long start = System.nanoTime();
+        try {
+            Account account = findAccount(accountId, userId);
+            Posting posting = account.credit(amount);
+            accountRepository.save(account);
+            record(posting);
+        } finally {
+            LatencyTimers.recordSince(creditTimer, start);
+        }
     }
 
     @Override
-    public void credit(UUID accountId, UUID userId, BigDecimal amount) {
-        Account account = getAccount(accountId, userId);
-        account.credit(amount);
-        accountRepository.save(account);
+    public void debit(UUID accountId, Long userId, BigDecimal amount) {
+        long start = System.nanoTime();
+        try {
+            Account account = findAccount(accountId, userId);
+            Posting posting = account.debit(amount);
+            velocityGuard.admit(posting);
+            accountRepository.save(account);
+            record(posting);
+        } finally {
+            LatencyTimers.recordSince(debitTimer, start);
+        }
     }
 
     @Override
-    public void debit(UUID accountId, UUID userId, BigDecimal amount) {
-        Account account = getAccount(accountId, userId);
-        account.debit(amount);
-        accountRepository.save(account);
+    public TransferResponse transfer(UUID fromAccountId, UUID toAccountId, Long userId, BigDecimal amount) {
+        long start = System.nanoTime();
+        try {
+            if (fromAccountId.equals(toAccountId)) {
+                throw new IllegalArgumentException("Cannot transfer to the same account");
+            }
+            Account source = findAccount(fromAccountId, userId);
+            Account target = findAccount(toAccountId, userId);
+
+            FxRateTable rates = fxRates.current();
+            Currency from = source.getCurrency();
+            Currency to = target.getCurrency();
+            long creditedMinor = rates.convert(from.toMinorUnits(amount), from, to, fxRounding);
+            if (creditedMinor <= 0) {
+                throw new IllegalArgumentException("Amount is too small to convert to " + to);
+            }
+            BigDecimal credited = to.fromMinorUnits(creditedMinor);
+
+            Posting debit = source.debit(amount);
+            velocityGuard.admit(debit);
+            Posting credit = target.credit(credited);
+            accountRepository.save(source);
+            accountRepository.save(target);
+            record(debit);
+            record(credit);
+
+            return TransferResponse.builder()
+                    .fromAccountId(fromAccountId)
+                    .toAccountId(toAccountId)
+                    .debitedAmount(amount)
+                    .debitedCurrency(from)
+                    .creditedAmount(credited)
+                    .creditedCurrency(to)
+                    .rate(rates.rate(from, to))
+                    .rateAsOf(from == to ? null : rates.getAsOf())
+                    .build();
+        } finally {
+            LatencyTimers.recordSince(transferTimer, start);
+        }
     }
 
     @Override
-    public void freezeAccount(UUID accountId, UUID userId) {
-        Account account = getAccount(accountId, userId);
-        account.freeze();
-        accountRepository.save(account);
+    public void freezeAccount(UUID accountId, Long userId) {
+        long start = System.nanoTime();
+        try {
+            Account account = findAccount(accountId, userId);
+            account.freeze();
+            accountRepository.save(account);
+        } finally {
+            LatencyTimers.recordSince(freezeTimer, start);
+        }
     }
 
     @Override
-    public void activateAccount(UUID accountId, UUID userId) {
-        Account account = getAccount(accountId, userId);
-        account.activate();
-        accountRepository.save(account);
+    public void activateAccount(UUID accountId, Long userId) {
+        long start = System.nanoTime();
+        try {
+            Account account = findAccount(accountId, userId);
+            account.activate();
+            accountRepository.save(account);
+        } finally {
+            LatencyTimers.recordSince(activateTimer, start);
+        }
     }
 
     @Override
-    public void closeAccount(UUID accountId, UUID userId) {
-        Account account = getAccount(accountId, userId);
-        account.close();
-        accountRepository.save(account);
+    public void closeAccount(UUID accountId, Long userId) {
+        long start = System.nanoTime();
+        try {
+            Account account = findAccount(accountId, userId);
+            account.close();
+            accountRepository.save(account);
+        } finally {
+            LatencyTimers.recordSince(closeTimer, start);
+        }
+    }
+
+    private void record(Posting posting) {
+        postingRepository.save(posting);
+        if (posting.isCheckpoint()) {
+            balanceCheckpointRepository.save(BalanceCheckpoint.of(posting));
+        }
+        velocityGuard.recorded(posting);
+    }
+
+    private Account findAccount(UUID accountId, Long userId) {
+        return accountRepository.findByIdAndUserId(accountId, userId)
+                .orElseThrow(() ->
+                        new IllegalArgumentException("Account not found or access denied")
+                );
     }
-}
\ No newline at end of file
+}
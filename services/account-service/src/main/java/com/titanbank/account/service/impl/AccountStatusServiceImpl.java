@@ -0,0 +1,173 @@
+package com.titanbank.account.service.impl;
+
+import com.titanbank.account.domain.enums.AccountStatus;
+import com.titanbank.account.dto.response.BulkStatusChangeResponse;
+import com.titanbank.account.repository.AccountStatusRepository;
+import com.titanbank.account.repository.AccountStatusRepository.AccountState;
+import com.titanbank.account.service.AccountStatusService;
+import com.titanbank.account.sharding.ShardContext;
+import com.titanbank.account.sharding.ShardRouter;
+import com.titanbank.common.id.UuidV7;
+import com.titanbank.events.AccountStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Status changes for many users at once, for compliance actions.
+ *
+ * <p>Users are grouped by shard and taken {@code chunk-size} at a time. Each chunk is one
+ * transaction of two statements: lock the users' accounts, then update the ones that change. One
+ * {@link AccountStatusChangedEvent} listing the changed accounts is published per chunk once it
+ * commits. A request that fails part-way keeps the chunks already committed, and repeating it
+ * finishes the rest.
+ */
+@Service
+@Slf4j
+public class AccountStatusServiceImpl implements AccountStatusService {
+
+    private final AccountStatusRepository accountStatusRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+    private final int chunkSize;
+
+    private final Counter changedCounter;
+    private final Counter unchangedCounter;
+    private final Counter refusedCounter;
+
+    public AccountStatusServiceImpl(
+            AccountStatusRepository accountStatusRepository,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${account-status.topic:account-status-changes}") String topic,
+            @Value("${account-status.chunk-size:1000}") int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("account-status.chunk-size must be positive");
+        }
+        this.accountStatusRepository = accountStatusRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.chunkSize = chunkSize;
+        this.changedCounter = counter(meterRegistry, "changed");
+        this.unchangedCounter = counter(meterRegistry, "unchanged");
+        this.refusedCounter = counter(meterRegistry, "refused");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("account.status.bulk.accounts")
+                .description("Accounts handled by bulk status changes")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public BulkStatusChangeResponse changeStatus(Collection<Long> userIds, AccountStatus status, String reason) {
+        Set<Long> distinctUsers = new LinkedHashSet<>(userIds);
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        for (Long userId : distinctUsers) {
+            byShard.computeIfAbsent(shardRouter.shardFor(userId), shard -> new ArrayList<>()).add(userId);
+        }
+
+        int[] totals = new int[3];
+        for (Map.Entry<Integer, List<Long>> shard : byShard.entrySet()) {
+            List<Long> users = shard.getValue();
+            try (ShardContext.Binding ignored = ShardContext.bind(shard.getKey())) {
+                for (int from = 0; from < users.size(); from += chunkSize) {
+                    List<Long> chunk = users.subList(from, Math.min(from + chunkSize, users.size()));
+                    int[] counts = transactionTemplate.execute(tx -> changeChunk(chunk, status, reason));
+                    for (int i = 0; i < totals.length; i++) {
+                        totals[i] += counts[i];
+                    }
+                }
+            }
+        }
+
+        changedCounter.increment(totals[0]);
+        unchangedCounter.increment(totals[1]);
+        refusedCounter.increment(totals[2]);
+        log.info("Bulk status change to {} over {} users: {} changed, {} unchanged, {} closed ({})",
+                status, distinctUsers.size(), totals[0], totals[1], totals[2], reason);
+
+        return BulkStatusChangeResponse.builder()
+                .status(status)
+                .users(distinctUsers.size())
+                .changed(totals[0])
+                .unchanged(totals[1])
+                .refused(totals[2])
+                .build();
+    }
+
+    // Helper methods
+
+    /**
+     * @return changed, unchanged and refused account counts
+     */
+    private int[] changeChunk(List<Long> userIds, AccountStatus status, String reason) {
+        List<UUID> changed = new ArrayList<>();
+        Set<Long> owners = new LinkedHashSet<>();
+        int unchanged = 0;
+        int refused = 0;
+        for (AccountState account : accountStatusRepository.lockByUserIds(userIds)) {
+            if (account.status() == status) {
+                unchanged++;
+            } else if (account.status().isTerminal()) {
+                refused++;
+            } else {
+                changed.add(account.accountId());
+                owners.add(account.userId());
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            accountStatusRepository.updateStatus(changed, status);
+            publishAfterCommit(AccountStatusChangedEvent.builder()
+                    .batchId(UuidV7.next())
+                    .status(status.name())
+                    .reason(reason)
+                    .changedAt(Instant.now())
+                    .userIds(List.copyOf(owners))
+                    .accountIds(changed)
+                    .build());
+        }
+        return new int[]{changed.size(), unchanged, refused};
+    }
+
+    private void publishAfterCommit(AccountStatusChangedEvent event) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                kafkaTemplate.send(topic, event.getBatchId().toString(), event)
+                        .exceptionally(e -> {
+                            log.warn("Status change batch {} ({} accounts to {}) not published: {}",
+                                    event.getBatchId(), event.getAccountIds().size(), event.getStatus(),
+                                    e.getMessage());
+                            return null;
+                        });
+            }
+        });
+    }
+}
@@ -0,0 +1,249 @@
+package com.titanbank.account.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.titanbank.account.domain.entity.IdempotencyRecord;
+import com.titanbank.account.exception.IdempotencyKeyReuseException;
+import com.titanbank.account.exception.IdempotentRequestInProgressException;
+import com.titanbank.account.repository.IdempotencyRecordRepository;
+import com.titanbank.account.service.IdempotencyService;
+import com.titanbank.account.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Three-tier idempotency store: in-process LRU, then a Redis hash, then the
+ * {@code idempotency_keys} table whose unique constraint is the source of truth.
+ * The key is claimed in the same transaction as the mutation, so a failed
+ * mutation releases the key and a concurrent duplicate blocks on the index
+ * until the first request commits.
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final String REDIS_KEY_PREFIX = "idempotency:";
+    private static final String FIELD_FINGERPRINT = "fp";
+    private static final String FIELD_BODY = "body";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final IdempotencyLruCache localCache;
+    private final Duration ttl;
+
+    public IdempotencyServiceImpl(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            @Value("${idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${idempotency.local-cache-size:10000}") int localCacheSize,
+            @Value("${idempotency.redis.enabled:true}") boolean redisEnabled
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisEnabled ? redisTemplate.getIfAvailable() : null;
+        this.localCache = new IdempotencyLruCache(localCacheSize);
+        this.ttl = ttl;
+    }
+
+    @Override
+    public <T> T execute(
+            Long userId,
+            String idempotencyKey,
+            String requestFingerprint,
+            Class<T> responseType,
+            Supplier<T> mutation
+    ) {
+        String cacheKey = userId + ":" + idempotencyKey;
+        String fingerprint = sha256(requestFingerprint);
+
+        IdempotencyLruCache.Entry cached = lookupFrontTiers(cacheKey);
+        if (cached != null) {
+            return replay(cached, fingerprint, responseType);
+        }
+
+        Instant expiresAt = Instant.now().plus(ttl);
+        Outcome<T> outcome;
+
+        try {
+            outcome = transactionTemplate.execute(status -> {
+                IdempotencyRecord record = claim(userId, idempotencyKey, fingerprint, expiresAt);
+                T result = mutation.get();
+                String body = serialize(result);
+                record.complete(body);
+                return new Outcome<>(result, body);
+            });
+        } catch (KeyAlreadyClaimedException ex) {
+            return replayFromDatabase(userId, idempotencyKey, cacheKey, fingerprint, responseType);
+        }
+
+        remember(cacheKey, new IdempotencyLruCache.Entry(fingerprint, outcome.body(), expiresAt.toEpochMilli()));
+        return outcome.response();
+    }
+
+    /**
+     * Drop keys past their TTL on every shard; the front tiers expire on their own.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:600000}")
+    public void purgeExpiredKeys() {
+        shardRouter.forEachShard(shard -> {
+            Integer removed = transactionTemplate.execute(status ->
+                    idempotencyRecordRepository.deleteExpired(Instant.now())
+            );
+            if (removed != null && removed > 0) {
+                log.info("Purged {} expired idempotency keys on shard {}", removed, shard);
+            }
+        });
+    }
+
+    // Helper methods
+
+    private IdempotencyRecord claim(Long userId, String idempotencyKey, String fingerprint, Instant expiresAt) {
+        try {
+            return idempotencyRecordRepository.saveAndFlush(
+                    IdempotencyRecord.claim(userId, idempotencyKey, fingerprint, expiresAt)
+            );
+        } catch (DataIntegrityViolationException ex) {
+            throw new KeyAlreadyClaimedException();
+        }
+    }
+
+    private <T> T replayFromDatabase(
+            Long userId,
+            String idempotencyKey,
+            String cacheKey,
+            String fingerprint,
+            Class<T> responseType
+    ) {
+        IdempotencyRecord record = idempotencyRecordRepository
+                .findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .filter(IdempotencyRecord::isCompleted)
+                .orElseThrow(() -> new IdempotentRequestInProgressException(
+                        "A request with this Idempotency-Key is still being processed"
+                ));
+
+        IdempotencyLruCache.Entry entry = new IdempotencyLruCache.Entry(
+                record.getRequestFingerprint(),
+                record.getResponseBody(),
+                record.getExpiresAt().toEpochMilli()
+        );
+        remember(cacheKey, entry);
+        return replay(entry, fingerprint, responseType);
+    }
+
+    private IdempotencyLruCache.Entry lookupFrontTiers(String cacheKey) {
+        long now = System.currentTimeMillis();
+        IdempotencyLruCache.Entry entry = localCache.get(cacheKey, now);
+        if (entry != null || redisTemplate == null) {
+            return entry;
+        }
+
+        try {
+            HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+            Map<String, String> fields = hash.entries(REDIS_KEY_PREFIX + cacheKey);
+            if (fields.isEmpty()) {
+                return null;
+            }
+
+            Long ttlSeconds = redisTemplate.getExpire(REDIS_KEY_PREFIX + cacheKey);
+            long expiresAt = ttlSeconds != null && ttlSeconds > 0
+                    ? now + ttlSeconds * 1000
+                    : now + ttl.toMillis();
+
+            entry = new IdempotencyLruCache.Entry(fields.get(FIELD_FINGERPRINT), fields.get(FIELD_BODY), expiresAt);
+            localCache.put(cacheKey, entry);
+            return entry;
+        } catch (RuntimeException ex) {
+            log.debug("Redis idempotency lookup unavailable, falling back to database: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private void remember(String cacheKey, IdempotencyLruCache.Entry entry) {
+        localCache.put(cacheKey, entry);
+
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            String redisKey = REDIS_KEY_PREFIX + cacheKey;
+            redisTemplate.opsForHash().putAll(redisKey, Map.of(
+                    FIELD_FINGERPRINT, entry.fingerprint(),
+                    FIELD_BODY, entry.responseBody()
+            ));
+            redisTemplate.expire(redisKey, Duration.ofMillis(entry.expiresAtMillis() - System.currentTimeMillis()));
+        } catch (RuntimeException ex) {
+            log.debug("Redis idempotency write skipped: {}", ex.getMessage());
+        }
+    }
+
+    private <T> T replay(IdempotencyLruCache.Entry entry, String fingerprint, Class<T> responseType) {
+        if (!fingerprint.equals(entry.fingerprint())) {
+            throw new IdempotencyKeyReuseException(
+                    "Idempotency-Key was already used with a different request"
+            );
+        }
+
+        try {
+            return objectMapper.readValue(entry.responseBody(), responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored idempotent response could not be read", ex);
+        }
+    }
+
+    private String serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Idempotent response could not be stored", ex);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private record Outcome<T>(T response, String body) {
+    }
+
+    /**
+     * Signals a unique-constraint hit on the claim insert, as opposed to
+     * integrity failures raised by the mutation itself.
+     */
+    private static final class KeyAlreadyClaimedException extends RuntimeException {
+
+        KeyAlreadyClaimedException() {
+            super(null, null, false, false);
+        }
+    }
+}
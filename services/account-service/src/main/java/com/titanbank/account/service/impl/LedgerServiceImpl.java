@@ -0,0 +1,97 @@
+package com.titanbank.account.service.impl;
+
+import com.titanbank.account.dto.response.BalanceAsOfResponse;
+import com.titanbank.account.dto.response.PostingResponse;
+import com.titanbank.account.dto.response.StatementPageResponse;
+import com.titanbank.account.repository.AccountRepository;
+import com.titanbank.account.repository.BalanceHistoryRepository;
+import com.titanbank.account.repository.PostingRepository;
+import com.titanbank.account.service.LedgerService;
+import com.titanbank.account.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LedgerServiceImpl implements LedgerService {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    // Keeps the IN list well under driver and planner limits
+    static final int BALANCE_QUERY_CHUNK = 1000;
+
+    private final AccountRepository accountRepository;
+    private final PostingRepository postingRepository;
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final ShardRouter shardRouter;
+
+    @Override
+    public StatementPageResponse getStatementPage(UUID accountId, Long userId, long afterSeq, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        assertOwner(accountId, userId);
+
+        List<PostingResponse> postings = postingRepository
+                .findByAccountIdAndSeqGreaterThanOrderBySeqAsc(accountId, afterSeq, Limit.of(limit))
+                .stream()
+                .map(PostingResponse::from)
+                .toList();
+
+        Long nextAfterSeq = postings.size() == limit ? postings.get(limit - 1).getSeq() : null;
+
+        return StatementPageResponse.builder()
+                .accountId(accountId)
+                .postings(postings)
+                .nextAfterSeq(nextAfterSeq)
+                .build();
+    }
+
+    @Override
+    public void streamStatement(UUID accountId, Long userId, Instant from, Instant to, Consumer<PostingResponse> sink) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        assertOwner(accountId, userId);
+
+        try (Stream<PostingResponse> postings = postingRepository.streamStatement(accountId, from, to)) {
+            postings.forEach(sink);
+        }
+    }
+
+    /**
+     * Account ids do not say which shard holds them, so every shard is asked for every id. Runs
+     * outside a transaction: each shard's statement takes its own connection.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BalanceAsOfResponse> getBalancesAt(List<UUID> accountIds, Instant at) {
+        List<UUID> distinct = accountIds.stream().distinct().toList();
+        List<BalanceAsOfResponse> balances = new ArrayList<>(distinct.size());
+
+        shardRouter.forEachShard(shard -> {
+            for (int from = 0; from < distinct.size(); from += BALANCE_QUERY_CHUNK) {
+                List<UUID> chunk = distinct.subList(from, Math.min(from + BALANCE_QUERY_CHUNK, distinct.size()));
+                balances.addAll(balanceHistoryRepository.findBalancesAt(chunk, at));
+            }
+        });
+        return balances;
+    }
+
+    private void assertOwner(UUID accountId, Long userId) {
+        if (!accountRepository.existsByIdAndUserId(accountId, userId)) {
+            throw new IllegalArgumentException("Account not found or access denied");
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.titanbank.account.service.impl;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.entity.BalanceCheckpoint;
+import com.titanbank.account.domain.entity.Posting;
+import com.titanbank.account.domain.entity.ProcessedEvent;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.fx.FxProperties;
+import com.titanbank.account.fx.FxRateTable;
+import com.titanbank.account.fx.FxRates;
+import com.titanbank.account.repository.AccountRepository;
+import com.titanbank.account.repository.BalanceCheckpointRepository;
+import com.titanbank.account.repository.PostingRepository;
+import com.titanbank.account.repository.ProcessedEventRepository;
+import com.titanbank.account.service.TransferExecutionService;
+import com.titanbank.account.sharding.ShardContext;
+import com.titanbank.account.sharding.ShardRouter;
+import com.titanbank.account.velocity.VelocityGuard;
+import com.titanbank.account.velocity.VelocityLimitExceededException;
+import com.titanbank.events.TransferRequestedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies requested transfers in set-based batches: one transaction per shard loads every account
+ * involved in one query, applies the transfers in request order in memory, then writes the
+ * accounts, postings and event markers through JDBC batching.
+ *
+ * <p>Each transfer is fully checked (ownership, status, balance, velocity) before either account
+ * changes, so a refused transfer leaves nothing behind and does not fail its neighbours.
+ *
+ * <p>A shard batch that loses a race to another writer, on an account's version or its next posting
+ * sequence, is retried one transfer per transaction. A transfer that still conflicts after
+ * {@value #MAX_ATTEMPTS} attempts is sent to the dead-letter topic rather than left to redelivery,
+ * which gives up once its retries run out.
+ */
+@Service
+@Slf4j
+public class TransferExecutionServiceImpl implements TransferExecutionService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AccountRepository accountRepository;
+    private final PostingRepository postingRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final ProcessedEventRepository processedEventRepository;
+    private final VelocityGuard velocityGuard;
+    private final FxRates fxRates;
+    private final RoundingMode fxRounding;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String deadLetterTopic;
+
+    private final Timer dueToApplied;
+    private final Counter executed;
+    private final Counter refused;
+    private final Counter deadLettered;
+
+    public TransferExecutionServiceImpl(
+            AccountRepository accountRepository,
+            PostingRepository postingRepository,
+            BalanceCheckpointRepository balanceCheckpointRepository,
+            ProcessedEventRepository processedEventRepository,
+            VelocityGuard velocityGuard,
+            FxRates fxRates,
+            FxProperties fxProperties,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${payments.dead-letter-topic:transfer-requests.DLT}") String deadLetterTopic
+    ) {
+        this.accountRepository = accountRepository;
+        this.postingRepository = postingRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.processedEventRepository = processedEventRepository;
+        this.velocityGuard = velocityGuard;
+        this.fxRates = fxRates;
+        this.fxRounding = fxProperties.getRounding();
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.kafkaTemplate = kafkaTemplate;
+        this.deadLetterTopic = deadLetterTopic;
+        this.dueToApplied = Timer.builder("account.transfers.requested.lag")
+                .description("Delay between a requested transfer falling due and its postings being written")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(30))
+                .register(meterRegistry);
+        this.executed = counter(meterRegistry, "executed");
+        this.refused = counter(meterRegistry, "refused");
+        this.deadLettered = counter(meterRegistry, "dead-lettered");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("account.transfers.requested")
+                .description("Requested transfers handled")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int executeTransfers(List<TransferRequestedEvent> requests) {
+        // Both accounts of a transfer belong to its user, so one shard holds everything it touches
+        Map<Integer, Map<UUID, TransferRequestedEvent>> byShard = new HashMap<>();
+        for (TransferRequestedEvent request : requests) {
+            byShard.computeIfAbsent(shardRouter.shardFor(request.getUserId()), shard -> new LinkedHashMap<>())
+                    .putIfAbsent(request.getTransferId(), request);
+        }
+
+        int applied = 0;
+        for (Map.Entry<Integer, Map<UUID, TransferRequestedEvent>> shard : byShard.entrySet()) {
+            try (ShardContext.Binding ignored = ShardContext.bind(shard.getKey())) {
+                List<TransferRequestedEvent> done;
+                try {
+                    done = committed(transactionTemplate.execute(status -> executeOnShard(shard.getValue())));
+                } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                    // Another writer moved an account on first: its version, or its next posting sequence
+                    log.info("Transfer batch of {} on shard {} conflicted, retrying one by one: {}",
+                            shard.getValue().size(), shard.getKey(), e.getMessage());
+                    done = executeOneByOne(shard.getValue().values());
+                }
+                Instant now = Instant.now();
+                for (TransferRequestedEvent request : done) {
+                    dueToApplied.record(Duration.between(request.getDueAt(), now));
+                }
+                applied += done.size();
+            }
+        }
+        return applied;
+    }
+
+    private List<TransferRequestedEvent> executeOneByOne(Collection<TransferRequestedEvent> requests) {
+        List<TransferRequestedEvent> done = new ArrayList<>();
+        for (TransferRequestedEvent request : requests) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    done.addAll(committed(transactionTemplate.execute(status ->
+                            executeOnShard(Map.of(request.getTransferId(), request)))));
+                    break;
+                } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                    if (attempt == MAX_ATTEMPTS) {
+                        deadLetter(request, e);
+                        break;
+                    }
+                }
+            }
+        }
+        return done;
+    }
+
+    // Waits for the send, so a transfer is either parked on the topic or its whole poll redelivered
+    private void deadLetter(TransferRequestedEvent request, RuntimeException cause) {
+        kafkaTemplate.send(deadLetterTopic, request.getTransferId().toString(), request).join();
+        deadLettered.increment();
+        log.error("Transfer {} from {} for user {} still conflicted after {} attempts, sent to {}: {}",
+                request.getTransferId(), request.getFromAccountId(), request.getUserId(), MAX_ATTEMPTS,
+                deadLetterTopic, cause.getMessage());
+    }
+
+    // Counted once the transaction commits, so a batch rolled back and retried is not counted twice
+    private List<TransferRequestedEvent> committed(ShardOutcome outcome) {
+        executed.increment(outcome.applied().size());
+        refused.increment(outcome.refused());
+        return outcome.applied();
+    }
+
+    private ShardOutcome executeOnShard(Map<UUID, TransferRequestedEvent> requests) {
+        Set<UUID> processed = processedEventRepository.findProcessedIds(requests.keySet());
+
+        Set<UUID> accountIds = new HashSet<>();
+        for (TransferRequestedEvent request : requests.values()) {
+            if (!processed.contains(request.getTransferId())) {
+                accountIds.add(request.getFromAccountId());
+                accountIds.add(request.getToAccountId());
+            }
+        }
+        if (accountIds.isEmpty()) {
+            return new ShardOutcome(List.of(), 0);
+        }
+        Map<UUID, Account> accounts = new HashMap<>();
+        for (Account account : accountRepository.findAllById(accountIds)) {
+            accounts.put(account.getId(), account);
+        }
+
+        FxRateTable rates = fxRates.current();
+        Instant now = Instant.now();
+        List<TransferRequestedEvent> done = new ArrayList<>();
+        List<Posting> postings = new ArrayList<>();
+        List<ProcessedEvent> markers = new ArrayList<>();
+        int refusedCount = 0;
+        for (TransferRequestedEvent request : requests.values()) {
+            if (processed.contains(request.getTransferId())) {
+                continue;
+            }
+            markers.add(new ProcessedEvent(request.getTransferId(), now));
+            try {
+                apply(request, accounts, rates, now, postings);
+                done.add(request);
+            } catch (IllegalArgumentException | IllegalStateException | VelocityLimitExceededException e) {
+                refusedCount++;
+                log.info("Refused transfer {} from {} for user {}: {}",
+                        request.getTransferId(), request.getFromAccountId(), request.getUserId(), e.getMessage());
+            }
+        }
+
+        // Loaded in this transaction, so the balance updates flush as one JDBC batch on commit
+        List<BalanceCheckpoint> checkpoints = new ArrayList<>();
+        for (Posting posting : postings) {
+            if (posting.isCheckpoint()) {
+                checkpoints.add(BalanceCheckpoint.of(posting));
+            }
+            velocityGuard.recorded(posting);
+        }
+        postingRepository.saveAll(postings);
+        balanceCheckpointRepository.saveAll(checkpoints);
+        processedEventRepository.saveAll(markers);
+        return new ShardOutcome(done, refusedCount);
+    }
+
+    private void apply(TransferRequestedEvent request, Map<UUID, Account> accounts, FxRateTable rates,
+                       Instant now, List<Posting> postings) {
+        Account source = accounts.get(request.getFromAccountId());
+        Account target = accounts.get(request.getToAccountId());
+        if (source == null || target == null || source == target
+                || !source.getUserId().equals(request.getUserId())
+                || !target.getUserId().equals(request.getUserId())) {
+            throw new IllegalArgumentException("Account not found or access denied");
+        }
+
+        Currency from = source.getCurrency();
+        Currency to = target.getCurrency();
+        long creditedMinor = rates.convert(from.toMinorUnits(request.getAmount()), from, to, fxRounding);
+        if (creditedMinor <= 0) {
+            throw new IllegalArgumentException("Amount is too small to convert to " + to);
+        }
+        BigDecimal credited = to.fromMinorUnits(creditedMinor);
+
+        source.checkDebit(request.getAmount());
+        target.checkCredit(credited);
+        velocityGuard.admit(source.getId(), source.getLastPostingSeq() + 1, request.getAmount(), now);
+
+        postings.add(source.debit(request.getAmount()));
+        postings.add(target.credit(credited));
+    }
+
+    private record ShardOutcome(List<TransferRequestedEvent> applied, int refused) {
+    }
+}
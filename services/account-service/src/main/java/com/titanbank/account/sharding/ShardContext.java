@@ -0,0 +1,38 @@
+package com.titanbank.account.sharding;
+
+/**
+ * Shard the current thread's database work is routed to.
+ *
+ * <p>Must be bound before a transaction starts: the connection is taken from the bound shard when
+ * the transaction begins and stays on it until commit.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * Bound shard, or {@code null} for the default shard
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static Binding bind(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous == null ? CURRENT::remove : () -> CURRENT.set(previous);
+    }
+
+    /**
+     * Restores the previous binding on close
+     */
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,52 @@
+package com.titanbank.account.sharding;
+
+import com.titanbank.common.id.IdHashing;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Maps a user to the database node holding all of that user's accounts.
+ *
+ * <p>The mapping is a pure function of {@code userId} and the shard count, so every query filtered
+ * by user touches exactly one node. Changing the shard count moves users and requires resharding
+ * the data first.
+ */
+public class ShardRouter {
+
+    private final int shardCount;
+
+    public ShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(long userId) {
+        // Sequential user ids spread evenly across shards
+        return (int) Long.remainderUnsigned(IdHashing.mix(userId), shardCount);
+    }
+
+    /**
+     * Route the current thread to the user's shard until the binding is closed
+     */
+    public ShardContext.Binding bindUser(long userId) {
+        return ShardContext.bind(shardFor(userId));
+    }
+
+    /**
+     * Run {@code action} once per shard with the thread bound to it, for maintenance work that
+     * is not scoped to a user
+     */
+    public void forEachShard(IntConsumer action) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            try (ShardContext.Binding ignored = ShardContext.bind(shard)) {
+                action.accept(shard);
+            }
+        }
+    }
+}
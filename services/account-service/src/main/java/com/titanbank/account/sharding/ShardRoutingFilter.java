@@ -0,0 +1,47 @@
+package com.titanbank.account.sharding;
+
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.common.security.UserRole;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds each authenticated request to the caller's shard, so the idempotency claim and the account
+ * mutation share one connection on one node. Calls from other services act for many users and bind
+ * each user's work themselves.
+ */
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    private final ShardRouter shardRouter;
+
+    public ShardRoutingFilter(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (shardRouter.shardCount() == 1
+                || authentication == null
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser user)
+                || user.hasRole(UserRole.SERVICE)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try (ShardContext.Binding ignored = shardRouter.bindUser(user.userId())) {
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.titanbank.account.sharding;
+
+import com.titanbank.common.datasource.ReadReplicaDataSources;
+import com.titanbank.common.datasource.ReadReplicaProperties;
+import com.titanbank.common.datasource.ReplicaLagProbe;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        return new ShardRouter(properties.isEnabled() ? properties.getNodes().size() : 1);
+    }
+
+    /**
+     * Replaces the auto-configured data source when {@code titanbank.sharding.enabled} is set. With
+     * {@code titanbank.read-replicas.enabled} as well, each node's read-only transactions go to its
+     * own replicas.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "titanbank.sharding", name = "enabled", havingValue = "true")
+    @EnableConfigurationProperties(SqlInitializationProperties.class)
+    static class ShardedDataSourceConfig {
+
+        @Bean
+        @Primary
+        public DataSource dataSource(
+                ShardingProperties properties,
+                ObjectProvider<ReadReplicaProperties> readReplicaProperties,
+                ObjectProvider<ReplicaLagProbe> replicaLagProbe,
+                ObjectProvider<MeterRegistry> meterRegistry) {
+            if (properties.getNodes().isEmpty()) {
+                throw new IllegalStateException("titanbank.sharding.nodes must list at least one database");
+            }
+            ReplicaLagProbe probe = replicaLagProbe.getIfAvailable();
+
+            List<DataSource> shards = new ArrayList<>();
+            for (ShardingProperties.Node node : properties.getNodes()) {
+                HikariDataSource dataSource = DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .url(node.getUrl())
+                        .username(node.getUsername())
+                        .password(node.getPassword())
+                        .build();
+                dataSource.setMaximumPoolSize(properties.getPoolSize());
+                shards.add(probe == null ? dataSource : ReadReplicaDataSources.route("shard-" + shards.size(),
+                        dataSource, node.getReplicas(), readReplicaProperties.getObject(), probe,
+                        meterRegistry.getIfAvailable()));
+            }
+
+            DataSource routing = new ShardRoutingDataSource(shards);
+            return probe == null ? routing : ReadReplicaDataSources.lazy(routing);
+        }
+
+        /**
+         * Applies {@code spring.sql.init} scripts to every node instead of only the default one
+         */
+        @Bean
+        public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(
+                DataSource dataSource,
+                SqlInitializationProperties sqlInitializationProperties,
+                ShardRouter shardRouter) {
+            return new SqlDataSourceScriptDatabaseInitializer(dataSource, sqlInitializationProperties) {
+                @Override
+                protected void runScripts(Scripts scripts) {
+                    shardRouter.forEachShard(shard -> super.runScripts(scripts));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.titanbank.account.sharding;
+
+import com.titanbank.common.datasource.ReadReplicaProperties;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Database nodes the {@code accounts} data is spread over. When sharding is disabled the regular
+ * {@code spring.datasource} is the only shard.
+ */
+@Data
+@ConfigurationProperties(prefix = "titanbank.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    /** Connections per node */
+    private int poolSize = 10;
+
+    /** Order is significant: a user's shard is an index into this list */
+    private List<Node> nodes = new ArrayList<>();
+
+    @Data
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+
+        /** Used when {@code titanbank.read-replicas.enabled} is set */
+        private List<ReadReplicaProperties.Replica> replicas = new ArrayList<>();
+    }
+}
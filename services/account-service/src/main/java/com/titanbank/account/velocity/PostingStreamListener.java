@@ -0,0 +1,60 @@
+package com.titanbank.account.velocity;
+
+import com.titanbank.events.EventSchemas;
+import com.titanbank.events.PostingRecordedEvent;
+import com.titanbank.events.codec.EventSchemaRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays the posting stream into {@link VelocityEngine}, so every instance counts debits made
+ * through any of them. Each instance has its own consumer group and, on every assignment, rewinds
+ * to the start of the longest rule window: state is rebuilt after a restart, and postings already
+ * held are skipped by sequence.
+ */
+@Component
+@ConditionalOnProperty(prefix = "velocity", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PostingStreamListener implements ConsumerSeekAware {
+
+    private final VelocityEngine engine;
+
+    @KafkaListener(
+            id = "velocity-replication",
+            groupId = "account-service-velocity-${titanbank.id.node-id:0}",
+            topics = "${velocity.topic:account-postings}")
+    public void onPostings(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            if (EventSchemaRegistry.schemaIdOf(record.value()) != EventSchemas.POSTING_RECORDED_V1) {
+                continue;
+            }
+            try {
+                PostingRecordedEvent posting = (PostingRecordedEvent) EventSchemas.REGISTRY.decode(record.value());
+                if (posting.getAccountId() == null || posting.getAmount() == null
+                        || posting.getAmount().signum() >= 0) {
+                    continue;
+                }
+                long at = posting.getPostedAt() != null ? posting.getPostedAt().toEpochMilli() : record.timestamp();
+                engine.record(posting.getAccountId(), posting.getSeq(), posting.getAmount(), at);
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping unreadable posting at {}-{}@{}: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToTimestamp(assignments.keySet(), System.currentTimeMillis() - engine.longestWindowMillis());
+    }
+}
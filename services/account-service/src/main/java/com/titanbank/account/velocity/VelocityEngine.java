@@ -0,0 +1,260 @@
+package com.titanbank.account.velocity;
+
+import com.titanbank.common.id.IdHashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-account debit velocity limits, evaluated in memory so the debit path adds no query.
+ *
+ * <p>Each account's recent debits are kept in a ring of primitive arrays (sequence, time, amount).
+ * Accounts are spread by id over independently locked shards, each an access-ordered LRU bounded by
+ * {@code max-tracked-accounts / shards}. A debit is checked and recorded under one shard lock, so
+ * concurrent debits of one account on this node cannot both slip under a limit. Concurrent debits
+ * can be admitted with the same posting sequence; each counts the other, only the first holds the
+ * slot, and only one of them can commit. Debits committed on other nodes arrive through
+ * {@link #record} and are de-duplicated by posting sequence.
+ */
+@Component
+@EnableConfigurationProperties(VelocityProperties.class)
+public class VelocityEngine {
+
+    private final VelocityRules rules;
+    private final int windowCapacity;
+    private final Shard[] shards;
+    private final int shardMask;
+
+    private final Counter allowed;
+    private final Counter rejected;
+    private final Counter evicted;
+
+    public VelocityEngine(VelocityProperties properties, MeterRegistry meterRegistry) {
+        int shardCount = properties.getShards();
+        if (shardCount < 1 || Integer.bitCount(shardCount) != 1) {
+            throw new IllegalArgumentException("velocity.shards must be a power of two: " + shardCount);
+        }
+        if (properties.getWindowCapacity() < 2) {
+            throw new IllegalArgumentException("velocity.window-capacity must be at least 2");
+        }
+        this.rules = VelocityRules.compile(properties.getRules(), properties.getWindowCapacity());
+        this.windowCapacity = properties.getWindowCapacity();
+        this.shardMask = shardCount - 1;
+        this.shards = new Shard[shardCount];
+        int accountsPerShard = Math.max(1, properties.getMaxTrackedAccounts() / shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(accountsPerShard);
+        }
+
+        this.allowed = counter(meterRegistry, "allowed");
+        this.rejected = counter(meterRegistry, "rejected");
+        this.evicted = Counter.builder("account.velocity.evictions")
+                .description("Accounts whose debit history was dropped to stay within max-tracked-accounts")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("account.velocity.checks")
+                .description("Debits checked against velocity limits")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check a debit against every rule and record it if all pass
+     *
+     * @return whether the debit took a slot of its own, which only then is for it to {@link #release};
+     * false when a concurrent debit already holds its sequence
+     * @throws VelocityLimitExceededException naming the first rule the debit would break
+     */
+    public boolean admit(UUID accountId, long seq, BigDecimal amount, long atMillis) {
+        long units = VelocityRules.units(amount);
+        String broken;
+        boolean inserted = false;
+        Shard shard = shardOf(accountId);
+        synchronized (shard) {
+            DebitWindow window = shard.windows.get(accountId);
+            broken = firstBrokenRule(window, units, atMillis);
+            if (broken == null) {
+                inserted = addOnce(shard.windowFor(accountId), seq, atMillis, units);
+            }
+        }
+        if (broken != null) {
+            rejected.increment();
+            throw new VelocityLimitExceededException(broken);
+        }
+        allowed.increment();
+        return inserted;
+    }
+
+    /**
+     * Record a debit already committed, here or on another node; a sequence already held is ignored
+     */
+    public void record(UUID accountId, long seq, BigDecimal amount, long atMillis) {
+        long units = VelocityRules.units(amount);
+        Shard shard = shardOf(accountId);
+        synchronized (shard) {
+            addOnce(shard.windowFor(accountId), seq, atMillis, units);
+        }
+    }
+
+    /**
+     * Forget a debit whose transaction did not commit; only for an {@link #admit} that took the slot
+     */
+    public void release(UUID accountId, long seq) {
+        Shard shard = shardOf(accountId);
+        synchronized (shard) {
+            DebitWindow window = shard.windows.get(accountId);
+            if (window != null) {
+                window.remove(seq);
+            }
+        }
+    }
+
+    /**
+     * How far back debits still count; replication replays at least this much history
+     */
+    public long longestWindowMillis() {
+        return rules.longestWindowMs;
+    }
+
+    public int trackedAccounts() {
+        int tracked = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                tracked += shard.windows.size();
+            }
+        }
+        return tracked;
+    }
+
+    // Every live slot counts, including one holding the same sequence: that is a concurrent debit
+    private String firstBrokenRule(DebitWindow window, long units, long atMillis) {
+        for (int r = 0; r < rules.size(); r++) {
+            long since = atMillis - rules.windowMs[r];
+            int count = 1;
+            long total = units;
+            if (window != null) {
+                for (int i = 0; i < window.size; i++) {
+                    if (window.times[i] > since) {
+                        count++;
+                        total = saturatedAdd(total, window.units[i]);
+                    }
+                }
+            }
+            if (count > rules.maxCount[r] || total > rules.maxUnits[r]) {
+                return rules.names[r];
+            }
+        }
+        return null;
+    }
+
+    private boolean addOnce(DebitWindow window, long seq, long atMillis, long units) {
+        if (window.contains(seq)) {
+            return false;
+        }
+        window.add(seq, atMillis, units, windowCapacity);
+        return true;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private Shard shardOf(UUID accountId) {
+        // UUIDv7 high bits are a timestamp shared by accounts opened together
+        return shards[(int) IdHashing.mix(accountId) & shardMask];
+    }
+
+    private final class Shard {
+        private final Map<UUID, DebitWindow> windows;
+
+        Shard(int maxAccounts) {
+            this.windows = new LinkedHashMap<>(Math.min(maxAccounts, 1 << 12), 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, DebitWindow> eldest) {
+                    if (size() > maxAccounts) {
+                        evicted.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        DebitWindow windowFor(UUID accountId) {
+            return windows.computeIfAbsent(accountId, id -> new DebitWindow());
+        }
+    }
+
+    /**
+     * Ring of an account's most recent debits; starts small and doubles up to the window capacity,
+     * then overwrites the oldest. Slots are unordered for evaluation, which sums every live slot.
+     */
+    private static final class DebitWindow {
+        private static final int INITIAL_CAPACITY = 8;
+
+        long[] seqs = new long[INITIAL_CAPACITY];
+        long[] times = new long[INITIAL_CAPACITY];
+        long[] units = new long[INITIAL_CAPACITY];
+        int size;
+        private int next;
+
+        boolean contains(long seq) {
+            for (int i = 0; i < size; i++) {
+                if (seqs[i] == seq) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void add(long seq, long at, long amount, int capacity) {
+            if (size == seqs.length && size < capacity) {
+                grow(Math.min(capacity, size * 2));
+            }
+            seqs[next] = seq;
+            times[next] = at;
+            units[next] = amount;
+            next = (next + 1) % seqs.length;
+            if (size < seqs.length) {
+                size++;
+            }
+        }
+
+        // Neutralised in place: never inside a window, never matching a real sequence
+        void remove(long seq) {
+            for (int i = 0; i < size; i++) {
+                if (seqs[i] == seq) {
+                    seqs[i] = -1;
+                    times[i] = Long.MIN_VALUE;
+                    units[i] = 0;
+                }
+            }
+        }
+
+        // Only called when full, so the oldest slot is next
+        private void grow(int capacity) {
+            long[] newSeqs = new long[capacity];
+            long[] newTimes = new long[capacity];
+            long[] newUnits = new long[capacity];
+            for (int i = 0; i < size; i++) {
+                int from = (next + i) % size;
+                newSeqs[i] = seqs[from];
+                newTimes[i] = times[from];
+                newUnits[i] = units[from];
+            }
+            seqs = newSeqs;
+            times = newTimes;
+            units = newUnits;
+            next = size;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.titanbank.account.velocity;
+
+import com.titanbank.account.domain.entity.Posting;
+import com.titanbank.events.PostingRecordedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Ties the velocity engine to the ledger: debits are admitted before anything is written, released
+ * again if their transaction rolls back, and every committed posting is published so the other
+ * instances' engines see it too.
+ */
+@Component
+@Slf4j
+public class VelocityGuard {
+
+    private final VelocityEngine engine;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final boolean enabled;
+    private final String topic;
+
+    public VelocityGuard(
+            VelocityEngine engine,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            VelocityProperties properties) {
+        this.engine = engine;
+        this.kafkaTemplate = kafkaTemplate;
+        this.enabled = properties.isEnabled();
+        this.topic = properties.getTopic();
+    }
+
+    /**
+     * Admit a debit posting, or throw {@link VelocityLimitExceededException}
+     */
+    public void admit(Posting debit) {
+        admit(debit.getAccountId(), debit.getSeq(), debit.getAmount(), debit.getPostedAt());
+    }
+
+    /**
+     * Admit a debit before its posting exists, so a rejection leaves the account untouched
+     */
+    public void admit(UUID accountId, long seq, BigDecimal amount, Instant at) {
+        if (!enabled) {
+            return;
+        }
+        boolean inserted = engine.admit(accountId, seq, amount, at.toEpochMilli());
+        // A debit sharing its sequence with a concurrent one must not release the other's slot
+        if (inserted && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        engine.release(accountId, seq);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Publish a posting once its transaction commits
+     */
+    public void recorded(Posting posting) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(posting);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(posting);
+            }
+        });
+    }
+
+    // Keyed by account so one account's postings stay in order on one partition
+    private void publish(Posting posting) {
+        PostingRecordedEvent event = new PostingRecordedEvent(posting.getAccountId(), posting.getSeq(),
+                posting.getAmount(), posting.getBalanceAfter(), posting.getPostedAt());
+        kafkaTemplate.send(topic, posting.getAccountId().toString(), event)
+                .exceptionally(e -> {
+                    log.warn("Posting {}/{} not published; other instances will not count it: {}",
+                            posting.getAccountId(), posting.getSeq(), e.getMessage());
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,17 @@
+package com.titanbank.account.velocity;
+
+import com.titanbank.account.exception.TitanBankException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class VelocityLimitExceededException extends TitanBankException {
+
+    private final String rule;
+
+    public VelocityLimitExceededException(String rule) {
+        super("Debit exceeds velocity limit '" + rule + "'", "VELOCITY_LIMIT_EXCEEDED",
+                HttpStatus.UNPROCESSABLE_ENTITY);
+        this.rule = rule;
+    }
+}
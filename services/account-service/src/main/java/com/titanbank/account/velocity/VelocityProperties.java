@@ -0,0 +1,49 @@
+package com.titanbank.account.velocity;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Debit velocity limits and the bounds of their in-memory state. Each tracked account costs three
+ * {@code long} arrays that grow with its debits, up to {@link #windowCapacity} entries.
+ */
+@Data
+@ConfigurationProperties(prefix = "velocity")
+public class VelocityProperties {
+
+    private boolean enabled = true;
+
+    /** Topic carrying every committed posting; each instance reads all of it */
+    private String topic = "account-postings";
+
+    /** Independently locked partitions of the account state; a power of two */
+    private int shards = 16;
+
+    /** Least recently debited accounts beyond this are forgotten */
+    private int maxTrackedAccounts = 200_000;
+
+    /** Debits remembered per account; must exceed every rule's max-count */
+    private int windowCapacity = 128;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        private String name;
+
+        /** Sliding window ending at the debit being checked */
+        private Duration window;
+
+        /** Most debits allowed inside the window, including the new one; unset for no limit */
+        private Integer maxCount;
+
+        /** Largest total debited inside the window, including the new one; unset for no limit */
+        private BigDecimal maxAmount;
+    }
+}
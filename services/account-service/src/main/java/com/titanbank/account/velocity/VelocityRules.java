@@ -0,0 +1,72 @@
+package com.titanbank.account.velocity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Rules compiled to parallel primitive arrays, with amounts in ten-thousandths (the ledger's
+ * scale), so a check is integer comparisons over the account's recent debits.
+ */
+final class VelocityRules {
+
+    private static final int SCALE = 4;
+    private static final BigDecimal MAX_UNITS = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    final String[] names;
+    final long[] windowMs;
+    final int[] maxCount;
+    final long[] maxUnits;
+    final long longestWindowMs;
+
+    private VelocityRules(String[] names, long[] windowMs, int[] maxCount, long[] maxUnits) {
+        this.names = names;
+        this.windowMs = windowMs;
+        this.maxCount = maxCount;
+        this.maxUnits = maxUnits;
+        long longest = 0;
+        for (long window : windowMs) {
+            longest = Math.max(longest, window);
+        }
+        this.longestWindowMs = longest;
+    }
+
+    static VelocityRules compile(List<VelocityProperties.Rule> rules, int windowCapacity) {
+        int size = rules.size();
+        String[] names = new String[size];
+        long[] windowMs = new long[size];
+        int[] maxCount = new int[size];
+        long[] maxUnits = new long[size];
+        for (int i = 0; i < size; i++) {
+            VelocityProperties.Rule rule = rules.get(i);
+            String name = rule.getName() != null ? rule.getName() : "rule-" + i;
+            if (rule.getWindow() == null || rule.getWindow().toMillis() <= 0) {
+                throw new IllegalArgumentException("Velocity rule " + name + " needs a positive window");
+            }
+            if (rule.getMaxCount() == null && rule.getMaxAmount() == null) {
+                throw new IllegalArgumentException("Velocity rule " + name + " sets neither max-count nor max-amount");
+            }
+            if (rule.getMaxCount() != null && (rule.getMaxCount() < 1 || rule.getMaxCount() >= windowCapacity)) {
+                throw new IllegalArgumentException("Velocity rule " + name + " max-count must be between 1 and "
+                        + (windowCapacity - 1) + " (window-capacity - 1)");
+            }
+            names[i] = name;
+            windowMs[i] = rule.getWindow().toMillis();
+            maxCount[i] = rule.getMaxCount() != null ? rule.getMaxCount() : Integer.MAX_VALUE;
+            maxUnits[i] = rule.getMaxAmount() != null ? units(rule.getMaxAmount()) : Long.MAX_VALUE;
+        }
+        return new VelocityRules(names, windowMs, maxCount, maxUnits);
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Absolute amount in ten-thousandths, rounded up and saturated at {@code Long.MAX_VALUE}
+     */
+    static long units(BigDecimal amount) {
+        BigDecimal units = amount.abs().movePointRight(SCALE).setScale(0, RoundingMode.CEILING);
+        return units.compareTo(MAX_UNITS) >= 0 ? Long.MAX_VALUE : units.longValue();
+    }
+}
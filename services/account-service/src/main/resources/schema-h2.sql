@@ -0,0 +1,85 @@
+CREATE TABLE IF NOT EXISTS accounts (
+    id              UUID            NOT NULL PRIMARY KEY,
+    user_id         BIGINT          NOT NULL,
+    account_type    VARCHAR(32)     NOT NULL,
+    currency        VARCHAR(3)      NOT NULL,
+    balance         DECIMAL(19, 4)  NOT NULL,
+    status          VARCHAR(16)     NOT NULL,
+    last_posting_seq BIGINT         NOT NULL DEFAULT 0,
+    version         BIGINT,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_accounts_user_id ON accounts (user_id);
+
+-- Append-only ledger; one row per credit or debit, keyed for sequential statement scans.
+CREATE TABLE IF NOT EXISTS postings (
+    account_id      UUID            NOT NULL,
+    seq             BIGINT          NOT NULL,
+    amount          DECIMAL(19, 4)  NOT NULL,
+    balance_after   DECIMAL(19, 4)  NOT NULL,
+    posted_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (account_id, seq)
+);
+
+-- Balance after every 1000th posting (BalanceCheckpoint.INTERVAL); kept when postings are archived.
+CREATE TABLE IF NOT EXISTS balance_checkpoints (
+    account_id      UUID            NOT NULL,
+    seq             BIGINT          NOT NULL,
+    balance         DECIMAL(19, 4)  NOT NULL,
+    posted_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (account_id, seq)
+);
+
+-- Kafka events already applied on this shard, so redeliveries are dropped; purged after a retention window.
+CREATE TABLE IF NOT EXISTS processed_events (
+    event_id        UUID            NOT NULL PRIMARY KEY,
+    processed_at    TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events (processed_at);
+
+-- Source of truth for idempotent mutations; Redis and the in-process LRU only front this table.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id                  UUID            NOT NULL PRIMARY KEY,
+    user_id             BIGINT          NOT NULL,
+    idempotency_key     VARCHAR(128)    NOT NULL,
+    request_fingerprint VARCHAR(64)     NOT NULL,
+    response_body       CLOB,
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at          TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_idempotency_user_key UNIQUE (user_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_expires_at ON idempotency_keys (expires_at);
+
+-- Key order of the interest accrual walk
+CREATE INDEX IF NOT EXISTS idx_accounts_user_id_id ON accounts (user_id, id);
+
+-- One cursor per user-id range of a day's interest accrual, advanced with each committed chunk.
+CREATE TABLE IF NOT EXISTS interest_accrual_checkpoints (
+    accrual_date    DATE            NOT NULL,
+    range_index     INT             NOT NULL,
+    range_start     BIGINT          NOT NULL,
+    range_end       BIGINT          NOT NULL,
+    last_user_id    BIGINT          NOT NULL,
+    last_account_id UUID            NOT NULL,
+    accounts        BIGINT          NOT NULL,
+    completed_at    TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (accrual_date, range_index)
+);
+
+-- Interest credited per accrual chunk and currency; the postings carry the per-account amounts.
+CREATE TABLE IF NOT EXISTS interest_journal (
+    id              UUID            NOT NULL PRIMARY KEY,
+    accrual_date    DATE            NOT NULL,
+    range_index     INT             NOT NULL,
+    currency        VARCHAR(3)      NOT NULL,
+    accounts        INT             NOT NULL,
+    total_interest  DECIMAL(19, 4)  NOT NULL,
+    first_account_id UUID           NOT NULL,
+    last_account_id UUID            NOT NULL,
+    posted_at       TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_interest_journal_accrual_date ON interest_journal (accrual_date);
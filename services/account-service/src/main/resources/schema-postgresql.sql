@@ -0,0 +1,118 @@
+-- PostgreSQL layout (spring.sql.init.platform=postgresql), applied to every shard.
+-- accounts is hash-partitioned on user_id: a user's accounts live in one partition, and the
+-- primary key leads with user_id so both per-user lookups are a single index probe in it.
+CREATE TABLE IF NOT EXISTS accounts (
+    id              UUID            NOT NULL,
+    user_id         BIGINT          NOT NULL,
+    account_type    VARCHAR(32)     NOT NULL,
+    currency        VARCHAR(3)      NOT NULL,
+    balance         NUMERIC(19, 4)  NOT NULL,
+    status          VARCHAR(16)     NOT NULL,
+    last_posting_seq BIGINT         NOT NULL DEFAULT 0,
+    version         BIGINT,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id, id)
+) PARTITION BY HASH (user_id);
+
+CREATE TABLE IF NOT EXISTS accounts_p00 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE IF NOT EXISTS accounts_p01 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE IF NOT EXISTS accounts_p02 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE IF NOT EXISTS accounts_p03 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE IF NOT EXISTS accounts_p04 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE IF NOT EXISTS accounts_p05 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE IF NOT EXISTS accounts_p06 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE IF NOT EXISTS accounts_p07 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE IF NOT EXISTS accounts_p08 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE IF NOT EXISTS accounts_p09 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE IF NOT EXISTS accounts_p10 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE IF NOT EXISTS accounts_p11 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE IF NOT EXISTS accounts_p12 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE IF NOT EXISTS accounts_p13 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE IF NOT EXISTS accounts_p14 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE IF NOT EXISTS accounts_p15 PARTITION OF accounts FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+
+-- Account.id is the entity key, so updates, findAllById and status changes filter on id alone; without
+-- user_id they cannot be pruned, and this makes them one index probe per partition rather than a scan
+CREATE INDEX IF NOT EXISTS idx_accounts_id ON accounts (id);
+
+-- Append-only ledger, range-partitioned by month on posted_at (partitions are created ahead and
+-- archived by PostingPartitionManager). The key is (account_id, seq) plus the partition column, and
+-- it carries the remaining columns so a statement range is an index-only scan in sequence order.
+-- Because it includes posted_at, the key alone does not keep (account_id, seq) unique: each partition
+-- has its own unique index on it, and across months an account's seq only moves on with its version.
+CREATE TABLE IF NOT EXISTS postings (
+    account_id      UUID            NOT NULL,
+    seq             BIGINT          NOT NULL,
+    amount          NUMERIC(19, 4)  NOT NULL,
+    balance_after   NUMERIC(19, 4)  NOT NULL,
+    posted_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (account_id, seq, posted_at) INCLUDE (amount, balance_after)
+) PARTITION BY RANGE (posted_at);
+
+-- Takes every posting while monthly partitions are not managed (ledger.partitions.enabled=false);
+-- PostingPartitionManager moves a month's rows out of it when it creates that month.
+CREATE TABLE IF NOT EXISTS postings_default PARTITION OF postings DEFAULT;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_postings_default_account_seq ON postings_default (account_id, seq);
+
+-- Balance after every 1000th posting (BalanceCheckpoint.INTERVAL); kept when postings are archived.
+CREATE TABLE IF NOT EXISTS balance_checkpoints (
+    account_id      UUID            NOT NULL,
+    seq             BIGINT          NOT NULL,
+    balance         NUMERIC(19, 4)  NOT NULL,
+    posted_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (account_id, seq)
+);
+
+-- Kafka events already applied on this shard, so redeliveries are dropped; purged after a retention window.
+CREATE TABLE IF NOT EXISTS processed_events (
+    event_id        UUID            NOT NULL PRIMARY KEY,
+    processed_at    TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events (processed_at);
+
+-- Source of truth for idempotent mutations; Redis and the in-process LRU only front this table.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id                  UUID            NOT NULL PRIMARY KEY,
+    user_id             BIGINT          NOT NULL,
+    idempotency_key     VARCHAR(128)    NOT NULL,
+    request_fingerprint VARCHAR(64)     NOT NULL,
+    response_body       TEXT,
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at          TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_idempotency_user_key UNIQUE (user_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_expires_at ON idempotency_keys (expires_at);
+
+-- Only the accounts the interest accrual walks, in its (user_id, id) order
+CREATE INDEX IF NOT EXISTS idx_accounts_savings_active ON accounts (user_id, id)
+    WHERE account_type = 'SAVINGS' AND status = 'ACTIVE';
+
+-- One cursor per user-id range of a day's interest accrual, advanced with each committed chunk.
+CREATE TABLE IF NOT EXISTS interest_accrual_checkpoints (
+    accrual_date    DATE            NOT NULL,
+    range_index     INT             NOT NULL,
+    range_start     BIGINT          NOT NULL,
+    range_end       BIGINT          NOT NULL,
+    last_user_id    BIGINT          NOT NULL,
+    last_account_id UUID            NOT NULL,
+    accounts        BIGINT          NOT NULL,
+    completed_at    TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (accrual_date, range_index)
+);
+
+-- Interest credited per accrual chunk and currency; the postings carry the per-account amounts.
+CREATE TABLE IF NOT EXISTS interest_journal (
+    id              UUID            NOT NULL PRIMARY KEY,
+    accrual_date    DATE            NOT NULL,
+    range_index     INT             NOT NULL,
+    currency        VARCHAR(3)      NOT NULL,
+    accounts        INT             NOT NULL,
+    total_interest  NUMERIC(19, 4)  NOT NULL,
+    first_account_id UUID           NOT NULL,
+    last_account_id UUID            NOT NULL,
+    posted_at       TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_interest_journal_accrual_date ON interest_journal (accrual_date);
@@ -0,0 +1,65 @@
+package com.titanbank.account.fx;
+
+import com.titanbank.account.domain.enums.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FxRateTableTest {
+
+    private static final FxRateTable RATES = FxRateTable.of(Currency.USD,
+            Map.of(Currency.EUR, new BigDecimal("0.9214"), Currency.INR, new BigDecimal("83.2650")),
+            Instant.EPOCH);
+
+    @Test
+    void testConvert_DirectAndCrossRates() {
+        // 100.00 USD -> 92.14 EUR, 8326.50 INR; EUR -> INR goes through the precomputed cross rate
+        assertThat(RATES.convert(10_000, Currency.USD, Currency.EUR, RoundingMode.HALF_EVEN)).isEqualTo(9_214);
+        assertThat(RATES.convert(10_000, Currency.USD, Currency.INR, RoundingMode.HALF_EVEN)).isEqualTo(832_650);
+        assertThat(RATES.convert(9_214, Currency.EUR, Currency.INR, RoundingMode.HALF_EVEN)).isEqualTo(832_650);
+        assertThat(RATES.rate(Currency.EUR, Currency.INR)).isEqualByComparingTo("90.367918385");
+        assertThat(RATES.convert(123, Currency.EUR, Currency.EUR, RoundingMode.UNNECESSARY)).isEqualTo(123);
+    }
+
+    @Test
+    void testConvert_RoundingModes() {
+        // 1.25 USD = 1.15175 EUR and 0.05 USD = 0.04607 EUR, as minor units 115.175 and 4.607
+        assertThat(RATES.convert(125, Currency.USD, Currency.EUR, RoundingMode.DOWN)).isEqualTo(115);
+        assertThat(RATES.convert(125, Currency.USD, Currency.EUR, RoundingMode.UP)).isEqualTo(116);
+        assertThat(RATES.convert(125, Currency.USD, Currency.EUR, RoundingMode.HALF_EVEN)).isEqualTo(115);
+        assertThat(RATES.convert(5, Currency.USD, Currency.EUR, RoundingMode.HALF_EVEN)).isEqualTo(5);
+        assertThat(RATES.convert(-125, Currency.USD, Currency.EUR, RoundingMode.FLOOR)).isEqualTo(-116);
+        assertThat(RATES.convert(-125, Currency.USD, Currency.EUR, RoundingMode.CEILING)).isEqualTo(-115);
+        assertThatThrownBy(() -> RATES.convert(125, Currency.USD, Currency.EUR, RoundingMode.UNNECESSARY))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void testMultiplyDivide_TiesAndValuesBeyond64BitProducts() {
+        // Exact halves follow the rounding mode
+        assertThat(FxRateTable.multiplyDivide(5, 100_000_000L, RoundingMode.HALF_EVEN)).isEqualTo(0);
+        assertThat(FxRateTable.multiplyDivide(15, 100_000_000L, RoundingMode.HALF_EVEN)).isEqualTo(2);
+        assertThat(FxRateTable.multiplyDivide(5, 100_000_000L, RoundingMode.HALF_UP)).isEqualTo(1);
+        assertThat(FxRateTable.multiplyDivide(5, 100_000_000L, RoundingMode.HALF_DOWN)).isEqualTo(0);
+
+        // 10^15 minor units at rate 83.265 needs a 128-bit intermediate product
+        long amount = 1_000_000_000_000_000L;
+        assertThat(FxRateTable.multiplyDivide(amount, 83_265_000_000L, RoundingMode.HALF_EVEN))
+                .isEqualTo(83_265_000_000_000_000L);
+        assertThatThrownBy(() -> FxRateTable.multiplyDivide(Long.MAX_VALUE, 2_000_000_000L, RoundingMode.DOWN))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void testOf_RequiresEveryCurrency() {
+        assertThatThrownBy(() -> FxRateTable.of(Currency.USD, Map.of(Currency.EUR, BigDecimal.ONE), Instant.EPOCH))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("INR");
+    }
+}
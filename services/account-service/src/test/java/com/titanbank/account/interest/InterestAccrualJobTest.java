@@ -0,0 +1,182 @@
+package com.titanbank.account.interest;
+
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.repository.InterestAccrualRepository;
+import com.titanbank.account.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InterestAccrualJobTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 30);
+    private static final int SAVINGS_ACCOUNTS = 250;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:interest-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // Given - 250 active USD savings accounts of 1000 each, spread over users, plus ineligible ones
+        List<Object[]> accounts = new ArrayList<>();
+        for (int i = 0; i < SAVINGS_ACCOUNTS; i++) {
+            accounts.add(account(1_000 + i * 7L, "SAVINGS", "ACTIVE", "1000"));
+        }
+        accounts.add(account(5, "CHECKING", "ACTIVE", "1000"));
+        accounts.add(account(6, "SAVINGS", "FROZEN", "1000"));
+        accounts.add(account(7, "SAVINGS", "ACTIVE", "0"));
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO accounts (id, user_id, account_type, currency, balance, status, last_posting_seq,
+                                      version, created_at)
+                VALUES (?, ?, ?, 'USD', ?, ?, 0, 0, ?)""", accounts);
+    }
+
+    @Test
+    void testRun_CreditsOnlyActiveSavingsWithJournalPerChunk() {
+        // When
+        InterestAccrualJob.Run run = job(new InterestAccrualRepository(jdbcTemplate)).run(DAY);
+
+        // Then - 1000 * 0.0365 / 365 = 0.1 per account, journal totals match the postings
+        assertThat(run.isComplete()).isTrue();
+        assertThat(run.accounts()).isEqualTo(SAVINGS_ACCOUNTS + 1);
+        assertThat(count("SELECT COUNT(*) FROM postings WHERE amount = 0.1")).isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(count("SELECT COUNT(*) FROM postings")).isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(count("SELECT COUNT(*) FROM accounts WHERE balance = 1000.1 AND last_posting_seq = 1"))
+                .isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(total_interest) FROM interest_journal", BigDecimal.class))
+                .isEqualByComparingTo("25");
+        assertThat(count("SELECT SUM(accounts) FROM interest_journal")).isEqualTo(SAVINGS_ACCOUNTS);
+    }
+
+    @Test
+    void testRun_SecondRunOfSameDayCreditsNothing() {
+        // Given
+        InterestAccrualJob job = job(new InterestAccrualRepository(jdbcTemplate));
+        job.run(DAY);
+
+        // When
+        InterestAccrualJob.Run rerun = job.run(DAY);
+
+        // Then
+        assertThat(rerun.isComplete()).isTrue();
+        assertThat(count("SELECT COUNT(*) FROM postings")).isEqualTo(SAVINGS_ACCOUNTS);
+    }
+
+    @Test
+    void testRun_ResumesInterruptedRunWithoutDoubleCredit() {
+        // Given - a run that dies on its third chunk with credits
+        InterestAccrualRepository failing = new InterestAccrualRepository(jdbcTemplate) {
+            private int chunks;
+
+            @Override
+            public synchronized void credit(List<Credit> credits, Instant postedAt) {
+                if (!credits.isEmpty() && ++chunks == 3) {
+                    throw new IllegalStateException("Connection lost");
+                }
+                super.credit(credits, postedAt);
+            }
+        };
+        assertThatThrownBy(() -> job(failing).run(DAY)).isInstanceOf(IllegalStateException.class);
+        assertThat(count("SELECT COUNT(*) FROM postings")).isBetween(1L, SAVINGS_ACCOUNTS - 1L);
+
+        // When
+        InterestAccrualJob.Run resumed = job(new InterestAccrualRepository(jdbcTemplate)).run(DAY);
+
+        // Then - every account credited exactly once
+        assertThat(resumed.isComplete()).isTrue();
+        assertThat(count("SELECT COUNT(*) FROM postings")).isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(count("SELECT COUNT(*) FROM accounts WHERE balance = 1000.1")).isEqualTo(SAVINGS_ACCOUNTS);
+    }
+
+    @Test
+    void testRun_PostingCommittedMidRun_KeepsPostingTimesInSequenceOrder() {
+        // Given - a credit to the last account commits while the first chunk is being written
+        UUID lastAccount = jdbcTemplate.queryForObject(
+                "SELECT id FROM accounts WHERE account_type = 'SAVINGS' ORDER BY user_id DESC LIMIT 1", UUID.class);
+        TransactionTemplate separate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        separate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        InterestAccrualRepository postingMidRun = new InterestAccrualRepository(jdbcTemplate) {
+            private boolean posted;
+
+            @Override
+            public synchronized void credit(List<Credit> credits, Instant postedAt) {
+                if (!posted) {
+                    posted = true;
+                    separate.executeWithoutResult(status -> postCredit(lastAccount, "10"));
+                }
+                super.credit(credits, postedAt);
+            }
+        };
+
+        // When
+        job(postingMidRun).run(DAY);
+
+        // Then - the accrual follows the credit in both sequence and time
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT amount FROM postings WHERE account_id = ? AND seq = 2", BigDecimal.class, lastAccount))
+                .isEqualByComparingTo("0.101");
+        assertThat(count("""
+                SELECT COUNT(*) FROM postings earlier JOIN postings later
+                  ON later.account_id = earlier.account_id AND later.seq > earlier.seq
+                WHERE later.posted_at < earlier.posted_at""")).isZero();
+    }
+
+    private InterestAccrualJob job(InterestAccrualRepository repository) {
+        InterestProperties properties = new InterestProperties();
+        properties.setAnnualRates(Map.of(Currency.USD, new BigDecimal("0.0365")));
+        properties.setRanges(4);
+        properties.setChunkSize(20);
+        properties.setParallelism(2);
+        return new InterestAccrualJob(repository, new DataSourceTransactionManager(dataSource),
+                new ShardRouter(1), properties);
+    }
+
+    private void postCredit(UUID accountId, String amount) {
+        try {
+            // Strictly after the run started
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        jdbcTemplate.update("""
+                INSERT INTO postings (account_id, seq, amount, balance_after, posted_at)
+                SELECT id, last_posting_seq + 1, ?, balance + ?, ? FROM accounts WHERE id = ?""",
+                new BigDecimal(amount), new BigDecimal(amount), Timestamp.from(Instant.now()), accountId);
+        jdbcTemplate.update("""
+                UPDATE accounts SET balance = balance + ?, last_posting_seq = last_posting_seq + 1,
+                                    version = version + 1
+                WHERE id = ?""", new BigDecimal(amount), accountId);
+    }
+
+    private static Object[] account(long userId, String type, String status, String balance) {
+        return new Object[]{UUID.randomUUID(), userId, type, new BigDecimal(balance), status,
+                Timestamp.from(Instant.parse("2025-01-01T00:00:00Z"))};
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.titanbank.account.repository;
+
+import com.titanbank.account.dto.response.BalanceAsOfResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import(BalanceHistoryRepository.class)
+class BalanceHistoryRepositoryTest {
+
+    private static final Instant OPENED = Instant.parse("2025-01-01T00:00:00Z");
+    private static final int POSTINGS = 2500;
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID idleAccountId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // Given - one credit of 1 per second, checkpoints at 1000 and 2000, and an account never posted to
+        insertAccount(accountId, POSTINGS);
+        insertAccount(idleAccountId, 0);
+
+        List<Object[]> postings = new ArrayList<>();
+        List<Object[]> checkpoints = new ArrayList<>();
+        for (int seq = 1; seq <= POSTINGS; seq++) {
+            Timestamp postedAt = Timestamp.from(OPENED.plusSeconds(seq));
+            postings.add(new Object[]{accountId, seq, BigDecimal.ONE, BigDecimal.valueOf(seq), postedAt});
+            if (seq % 1000 == 0) {
+                checkpoints.add(new Object[]{accountId, seq, BigDecimal.valueOf(seq), postedAt});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO postings (account_id, seq, amount, balance_after, posted_at) VALUES (?, ?, ?, ?, ?)",
+                postings);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO balance_checkpoints (account_id, seq, balance, posted_at) VALUES (?, ?, ?, ?)",
+                checkpoints);
+    }
+
+    @Test
+    void testBalanceAt_BetweenCheckpoints() {
+        assertThat(balanceAt(accountId, OPENED.plusMillis(1_500_500))).isEqualByComparingTo("1500");
+    }
+
+    @Test
+    void testBalanceAt_BeforeFirstCheckpoint() {
+        assertThat(balanceAt(accountId, OPENED.plusSeconds(999))).isEqualByComparingTo("999");
+    }
+
+    @Test
+    void testBalanceAt_ExactlyOnCheckpoint() {
+        assertThat(balanceAt(accountId, OPENED.plusSeconds(2000))).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    void testBalanceAt_AfterLastPosting() {
+        assertThat(balanceAt(accountId, OPENED.plusSeconds(10_000))).isEqualByComparingTo("2500");
+    }
+
+    @Test
+    void testBalanceAt_BatchOmitsUnknownAndNotYetOpened() {
+        // When
+        List<BalanceAsOfResponse> balances = balanceHistoryRepository.findBalancesAt(
+                List.of(accountId, idleAccountId, UUID.randomUUID()), OPENED.plusSeconds(10));
+
+        // Then
+        assertThat(balances)
+                .extracting(BalanceAsOfResponse::getAccountId, BalanceAsOfResponse::getSeq)
+                .containsExactlyInAnyOrder(
+                        tuple(accountId, 10L),
+                        tuple(idleAccountId, 0L));
+        assertThat(balanceHistoryRepository.findBalancesAt(List.of(accountId), OPENED.minusSeconds(1))).isEmpty();
+    }
+
+    private BigDecimal balanceAt(UUID id, Instant at) {
+        List<BalanceAsOfResponse> balances = balanceHistoryRepository.findBalancesAt(List.of(id), at);
+        assertThat(balances).hasSize(1);
+        return balances.get(0).getBalance();
+    }
+
+    private void insertAccount(UUID id, long lastPostingSeq) {
+        jdbcTemplate.update("""
+                INSERT INTO accounts (id, user_id, account_type, currency, balance, status, last_posting_seq, version, created_at)
+                VALUES (?, 1, 'SAVINGS', 'USD', ?, 'ACTIVE', ?, 0, ?)""",
+                id, BigDecimal.valueOf(lastPostingSeq), lastPostingSeq, Timestamp.from(OPENED));
+    }
+}
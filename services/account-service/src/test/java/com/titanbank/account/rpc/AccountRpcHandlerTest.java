@@ -0,0 +1,154 @@
+package com.titanbank.account.rpc;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.fx.FxRates;
+import com.titanbank.account.repository.AccountRepository;
+import com.titanbank.account.repository.IdempotencyRecordRepository;
+import com.titanbank.account.repository.PostingRepository;
+import com.titanbank.account.service.impl.AccountServiceImpl;
+import com.titanbank.account.service.impl.IdempotencyServiceImpl;
+import com.titanbank.account.sharding.ShardingConfig;
+import com.titanbank.account.velocity.VelocityGuard;
+import com.titanbank.rpc.AccountBalance;
+import com.titanbank.rpc.BalanceQuery;
+import com.titanbank.rpc.BalanceResult;
+import com.titanbank.rpc.PostingCommand;
+import com.titanbank.rpc.PostingDirection;
+import com.titanbank.rpc.PostingResult;
+import com.titanbank.rpc.RpcStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Postings commit their own transactions, as they do behind the controller
+@DataJpaTest(properties = "idempotency.redis.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({AccountRpcHandler.class, AccountServiceImpl.class, IdempotencyServiceImpl.class, ShardingConfig.class,
+        FxRates.class, SimpleMeterRegistry.class})
+class AccountRpcHandlerTest {
+
+    private static final long USER_ID = 42L;
+
+    @Autowired
+    private AccountRpcHandler handler;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PostingRepository postingRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @MockBean
+    private VelocityGuard velocityGuard;
+
+    private Account checking;
+    private Account savings;
+
+    @BeforeEach
+    void setUp() {
+        checking = accountRepository.save(Account.create(USER_ID, AccountType.CURRENT, Currency.USD));
+        savings = accountRepository.save(Account.create(USER_ID, AccountType.SAVINGS, Currency.EUR));
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyRecordRepository.deleteAll();
+        postingRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    void testPostAll_EachPostingStandsAlone() {
+        // Given - a credit, an overdraft, another user's account and a valid debit
+        Account stranger = accountRepository.save(Account.create(7L, AccountType.SAVINGS, Currency.USD));
+        List<PostingCommand> batch = List.of(
+                command(null, checking, PostingDirection.CREDIT, "100.00"),
+                command(null, checking, PostingDirection.DEBIT, "150.00"),
+                command(null, stranger, PostingDirection.CREDIT, "10.00"),
+                command(null, checking, PostingDirection.DEBIT, "30.00"));
+
+        // When
+        List<PostingResult> results = handler.postAll(batch);
+
+        // Then
+        assertThat(results).extracting(PostingResult::status).containsExactly(
+                RpcStatus.OK, RpcStatus.FAILED_PRECONDITION, RpcStatus.INVALID_ARGUMENT, RpcStatus.OK);
+        assertThat(results.get(0).balance()).isEqualByComparingTo("100.00");
+        assertThat(results.get(3).balance()).isEqualByComparingTo("70.00");
+        assertThat(accountRepository.findById(checking.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("70.00");
+        assertThat(accountRepository.findById(stranger.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("0");
+    }
+
+    @Test
+    void testPost_RetriedRequestIdIsAppliedOnce() {
+        // Given
+        UUID requestId = UUID.randomUUID();
+        PostingCommand credit = command(requestId, savings, PostingDirection.CREDIT, "25.50");
+
+        // When
+        PostingResult first = handler.post(credit);
+        PostingResult retry = handler.post(credit);
+        PostingResult reused = handler.post(command(requestId, savings, PostingDirection.CREDIT, "99.00"));
+
+        // Then
+        assertThat(first.isOk()).isTrue();
+        assertThat(retry).isEqualTo(first);
+        assertThat(reused.status()).isEqualTo(RpcStatus.FAILED_PRECONDITION);
+        assertThat(accountRepository.findById(savings.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("25.50");
+    }
+
+    @Test
+    void testPost_InvalidAmountIsRejectedBeforeTouchingTheAccount() {
+        // When
+        PostingResult negative = handler.post(command(null, checking, PostingDirection.CREDIT, "-1"));
+        PostingResult tooPrecise = handler.post(command(null, checking, PostingDirection.CREDIT, "0.00001"));
+
+        // Then
+        assertThat(negative.status()).isEqualTo(RpcStatus.INVALID_ARGUMENT);
+        assertThat(tooPrecise.status()).isEqualTo(RpcStatus.INVALID_ARGUMENT);
+        assertThat(postingRepository.count()).isZero();
+    }
+
+    @Test
+    void testGetBalances_SelectedAllAndUnknown() {
+        // When
+        BalanceResult selected = handler.getBalances(new BalanceQuery(USER_ID, List.of(savings.getId())));
+        BalanceResult all = handler.getBalances(new BalanceQuery(USER_ID, List.of()));
+        BalanceResult unknown = handler.getBalances(new BalanceQuery(USER_ID, List.of(UUID.randomUUID())));
+
+        // Then
+        assertThat(selected.accounts()).extracting(AccountBalance::accountId).containsExactly(savings.getId());
+        assertThat(selected.accounts().get(0).currency()).isEqualTo("EUR");
+        assertThat(all.accounts()).extracting(AccountBalance::accountId)
+                .containsExactlyInAnyOrder(checking.getId(), savings.getId());
+        assertThat(unknown.status()).isEqualTo(RpcStatus.NOT_FOUND);
+    }
+
+    private static PostingCommand command(UUID requestId, Account account, PostingDirection direction, String amount) {
+        return new PostingCommand(requestId, account.getId(), USER_ID, direction, new BigDecimal(amount));
+    }
+}
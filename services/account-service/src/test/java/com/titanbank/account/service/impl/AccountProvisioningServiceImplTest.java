@@ -0,0 +1,79 @@
+package com.titanbank.account.service.impl;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.enums.AccountStatus;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.repository.AccountRepository;
+import com.titanbank.account.sharding.ShardingConfig;
+import com.titanbank.events.UserRegisteredEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({AccountProvisioningServiceImpl.class, ShardingConfig.class})
+class AccountProvisioningServiceImplTest {
+
+    @Autowired
+    private AccountProvisioningServiceImpl provisioningService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    void testRegistrations_OpenOneDefaultAccountPerUser() {
+        // When
+        int created = provisioningService.provisionDefaultAccounts(List.of(event(1L), event(2L), event(3L)));
+
+        // Then
+        assertThat(created).isEqualTo(3);
+        assertThat(accountRepository.findAllByUserId(2L))
+                .extracting(Account::getAccountType, Account::getCurrency, Account::getStatus)
+                .containsExactly(tuple(AccountType.SAVINGS, Currency.USD, AccountStatus.ACTIVE));
+    }
+
+    @Test
+    void testRedeliveredEvents_AreSkipped() {
+        // Given
+        UserRegisteredEvent first = event(1L);
+        provisioningService.provisionDefaultAccounts(List.of(first));
+
+        // When - the same event again, in a later batch and twice within one batch
+        int created = provisioningService.provisionDefaultAccounts(List.of(first, event(2L), first));
+
+        // Then
+        assertThat(created).isEqualTo(1);
+        assertThat(accountRepository.findAllByUserId(1L)).hasSize(1);
+        assertThat(accountRepository.findAllByUserId(2L)).hasSize(1);
+    }
+
+    @Test
+    void testUserWithAccount_IsNotProvisionedAgain() {
+        // Given - opened through the API before the event was consumed
+        accountRepository.save(Account.create(7L, AccountType.CURRENT, Currency.EUR));
+
+        // When
+        int created = provisioningService.provisionDefaultAccounts(List.of(event(7L)));
+
+        // Then
+        assertThat(created).isZero();
+        assertThat(accountRepository.findAllByUserId(7L))
+                .extracting(Account::getAccountType)
+                .containsExactly(AccountType.CURRENT);
+    }
+
+    private static UserRegisteredEvent event(Long userId) {
+        return UserRegisteredEvent.builder()
+                .eventId(UUID.randomUUID())
+                .userId(userId)
+                .build();
+    }
+}
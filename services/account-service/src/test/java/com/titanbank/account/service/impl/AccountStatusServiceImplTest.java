@@ -0,0 +1,140 @@
+package com.titanbank.account.service.impl;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.enums.AccountStatus;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.dto.response.BulkStatusChangeResponse;
+import com.titanbank.account.repository.AccountRepository;
+import com.titanbank.account.repository.AccountStatusRepository;
+import com.titanbank.account.sharding.ShardingConfig;
+import com.titanbank.events.AccountStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "account-status.chunk-size=2")
+@Import({AccountStatusServiceImpl.class, AccountStatusRepository.class, ShardingConfig.class, SimpleMeterRegistry.class})
+class AccountStatusServiceImplTest {
+
+    @Autowired
+    private AccountStatusServiceImpl accountStatusService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private Account active;
+    private Account frozen;
+    private Account closed;
+    private Account otherActive;
+
+    @BeforeEach
+    void setUp() {
+        // Given - user 1 with an active and a closed account, user 2 frozen, user 3 active
+        active = Account.create(1L, AccountType.CURRENT, Currency.USD);
+        closed = Account.create(1L, AccountType.SAVINGS, Currency.USD);
+        closed.close();
+        frozen = Account.create(2L, AccountType.CURRENT, Currency.EUR);
+        frozen.freeze();
+        otherActive = Account.create(3L, AccountType.CURRENT, Currency.INR);
+        accountRepository.saveAllAndFlush(List.of(active, closed, frozen, otherActive));
+        entityManager.clear();
+    }
+
+    @Test
+    void testFreeze_ChangesOpenAccountsAndLeavesClosedOnes() {
+        // When
+        BulkStatusChangeResponse response = accountStatusService.changeStatus(
+                List.of(1L, 2L, 3L, 3L, 99L), AccountStatus.FROZEN, "Sanctions list update");
+
+        // Then
+        assertThat(response.getUsers()).isEqualTo(4);
+        assertThat(response.getChanged()).isEqualTo(2);
+        assertThat(response.getUnchanged()).isEqualTo(1);
+        assertThat(response.getRefused()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(reload(active).getStatus()).isEqualTo(AccountStatus.FROZEN);
+        assertThat(reload(active).getVersion()).isEqualTo(active.getVersion() + 1);
+        assertThat(reload(otherActive).getStatus()).isEqualTo(AccountStatus.FROZEN);
+        assertThat(reload(frozen).getVersion()).isEqualTo(frozen.getVersion());
+        assertThat(reload(closed).getStatus()).isEqualTo(AccountStatus.CLOSED);
+    }
+
+    @Test
+    void testRepeatedRequest_ChangesNothing() {
+        // Given
+        accountStatusService.changeStatus(List.of(1L, 2L, 3L), AccountStatus.CLOSED, "Offboarding");
+
+        // When
+        BulkStatusChangeResponse repeated = accountStatusService.changeStatus(
+                List.of(1L, 2L, 3L), AccountStatus.CLOSED, "Offboarding");
+
+        // Then
+        assertThat(repeated.getChanged()).isZero();
+        assertThat(repeated.getUnchanged()).isEqualTo(4);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCommittedChunks_PublishOneEventEach() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When - chunks of two users: {1, 2} and {3}
+        accountStatusService.changeStatus(List.of(1L, 2L, 3L), AccountStatus.FROZEN, "Case 4411");
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // Then
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(2)).send(eq("account-status-changes"), anyString(), events.capture());
+        assertThat(events.getAllValues()).map(AccountStatusChangedEvent.class::cast)
+                .flatExtracting(AccountStatusChangedEvent::getAccountIds)
+                .containsExactlyInAnyOrder(active.getId(), otherActive.getId());
+        assertThat(events.getAllValues()).map(AccountStatusChangedEvent.class::cast)
+                .allSatisfy(event -> assertThat(event.getReason()).isEqualTo("Case 4411"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // A test that committed leaves its accounts behind for the rest of the shared context
+        if (!TestTransaction.isActive()) {
+            TestTransaction.start();
+            accountRepository.deleteAllInBatch();
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    private Account reload(Account account) {
+        return accountRepository.findById(account.getId()).orElseThrow();
+    }
+}
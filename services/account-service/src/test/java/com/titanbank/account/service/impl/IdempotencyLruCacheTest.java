@@ -0,0 +1,58 @@
+package com.titanbank.account.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyLruCacheTest {
+
+    @Test
+    void testGet_ReturnsStoredEntry() {
+        // Given
+        IdempotencyLruCache cache = new IdempotencyLruCache(4);
+        cache.put("user:key-1", new IdempotencyLruCache.Entry("fp", "{\"ok\":true}", 1_000L));
+
+        // When
+        IdempotencyLruCache.Entry entry = cache.get("user:key-1", 500L);
+
+        // Then
+        assertThat(entry).isNotNull();
+        assertThat(entry.fingerprint()).isEqualTo("fp");
+        assertThat(entry.responseBody()).isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void testGet_DropsExpiredEntry() {
+        // Given
+        IdempotencyLruCache cache = new IdempotencyLruCache(4);
+        cache.put("user:key-1", new IdempotencyLruCache.Entry("fp", "{}", 1_000L));
+
+        // When & Then
+        assertThat(cache.get("user:key-1", 1_000L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsed() {
+        // Given
+        IdempotencyLruCache cache = new IdempotencyLruCache(2);
+        cache.put("a", new IdempotencyLruCache.Entry("fp", "{}", Long.MAX_VALUE));
+        cache.put("b", new IdempotencyLruCache.Entry("fp", "{}", Long.MAX_VALUE));
+
+        // When: touch "a" so "b" becomes the eldest
+        cache.get("a", 0L);
+        cache.put("c", new IdempotencyLruCache.Entry("fp", "{}", Long.MAX_VALUE));
+
+        // Then
+        assertThat(cache.get("a", 0L)).isNotNull();
+        assertThat(cache.get("b", 0L)).isNull();
+        assertThat(cache.get("c", 0L)).isNotNull();
+    }
+
+    @Test
+    void testConstructor_RejectsNonPositiveSize() {
+        assertThatThrownBy(() -> new IdempotencyLruCache(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
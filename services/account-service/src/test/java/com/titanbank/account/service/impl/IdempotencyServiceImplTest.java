@@ -0,0 +1,264 @@
+package com.titanbank.account.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.titanbank.account.domain.entity.IdempotencyRecord;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.dto.response.TransferResponse;
+import com.titanbank.account.exception.IdempotencyKeyReuseException;
+import com.titanbank.account.exception.IdempotentRequestInProgressException;
+import com.titanbank.account.repository.IdempotencyRecordRepository;
+import com.titanbank.account.sharding.ShardRouter;
+import com.titanbank.account.sharding.ShardingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Claims commit their own transactions, so a second service instance sees them as another node would
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ShardingConfig.class)
+class IdempotencyServiceImplTest {
+
+    private static final Long USER_ID = 42L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicInteger mutations = new AtomicInteger();
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        idempotencyRecordRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testExecute_RepeatedKey_ReplaysStoredResponse() {
+        // Given
+        IdempotencyServiceImpl service = service(null);
+        TransferResponse first = service.execute(USER_ID, "key-1", "transfer:10.00", TransferResponse.class,
+                this::transfer);
+
+        // When
+        TransferResponse replayed = service.execute(USER_ID, "key-1", "transfer:10.00", TransferResponse.class,
+                this::transfer);
+
+        // Then
+        assertThat(mutations).hasValue(1);
+        assertThat(replayed).isEqualTo(first);
+        assertThat(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(USER_ID, "key-1"))
+                .hasValueSatisfying(record -> assertThat(record.isCompleted()).isTrue());
+    }
+
+    @Test
+    void testExecute_SameKeyDifferentRequest_Rejected() {
+        // Given
+        IdempotencyServiceImpl service = service(null);
+        service.execute(USER_ID, "key-1", "transfer:10.00", TransferResponse.class, this::transfer);
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(USER_ID, "key-1", "transfer:99.00", TransferResponse.class,
+                this::transfer))
+                .isInstanceOf(IdempotencyKeyReuseException.class)
+                .satisfies(e -> assertThat(((IdempotencyKeyReuseException) e).getHttpStatus())
+                        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThat(mutations).hasValue(1);
+    }
+
+    @Test
+    void testExecute_KeyClaimedByAnotherInstance_ReplaysFromDatabase() {
+        // Given - the other instance's front tiers are the only ones that know the key
+        TransferResponse first = service(null).execute(USER_ID, "key-1", "transfer:10.00", TransferResponse.class,
+                this::transfer);
+
+        // When
+        TransferResponse replayed = service(null).execute(USER_ID, "key-1", "transfer:10.00",
+                TransferResponse.class, this::transfer);
+
+        // Then
+        assertThat(mutations).hasValue(1);
+        assertThat(replayed).isEqualTo(first);
+    }
+
+    @Test
+    void testExecute_KeyClaimedButNotCompleted_ReportsInProgress() {
+        // Given
+        idempotencyRecordRepository.save(IdempotencyRecord.claim(USER_ID, "key-1",
+                "0".repeat(64), Instant.now().plus(Duration.ofHours(1))));
+
+        // When & Then
+        assertThatThrownBy(() -> service(null).execute(USER_ID, "key-1", "transfer:10.00",
+                TransferResponse.class, this::transfer))
+                .isInstanceOf(IdempotentRequestInProgressException.class);
+        assertThat(mutations).hasValue(0);
+    }
+
+    @Test
+    void testExecute_ConcurrentDuplicate_WaitsForFirstAndReplaysIt() throws Exception {
+        // Given - the first request holds its claim until released
+        IdempotencyServiceImpl service = service(null);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<TransferResponse> first = executor.submit(() -> service.execute(USER_ID, "key-1",
+                    "transfer:10.00", TransferResponse.class, () -> {
+                        claimed.countDown();
+                        await(release);
+                        return transfer();
+                    }));
+            assertThat(claimed.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When - the duplicate blocks on the key's unique index until the first commits
+            Future<TransferResponse> duplicate = executor.submit(() -> service.execute(USER_ID, "key-1",
+                    "transfer:10.00", TransferResponse.class, this::transfer));
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            assertThat(duplicate.get(10, TimeUnit.SECONDS)).isEqualTo(first.get(10, TimeUnit.SECONDS));
+            assertThat(mutations).hasValue(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecute_RedisUnavailable_FallsBackToDatabase() {
+        // Given
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        when(redis.opsForHash()).thenThrow(new RedisConnectionFailureException("Connection refused"));
+        TransferResponse first = service(redis).execute(USER_ID, "key-1", "transfer:10.00",
+                TransferResponse.class, this::transfer);
+
+        // When
+        TransferResponse replayed = service(redis).execute(USER_ID, "key-1", "transfer:10.00",
+                TransferResponse.class, this::transfer);
+
+        // Then
+        assertThat(mutations).hasValue(1);
+        assertThat(replayed).isEqualTo(first);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecute_RedisHit_ReplaysWithoutDatabase() {
+        // Given - what the first instance wrote to Redis; the table no longer has the key
+        StringRedisTemplate writer = mock(StringRedisTemplate.class);
+        HashOperations<String, Object, Object> written = mock(HashOperations.class);
+        doReturn(written).when(writer).opsForHash();
+        TransferResponse first = service(writer).execute(USER_ID, "key-1", "transfer:10.00",
+                TransferResponse.class, this::transfer);
+        ArgumentCaptor<Map<Object, Object>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(written).putAll(eq("idempotency:42:key-1"), fields.capture());
+        idempotencyRecordRepository.deleteAllInBatch();
+
+        StringRedisTemplate reader = mock(StringRedisTemplate.class);
+        HashOperations<String, Object, Object> stored = mock(HashOperations.class);
+        doReturn(stored).when(reader).opsForHash();
+        when(stored.entries("idempotency:42:key-1")).thenReturn(fields.getValue());
+        when(reader.getExpire("idempotency:42:key-1")).thenReturn(3600L);
+
+        // When
+        TransferResponse replayed = service(reader).execute(USER_ID, "key-1", "transfer:10.00",
+                TransferResponse.class, this::transfer);
+
+        // Then
+        assertThat(mutations).hasValue(1);
+        assertThat(replayed).isEqualTo(first);
+        assertThat(idempotencyRecordRepository.count()).isZero();
+        verify(stored, never()).putAll(anyString(), anyMap());
+    }
+
+    @Test
+    void testPurgeExpiredKeys_RemovesOnlyExpired() {
+        // Given
+        IdempotencyRecord expired = IdempotencyRecord.claim(USER_ID, "old", "0".repeat(64),
+                Instant.now().minus(Duration.ofMinutes(1)));
+        expired.complete("{}");
+        IdempotencyRecord live = IdempotencyRecord.claim(USER_ID, "new", "0".repeat(64),
+                Instant.now().plus(Duration.ofHours(1)));
+        live.complete("{}");
+        idempotencyRecordRepository.save(expired);
+        idempotencyRecordRepository.save(live);
+
+        // When
+        service(null).purgeExpiredKeys();
+
+        // Then
+        assertThat(idempotencyRecordRepository.findAll())
+                .extracting(IdempotencyRecord::getIdempotencyKey)
+                .containsExactly("new");
+    }
+
+    @SuppressWarnings("unchecked")
+    private IdempotencyServiceImpl service(StringRedisTemplate redis) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redis);
+        return new IdempotencyServiceImpl(idempotencyRecordRepository, shardRouter, transactionManager,
+                objectMapper, provider, Duration.ofHours(24), 100, redis != null);
+    }
+
+    private TransferResponse transfer() {
+        mutations.incrementAndGet();
+        return TransferResponse.builder()
+                .fromAccountId(UUID.randomUUID())
+                .toAccountId(UUID.randomUUID())
+                .debitedAmount(new BigDecimal("10.00"))
+                .debitedCurrency(Currency.USD)
+                .creditedAmount(new BigDecimal("10.00"))
+                .creditedCurrency(Currency.USD)
+                .rate(BigDecimal.ONE)
+                .rateAsOf(Instant.parse("2026-10-19T09:00:00Z"))
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.titanbank.account.service.impl;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.dto.response.PostingResponse;
+import com.titanbank.account.dto.response.StatementPageResponse;
+import com.titanbank.account.dto.response.TransferResponse;
+import com.titanbank.account.repository.BalanceHistoryRepository;
+import com.titanbank.account.fx.FxRates;
+import com.titanbank.account.sharding.ShardingConfig;
+import com.titanbank.account.velocity.VelocityGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({AccountServiceImpl.class, LedgerServiceImpl.class, BalanceHistoryRepository.class, ShardingConfig.class,
+        FxRates.class, SimpleMeterRegistry.class})
+class LedgerServiceImplTest {
+
+    private static final Long USER_ID = 42L;
+
+    @Autowired
+    private AccountServiceImpl accountService;
+
+    @Autowired
+    private LedgerServiceImpl ledgerService;
+
+    // Velocity limits are covered by VelocityEngineTest
+    @MockBean
+    private VelocityGuard velocityGuard;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = accountService.createAccount(USER_ID, AccountType.SAVINGS, Currency.USD);
+        accountService.credit(account.getId(), USER_ID, new BigDecimal("100.00"));
+        accountService.debit(account.getId(), USER_ID, new BigDecimal("30.00"));
+        accountService.credit(account.getId(), USER_ID, new BigDecimal("5.50"));
+    }
+
+    @Test
+    void testCreditAndDebit_AppendPostingsWithRunningBalance() {
+        // When
+        StatementPageResponse page = ledgerService.getStatementPage(account.getId(), USER_ID, 0, 10);
+
+        // Then
+        assertThat(page.getPostings())
+                .extracting(
+                        PostingResponse::getSeq,
+                        p -> p.getAmount().setScale(2),
+                        p -> p.getBalanceAfter().setScale(2))
+                .containsExactly(
+                        tuple(1L, new BigDecimal("100.00"), new BigDecimal("100.00")),
+                        tuple(2L, new BigDecimal("-30.00"), new BigDecimal("70.00")),
+                        tuple(3L, new BigDecimal("5.50"), new BigDecimal("75.50"))
+                );
+        assertThat(page.getNextAfterSeq()).isNull();
+    }
+
+    @Test
+    void testStatementPage_KeysetContinuation() {
+        // When
+        StatementPageResponse first = ledgerService.getStatementPage(account.getId(), USER_ID, 0, 2);
+        StatementPageResponse second = ledgerService.getStatementPage(account.getId(), USER_ID, first.getNextAfterSeq(), 2);
+
+        // Then
+        assertThat(first.getPostings()).extracting(PostingResponse::getSeq).containsExactly(1L, 2L);
+        assertThat(first.getNextAfterSeq()).isEqualTo(2L);
+        assertThat(second.getPostings()).extracting(PostingResponse::getSeq).containsExactly(3L);
+        assertThat(second.getNextAfterSeq()).isNull();
+    }
+
+    @Test
+    void testStreamStatement_TimeRangeInOrder() {
+        // Given
+        List<PostingResponse> streamed = new ArrayList<>();
+        Instant now = Instant.now();
+
+        // When
+        ledgerService.streamStatement(account.getId(), USER_ID,
+                now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), streamed::add);
+
+        // Then
+        assertThat(streamed).extracting(PostingResponse::getSeq).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void testStatement_OtherUserDenied() {
+        assertThatThrownBy(() -> ledgerService.getStatementPage(account.getId(), 7L, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testTransfer_ConvertsAndPostsBothLegs() {
+        // Given: rates from fx/rates.csv, 1 USD = 0.9214 EUR
+        Account euros = accountService.createAccount(USER_ID, AccountType.CURRENT, Currency.EUR);
+
+        // When
+        TransferResponse transfer = accountService.transfer(account.getId(), euros.getId(), USER_ID,
+                new BigDecimal("10.00"));
+
+        // Then: 9.214 rounds half-even to 9.21
+        assertThat(transfer.getCreditedAmount()).isEqualByComparingTo("9.21");
+        assertThat(transfer.getRate()).isEqualByComparingTo("0.9214");
+        assertThat(ledgerService.getStatementPage(account.getId(), USER_ID, 3, 10).getPostings())
+                .extracting(p -> p.getAmount().setScale(2), p -> p.getBalanceAfter().setScale(2))
+                .containsExactly(tuple(new BigDecimal("-10.00"), new BigDecimal("65.50")));
+        assertThat(ledgerService.getStatementPage(euros.getId(), USER_ID, 0, 10).getPostings())
+                .extracting(p -> p.getAmount().setScale(2))
+                .containsExactly(new BigDecimal("9.21"));
+    }
+}
@@ -0,0 +1,215 @@
+package com.titanbank.account.service.impl;
+
+import com.titanbank.account.domain.entity.Account;
+import com.titanbank.account.domain.enums.AccountType;
+import com.titanbank.account.domain.enums.Currency;
+import com.titanbank.account.fx.FxRates;
+import com.titanbank.account.repository.AccountRepository;
+import com.titanbank.account.repository.BalanceCheckpointRepository;
+import com.titanbank.account.repository.PostingRepository;
+import com.titanbank.account.repository.ProcessedEventRepository;
+import com.titanbank.account.sharding.ShardingConfig;
+import com.titanbank.account.velocity.VelocityGuard;
+import com.titanbank.account.velocity.VelocityLimitExceededException;
+import com.titanbank.events.TransferRequestedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Batches commit their own transactions, so another writer can race them as it would in production
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TransferExecutionServiceImpl.class, ShardingConfig.class, FxRates.class, SimpleMeterRegistry.class})
+class TransferExecutionServiceImplTest {
+
+    private static final Long USER_ID = 42L;
+
+    @Autowired
+    private TransferExecutionServiceImpl transferExecutionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PostingRepository postingRepository;
+
+    @Autowired
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Autowired
+    private ProcessedEventRepository processedEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private VelocityGuard velocityGuard;
+
+    @MockBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private Account checking;
+    private Account savings;
+
+    @BeforeEach
+    void setUp() {
+        checking = Account.create(USER_ID, AccountType.CURRENT, Currency.USD);
+        checking.credit(new BigDecimal("100.00"));
+        savings = Account.create(USER_ID, AccountType.SAVINGS, Currency.USD);
+        accountRepository.saveAll(List.of(checking, savings));
+    }
+
+    @AfterEach
+    void tearDown() {
+        processedEventRepository.deleteAllInBatch();
+        balanceCheckpointRepository.deleteAllInBatch();
+        postingRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testBatch_AppliesValidTransfersAndRefusesOthersWithoutSideEffects() {
+        // Given - one valid, one overdrawing, one naming another user's account
+        Account stranger = accountRepository.save(Account.create(7L, AccountType.SAVINGS, Currency.USD));
+        List<TransferRequestedEvent> batch = List.of(
+                request(checking, savings, "60.00"),
+                request(checking, savings, "60.00"),
+                request(checking, stranger, "10.00"));
+
+        // When
+        int applied = transferExecutionService.executeTransfers(batch);
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+        assertThat(balanceOf(checking)).isEqualByComparingTo("40.00");
+        assertThat(balanceOf(savings)).isEqualByComparingTo("60.00");
+        assertThat(balanceOf(stranger)).isEqualByComparingTo("0");
+        assertThat(postingRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testRedeliveredTransfer_IsAppliedOnce() {
+        // Given
+        TransferRequestedEvent request = request(checking, savings, "25.00");
+        transferExecutionService.executeTransfers(List.of(request));
+
+        // When
+        int applied = transferExecutionService.executeTransfers(List.of(request, request));
+
+        // Then
+        assertThat(applied).isZero();
+        assertThat(balanceOf(checking)).isEqualByComparingTo("75.00");
+        assertThat(balanceOf(savings)).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void testVelocityRefusal_LeavesBothAccountsUntouched() {
+        // Given
+        doThrow(new VelocityLimitExceededException("burst"))
+                .when(velocityGuard).admit(eq(checking.getId()), anyLong(), any(), any());
+
+        // When
+        int applied = transferExecutionService.executeTransfers(List.of(request(checking, savings, "10.00")));
+
+        // Then
+        assertThat(applied).isZero();
+        assertThat(balanceOf(checking)).isEqualByComparingTo("100.00");
+        assertThat(balanceOf(savings)).isEqualByComparingTo("0");
+        assertThat(postingRepository.count()).isZero();
+    }
+
+    @Test
+    void testBatchConflict_RetriesEachTransferOnItsOwn() {
+        // Given - another writer credits the source account while the batch is being applied
+        doAnswer(invocation -> {
+            creditElsewhere(checking, "5.00");
+            return null;
+        }).doNothing().when(velocityGuard).admit(eq(checking.getId()), anyLong(), any(), any());
+        List<TransferRequestedEvent> batch = List.of(
+                request(checking, savings, "10.00"),
+                request(checking, savings, "20.00"));
+
+        // When
+        int applied = transferExecutionService.executeTransfers(batch);
+
+        // Then
+        assertThat(applied).isEqualTo(2);
+        assertThat(balanceOf(checking)).isEqualByComparingTo("75.00");
+        assertThat(balanceOf(savings)).isEqualByComparingTo("30.00");
+        assertThat(processedEventRepository.count()).isEqualTo(2);
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testTransferConflictingOnEveryAttempt_SentToDeadLetterTopic() {
+        // Given
+        doAnswer(invocation -> {
+            creditElsewhere(checking, "1.00");
+            return null;
+        }).when(velocityGuard).admit(eq(checking.getId()), anyLong(), any(), any());
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        TransferRequestedEvent request = request(checking, savings, "10.00");
+
+        // When
+        int applied = transferExecutionService.executeTransfers(List.of(request));
+
+        // Then - not marked as processed, so it can be replayed from the dead-letter topic
+        assertThat(applied).isZero();
+        assertThat(balanceOf(savings)).isEqualByComparingTo("0");
+        assertThat(processedEventRepository.count()).isZero();
+        verify(kafkaTemplate).send("transfer-requests.DLT", request.getTransferId().toString(), request);
+    }
+
+    private static TransferRequestedEvent request(Account from, Account to, String amount) {
+        return TransferRequestedEvent.builder()
+                .transferId(UUID.randomUUID())
+                .userId(USER_ID)
+                .fromAccountId(from.getId())
+                .toAccountId(to.getId())
+                .amount(new BigDecimal(amount))
+                .dueAt(Instant.now())
+                .build();
+    }
+
+    // Committed on its own, moving the account's version on under a transaction that already read it
+    private void creditElsewhere(Account account, String amount) {
+        TransactionTemplate separate = new TransactionTemplate(transactionManager);
+        separate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        separate.executeWithoutResult(status -> {
+            Account current = accountRepository.findById(account.getId()).orElseThrow();
+            postingRepository.save(current.credit(new BigDecimal(amount)));
+        });
+    }
+
+    private BigDecimal balanceOf(Account account) {
+        return accountRepository.findById(account.getId()).orElseThrow().getBalance();
+    }
+}
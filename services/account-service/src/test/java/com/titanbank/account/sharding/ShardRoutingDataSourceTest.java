@@ -0,0 +1,68 @@
+package com.titanbank.account.sharding;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardRoutingDataSourceTest {
+
+    @Test
+    void testBoundShard_ReceivesTheConnection() {
+        // Given - two nodes, each knowing its own index
+        List<DataSource> nodes = IntStream.range(0, 2)
+                .mapToObj(i -> {
+                    DataSource node = new DriverManagerDataSource("jdbc:h2:mem:shard" + i + ";DB_CLOSE_DELAY=-1");
+                    JdbcTemplate jdbc = new JdbcTemplate(node);
+                    jdbc.execute("CREATE TABLE IF NOT EXISTS node (idx INT)");
+                    jdbc.execute("DELETE FROM node");
+                    jdbc.update("INSERT INTO node VALUES (?)", i);
+                    return node;
+                })
+                .toList();
+        JdbcTemplate jdbc = new JdbcTemplate(new ShardRoutingDataSource(nodes));
+        ShardRouter router = new ShardRouter(2);
+
+        // When / Then
+        assertThat(jdbc.queryForObject("SELECT idx FROM node", Integer.class)).isZero();
+        for (long userId = 1; userId <= 20; userId++) {
+            try (ShardContext.Binding ignored = router.bindUser(userId)) {
+                assertThat(jdbc.queryForObject("SELECT idx FROM node", Integer.class))
+                        .isEqualTo(router.shardFor(userId));
+            }
+        }
+        assertThat(ShardContext.current()).isNull();
+    }
+
+    @Test
+    void testShardFor_SpreadsSequentialUsers() {
+        // Given
+        ShardRouter router = new ShardRouter(4);
+        int[] counts = new int[4];
+
+        // When
+        LongStream.rangeClosed(1, 40_000).forEach(userId -> counts[router.shardFor(userId)]++);
+
+        // Then - within 5% of an even split, and stable per user
+        assertThat(IntStream.of(counts).min().getAsInt()).isGreaterThan(9_500);
+        assertThat(IntStream.of(counts).max().getAsInt()).isLessThan(10_500);
+        assertThat(router.shardFor(42L)).isEqualTo(router.shardFor(42L));
+    }
+
+    @Test
+    void testNestedBinding_RestoresPrevious() {
+        try (ShardContext.Binding outer = ShardContext.bind(1)) {
+            try (ShardContext.Binding inner = ShardContext.bind(3)) {
+                assertThat(ShardContext.current()).isEqualTo(3);
+            }
+            assertThat(ShardContext.current()).isEqualTo(1);
+        }
+        assertThat(ShardContext.current()).isNull();
+    }
+}
@@ -0,0 +1,175 @@
+package com.titanbank.account.velocity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VelocityEngineTest {
+
+    private static final UUID ACCOUNT = UUID.randomUUID();
+    private static final long T0 = 1_760_000_000_000L;
+    private static final BigDecimal TEN = new BigDecimal("10.00");
+
+    @Test
+    void testAdmit_RejectsDebitOverCountLimit() {
+        // Given
+        VelocityEngine engine = engine(rule("burst", Duration.ofMinutes(1), 3, null));
+        for (int seq = 1; seq <= 3; seq++) {
+            engine.admit(ACCOUNT, seq, TEN, T0 + seq);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> engine.admit(ACCOUNT, 4, TEN, T0 + 4))
+                .isInstanceOf(VelocityLimitExceededException.class)
+                .extracting("rule").isEqualTo("burst");
+        assertThatCode(() -> engine.admit(UUID.randomUUID(), 1, TEN, T0 + 4)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testAdmit_AmountWindowSlides() {
+        // Given
+        VelocityEngine engine = engine(rule("hourly", Duration.ofHours(1), null, new BigDecimal("100")));
+        engine.admit(ACCOUNT, 1, new BigDecimal("60.00"), T0);
+
+        // When & Then: 60 + 40.01 is over, 60 + 40 is not; an hour later the first debit no longer counts
+        assertThatThrownBy(() -> engine.admit(ACCOUNT, 2, new BigDecimal("40.01"), T0 + 1_000))
+                .isInstanceOf(VelocityLimitExceededException.class);
+        engine.admit(ACCOUNT, 2, new BigDecimal("40.00"), T0 + 1_000);
+        engine.admit(ACCOUNT, 3, new BigDecimal("60.00"), T0 + Duration.ofHours(1).toMillis());
+    }
+
+    @Test
+    void testRecord_ReplicatedDebitsCountOnceEach() {
+        // Given
+        VelocityEngine engine = engine(rule("burst", Duration.ofMinutes(1), 2, null));
+        engine.admit(ACCOUNT, 1, TEN, T0);
+
+        // When: our own posting comes back from the stream, then another node's
+        engine.record(ACCOUNT, 1, TEN, T0);
+        engine.record(ACCOUNT, 2, TEN, T0 + 10);
+
+        // Then
+        assertThatThrownBy(() -> engine.admit(ACCOUNT, 3, TEN, T0 + 20))
+                .isInstanceOf(VelocityLimitExceededException.class);
+    }
+
+    @Test
+    void testRelease_FreesRolledBackDebit() {
+        // Given
+        VelocityEngine engine = engine(rule("burst", Duration.ofMinutes(1), 1, null));
+        engine.admit(ACCOUNT, 1, TEN, T0);
+
+        // When
+        engine.release(ACCOUNT, 1);
+
+        // Then: the sequence is reused by the next debit
+        assertThatCode(() -> engine.admit(ACCOUNT, 1, TEN, T0 + 10)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testAdmit_ConcurrentDebitsWithSameSeq_CannotBothPass() throws Exception {
+        // Given: two debits of one account read the same last posting sequence
+        VelocityEngine engine = engine(rule("hourly", Duration.ofHours(1), null, new BigDecimal("100")));
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Callable<Boolean> debit = () -> {
+            barrier.await();
+            try {
+                engine.admit(ACCOUNT, 1, new BigDecimal("60.00"), T0);
+                return true;
+            } catch (VelocityLimitExceededException e) {
+                return false;
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(List.of(debit, debit));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(List.of(results.get(0).get(), results.get(1).get())).containsExactlyInAnyOrder(true, false);
+    }
+
+    @Test
+    void testAdmit_SameSeqAsConcurrentDebit_DoesNotTakeItsSlot() {
+        // Given
+        VelocityEngine engine = engine(rule("burst", Duration.ofMinutes(1), 2, null));
+        boolean winner = engine.admit(ACCOUNT, 1, TEN, T0);
+
+        // When: the second debit counts the first, and loses the optimistic lock without releasing
+        boolean loser = engine.admit(ACCOUNT, 1, TEN, T0 + 1);
+
+        // Then: the winner's debit still counts
+        assertThat(winner).isTrue();
+        assertThat(loser).isFalse();
+        engine.admit(ACCOUNT, 2, TEN, T0 + 2);
+        assertThatThrownBy(() -> engine.admit(ACCOUNT, 3, TEN, T0 + 3))
+                .isInstanceOf(VelocityLimitExceededException.class);
+    }
+
+    @Test
+    void testState_BoundedByCapacityAndTrackedAccounts() {
+        // Given
+        VelocityProperties properties = properties(rule("daily", Duration.ofDays(1), 7, null));
+        properties.setShards(1);
+        properties.setMaxTrackedAccounts(2);
+        VelocityEngine engine = new VelocityEngine(properties, new SimpleMeterRegistry());
+
+        // When: 20 replicated debits overflow the ring of 8, and a third account evicts the first
+        for (int seq = 1; seq <= 20; seq++) {
+            engine.record(ACCOUNT, seq, TEN, T0 + seq);
+        }
+        engine.record(UUID.randomUUID(), 1, TEN, T0);
+        engine.record(UUID.randomUUID(), 1, TEN, T0);
+
+        // Then
+        assertThat(engine.trackedAccounts()).isEqualTo(2);
+        assertThatCode(() -> engine.admit(ACCOUNT, 21, TEN, T0 + 21)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testCompile_RejectsUnusableRules() {
+        assertThatThrownBy(() -> engine(rule("none", Duration.ofMinutes(1), null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine(rule("too-many", Duration.ofMinutes(1), 128, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("window-capacity");
+    }
+
+    private static VelocityEngine engine(VelocityProperties.Rule rule) {
+        return new VelocityEngine(properties(rule), new SimpleMeterRegistry());
+    }
+
+    private static VelocityProperties properties(VelocityProperties.Rule rule) {
+        VelocityProperties properties = new VelocityProperties();
+        properties.setWindowCapacity(rule.getMaxCount() != null && rule.getMaxCount() < 8 ? 8 : 128);
+        properties.setRules(List.of(rule));
+        return properties;
+    }
+
+    private static VelocityProperties.Rule rule(String name, Duration window, Integer maxCount, BigDecimal maxAmount) {
+        VelocityProperties.Rule rule = new VelocityProperties.Rule();
+        rule.setName(name);
+        rule.setWindow(window);
+        rule.setMaxCount(maxCount);
+        rule.setMaxAmount(maxAmount);
+        return rule;
+    }
+}
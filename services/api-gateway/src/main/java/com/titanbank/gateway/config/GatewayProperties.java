@@ -0,0 +1,62 @@
+package com.titanbank.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes to the services and the limits of the gateway's in-memory state
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway")
+public class GatewayProperties {
+
+    /** Time to open a connection to a service; connections are then kept and reused */
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    /** Longest wait for a service to start answering */
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    /** Responses held by the edge cache, over all routes */
+    private int cacheMaxEntries = 10_000;
+
+    /** Larger responses are passed on but not cached */
+    private int cacheMaxBodyBytes = 256 * 1024;
+
+    /** Callers tracked per rate-limited route; the least recently seen are forgotten */
+    private int rateLimitMaxCallers = 100_000;
+
+    /** Tried in order; the first route with a matching path wins */
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+
+        private String id;
+
+        /** Base URL of the service, e.g. http://account-service:8082 */
+        private URI uri;
+
+        /** Ant-style path patterns, e.g. /api/v1/accounts/** */
+        private List<String> paths = new ArrayList<>();
+
+        /** Serve concurrent identical GETs with one upstream call; the response is buffered */
+        private boolean coalesce;
+
+        /** Keep successful GET responses this long; zero turns caching off */
+        private Duration cacheTtl = Duration.ZERO;
+
+        /** One cached copy for every caller, for responses that do not depend on who asks */
+        private boolean sharedCache;
+
+        /** Requests per second per caller; zero for no limit */
+        private double rateLimit;
+
+        /** Requests a caller may make at once after being idle; defaults to one second's worth */
+        private int burst;
+    }
+}
@@ -0,0 +1,17 @@
+package com.titanbank.gateway.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorResponse {
+    private String status, errorCode, message;
+    private LocalDateTime timestamp;
+}
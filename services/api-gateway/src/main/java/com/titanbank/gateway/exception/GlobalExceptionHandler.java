@@ -0,0 +1,35 @@
+package com.titanbank.gateway.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+@RestControllerAdvice
+@Slf4j
+public class GlobalExceptionHandler {
+
+    /**
+     * Handle requests refused or failed at the gateway
+     */
+    @ExceptionHandler(GatewayException.class)
+    public ResponseEntity<ErrorResponse> handleGatewayException(GatewayException ex) {
+        if (ex.getHttpStatus().is5xxServerError()) {
+            log.warn("Gateway error: {} - {}", ex.getErrorCode(), ex.getMessage());
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getHttpStatus());
+        if (ex.getHttpStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            response.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return response.body(ErrorResponse.builder()
+                .status(ex.getHttpStatus().name())
+                .errorCode(ex.getErrorCode())
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+}
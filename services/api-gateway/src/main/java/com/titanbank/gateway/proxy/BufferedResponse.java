@@ -0,0 +1,13 @@
+package com.titanbank.gateway.proxy;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A service response read in full, so it can be shared between coalesced callers and cached.
+ * Never modified once built.
+ *
+ * @param headers end-to-end headers only
+ */
+public record BufferedResponse(int status, Map<String, List<String>> headers, byte[] body) {
+}
@@ -0,0 +1,62 @@
+package com.titanbank.gateway.proxy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, access-ordered LRU of GET responses, each with an absolute expiry. Guarded by a
+ * {@link ReentrantLock} so a contended lookup parks a virtual thread instead of pinning its carrier.
+ */
+public class EdgeCache {
+
+    private record Entry(BufferedResponse response, long expiresAtMillis) {
+    }
+
+    private final LinkedHashMap<String, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public EdgeCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("gateway.cache-max-entries must be positive");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public BufferedResponse get(String key, long nowMillis) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && nowMillis >= entry.expiresAtMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry != null ? entry.response() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String key, BufferedResponse response, long expiresAtMillis) {
+        lock.lock();
+        try {
+            entries.put(key, new Entry(response, expiresAtMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.titanbank.gateway.proxy;
+
+import com.titanbank.common.datasource.ReadConsistency;
+import com.titanbank.common.metrics.LatencyTimers;
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.common.security.ForwardedPrincipal;
+import com.titanbank.common.security.TokenAuthentication;
+import com.titanbank.gateway.config.GatewayProperties;
+import com.titanbank.gateway.config.GatewayProperties.Route;
+import com.titanbank.gateway.exception.GatewayException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Passes requests on to the service of their route.
+ *
+ * <p>The access token has already been verified by the security filter; the service receives the
+ * resulting principal signed in the {@link ForwardedPrincipal} header, replacing any copy the
+ * client sent, so it does not verify the token again. On a route with a rate limit each caller, by
+ * user id or else by address, gets a token bucket, and a caller out of tokens is answered 429.
+ *
+ * <p>GETs on a coalescing or caching route are buffered. Identical GETs, meaning the same path,
+ * query, Accept header, read token and caller, that arrive while one is in flight share its
+ * response; a read sent after a write carries a newer token, so it never joins a read started
+ * before the write. On a caching route a 200 is then kept for the route's TTL. Upstream
+ * {@code Cache-Control} is not consulted, since the services mark every response
+ * {@code no-store}: caching is opted into per route, for reads that may be that stale. Everything
+ * else is streamed through unbuffered.
+ */
+@Component
+@EnableConfigurationProperties(GatewayProperties.class)
+@Slf4j
+public class GatewayProxy {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final String X_FORWARDED_PROTO = "X-Forwarded-Proto";
+    private static final int STREAM_BUFFER_BYTES = 8192;
+
+    private final RouteTable routeTable;
+    private final UpstreamClient upstreamClient;
+    private final ForwardedPrincipal forwardedPrincipal;
+    private final GatewayProperties properties;
+    private final EdgeCache cache;
+    private final SingleFlight<String, BufferedResponse> singleFlight = new SingleFlight<>();
+    private final Map<String, RouteState> states = new HashMap<>();
+
+    public GatewayProxy(
+            GatewayProperties properties,
+            UpstreamClient upstreamClient,
+            ForwardedPrincipal forwardedPrincipal,
+            MeterRegistry meterRegistry
+    ) {
+        this.routeTable = new RouteTable(properties.getRoutes());
+        this.upstreamClient = upstreamClient;
+        this.forwardedPrincipal = forwardedPrincipal;
+        this.properties = properties;
+        this.cache = new EdgeCache(properties.getCacheMaxEntries());
+        for (Route route : routeTable.routes()) {
+            states.put(route.getId(), new RouteState(route, properties, meterRegistry));
+        }
+    }
+
+    public void forward(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long start = System.nanoTime();
+        String path = request.getRequestURI();
+        Route route = routeTable.match(path);
+        if (route == null) {
+            throw new GatewayException("No route for " + path, "NO_ROUTE", HttpStatus.NOT_FOUND);
+        }
+        RouteState state = states.get(route.getId());
+        AuthenticatedUser user = currentUser();
+
+        if (state.rateLimiter != null && !state.rateLimiter.tryAcquire(caller(user, request), start)) {
+            state.rateLimited.increment();
+            throw new GatewayException("Too many requests", "RATE_LIMITED", HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        String query = request.getQueryString();
+        String pathAndQuery = query == null ? path : path + '?' + query;
+        HttpRequest upstreamRequest = upstreamRequest(route, request, pathAndQuery, user);
+
+        if (!"GET".equals(request.getMethod()) || !state.buffered) {
+            stream(upstreamRequest, response, state);
+            LatencyTimers.recordSince(state.proxied, start);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String key = key(route, user, pathAndQuery, request.getHeader(HttpHeaders.ACCEPT),
+                request.getHeader(ReadConsistency.HEADER));
+        if (state.cacheTtlMillis > 0) {
+            BufferedResponse cached = cache.get(key, now);
+            if (cached != null) {
+                write(cached, response);
+                LatencyTimers.recordSince(state.cached, start);
+                return;
+            }
+        }
+
+        SingleFlight.Result<BufferedResponse> result;
+        try {
+            result = route.isCoalesce()
+                    ? singleFlight.execute(key, () -> upstreamClient.fetch(upstreamRequest))
+                    : new SingleFlight.Result<>(upstreamClient.fetch(upstreamRequest), false);
+        } catch (GatewayException e) {
+            state.failed.increment();
+            throw e;
+        }
+        BufferedResponse fetched = result.value();
+        if (state.cacheTtlMillis > 0 && !result.shared() && fetched.status() == HttpStatus.OK.value()
+                && fetched.body().length <= properties.getCacheMaxBodyBytes()) {
+            cache.put(key, fetched, now + state.cacheTtlMillis);
+        }
+        write(fetched, response);
+        LatencyTimers.recordSince(result.shared() ? state.coalesced : state.proxied, start);
+    }
+
+    // Helper methods
+
+    private HttpRequest upstreamRequest(Route route, HttpServletRequest request, String pathAndQuery,
+                                        AuthenticatedUser user) throws IOException {
+        HttpRequest.Builder builder = upstreamClient.newRequest()
+                .uri(URI.create(route.getUri() + pathAndQuery));
+
+        Enumeration<String> names = request.getHeaderNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            if (UpstreamClient.NOT_FORWARDED.contains(name) || ForwardedPrincipal.HEADER.equalsIgnoreCase(name)
+                    || X_FORWARDED_FOR.equalsIgnoreCase(name) || X_FORWARDED_PROTO.equalsIgnoreCase(name)) {
+                continue;
+            }
+            Enumeration<String> values = request.getHeaders(name);
+            while (values.hasMoreElements()) {
+                builder.header(name, values.nextElement());
+            }
+        }
+        // Set here, never taken from the client
+        builder.header(X_FORWARDED_FOR, request.getRemoteAddr());
+        builder.header(X_FORWARDED_PROTO, request.getScheme());
+        if (user != null) {
+            builder.header(ForwardedPrincipal.HEADER, forwardedPrincipal.sign(user));
+        }
+
+        boolean hasBody = request.getContentLengthLong() > 0 || request.getHeader("Transfer-Encoding") != null;
+        return builder.method(request.getMethod(), hasBody
+                        ? HttpRequest.BodyPublishers.ofByteArray(request.getInputStream().readAllBytes())
+                        : HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private void stream(HttpRequest upstreamRequest, HttpServletResponse response, RouteState state)
+            throws IOException {
+        HttpResponse<InputStream> upstream;
+        try {
+            upstream = upstreamClient.open(upstreamRequest);
+        } catch (GatewayException e) {
+            state.failed.increment();
+            throw e;
+        }
+        try (InputStream body = upstream.body()) {
+            response.setStatus(upstream.statusCode());
+            UpstreamClient.endToEnd(upstream.headers()).forEach((name, values) ->
+                    values.forEach(value -> response.addHeader(name, value)));
+            // Flushed as it arrives, so streamed responses such as NDJSON statements keep flowing
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[STREAM_BUFFER_BYTES];
+            int read;
+            while ((read = body.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        }
+    }
+
+    private static void write(BufferedResponse buffered, HttpServletResponse response) throws IOException {
+        response.setStatus(buffered.status());
+        buffered.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentLength(buffered.body().length);
+        response.getOutputStream().write(buffered.body());
+    }
+
+    private static String key(Route route, AuthenticatedUser user, String pathAndQuery, String accept,
+                              String readToken) {
+        String caller = route.isSharedCache() ? "*" : user != null ? String.valueOf(user.userId()) : "-";
+        return route.getId() + ' ' + caller + ' ' + pathAndQuery + ' ' + accept + ' ' + readToken;
+    }
+
+    private static String caller(AuthenticatedUser user, HttpServletRequest request) {
+        return user != null ? "user:" + user.userId() : "addr:" + request.getRemoteAddr();
+    }
+
+    private static AuthenticatedUser currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication instanceof TokenAuthentication token ? token.getUser() : null;
+    }
+
+    /**
+     * Per-route limiter and meters, built once at startup
+     */
+    private static final class RouteState {
+        private final boolean buffered;
+        private final long cacheTtlMillis;
+        private final RateLimiter rateLimiter;
+        private final Timer proxied;
+        private final Timer coalesced;
+        private final Timer cached;
+        private final Counter rateLimited;
+        private final Counter failed;
+
+        RouteState(Route route, GatewayProperties properties, MeterRegistry meterRegistry) {
+            this.cacheTtlMillis = route.getCacheTtl().toMillis();
+            this.buffered = route.isCoalesce() || cacheTtlMillis > 0;
+            this.rateLimiter = route.getRateLimit() > 0
+                    ? new RateLimiter(route.getRateLimit(),
+                            route.getBurst() > 0 ? route.getBurst() : (int) Math.ceil(route.getRateLimit()),
+                            properties.getRateLimitMaxCallers())
+                    : null;
+            this.proxied = timer(meterRegistry, route, "proxied");
+            this.coalesced = timer(meterRegistry, route, "coalesced");
+            this.cached = timer(meterRegistry, route, "cached");
+            this.rateLimited = counter(meterRegistry, route, "rate_limited");
+            this.failed = counter(meterRegistry, route, "upstream_error");
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, Route route, String outcome) {
+            return LatencyTimers.timer(meterRegistry, "gateway.requests",
+                    "Requests answered through the gateway, by how", "route", route.getId(), "outcome", outcome);
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, Route route, String reason) {
+            return Counter.builder("gateway.rejected")
+                    .description("Requests the gateway answered with an error")
+                    .tag("route", route.getId())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.titanbank.gateway.proxy;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class ProxyController {
+
+    private final GatewayProxy gatewayProxy;
+
+    /**
+     * Every API path; the route table decides where it goes
+     */
+    @RequestMapping({"/api/**", "/.well-known/**"})
+    public void forward(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        gatewayProxy.forward(request, response);
+    }
+}
@@ -0,0 +1,84 @@
+package com.titanbank.gateway.proxy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket per caller: {@code burst} requests at once, refilled at {@code permitsPerSecond}.
+ *
+ * <p>Buckets live in access-ordered LRU maps, split into independently locked stripes by caller so
+ * that concurrent callers rarely share a lock. The least recently seen callers are forgotten and
+ * start again with a full bucket. Locks are {@link ReentrantLock}s, so a contended check parks a
+ * virtual thread instead of pinning its carrier.
+ */
+public class RateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public RateLimiter(double permitsPerSecond, int burst, int maxCallers) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxCallers < STRIPES) {
+            throw new IllegalArgumentException("Rate limit, burst and tracked callers must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.burst = burst;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxCallers / STRIPES);
+        }
+    }
+
+    /**
+     * Take one permit for {@code caller}
+     *
+     * @return false if the caller has none left
+     */
+    public boolean tryAcquire(String caller, long nowNanos) {
+        Stripe stripe = stripes[(caller.hashCode() & 0x7fffffff) % STRIPES];
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(caller);
+            if (bucket == null) {
+                bucket = new Bucket(burst, nowNanos);
+                stripe.buckets.put(caller, bucket);
+            } else {
+                bucket.tokens = Math.min(burst, bucket.tokens + (nowNanos - bucket.refilledAtNanos) * permitsPerNano);
+                bucket.refilledAtNanos = nowNanos;
+            }
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens--;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAtNanos;
+
+        Bucket(double tokens, long refilledAtNanos) {
+            this.tokens = tokens;
+            this.refilledAtNanos = refilledAtNanos;
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        Stripe(int maxCallers) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxCallers;
+                }
+            };
+        }
+    }
+}
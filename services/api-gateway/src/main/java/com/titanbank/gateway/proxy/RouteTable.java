@@ -0,0 +1,51 @@
+package com.titanbank.gateway.proxy;
+
+import com.titanbank.gateway.config.GatewayProperties.Route;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Request paths to routes; routes are tried in configured order and the first match wins
+ */
+public class RouteTable {
+
+    private final List<Route> routes;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    public RouteTable(List<Route> routes) {
+        Set<String> ids = new HashSet<>();
+        for (Route route : routes) {
+            if (route.getId() == null || !ids.add(route.getId())) {
+                throw new IllegalArgumentException("Every gateway route needs a unique id: " + route.getId());
+            }
+            if (route.getUri() == null || route.getPaths().isEmpty()) {
+                throw new IllegalArgumentException("Gateway route " + route.getId() + " needs a uri and paths");
+            }
+            if (route.getRateLimit() < 0 || route.getBurst() < 0 || route.getCacheTtl().isNegative()) {
+                throw new IllegalArgumentException("Gateway route " + route.getId() + " has a negative limit");
+            }
+        }
+        this.routes = List.copyOf(routes);
+    }
+
+    /**
+     * @return the route for {@code path}, or null if none matches
+     */
+    public Route match(String path) {
+        for (Route route : routes) {
+            for (String pattern : route.getPaths()) {
+                if (matcher.match(pattern, path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    public List<Route> routes() {
+        return routes;
+    }
+}
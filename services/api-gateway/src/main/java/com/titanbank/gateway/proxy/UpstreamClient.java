@@ -0,0 +1,104 @@
+package com.titanbank.gateway.proxy;
+
+import com.titanbank.gateway.config.GatewayProperties;
+import com.titanbank.gateway.exception.GatewayException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Calls the services over one shared {@link HttpClient}.
+ *
+ * <p>The client prefers HTTP/2: against a service that accepts h2c it upgrades the first
+ * connection and multiplexes every later request over it; otherwise it keeps a pool of HTTP/1.1
+ * keep-alive connections. Either way no request pays for a new TCP connection once warm.
+ */
+@Component
+public class UpstreamClient {
+
+    /** Hop-by-hop headers, and those the client sets itself */
+    static final Set<String> NOT_FORWARDED = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        NOT_FORWARDED.addAll(List.of("connection", "content-length", "expect", "host", "keep-alive",
+                "proxy-authenticate", "proxy-authorization", "proxy-connection", "te", "trailer",
+                "transfer-encoding", "upgrade", "http2-settings"));
+    }
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public UpstreamClient(GatewayProperties properties) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.requestTimeout = properties.getRequestTimeout();
+    }
+
+    /**
+     * Request builder with the gateway's response timeout applied
+     */
+    public HttpRequest.Builder newRequest() {
+        return HttpRequest.newBuilder().timeout(requestTimeout);
+    }
+
+    /**
+     * Send and read the whole response
+     *
+     * @throws GatewayException if the service cannot be reached or does not answer in time
+     */
+    public BufferedResponse fetch(HttpRequest request) {
+        HttpResponse<byte[]> response = send(request, HttpResponse.BodyHandlers.ofByteArray());
+        return new BufferedResponse(response.statusCode(), endToEnd(response.headers()), response.body());
+    }
+
+    /**
+     * Send and return as soon as the status and headers are in; the caller must close the body
+     *
+     * @throws GatewayException if the service cannot be reached or does not answer in time
+     */
+    public HttpResponse<InputStream> open(HttpRequest request) {
+        return send(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    static Map<String, List<String>> endToEnd(HttpHeaders headers) {
+        Map<String, List<String>> forwarded = new LinkedHashMap<>();
+        headers.map().forEach((name, values) -> {
+            // HTTP/2 pseudo-headers such as :status are not headers of the response
+            if (!name.startsWith(":") && !NOT_FORWARDED.contains(name)) {
+                forwarded.put(name, values);
+            }
+        });
+        return forwarded;
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        try {
+            return httpClient.send(request, bodyHandler);
+        } catch (HttpTimeoutException e) {
+            throw new GatewayException("Service did not answer in time", "UPSTREAM_TIMEOUT",
+                    HttpStatus.GATEWAY_TIMEOUT, e);
+        } catch (IOException e) {
+            throw new GatewayException("Service unavailable", "UPSTREAM_UNAVAILABLE", HttpStatus.BAD_GATEWAY, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GatewayException("Interrupted while waiting for the service", "UPSTREAM_UNAVAILABLE",
+                    HttpStatus.BAD_GATEWAY, e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.titanbank.gateway.security;
+
+import com.titanbank.common.security.JwksAccessTokenAuthenticator;
+import com.titanbank.common.security.LeanAuthenticationFilter;
+import com.titanbank.common.security.TokenRevocationCheck;
+import com.titanbank.jwt.TokenVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+@Configuration
+@EnableWebSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    // Auto-configured by titanbank-jwt from titanbank.jwt.jwks-uri
+    private final TokenVerifier tokenVerifier;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Configure HTTP security
+     */
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+                // Disable CSRF (we're using JWT, not cookies)
+                .csrf(AbstractHttpConfigurer::disable)
+
+                .authorizeHttpRequests(auth -> auth
+                        // Reachable without a token, as in user-service
+                        .requestMatchers(
+                                "/api/v1/users/register",
+                                "/api/v1/auth/login",
+                                "/api/v1/auth/refresh",
+                                "/api/v1/users/verify-email",
+                                "/api/v1/users/password/reset-request",
+                                "/api/v1/users/password/reset",
+                                "/.well-known/jwks.json",
+                                "/actuator/health",
+                                "/actuator/prometheus"
+                        ).permitAll()
+                        // Role checks stay with the services
+                        .anyRequest().authenticated()
+                )
+
+                // Stateless session (no session stored on server)
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+
+                .exceptionHandling(exceptions ->
+                        exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+
+                // The one place tokens are verified; services trust the principal the gateway forwards.
+                // Revocation is still checked by user-service, which receives the token too.
+                .addFilterBefore(
+                        new LeanAuthenticationFilter(
+                                new JwksAccessTokenAuthenticator(tokenVerifier),
+                                TokenRevocationCheck.NONE,
+                                meterRegistry
+                        ),
+                        UsernamePasswordAuthenticationFilter.class
+                );
+
+        return http.build();
+    }
+}
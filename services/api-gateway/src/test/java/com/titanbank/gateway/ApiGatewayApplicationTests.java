@@ -0,0 +1,13 @@
+package com.titanbank.gateway;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "titanbank.gateway.principal-secret=test-secret-of-at-least-32-characters")
+class ApiGatewayApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,208 @@
+package com.titanbank.gateway.proxy;
+
+import com.sun.net.httpserver.HttpServer;
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.common.security.ForwardedPrincipal;
+import com.titanbank.common.security.TokenAuthentication;
+import com.titanbank.gateway.config.GatewayProperties;
+import com.titanbank.gateway.exception.GatewayException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GatewayProxyTest {
+
+    private static final String SECRET = "test-secret-of-at-least-32-characters";
+
+    private final ForwardedPrincipal forwardedPrincipal = new ForwardedPrincipal(SECRET);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Queue<String> principals = new ConcurrentLinkedQueue<>();
+
+    private HttpServer upstream;
+    private volatile long upstreamDelayMillis;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.createContext("/", exchange -> {
+            upstreamCalls.incrementAndGet();
+            String principal = exchange.getRequestHeaders().getFirst(ForwardedPrincipal.HEADER);
+            principals.add(principal != null ? principal : "none");
+            try {
+                Thread.sleep(upstreamDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"path\":\"" + exchange.getRequestURI() + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstream.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testForward_SignsPrincipalAndDropsClientCopy() throws Exception {
+        // Given
+        GatewayProxy proxy = proxy(route("accounts", "/api/v1/accounts/**"));
+        authenticate(7L);
+        MockHttpServletRequest request = get("/api/v1/accounts");
+        request.addHeader(ForwardedPrincipal.HEADER, "forged");
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        proxy.forward(request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).contains("/api/v1/accounts");
+        assertThat(principals).hasSize(1);
+        AuthenticatedUser forwarded = forwardedPrincipal.verify(principals.peek(), System.currentTimeMillis());
+        assertThat(forwarded.userId()).isEqualTo(7L);
+    }
+
+    @Test
+    void testForward_ConcurrentIdenticalGetsShareOneUpstreamCall() throws Exception {
+        // Given
+        GatewayProperties.Route route = route("accounts", "/api/v1/accounts/**");
+        route.setCoalesce(true);
+        GatewayProxy proxy = proxy(route);
+        upstreamDelayMillis = 300;
+        int callers = 8;
+        CountDownLatch ready = new CountDownLatch(callers);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            responses.add(pool.submit(() -> {
+                authenticate(7L);
+                ready.countDown();
+                ready.await();
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                proxy.forward(get("/api/v1/accounts"), response);
+                return response;
+            }));
+        }
+
+        // Then
+        for (Future<MockHttpServletResponse> response : responses) {
+            assertThat(response.get().getStatus()).isEqualTo(200);
+            assertThat(response.get().getContentAsString()).contains("/api/v1/accounts");
+        }
+        pool.shutdown();
+        assertThat(upstreamCalls.get()).isLessThan(callers);
+        assertThat(meterRegistry.get("gateway.requests").tag("outcome", "coalesced").timer().count())
+                .isEqualTo(callers - upstreamCalls.get());
+    }
+
+    @Test
+    void testForward_CachedRouteServesRepeatFromCache() throws Exception {
+        // Given
+        GatewayProperties.Route route = route("fx-rates", "/api/v1/fx/**");
+        route.setCacheTtl(Duration.ofMinutes(1));
+        route.setSharedCache(true);
+        GatewayProxy proxy = proxy(route);
+
+        // When
+        authenticate(1L);
+        proxy.forward(get("/api/v1/fx/rates"), new MockHttpServletResponse());
+        authenticate(2L);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        proxy.forward(get("/api/v1/fx/rates"), second);
+
+        // Then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(second.getContentAsString()).contains("/api/v1/fx/rates");
+        assertThat(meterRegistry.get("gateway.requests").tag("outcome", "cached").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testForward_RateLimitedPerCaller() throws Exception {
+        // Given
+        GatewayProperties.Route route = route("accounts", "/api/v1/accounts/**");
+        route.setRateLimit(1);
+        route.setBurst(2);
+        GatewayProxy proxy = proxy(route);
+
+        // When
+        authenticate(7L);
+        proxy.forward(get("/api/v1/accounts"), new MockHttpServletResponse());
+        proxy.forward(get("/api/v1/accounts"), new MockHttpServletResponse());
+
+        // Then
+        assertThatThrownBy(() -> proxy.forward(get("/api/v1/accounts"), new MockHttpServletResponse()))
+                .isInstanceOf(GatewayException.class)
+                .extracting("httpStatus").isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        authenticate(8L);
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        proxy.forward(get("/api/v1/accounts"), other);
+        assertThat(other.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void testForward_UnknownPath_NotFound() {
+        // Given
+        GatewayProxy proxy = proxy(route("accounts", "/api/v1/accounts/**"));
+
+        // When / Then
+        assertThatThrownBy(() -> proxy.forward(get("/api/v1/unknown"), new MockHttpServletResponse()))
+                .isInstanceOf(GatewayException.class)
+                .extracting("httpStatus").isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private GatewayProxy proxy(GatewayProperties.Route route) {
+        GatewayProperties properties = new GatewayProperties();
+        properties.setRoutes(List.of(route));
+        return new GatewayProxy(properties, new UpstreamClient(properties), forwardedPrincipal, meterRegistry);
+    }
+
+    private GatewayProperties.Route route(String id, String path) {
+        GatewayProperties.Route route = new GatewayProperties.Route();
+        route.setId(id);
+        route.setUri(URI.create("http://localhost:" + upstream.getAddress().getPort()));
+        route.setPaths(List.of(path));
+        return route;
+    }
+
+    private static void authenticate(Long userId) {
+        AuthenticatedUser user = AuthenticatedUser.of(userId, "u" + userId + "@titanbank.com", List.of("USER"),
+                System.currentTimeMillis() + 60_000);
+        SecurityContextHolder.getContext().setAuthentication(new TokenAuthentication(user, "token-" + userId));
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
@@ -0,0 +1,88 @@
+package com.titanbank.transaction.controller;
+
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.transaction.dto.request.CreateStandingOrderRequest;
+import com.titanbank.transaction.dto.response.StandingOrderResponse;
+import com.titanbank.transaction.service.StandingOrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/standing-orders")
+@RequiredArgsConstructor
+@Slf4j
+public class StandingOrderController {
+
+    private final StandingOrderService standingOrderService;
+
+    /**
+     * Set up a repeating transfer between two of the caller's accounts
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<StandingOrderResponse>> createStandingOrder(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody CreateStandingOrderRequest request) {
+        Long userId = user.userId();
+
+        log.info("Creating {} standing order from {} to {} for user: {}",
+                request.getFrequency(), request.getFromAccountId(), request.getToAccountId(), userId);
+
+        StandingOrderResponse response = StandingOrderResponse.from(standingOrderService.create(userId,
+                request.getFromAccountId(), request.getToAccountId(), request.getAmount(),
+                request.getFrequency(), request.getStartsAt()));
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Standing order created successfully"));
+    }
+
+    /**
+     * Get a single standing order owned by the caller
+     */
+    @GetMapping("/{standingOrderId}")
+    public ResponseEntity<ApiResponse<StandingOrderResponse>> getStandingOrder(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID standingOrderId) {
+        return ResponseEntity.ok(ApiResponse.success(
+                StandingOrderResponse.from(standingOrderService.get(standingOrderId, user.userId()))
+        ));
+    }
+
+    /**
+     * List all standing orders owned by the caller, cancelled ones included
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<StandingOrderResponse>>> getStandingOrders(
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        List<StandingOrderResponse> orders = standingOrderService.list(user.userId()).stream()
+                .map(StandingOrderResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(orders));
+    }
+
+    /**
+     * Stop a standing order; an occurrence already dispatched still executes
+     */
+    @DeleteMapping("/{standingOrderId}")
+    public ResponseEntity<ApiResponse<StandingOrderResponse>> cancelStandingOrder(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID standingOrderId) {
+        Long userId = user.userId();
+
+        log.info("Cancelling standing order {} for user: {}", standingOrderId, userId);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                StandingOrderResponse.from(standingOrderService.cancel(standingOrderId, userId)),
+                "Standing order cancelled successfully"
+        ));
+    }
+}
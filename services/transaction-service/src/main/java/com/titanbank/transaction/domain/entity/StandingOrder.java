@@ -0,0 +1,100 @@
+package com.titanbank.transaction.domain.entity;
+
+import com.titanbank.common.id.UuidV7;
+import com.titanbank.transaction.domain.enums.Frequency;
+import com.titanbank.transaction.domain.enums.StandingOrderStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A transfer repeated between two of a user's accounts. The scheduler advances
+ * {@code nextDueAt} and {@code executions} through JDBC and bumps the version when it does, so
+ * an entity loaded before a dispatch cannot write the old schedule back.
+ */
+@Entity
+@Table(name = "standing_orders")
+@Getter
+public class StandingOrder {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "from_account_id", nullable = false, updatable = false)
+    private UUID fromAccountId;
+
+    @Column(name = "to_account_id", nullable = false, updatable = false)
+    private UUID toAccountId;
+
+    /** In the source account's currency */
+    @Column(nullable = false, updatable = false)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private Frequency frequency;
+
+    @Column(name = "starts_at", nullable = false, updatable = false)
+    private Instant startsAt;
+
+    @Column(name = "next_due_at", nullable = false)
+    private Instant nextDueAt;
+
+    @Column(nullable = false)
+    private long executions;
+
+    @Column(name = "last_executed_at")
+    private Instant lastExecutedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StandingOrderStatus status;
+
+    @Version
+    private Long version;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected StandingOrder() {
+        // JPA
+    }
+
+    private StandingOrder(Long userId, UUID fromAccountId, UUID toAccountId, BigDecimal amount,
+                          Frequency frequency, Instant startsAt) {
+        this.id = UuidV7.next();
+        this.userId = userId;
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.amount = amount;
+        this.frequency = frequency;
+        this.startsAt = startsAt;
+        this.nextDueAt = startsAt;
+        this.status = StandingOrderStatus.ACTIVE;
+        this.createdAt = Instant.now();
+    }
+
+    public static StandingOrder create(Long userId, UUID fromAccountId, UUID toAccountId, BigDecimal amount,
+                                       Frequency frequency, Instant startsAt) {
+        if (fromAccountId.equals(toAccountId)) {
+            throw new IllegalArgumentException("Cannot transfer to the same account");
+        }
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        return new StandingOrder(userId, fromAccountId, toAccountId, amount, frequency, startsAt);
+    }
+
+    public void cancel() {
+        if (status == StandingOrderStatus.CANCELLED) {
+            throw new IllegalStateException("Standing order is already cancelled");
+        }
+        this.status = StandingOrderStatus.CANCELLED;
+    }
+}
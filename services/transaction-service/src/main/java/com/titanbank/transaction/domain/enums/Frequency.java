@@ -0,0 +1,30 @@
+package com.titanbank.transaction.domain.enums;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * How often a standing order repeats. Occurrences are counted from the first one rather than from
+ * the previous, so a monthly order starting on the 31st falls on the 28th in February and on the
+ * 31st again in March.
+ */
+public enum Frequency {
+
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * The {@code n}th occurrence after {@code first}, in UTC; occurrence 0 is {@code first} itself
+     */
+    public Instant occurrence(Instant first, long n) {
+        ZonedDateTime start = first.atZone(ZoneOffset.UTC);
+        ZonedDateTime occurrence = switch (this) {
+            case DAILY -> start.plusDays(n);
+            case WEEKLY -> start.plusWeeks(n);
+            case MONTHLY -> start.plusMonths(n);
+        };
+        return occurrence.toInstant();
+    }
+}
@@ -0,0 +1,7 @@
+package com.titanbank.transaction.domain.enums;
+
+public enum StandingOrderStatus {
+
+    ACTIVE,
+    CANCELLED
+}
@@ -0,0 +1,36 @@
+package com.titanbank.transaction.dto.request;
+
+import com.titanbank.transaction.domain.enums.Frequency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateStandingOrderRequest {
+
+    @NotNull(message = "Source account is required")
+    private UUID fromAccountId;
+
+    @NotNull(message = "Target account is required")
+    private UUID toAccountId;
+
+    /** In the source account's currency */
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Digits(integer = 15, fraction = 2, message = "Amount has too many digits")
+    private BigDecimal amount;
+
+    @NotNull(message = "Frequency is required")
+    private Frequency frequency;
+
+    /** First execution; now when omitted */
+    private Instant startsAt;
+}
@@ -0,0 +1,45 @@
+package com.titanbank.transaction.dto.response;
+
+import com.titanbank.transaction.domain.entity.StandingOrder;
+import com.titanbank.transaction.domain.enums.Frequency;
+import com.titanbank.transaction.domain.enums.StandingOrderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingOrderResponse {
+
+    private UUID standingOrderId;
+    private UUID fromAccountId;
+    private UUID toAccountId;
+    private BigDecimal amount;
+    private Frequency frequency;
+    private Instant startsAt;
+    private Instant nextDueAt;
+    private long executions;
+    private Instant lastExecutedAt;
+    private StandingOrderStatus status;
+    private Instant createdAt;
+
+    public static StandingOrderResponse from(StandingOrder order) {
+        return StandingOrderResponse.builder()
+                .standingOrderId(order.getId())
+                .fromAccountId(order.getFromAccountId())
+                .toAccountId(order.getToAccountId())
+                .amount(order.getAmount())
+                .frequency(order.getFrequency())
+                .startsAt(order.getStartsAt())
+                .nextDueAt(order.getNextDueAt())
+                .executions(order.getExecutions())
+                .lastExecutedAt(order.getLastExecutedAt())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+}
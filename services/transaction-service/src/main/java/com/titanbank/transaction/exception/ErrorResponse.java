@@ -0,0 +1,19 @@
+package com.titanbank.transaction.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorResponse {
+    private String status, errorCode, message;
+    private Map<String, String> fieldErrors;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,146 @@
+package com.titanbank.transaction.repository;
+
+import com.titanbank.transaction.domain.enums.Frequency;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based scheduling reads and writes of standing orders.
+ *
+ * <p>Dispatch is lease-based so that several instances can share the orders: a batch of due orders
+ * is claimed by writing one random token and an expiry in a single conditional update, and only
+ * rows carrying the token are dispatched. A claim that is never completed runs out and the orders
+ * become claimable again.
+ */
+@Repository
+public class StandingOrderLeaseRepository {
+
+    private static final String ACTIVE = "status = 'ACTIVE'";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public StandingOrderLeaseRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Active orders due before {@code horizon}, in {@code (next_due_at, id)} order after the given
+     * key; pass a {@code null} key for the first page
+     */
+    public List<DueOrder> findDueBefore(Instant horizon, DueOrder after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("horizon", Timestamp.from(horizon))
+                .addValue("limit", limit);
+        String keyset = "";
+        if (after != null) {
+            keyset = " AND (next_due_at, id) > (:afterDue, :afterId)";
+            params.addValue("afterDue", Timestamp.from(after.dueAt())).addValue("afterId", after.id());
+        }
+        return jdbcTemplate.query("SELECT id, next_due_at FROM standing_orders WHERE " + ACTIVE
+                        + " AND next_due_at < :horizon" + keyset + " ORDER BY next_due_at, id LIMIT :limit",
+                params, (rs, row) -> new DueOrder(
+                        rs.getObject("id", UUID.class), rs.getTimestamp("next_due_at").toInstant()));
+    }
+
+    /**
+     * Lease those of the given orders that are active, due by {@code now} and not leased to anyone
+     * else, under {@code token}
+     *
+     * @return the number of orders leased
+     */
+    public int claim(Collection<UUID> ids, UUID token, Instant now, Instant leaseUntil) {
+        return jdbcTemplate.update("""
+                        UPDATE standing_orders SET lease_token = :token, lease_until = :leaseUntil
+                        WHERE id IN (:ids) AND status = 'ACTIVE' AND next_due_at <= :now
+                          AND (lease_until IS NULL OR lease_until < :now)""",
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("token", token)
+                        .addValue("now", Timestamp.from(now))
+                        .addValue("leaseUntil", Timestamp.from(leaseUntil)));
+    }
+
+    public List<ClaimedOrder> findClaimed(UUID token) {
+        return jdbcTemplate.query("""
+                        SELECT id, user_id, from_account_id, to_account_id, amount, frequency, starts_at,
+                               next_due_at, executions
+                        FROM standing_orders WHERE lease_token = :token""",
+                new MapSqlParameterSource("token", token),
+                (rs, row) -> new ClaimedOrder(
+                        rs.getObject("id", UUID.class),
+                        rs.getLong("user_id"),
+                        rs.getObject("from_account_id", UUID.class),
+                        rs.getObject("to_account_id", UUID.class),
+                        rs.getBigDecimal("amount"),
+                        Frequency.valueOf(rs.getString("frequency")),
+                        rs.getTimestamp("starts_at").toInstant(),
+                        rs.getTimestamp("next_due_at").toInstant(),
+                        rs.getLong("executions")));
+    }
+
+    /**
+     * Move dispatched orders on to their next occurrence and drop the lease; rows whose lease was
+     * lost in the meantime are left alone
+     *
+     * @return the number of orders advanced
+     */
+    public int complete(List<ClaimedOrder> dispatched, UUID token, Instant executedAt) {
+        SqlParameterSource[] batch = new SqlParameterSource[dispatched.size()];
+        for (int i = 0; i < batch.length; i++) {
+            ClaimedOrder order = dispatched.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("id", order.id())
+                    .addValue("token", token)
+                    .addValue("nextDueAt", Timestamp.from(order.nextOccurrence()))
+                    .addValue("executions", order.executions() + 1)
+                    .addValue("executedAt", Timestamp.from(executedAt));
+        }
+        int completed = 0;
+        for (int count : jdbcTemplate.batchUpdate("""
+                UPDATE standing_orders
+                SET next_due_at = :nextDueAt, executions = :executions, last_executed_at = :executedAt,
+                    lease_token = NULL, lease_until = NULL, version = COALESCE(version, 0) + 1
+                WHERE id = :id AND lease_token = :token""", batch)) {
+            completed += Math.max(count, 0);
+        }
+        return completed;
+    }
+
+    /**
+     * Give up the lease on orders that were not dispatched, so any instance can retry them at once
+     */
+    public int release(Collection<UUID> ids, UUID token) {
+        return jdbcTemplate.update("""
+                        UPDATE standing_orders SET lease_token = NULL, lease_until = NULL
+                        WHERE id IN (:ids) AND lease_token = :token""",
+                new MapSqlParameterSource().addValue("ids", ids).addValue("token", token));
+    }
+
+    public record DueOrder(UUID id, Instant dueAt) {
+    }
+
+    public record ClaimedOrder(UUID id, long userId, UUID fromAccountId, UUID toAccountId, BigDecimal amount,
+                               Frequency frequency, Instant startsAt, Instant dueAt, long executions) {
+
+        /**
+         * Stable per occurrence, so a re-dispatch after a lost lease is recognised downstream
+         */
+        public UUID transferId() {
+            return UUID.nameUUIDFromBytes((id + "/" + executions).getBytes(StandardCharsets.UTF_8));
+        }
+
+        public Instant nextOccurrence() {
+            return frequency.occurrence(startsAt, executions + 1);
+        }
+    }
+}
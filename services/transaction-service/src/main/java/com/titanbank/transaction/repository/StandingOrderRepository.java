@@ -0,0 +1,15 @@
+package com.titanbank.transaction.repository;
+
+import com.titanbank.transaction.domain.entity.StandingOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StandingOrderRepository extends JpaRepository<StandingOrder, UUID> {
+
+    Optional<StandingOrder> findByIdAndUserId(UUID id, Long userId);
+
+    List<StandingOrder> findAllByUserIdOrderByCreatedAt(Long userId);
+}
@@ -0,0 +1,155 @@
+package com.titanbank.transaction.scheduler;
+
+/**
+ * Hierarchical timing wheel: {@code levels} wheels of {@code wheelSize} slots, where a slot of
+ * level {@code n} spans {@code wheelSize^n} ticks.
+ *
+ * <p>Scheduling pushes onto the head of one slot's list and a tick empties one level-0 slot, so
+ * both are O(1) however many entries are held. Entries further out wait in a coarser level and are
+ * moved one level down each time the finer wheel completes a turn, which costs O(1) per entry and
+ * level over its lifetime. Deadlines beyond the top level are parked at its far end and re-placed
+ * when they come round. Entries fire on the first tick at or after their deadline, never earlier.
+ *
+ * <p>Not thread-safe: schedule and advance from one thread.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final long maxDelta;
+    private final Entry<T>[][] slots;
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("tick must be at least 1 ms");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheel size must be a power of two: " + wheelSize);
+        }
+        int bits = Integer.numberOfTrailingZeros(wheelSize);
+        if (levels < 1 || bits * levels > 62) {
+            throw new IllegalArgumentException("levels must be between 1 and " + 62 / bits);
+        }
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.maxDelta = (1L << (bits * levels)) - 1;
+        this.slots = new Entry[levels][wheelSize];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Fire {@code item} once the wheel has advanced to {@code deadlineMillis}; a deadline already
+     * passed fires on the next tick
+     */
+    public void schedule(T item, long deadlineMillis) {
+        // Rounded up, so an entry never fires before its deadline
+        long tick = -Math.floorDiv(-deadlineMillis, tickMillis);
+        place(new Entry<>(item, deadlineMillis, tick), currentTick + 1);
+        size++;
+    }
+
+    /**
+     * Run every tick up to {@code nowMillis}, handing each expired entry to {@code handler}, earlier
+     * ticks first
+     *
+     * @return the number of entries expired
+     */
+    public int advanceTo(long nowMillis, ExpiryHandler<? super T> handler) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        int expired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            int slot = (int) (currentTick & mask);
+            Entry<T> entry = slots[0][slot];
+            slots[0][slot] = null;
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.next = null;
+                size--;
+                expired++;
+                handler.expired(entry.item, entry.deadlineMillis);
+                entry = next;
+            }
+        }
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Furthest deadline, relative to now, that is placed exactly rather than parked
+     */
+    public long spanMillis() {
+        return maxDelta * tickMillis;
+    }
+
+    // Helper methods
+
+    // Where a finer wheel has just completed a turn, move the next coarser slot's entries down
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            if ((currentTick & ((1L << (bits * level)) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (bits * level)) & mask);
+            Entry<T> entry = slots[level][slot];
+            slots[level][slot] = null;
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                // An entry due on this very tick goes to the level-0 slot about to be emptied
+                place(entry, currentTick);
+                entry = next;
+            }
+        }
+    }
+
+    private void place(Entry<T> entry, long earliestTick) {
+        long tick = Math.max(entry.tick, earliestTick);
+        long delta = tick - currentTick;
+        if (delta > maxDelta) {
+            tick = currentTick + maxDelta;
+            delta = maxDelta;
+        }
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << (bits * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((tick >>> (bits * level)) & mask);
+        entry.next = slots[level][slot];
+        slots[level][slot] = entry;
+    }
+
+    @FunctionalInterface
+    public interface ExpiryHandler<T> {
+
+        void expired(T item, long deadlineMillis);
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private final long tick;
+        private Entry<T> next;
+
+        Entry(T item, long deadlineMillis, long tick) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+            this.tick = tick;
+        }
+    }
+}
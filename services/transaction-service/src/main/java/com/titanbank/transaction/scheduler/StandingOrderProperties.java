@@ -0,0 +1,45 @@
+package com.titanbank.transaction.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Timing wheel geometry and dispatch settings of the standing order scheduler
+ */
+@Data
+@ConfigurationProperties(prefix = "standing-orders")
+public class StandingOrderProperties {
+
+    /** Where due transfers are published for account-service */
+    private String topic = "transfer-requests";
+
+    private Scheduler scheduler = new Scheduler();
+
+    @Data
+    public static class Scheduler {
+
+        private boolean enabled = true;
+
+        /** Wheel resolution; an order fires at most this long after it falls due */
+        private Duration tick = Duration.ofSeconds(1);
+
+        /** Slots per level, a power of two */
+        private int wheelSize = 64;
+
+        private int levels = 3;
+
+        /** Orders due within this much time are held in the wheel */
+        private Duration lookAhead = Duration.ofMinutes(10);
+
+        /** How often the look-ahead window is reloaded; also picks up orders whose lease ran out */
+        private Duration refreshInterval = Duration.ofMinutes(1);
+
+        private int claimBatchSize = 500;
+
+        private Duration lease = Duration.ofMinutes(2);
+
+        private Duration sendTimeout = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,245 @@
+package com.titanbank.transaction.scheduler;
+
+import com.titanbank.events.TransferRequestedEvent;
+import com.titanbank.transaction.repository.StandingOrderLeaseRepository;
+import com.titanbank.transaction.repository.StandingOrderLeaseRepository.ClaimedOrder;
+import com.titanbank.transaction.repository.StandingOrderLeaseRepository.DueOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fires standing orders when they fall due.
+ *
+ * <p>Orders due within the look-ahead are loaded into a {@link HierarchicalTimingWheel}, so a tick
+ * costs the same however many orders are waiting, and reloaded every refresh interval to pick up
+ * orders created on other instances or left behind by an expired lease. Orders that fire together
+ * are leased in batches; the instance whose conditional update wins publishes a
+ * {@link TransferRequestedEvent} per order and moves the orders on to their next occurrence, and
+ * instances that lose skip them. An order whose send fails is released for the next refresh.
+ *
+ * <p>The wheel and every database call run on one scheduler thread.
+ */
+@Component
+@ConditionalOnProperty(prefix = "standing-orders.scheduler", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(StandingOrderProperties.class)
+@Slf4j
+public class StandingOrderScheduler {
+
+    private final StandingOrderLeaseRepository leaseRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+    private final StandingOrderProperties.Scheduler settings;
+    private final Clock clock;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "standing-orders");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final HierarchicalTimingWheel<UUID> wheel;
+
+    // Deadline each order is held in the wheel for; an entry whose deadline no longer matches is stale
+    private final Map<UUID, Long> scheduled = new ConcurrentHashMap<>();
+    private final List<DueOrder> fired = new ArrayList<>();
+
+    private final Timer lagTimer;
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+
+    public StandingOrderScheduler(
+            StandingOrderLeaseRepository leaseRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            StandingOrderProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        StandingOrderProperties.Scheduler settings = properties.getScheduler();
+        if (settings.getLookAhead().compareTo(settings.getRefreshInterval()) < 0) {
+            throw new IllegalArgumentException("standing-orders.scheduler.look-ahead must cover refresh-interval");
+        }
+        if (settings.getClaimBatchSize() < 1) {
+            throw new IllegalArgumentException("standing-orders.scheduler.claim-batch-size must be positive");
+        }
+        this.leaseRepository = leaseRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = properties.getTopic();
+        this.settings = settings;
+        this.clock = Clock.systemUTC();
+        this.wheel = new HierarchicalTimingWheel<>(settings.getTick().toMillis(), settings.getWheelSize(),
+                settings.getLevels(), clock.millis());
+
+        this.lagTimer = Timer.builder("standing.orders.dispatch.lag")
+                .description("Time from an order falling due to its transfer request being published")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(30))
+                .register(meterRegistry);
+        this.dispatchedCounter = dispatchCounter(meterRegistry, "dispatched");
+        this.failedCounter = dispatchCounter(meterRegistry, "failed");
+        meterRegistry.gauge("standing.orders.scheduled", scheduled, Map::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::refresh, 0,
+                settings.getRefreshInterval().toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::tick, settings.getTick().toMillis(),
+                settings.getTick().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(settings.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Hold a new order in the wheel straight away if it falls due before the next refresh would load it
+     */
+    public void track(UUID orderId, Instant dueAt) {
+        if (dueAt.isBefore(clock.instant().plus(settings.getLookAhead()))) {
+            executor.execute(() -> schedule(orderId, dueAt.toEpochMilli()));
+        }
+    }
+
+    // Helper methods
+
+    private void refresh() {
+        try {
+            Instant horizon = clock.instant().plus(settings.getLookAhead());
+            DueOrder after = null;
+            List<DueOrder> page;
+            do {
+                page = leaseRepository.findDueBefore(horizon, after, settings.getClaimBatchSize());
+                for (DueOrder order : page) {
+                    schedule(order.id(), order.dueAt().toEpochMilli());
+                }
+                after = page.isEmpty() ? null : page.get(page.size() - 1);
+            } while (page.size() == settings.getClaimBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("Could not load due standing orders: {}", e.getMessage());
+        }
+    }
+
+    private void schedule(UUID orderId, long dueAtMillis) {
+        Long previous = scheduled.put(orderId, dueAtMillis);
+        if (previous == null || previous != dueAtMillis) {
+            wheel.schedule(orderId, dueAtMillis);
+        }
+    }
+
+    private void tick() {
+        try {
+            wheel.advanceTo(clock.millis(), (orderId, dueAtMillis) -> {
+                if (scheduled.remove(orderId, dueAtMillis)) {
+                    fired.add(new DueOrder(orderId, Instant.ofEpochMilli(dueAtMillis)));
+                }
+            });
+            for (int from = 0; from < fired.size(); from += settings.getClaimBatchSize()) {
+                dispatch(fired.subList(from, Math.min(from + settings.getClaimBatchSize(), fired.size())));
+            }
+        } catch (RuntimeException e) {
+            // Orders that were not dispatched are picked up again by the next refresh
+            log.warn("Standing order dispatch failed: {}", e.getMessage());
+        } finally {
+            fired.clear();
+        }
+    }
+
+    private void dispatch(List<DueOrder> due) {
+        UUID token = UUID.randomUUID();
+        Instant now = clock.instant();
+        if (leaseRepository.claim(due.stream().map(DueOrder::id).toList(), token, now,
+                now.plus(settings.getLease())) == 0) {
+            return;
+        }
+        List<ClaimedOrder> claimed = leaseRepository.findClaimed(token);
+
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(claimed.size());
+        for (ClaimedOrder order : claimed) {
+            sends.add(kafkaTemplate.send(topic, String.valueOf(order.userId()), TransferRequestedEvent.builder()
+                    .transferId(order.transferId())
+                    .userId(order.userId())
+                    .fromAccountId(order.fromAccountId())
+                    .toAccountId(order.toAccountId())
+                    .amount(order.amount())
+                    .dueAt(order.dueAt())
+                    .build()));
+        }
+
+        long deadline = System.nanoTime() + settings.getSendTimeout().toNanos();
+        List<ClaimedOrder> dispatched = new ArrayList<>(claimed.size());
+        List<UUID> failed = new ArrayList<>();
+        for (int i = 0; i < claimed.size(); i++) {
+            ClaimedOrder order = claimed.get(i);
+            if (awaitSend(sends.get(i), deadline)) {
+                dispatched.add(order);
+                lagTimer.record(Duration.between(order.dueAt(), clock.instant()));
+            } else {
+                failed.add(order.id());
+            }
+        }
+
+        if (!dispatched.isEmpty()) {
+            leaseRepository.complete(dispatched, token, now);
+            dispatchedCounter.increment(dispatched.size());
+            Instant horizon = clock.instant().plus(settings.getLookAhead());
+            for (ClaimedOrder order : dispatched) {
+                Instant next = order.nextOccurrence();
+                if (next.isBefore(horizon)) {
+                    schedule(order.id(), next.toEpochMilli());
+                }
+            }
+        }
+        if (!failed.isEmpty()) {
+            leaseRepository.release(failed, token);
+            failedCounter.increment(failed.size());
+            log.warn("{} of {} standing orders could not be published and were released",
+                    failed.size(), claimed.size());
+        }
+    }
+
+    private boolean awaitSend(CompletableFuture<SendResult<String, Object>> send, long deadlineNanos) {
+        try {
+            send.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("standing.orders.dispatched")
+                .description("Due standing orders handed to the transfer topic, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.titanbank.transaction.service;
+
+import com.titanbank.transaction.domain.entity.StandingOrder;
+import com.titanbank.transaction.domain.enums.Frequency;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface StandingOrderService {
+
+    /**
+     * Repeat a transfer of {@code amount} (in the source currency) between two of the user's
+     * accounts, first at {@code startsAt}
+     */
+    StandingOrder create(Long userId, UUID fromAccountId, UUID toAccountId, BigDecimal amount,
+                         Frequency frequency, Instant startsAt);
+
+    StandingOrder get(UUID standingOrderId, Long userId);
+
+    List<StandingOrder> list(Long userId);
+
+    StandingOrder cancel(UUID standingOrderId, Long userId);
+}
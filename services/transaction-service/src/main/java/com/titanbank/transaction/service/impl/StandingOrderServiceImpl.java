@@ -0,0 +1,64 @@
+package com.titanbank.transaction.service.impl;
+
+import com.titanbank.transaction.domain.entity.StandingOrder;
+import com.titanbank.transaction.domain.enums.Frequency;
+import com.titanbank.transaction.repository.StandingOrderRepository;
+import com.titanbank.transaction.scheduler.StandingOrderScheduler;
+import com.titanbank.transaction.service.StandingOrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class StandingOrderServiceImpl implements StandingOrderService {
+
+    private final StandingOrderRepository standingOrderRepository;
+    // Absent where the scheduler is disabled; the order is then fired by whichever instance runs it
+    private final ObjectProvider<StandingOrderScheduler> scheduler;
+
+    @Override
+    public StandingOrder create(Long userId, UUID fromAccountId, UUID toAccountId, BigDecimal amount,
+                                Frequency frequency, Instant startsAt) {
+        StandingOrder order = standingOrderRepository.save(StandingOrder.create(userId, fromAccountId, toAccountId,
+                amount, frequency, startsAt != null ? startsAt : Instant.now()));
+        // Committed by now, so the claim on firing sees the row
+        scheduler.ifAvailable(s -> s.track(order.getId(), order.getNextDueAt()));
+        return order;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StandingOrder get(UUID standingOrderId, Long userId) {
+        return findStandingOrder(standingOrderId, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StandingOrder> list(Long userId) {
+        return standingOrderRepository.findAllByUserIdOrderByCreatedAt(userId);
+    }
+
+    @Override
+    @Transactional
+    public StandingOrder cancel(UUID standingOrderId, Long userId) {
+        StandingOrder order = findStandingOrder(standingOrderId, userId);
+        order.cancel();
+        return order;
+    }
+
+    // Helper methods
+
+    private StandingOrder findStandingOrder(UUID standingOrderId, Long userId) {
+        return standingOrderRepository.findByIdAndUserId(standingOrderId, userId)
+                .orElseThrow(() ->
+                        new IllegalArgumentException("Standing order not found or access denied")
+                );
+    }
+}
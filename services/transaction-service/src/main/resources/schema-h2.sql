@@ -0,0 +1,23 @@
+CREATE TABLE IF NOT EXISTS standing_orders (
+    id              UUID            NOT NULL PRIMARY KEY,
+    user_id         BIGINT          NOT NULL,
+    from_account_id UUID            NOT NULL,
+    to_account_id   UUID            NOT NULL,
+    amount          DECIMAL(19, 4)  NOT NULL,
+    frequency       VARCHAR(16)     NOT NULL,
+    starts_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    next_due_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    executions      BIGINT          NOT NULL DEFAULT 0,
+    last_executed_at TIMESTAMP WITH TIME ZONE,
+    status          VARCHAR(16)     NOT NULL,
+    lease_token     UUID,
+    lease_until     TIMESTAMP WITH TIME ZONE,
+    version         BIGINT,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_standing_orders_user_id ON standing_orders (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_standing_orders_due ON standing_orders (next_due_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_standing_orders_lease_token ON standing_orders (lease_token);
@@ -0,0 +1,27 @@
+-- PostgreSQL layout (spring.sql.init.platform=postgresql).
+-- A standing order repeats a transfer between two of a user's accounts. next_due_at is the next
+-- occurrence; a scheduler node holds lease_token until lease_until while it dispatches that occurrence.
+CREATE TABLE IF NOT EXISTS standing_orders (
+    id              UUID            NOT NULL PRIMARY KEY,
+    user_id         BIGINT          NOT NULL,
+    from_account_id UUID            NOT NULL,
+    to_account_id   UUID            NOT NULL,
+    amount          NUMERIC(19, 4)  NOT NULL,
+    frequency       VARCHAR(16)     NOT NULL,
+    starts_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    next_due_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    executions      BIGINT          NOT NULL DEFAULT 0,
+    last_executed_at TIMESTAMP WITH TIME ZONE,
+    status          VARCHAR(16)     NOT NULL,
+    lease_token     UUID,
+    lease_until     TIMESTAMP WITH TIME ZONE,
+    version         BIGINT,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_standing_orders_user_id ON standing_orders (user_id);
+
+-- The scheduler's look-ahead scan, in (next_due_at, id) keyset order over active orders only
+CREATE INDEX IF NOT EXISTS idx_standing_orders_due ON standing_orders (next_due_at, id) WHERE status = 'ACTIVE';
+
+CREATE INDEX IF NOT EXISTS idx_standing_orders_lease_token ON standing_orders (lease_token) WHERE lease_token IS NOT NULL;
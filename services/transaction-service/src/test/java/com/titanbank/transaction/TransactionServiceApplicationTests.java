@@ -3,7 +3,10 @@ package com.titanbank.transaction;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:transactions",
+		"spring.sql.init.platform=h2"
+})
 class TransactionServiceApplicationTests {
 
 	@Test
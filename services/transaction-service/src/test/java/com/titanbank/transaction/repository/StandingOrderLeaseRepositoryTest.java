@@ -0,0 +1,145 @@
+package com.titanbank.transaction.repository;
+
+import com.titanbank.transaction.domain.enums.Frequency;
+import com.titanbank.transaction.repository.StandingOrderLeaseRepository.ClaimedOrder;
+import com.titanbank.transaction.repository.StandingOrderLeaseRepository.DueOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StandingOrderLeaseRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-07-01T09:00:00Z");
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private StandingOrderLeaseRepository repository;
+    private List<UUID> due;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:standing-orders-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(dataSource);
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        repository = new StandingOrderLeaseRepository(jdbcTemplate);
+
+        // Given - five daily orders due now, one due tomorrow and one due now but cancelled
+        due = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            due.add(insert(jdbcTemplate, NOW.minusSeconds(i), "ACTIVE"));
+        }
+        insert(jdbcTemplate, NOW.plus(Duration.ofDays(1)), "ACTIVE");
+        insert(jdbcTemplate, NOW, "CANCELLED");
+    }
+
+    @Test
+    void testFindDueBefore_PagesActiveOrdersInDueOrder() {
+        // When
+        List<DueOrder> first = repository.findDueBefore(NOW.plusSeconds(1), null, 3);
+        List<DueOrder> second = repository.findDueBefore(NOW.plusSeconds(1), first.get(2), 3);
+
+        // Then
+        assertThat(first).extracting(DueOrder::id).containsExactly(due.get(4), due.get(3), due.get(2));
+        assertThat(second).extracting(DueOrder::id).containsExactly(due.get(1), due.get(0));
+    }
+
+    @Test
+    void testClaim_OnlyOneInstanceLeasesAnOrder() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // When
+        int claimedFirst = repository.claim(due.subList(0, 3), first, NOW, NOW.plus(LEASE));
+        int claimedSecond = repository.claim(due, second, NOW, NOW.plus(LEASE));
+
+        // Then
+        assertThat(claimedFirst).isEqualTo(3);
+        assertThat(claimedSecond).isEqualTo(2);
+        assertThat(repository.findClaimed(first)).extracting(ClaimedOrder::id)
+                .containsExactlyInAnyOrderElementsOf(due.subList(0, 3));
+        assertThat(repository.findClaimed(second)).extracting(ClaimedOrder::id)
+                .containsExactlyInAnyOrderElementsOf(due.subList(3, 5));
+    }
+
+    @Test
+    void testClaim_ExpiredLeaseIsClaimedAgainWithSameTransferId() {
+        // Given - an instance that claimed and died
+        UUID dead = UUID.randomUUID();
+        repository.claim(due, dead, NOW, NOW.plus(LEASE));
+        UUID lostTransfer = repository.findClaimed(dead).get(0).transferId();
+
+        // When
+        UUID token = UUID.randomUUID();
+        int early = repository.claim(due, token, NOW.plusSeconds(60), NOW.plusSeconds(60).plus(LEASE));
+        int late = repository.claim(due, token, NOW.plus(LEASE).plusSeconds(1), NOW.plus(LEASE).plus(LEASE));
+
+        // Then
+        assertThat(early).isZero();
+        assertThat(late).isEqualTo(5);
+        assertThat(repository.findClaimed(token)).extracting(ClaimedOrder::transferId).contains(lostTransfer);
+    }
+
+    @Test
+    void testComplete_AdvancesToNextOccurrenceAndDropsLease() {
+        // Given
+        UUID token = UUID.randomUUID();
+        repository.claim(due, token, NOW, NOW.plus(LEASE));
+        List<ClaimedOrder> claimed = repository.findClaimed(token);
+
+        // When - the order completed by a stale lease holder is left alone
+        int completed = repository.complete(claimed, token, NOW);
+        int stale = repository.complete(claimed, UUID.randomUUID(), NOW);
+
+        // Then
+        assertThat(completed).isEqualTo(5);
+        assertThat(stale).isZero();
+        assertThat(repository.findClaimed(token)).isEmpty();
+        assertThat(repository.findDueBefore(NOW.plusSeconds(1), null, 10)).isEmpty();
+        List<DueOrder> tomorrow = repository.findDueBefore(NOW.plus(Duration.ofDays(2)), null, 10);
+        assertThat(tomorrow).hasSize(6);
+        assertThat(repository.claim(due, token, NOW.plus(Duration.ofDays(1)), NOW.plus(Duration.ofDays(1))))
+                .isEqualTo(5);
+        assertThat(repository.findClaimed(token)).allSatisfy(order -> {
+            assertThat(order.executions()).isEqualTo(1);
+            assertThat(order.transferId()).isNotIn(claimed.stream().map(ClaimedOrder::transferId).toList());
+        });
+    }
+
+    @Test
+    void testRelease_MakesOrdersClaimableAtOnce() {
+        // Given
+        UUID token = UUID.randomUUID();
+        repository.claim(due, token, NOW, NOW.plus(LEASE));
+
+        // When
+        repository.release(due.subList(0, 2), token);
+
+        // Then
+        assertThat(repository.claim(due, UUID.randomUUID(), NOW, NOW.plus(LEASE))).isEqualTo(2);
+    }
+
+    private static UUID insert(NamedParameterJdbcTemplate jdbcTemplate, Instant dueAt, String status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.getJdbcTemplate().update("""
+                        INSERT INTO standing_orders (id, user_id, from_account_id, to_account_id, amount, frequency,
+                                                     starts_at, next_due_at, executions, status, version, created_at)
+                        VALUES (?, 42, ?, ?, ?, ?, ?, ?, 0, ?, 0, ?)""",
+                id, UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("25.00"), Frequency.DAILY.name(),
+                Timestamp.from(dueAt), Timestamp.from(dueAt), status, Timestamp.from(NOW.minus(Duration.ofDays(30))));
+        return id;
+    }
+}
@@ -0,0 +1,90 @@
+package com.titanbank.transaction.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void testAdvanceTo_FiresEveryEntryOnFirstTickAtOrAfterDeadline() {
+        // Given - 10 ms ticks, 8 slots, 3 levels: exact placement up to 5.11 s out, parking beyond
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            wheel.schedule((long) i, START + random.nextInt(20_000));
+        }
+        wheel.schedule(-1L, START + 5);
+
+        // When - advanced in uneven steps
+        List<long[]> fired = new ArrayList<>();
+        long now = START;
+        while (wheel.size() > 0) {
+            now += 1 + random.nextInt(400);
+            long at = now;
+            wheel.advanceTo(now, (item, deadline) -> fired.add(new long[]{deadline, at}));
+        }
+
+        // Then - never early, never later than one tick past the step that covered the deadline
+        assertThat(fired).hasSize(2_001);
+        for (long[] firing : fired) {
+            assertThat(firing[1]).isGreaterThanOrEqualTo(firing[0]);
+        }
+    }
+
+    @Test
+    void testAdvanceTo_FiresInTickOrder() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 64, 3, START);
+        wheel.schedule("hour", START + 3_600_000);
+        wheel.schedule("second", START + 1_000);
+        wheel.schedule("minute", START + 60_000);
+
+        // When
+        List<String> fired = new ArrayList<>();
+        int expired = wheel.advanceTo(START + 3_600_000, (item, deadline) -> fired.add(item));
+
+        // Then
+        assertThat(expired).isEqualTo(3);
+        assertThat(fired).containsExactly("second", "minute", "hour");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void testAdvanceTo_HoldsEntryUntilItsTick() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 64, 2, START);
+        wheel.schedule("order", START + 90_500);
+
+        // When / Then - rounded up to the 91st tick, not fired a tick early
+        assertThat(wheel.advanceTo(START + 90_999, (item, deadline) -> { })).isZero();
+        assertThat(wheel.advanceTo(START + 91_000, (item, deadline) -> { })).isEqualTo(1);
+    }
+
+    @Test
+    void testSchedule_PastDeadlineFiresOnNextTick() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 64, 3, START);
+
+        // When
+        wheel.schedule("overdue", START - 86_400_000);
+
+        // Then
+        List<Long> deadlines = new ArrayList<>();
+        wheel.advanceTo(START + 1_000, (item, deadline) -> deadlines.add(deadline));
+        assertThat(deadlines).containsExactly(START - 86_400_000);
+    }
+
+    @Test
+    void testConstructor_RejectsWheelSizeThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(1_000, 60, 3, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,245 @@
+package com.titanbank.user.analytics;
+
+import com.titanbank.common.id.IdHashing;
+import com.titanbank.events.UserLoggedInEvent;
+import com.titanbank.user.dto.response.LoginAnalyticsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Windowed login aggregates over event time, in fixed memory:
+ * <ul>
+ *   <li>logins per minute: tumbling one-minute counters in a ring</li>
+ *   <li>distinct users per hour: a tumbling one-hour {@link HyperLogLog} ring</li>
+ *   <li>bursts: per user, a sliding window over the last {@code burstThreshold} logins, for the
+ *       most recently active {@code maxTrackedUsers} users</li>
+ * </ul>
+ * Ring slots are reused as event time moves on; a login older than a slot's current window is late
+ * and dropped. Callers feed whole consumer batches, so the lock is taken once per batch.
+ */
+@Component
+@EnableConfigurationProperties(LoginAnalyticsProperties.class)
+@Slf4j
+public class LoginAnalytics {
+
+    private static final long MINUTE_MS = 60_000;
+    private static final long HOUR_MS = 3_600_000;
+
+    private final int burstThreshold;
+    private final long burstWindowMs;
+    private final int maxBursts;
+
+    private final long[] minuteOf;
+    private final long[] loginsInMinute;
+    private final long[] hourOf;
+    private final HyperLogLog[] usersInHour;
+    private final Map<Long, LoginLog> recentLogins;
+    private final ArrayDeque<LoginAnalyticsResponse.Burst> bursts;
+
+    private long watermark = Long.MIN_VALUE;
+    private long lateEvents;
+
+    private final Counter accepted;
+    private final Counter late;
+    private final Counter burstsDetected;
+
+    public LoginAnalytics(LoginAnalyticsProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getMinutes() < 1 || properties.getHours() < 1 || properties.getBurstThreshold() < 2) {
+            throw new IllegalArgumentException("login-analytics needs at least one minute and hour window "
+                    + "and a burst threshold of 2 or more");
+        }
+        this.burstThreshold = properties.getBurstThreshold();
+        this.burstWindowMs = properties.getBurstWindow().toMillis();
+        this.maxBursts = properties.getMaxBursts();
+
+        this.minuteOf = new long[properties.getMinutes()];
+        this.loginsInMinute = new long[properties.getMinutes()];
+        this.hourOf = new long[properties.getHours()];
+        this.usersInHour = new HyperLogLog[properties.getHours()];
+        Arrays.fill(minuteOf, Long.MIN_VALUE);
+        Arrays.fill(hourOf, Long.MIN_VALUE);
+        for (int i = 0; i < usersInHour.length; i++) {
+            usersInHour[i] = new HyperLogLog(properties.getHllPrecision());
+        }
+
+        int maxTrackedUsers = properties.getMaxTrackedUsers();
+        this.recentLogins = new LinkedHashMap<>(Math.min(maxTrackedUsers, 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LoginLog> eldest) {
+                return size() > maxTrackedUsers;
+            }
+        };
+        this.bursts = new ArrayDeque<>();
+
+        this.accepted = counter(meterRegistry, "accepted");
+        this.late = counter(meterRegistry, "late");
+        this.burstsDetected = Counter.builder("login.analytics.bursts")
+                .description("Users seen logging in at least burst-threshold times inside the burst window")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("login.analytics.events")
+                .description("Login events consumed by the analytics stream")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public synchronized void recordAll(List<UserLoggedInEvent> events) {
+        int acceptedCount = 0;
+        int lateCount = 0;
+        for (UserLoggedInEvent event : events) {
+            if (event.getUserId() == null || event.getTimestamp() == null) {
+                continue;
+            }
+            if (record(event.getUserId(), event.getTimestamp().toEpochMilli())) {
+                acceptedCount++;
+            } else {
+                lateCount++;
+            }
+        }
+        lateEvents += lateCount;
+        accepted.increment(acceptedCount);
+        late.increment(lateCount);
+    }
+
+    private boolean record(long userId, long at) {
+        long minute = Math.floorDiv(at, MINUTE_MS);
+        long hour = Math.floorDiv(at, HOUR_MS);
+        int minuteSlot = (int) Math.floorMod(minute, (long) minuteOf.length);
+        int hourSlot = (int) Math.floorMod(hour, (long) hourOf.length);
+        if (minuteOf[minuteSlot] > minute || hourOf[hourSlot] > hour) {
+            return false;
+        }
+
+        if (minuteOf[minuteSlot] != minute) {
+            minuteOf[minuteSlot] = minute;
+            loginsInMinute[minuteSlot] = 0;
+        }
+        loginsInMinute[minuteSlot]++;
+
+        if (hourOf[hourSlot] != hour) {
+            hourOf[hourSlot] = hour;
+            usersInHour[hourSlot].clear();
+        }
+        // Snowflake ids differ mostly in their low and middle bits
+        usersInHour[hourSlot].add(IdHashing.mix(userId));
+
+        watermark = Math.max(watermark, at);
+        detectBurst(userId, at);
+        return true;
+    }
+
+    private void detectBurst(long userId, long at) {
+        LoginLog logins = recentLogins.get(userId);
+        if (logins == null) {
+            logins = new LoginLog(burstThreshold);
+            recentLogins.put(userId, logins);
+        }
+        if (!logins.append(at)) {
+            return;
+        }
+        long first = logins.earliest();
+        long last = logins.latest();
+        if (last - first > burstWindowMs || last < logins.quietUntil) {
+            return;
+        }
+        // Reported once per window, however long the burst goes on
+        logins.quietUntil = last + burstWindowMs;
+        burstsDetected.increment();
+        if (bursts.size() == maxBursts) {
+            bursts.removeLast();
+        }
+        bursts.addFirst(LoginAnalyticsResponse.Burst.builder()
+                .userId(userId)
+                .logins(burstThreshold)
+                .firstLoginAt(Instant.ofEpochMilli(first))
+                .lastLoginAt(Instant.ofEpochMilli(last))
+                .build());
+        log.warn("Login burst: user {} logged in {} times within {} ms", userId, burstThreshold, last - first);
+    }
+
+    public synchronized LoginAnalyticsResponse snapshot() {
+        return LoginAnalyticsResponse.builder()
+                .watermark(watermark == Long.MIN_VALUE ? null : Instant.ofEpochMilli(watermark))
+                .loginsPerMinute(windows(minuteOf, MINUTE_MS, slot -> loginsInMinute[slot]))
+                .distinctUsersPerHour(windows(hourOf, HOUR_MS, slot -> usersInHour[slot].estimate()))
+                .recentBursts(new ArrayList<>(bursts))
+                .trackedUsers(recentLogins.size())
+                .lateEvents(lateEvents)
+                .build();
+    }
+
+    // Retained windows in time order; a slot holds whichever window last wrote to it
+    private static List<LoginAnalyticsResponse.WindowCount> windows(
+            long[] windowOf, long windowMs, IntToLongFunction count) {
+        List<LoginAnalyticsResponse.WindowCount> windows = new ArrayList<>();
+        Integer[] slots = new Integer[windowOf.length];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = i;
+        }
+        Arrays.sort(slots, (a, b) -> Long.compare(windowOf[a], windowOf[b]));
+        for (int slot : slots) {
+            if (windowOf[slot] != Long.MIN_VALUE) {
+                windows.add(new LoginAnalyticsResponse.WindowCount(
+                        Instant.ofEpochMilli(windowOf[slot] * windowMs), count.applyAsLong(slot)));
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * Ring of a user's last {@code capacity} login times, in arrival order
+     */
+    private static final class LoginLog {
+        private final long[] times;
+        private int next;
+        private int size;
+        private long quietUntil = Long.MIN_VALUE;
+
+        LoginLog(int capacity) {
+            this.times = new long[capacity];
+        }
+
+        /**
+         * Add a login; true once the ring holds {@code capacity} logins
+         */
+        boolean append(long at) {
+            times[next] = at;
+            next = (next + 1) % times.length;
+            if (size < times.length) {
+                size++;
+            }
+            return size == times.length;
+        }
+
+        // Min and max rather than ring ends, so slightly out-of-order events are handled
+        long earliest() {
+            long min = Long.MAX_VALUE;
+            for (long time : times) {
+                min = Math.min(min, time);
+            }
+            return min;
+        }
+
+        long latest() {
+            long max = Long.MIN_VALUE;
+            for (long time : times) {
+                max = Math.max(max, time);
+            }
+            return max;
+        }
+    }
+}
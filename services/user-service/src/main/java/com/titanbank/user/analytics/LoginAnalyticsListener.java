@@ -0,0 +1,55 @@
+package com.titanbank.user.analytics;
+
+import com.titanbank.events.EventSchemas;
+import com.titanbank.events.UserLoggedInEvent;
+import com.titanbank.events.codec.EventSchemaRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feeds login events from {@code user-events} into {@link LoginAnalytics}. Other event types are
+ * skipped by schema id without being decoded. Each instance has its own consumer group, because
+ * the aggregates are held in memory and must see every login.
+ */
+@Component
+@ConditionalOnProperty(prefix = "login-analytics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LoginAnalyticsListener {
+
+    private final LoginAnalytics analytics;
+
+    @KafkaListener(
+            id = "login-analytics",
+            groupId = "user-service-login-analytics-${titanbank.id.node-id:0}",
+            topics = "${login-analytics.topic:user-events}")
+    public void onUserEvents(List<ConsumerRecord<String, byte[]>> records) {
+        List<UserLoggedInEvent> logins = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            if (EventSchemaRegistry.schemaIdOf(record.value()) != EventSchemas.USER_LOGGED_IN_V1) {
+                continue;
+            }
+            try {
+                UserLoggedInEvent login = (UserLoggedInEvent) EventSchemas.REGISTRY.decode(record.value());
+                if (login.getTimestamp() == null) {
+                    login.setTimestamp(Instant.ofEpochMilli(record.timestamp()));
+                }
+                logins.add(login);
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping unreadable login event at {}-{}@{}: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage());
+            }
+        }
+        if (!logins.isEmpty()) {
+            analytics.recordAll(logins);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.titanbank.user.analytics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Window sizes and state bounds of the login analytics stream. Memory is fixed by these values:
+ * one counter per minute, one sketch per hour and one short timestamp log per tracked user.
+ */
+@Data
+@ConfigurationProperties(prefix = "login-analytics")
+public class LoginAnalyticsProperties {
+
+    private boolean enabled = true;
+
+    /** Per-minute login counts kept, newest last */
+    private int minutes = 60;
+
+    /** Per-hour distinct-user sketches kept */
+    private int hours = 24;
+
+    /** 2^precision bytes per hourly sketch; 14 gives about 0.8% error */
+    private int hllPrecision = 14;
+
+    /** A user with this many logins inside {@link #burstWindow} is reported */
+    private int burstThreshold = 10;
+
+    private Duration burstWindow = Duration.ofMinutes(5);
+
+    /** Least recently seen users beyond this are forgotten; a user logging in rapidly stays tracked */
+    private int maxTrackedUsers = 100_000;
+
+    /** Most recent burst reports kept for the API */
+    private int maxBursts = 1_000;
+}
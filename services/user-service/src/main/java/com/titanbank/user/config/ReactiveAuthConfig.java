@@ -0,0 +1,58 @@
+package com.titanbank.user.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Infrastructure for the reactive auth deployment ({@code reactive} profile).
+ * R2DBC auto-configuration is excluded in {@code UserServiceApplication} so the
+ * servlet deployment keeps a single (JPA) transaction manager; the pool is built here.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool r2dbcConnectionPool(
+            @Value("${spring.r2dbc.url}") String url,
+            @Value("${spring.r2dbc.username}") String username,
+            @Value("${spring.r2dbc.password}") String password,
+            @Value("${spring.r2dbc.pool.max-size:20}") int maxSize) {
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionPool r2dbcConnectionPool) {
+        return DatabaseClient.create(r2dbcConnectionPool);
+    }
+
+    /**
+     * BCrypt is CPU-bound: one worker per core and a bounded queue, so overload
+     * surfaces as rejected logins instead of an unbounded backlog.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler bcryptScheduler(
+            @Value("${titanbank.auth.reactive.bcrypt-threads:0}") int threads,
+            @Value("${titanbank.auth.reactive.bcrypt-queue-capacity:10000}") int queueCapacity) {
+
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(workers, queueCapacity, "bcrypt");
+    }
+}
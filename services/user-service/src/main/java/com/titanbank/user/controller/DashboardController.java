@@ -0,0 +1,45 @@
+package com.titanbank.user.controller;
+
+import com.titanbank.user.dashboard.DashboardAggregator;
+import com.titanbank.user.dto.response.DashboardResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Home screen in one call")
+public class DashboardController {
+
+    private final DashboardAggregator dashboardAggregator;
+
+    /**
+     * Profile and accounts with balances; parts that could not be fetched in time are listed as unavailable
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('USER')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Home screen dashboard",
+            description = "User profile and all accounts with balances, fetched in parallel; may be partial"
+    )
+    public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard(
+            Authentication authentication,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+
+        Long userId = Long.parseLong(authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success(dashboardAggregator.dashboard(userId, authorization)));
+    }
+}
@@ -0,0 +1,49 @@
+package com.titanbank.user.controller;
+
+import com.titanbank.user.security.JwtKeyRing;
+import io.jsonwebtoken.security.Jwks;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Public signing keys, so other services verify access tokens without calling user-service.
+ * Served by both the servlet and the reactive deployment.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "User authentication operations")
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    /**
+     * JSON Web Key Set (RFC 7517) of the asymmetric keys that currently verify
+     */
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(
+            summary = "Token signing keys",
+            description = "Public keys for verifying access tokens locally, selected by the token's kid"
+    )
+    public ResponseEntity<Map<String, Object>> jwks() {
+        List<Object> keys = keyRing.publicKeys().entrySet().stream()
+                .<Object>map(entry -> Jwks.builder()
+                        .key(entry.getValue())
+                        .id(entry.getKey())
+                        .publicKeyUse("sig")
+                        .build())
+                .toList();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+}
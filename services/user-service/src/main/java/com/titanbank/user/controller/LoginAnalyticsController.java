@@ -0,0 +1,38 @@
+package com.titanbank.user.controller;
+
+import com.titanbank.user.analytics.LoginAnalytics;
+import com.titanbank.user.dto.response.LoginAnalyticsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/security")
+@RequiredArgsConstructor
+@Tag(name = "Security Analytics", description = "Real-time login monitoring")
+public class LoginAnalyticsController {
+
+    private final LoginAnalytics loginAnalytics;
+
+    /**
+     * Logins per minute, distinct users per hour and recent login bursts
+     */
+    @GetMapping("/login-analytics")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COMPLIANCE_OFFICER')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Login analytics",
+            description = "Windowed login counts, distinct users and suspicious bursts from the login event stream"
+    )
+    public ResponseEntity<ApiResponse<LoginAnalyticsResponse>> getLoginAnalytics() {
+        return ResponseEntity.ok(ApiResponse.success(loginAnalytics.snapshot()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.titanbank.user.controller;
+
+import com.titanbank.user.dto.request.LoginRequest;
+import com.titanbank.user.dto.response.LoginResponse;
+import com.titanbank.user.service.ReactiveAuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same contract as {@link AuthController}, served on Netty when the service runs
+ * with the {@code reactive} profile. Authorization for logout is enforced in
+ * {@code ReactiveSecurityConfig}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Authentication", description = "User authentication operations")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+
+    /**
+     * User login
+     */
+    @PostMapping("/login")
+    @Operation(
+            summary = "User login",
+            description = "Authenticate user and generate access & refresh tokens"
+    )
+    public Mono<ResponseEntity<ApiResponse<LoginResponse>>> login(
+            @Valid @RequestBody LoginRequest request) {
+
+        return authService.login(request)
+                .map(response -> ResponseEntity.ok(
+                        ApiResponse.success(response, "Login successful")
+                ));
+    }
+
+    /**
+     * Refresh access token
+     */
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "Refresh access token",
+            description = "Generate new access token using refresh token"
+    )
+    public Mono<ResponseEntity<ApiResponse<LoginResponse>>> refreshToken(
+            @RequestParam("refreshToken") String refreshToken) {
+
+        log.info("Token refresh requested");
+        return authService.refreshToken(refreshToken)
+                .map(response -> ResponseEntity.ok(
+                        ApiResponse.success(response, "Token refreshed successfully")
+                ));
+    }
+
+    /**
+     * User logout
+     */
+    @PostMapping("/logout")
+    @Operation(
+            summary = "User logout",
+            description = "Invalidate access and refresh tokens"
+    )
+    public Mono<ResponseEntity<ApiResponse<String>>> logout(
+            @RequestHeader("Authorization") String authorizationHeader) {
+
+        // Extract token from "Bearer <token>"
+        String accessToken = authorizationHeader.substring(7);
+
+        log.info("Logout requested");
+        return authService.logout(accessToken)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok(
+                        ApiResponse.<String>success("Logout successful")
+                )));
+    }
+}
@@ -7,13 +7,13 @@ import com.titanbank.user.dto.response.UserRegistrationResponse;
 import com.titanbank.user.model.enums.DocumentType;
 import com.titanbank.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
 @Slf4j
@@ -40,9 +41,9 @@ public class UserController {
             description = "Create a new user account with email and password"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "201", description = "User registered successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid input"),
-            @ApiResponse(responseCode = "409", description = "Email already exists")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "User registered successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Email already exists")
     })
     public ResponseEntity<ApiResponse<UserRegistrationResponse>> registerUser(
             @Valid @RequestBody UserRegistrationRequest request) {
@@ -66,9 +67,9 @@ public class UserController {
             description = "Retrieve authenticated user's profile information"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found")
     })
     public ResponseEntity<ApiResponse<UserProfileResponse>> getUserProfile(
             Authentication authentication) {
@@ -92,10 +93,10 @@ public class UserController {
             description = "Update authenticated user's profile information"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Profile updated successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid input"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Profile updated successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found")
     })
     public ResponseEntity<ApiResponse<UserProfileResponse>> updateUserProfile(
             Authentication authentication,
@@ -122,9 +123,9 @@ public class UserController {
             description = "Upload identity verification document (JPEG, PNG, PDF only, max 10MB)"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Document uploaded successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid file"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Document uploaded successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid file"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<ApiResponse<String>> uploadKYCDocument(
             Authentication authentication,
@@ -150,8 +151,8 @@ public class UserController {
             description = "Verify user email with token from verification email"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Email verified successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid or expired token")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Email verified successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid or expired token")
     })
     public ResponseEntity<ApiResponse<String>> verifyEmail(
             @RequestParam("token") String token) {
@@ -173,8 +174,8 @@ public class UserController {
             description = "Send password reset email to user"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Password reset email sent"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Password reset email sent"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found")
     })
     public ResponseEntity<ApiResponse<String>> initiatePasswordReset(
             @RequestParam("email") String email) {
@@ -196,8 +197,8 @@ public class UserController {
             description = "Reset password using token from reset email"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Password reset successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid or expired token")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Password reset successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid or expired token")
     })
     public ResponseEntity<ApiResponse<String>> resetPassword(
             @RequestParam("token") String token,
@@ -0,0 +1,65 @@
+package com.titanbank.user.dashboard;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.titanbank.user.dto.response.DashboardResponse.AccountSummary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Lists the caller's accounts from account-service, forwarding the caller's own access token so
+ * account-service applies its usual ownership rules. Requests are asynchronous and hold no thread
+ * while in flight; connections are pooled and kept alive by the client.
+ */
+@Component
+public class AccountsClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final JavaType accountList;
+    private final URI accountsUri;
+    private final DashboardProperties properties;
+
+    public AccountsClient(DashboardProperties properties, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.objectMapper = objectMapper;
+        this.accountList = objectMapper.getTypeFactory().constructCollectionType(List.class, AccountSummary.class);
+        this.accountsUri = URI.create(properties.getAccountServiceUrl() + "/api/v1/accounts");
+        this.properties = properties;
+    }
+
+    public CompletableFuture<List<AccountSummary>> fetchAccounts(String authorization) {
+        HttpRequest request = HttpRequest.newBuilder(accountsUri)
+                .timeout(properties.getAccountsTimeout())
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::accounts);
+    }
+
+    private List<AccountSummary> accounts(HttpResponse<byte[]> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("account-service answered " + response.statusCode());
+        }
+        try {
+            JsonNode data = objectMapper.readTree(response.body()).path("data");
+            return objectMapper.convertValue(data, accountList);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
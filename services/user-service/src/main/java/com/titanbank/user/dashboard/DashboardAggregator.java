@@ -0,0 +1,157 @@
+package com.titanbank.user.dashboard;
+
+import com.titanbank.common.metrics.LatencyTimers;
+import com.titanbank.user.dto.response.DashboardResponse;
+import com.titanbank.user.dto.response.DashboardResponse.AccountSummary;
+import com.titanbank.user.dto.response.UserProfileResponse;
+import com.titanbank.user.exception.UserNotFoundException;
+import com.titanbank.user.service.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Builds the home-screen dashboard from the user's profile and accounts, fetched in parallel.
+ *
+ * <p>The accounts request to account-service is asynchronous; the profile is read on the
+ * application task executor (virtual threads in virtual-thread mode). Each part has its own
+ * timeout, and a part that fails or times out is listed as unavailable while the rest is still
+ * returned, so the response takes as long as the slower part, capped by its timeout. Complete
+ * dashboards are kept per user for {@code dashboard.cache-ttl}; partial ones are not cached.
+ */
+@Component
+@EnableConfigurationProperties(DashboardProperties.class)
+@Slf4j
+public class DashboardAggregator {
+
+    static final String PROFILE = "profile";
+    static final String ACCOUNTS = "accounts";
+
+    private final UserService userService;
+    private final AccountsClient accountsClient;
+    private final AsyncTaskExecutor executor;
+    private final DashboardProperties properties;
+    private final DashboardCache cache;
+
+    private final Timer profileTimer;
+    private final Timer accountsTimer;
+    private final Counter completeCounter;
+    private final Counter partialCounter;
+    private final Counter cachedCounter;
+
+    public DashboardAggregator(
+            UserService userService,
+            AccountsClient accountsClient,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor,
+            DashboardProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.userService = userService;
+        this.accountsClient = accountsClient;
+        this.executor = executor;
+        this.properties = properties;
+        this.cache = new DashboardCache(properties.getCacheMaxEntries());
+        this.profileTimer = partTimer(meterRegistry, PROFILE);
+        this.accountsTimer = partTimer(meterRegistry, ACCOUNTS);
+        this.completeCounter = responseCounter(meterRegistry, "complete");
+        this.partialCounter = responseCounter(meterRegistry, "partial");
+        this.cachedCounter = responseCounter(meterRegistry, "cached");
+    }
+
+    private static Timer partTimer(MeterRegistry meterRegistry, String part) {
+        return LatencyTimers.timer(meterRegistry, "user.dashboard.part",
+                "Time to fetch one part of the dashboard, failures included", "part", part);
+    }
+
+    private static Counter responseCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("user.dashboard.responses")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The user's dashboard; {@code authorization} is the caller's own header, forwarded to
+     * account-service
+     *
+     * @throws UserNotFoundException if the user does not exist
+     */
+    public DashboardResponse dashboard(Long userId, String authorization) {
+        long now = System.currentTimeMillis();
+        DashboardResponse cached = cache.get(userId, now);
+        if (cached != null) {
+            cachedCounter.increment();
+            return cached;
+        }
+
+        // The remote call goes first; it is the slower part
+        CompletableFuture<List<AccountSummary>> accounts = timed(accountsTimer,
+                () -> accountsClient.fetchAccounts(authorization), properties.getAccountsTimeout().toMillis());
+        CompletableFuture<UserProfileResponse> profile = timed(profileTimer,
+                () -> CompletableFuture.supplyAsync(() -> userService.getUserProfile(userId), executor),
+                properties.getProfileTimeout().toMillis());
+
+        List<String> unavailable = new ArrayList<>(2);
+        DashboardResponse dashboard = DashboardResponse.builder()
+                .profile(await(profile, PROFILE, userId, unavailable))
+                .accounts(await(accounts, ACCOUNTS, userId, unavailable))
+                .unavailable(unavailable)
+                .build();
+
+        if (unavailable.isEmpty()) {
+            completeCounter.increment();
+            if (!properties.getCacheTtl().isZero() && !properties.getCacheTtl().isNegative()) {
+                cache.put(userId, dashboard, now + properties.getCacheTtl().toMillis());
+            }
+        } else {
+            partialCounter.increment();
+        }
+        return dashboard;
+    }
+
+    // Helper methods
+
+    private static <T> CompletableFuture<T> timed(Timer timer, Supplier<CompletableFuture<T>> call,
+                                                   long timeoutMillis) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((result, failure) -> LatencyTimers.recordSince(timer, start));
+    }
+
+    private static <T> T await(CompletableFuture<T> part, String name, Long userId, List<String> unavailable) {
+        try {
+            return part.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UserNotFoundException notFound) {
+                throw notFound;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("Dashboard {} for user {} timed out", name, userId);
+            } else {
+                log.warn("Dashboard {} for user {} failed: {}", name, userId, e.getCause().toString());
+            }
+            unavailable.add(name);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.titanbank.user.dashboard;
+
+import com.titanbank.user.dto.response.DashboardResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, access-ordered LRU of complete dashboards by user, each with an absolute expiry.
+ * Guarded by a {@link ReentrantLock} so a contended lookup parks a virtual thread instead of
+ * pinning its carrier.
+ */
+class DashboardCache {
+
+    private record Entry(DashboardResponse dashboard, long expiresAtMillis) {
+    }
+
+    private final LinkedHashMap<Long, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    DashboardCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("dashboard.cache-max-entries must be positive");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    DashboardResponse get(Long userId, long nowMillis) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry != null && nowMillis >= entry.expiresAtMillis()) {
+                entries.remove(userId);
+                return null;
+            }
+            return entry != null ? entry.dashboard() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(Long userId, DashboardResponse dashboard, long expiresAtMillis) {
+        lock.lock();
+        try {
+            entries.put(userId, new Entry(dashboard, expiresAtMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
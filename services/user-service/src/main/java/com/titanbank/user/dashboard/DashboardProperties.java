@@ -0,0 +1,29 @@
+package com.titanbank.user.dashboard;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Where the home-screen dashboard fetches from, how long it waits for each part, and how long a
+ * complete dashboard is served from memory
+ */
+@Data
+@ConfigurationProperties(prefix = "dashboard")
+public class DashboardProperties {
+
+    private String accountServiceUrl = "http://localhost:8082";
+
+    private Duration connectTimeout = Duration.ofMillis(500);
+
+    /** A part not back within its timeout is left out and the rest is returned */
+    private Duration profileTimeout = Duration.ofSeconds(1);
+
+    private Duration accountsTimeout = Duration.ofSeconds(1);
+
+    /** Zero turns caching off */
+    private Duration cacheTtl = Duration.ofSeconds(5);
+
+    private int cacheMaxEntries = 10_000;
+}
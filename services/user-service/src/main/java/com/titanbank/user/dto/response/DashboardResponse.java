@@ -0,0 +1,38 @@
+package com.titanbank.user.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+
+    /** Null when listed in {@link #unavailable} */
+    private UserProfileResponse profile;
+    private List<AccountSummary> accounts;
+
+    /** Parts that failed or timed out ("profile", "accounts"); empty when complete */
+    private List<String> unavailable;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class AccountSummary {
+        private UUID accountId;
+        private String accountType;
+        private String currency;
+        private BigDecimal balance;
+        private String status;
+    }
+}
@@ -0,0 +1,55 @@
+package com.titanbank.user.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginAnalyticsResponse {
+
+    /** Latest login time seen; windows are aligned to event time, not to the clock */
+    private Instant watermark;
+
+    private List<WindowCount> loginsPerMinute;
+
+    /** HyperLogLog estimates */
+    private List<WindowCount> distinctUsersPerHour;
+
+    /** Newest first */
+    private List<Burst> recentBursts;
+
+    private int trackedUsers;
+
+    /** Logins older than every retained window, not counted */
+    private long lateEvents;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WindowCount {
+        private Instant windowStart;
+        private long count;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Burst {
+        @JsonSerialize(using = ToStringSerializer.class)
+        private Long userId;
+        private int logins;
+        private Instant firstLoginAt;
+        private Instant lastLoginAt;
+    }
+}
@@ -1,5 +1,8 @@
 package com.titanbank.user.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.titanbank.common.security.UserRole;
 import com.titanbank.user.model.enums.*;
 import lombok.*;
 
@@ -26,6 +29,7 @@ public class LoginResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class UserInfoDTO {
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long userId;
         private String email;
         private String firstName;
@@ -1,7 +1,9 @@
 package com.titanbank.user.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.titanbank.user.model.enums.KYCStatus;
-import com.titanbank.user.model.enums.UserRole;
+import com.titanbank.common.security.UserRole;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +20,8 @@ import java.util.Set;
 @AllArgsConstructor
 public class UserProfileResponse {
 
+    /** Snowflake ids exceed 2^53, so they go out as strings that JavaScript clients read without rounding */
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long userId;
     private String email;
     private String firstName;
@@ -1,5 +1,7 @@
 package com.titanbank.user.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.*;
 
 @Data
@@ -7,6 +9,7 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserRegistrationResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long userId;
     private String email;
     private String message;
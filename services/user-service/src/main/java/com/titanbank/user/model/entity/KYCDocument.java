@@ -1,5 +1,6 @@
 package com.titanbank.user.model.entity;
 
+import com.titanbank.common.id.TimeOrderedId;
 import com.titanbank.user.model.enums.DocumentType;
 import com.titanbank.user.model.enums.VerificationStatus;
 import jakarta.persistence.*;
@@ -18,7 +19,7 @@ import java.time.LocalDateTime;
 public class KYCDocument {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "document_id")
     private Long documentId;
 
@@ -1,9 +1,12 @@
 package com.titanbank.user.model.entity;
 
 import com.titanbank.user.model.enums.KYCStatus;
-import com.titanbank.user.model.enums.UserRole;
+import com.titanbank.common.id.TimeOrderedId;
+import com.titanbank.common.security.UserRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,11 +26,11 @@ import java.util.Set;
 @Builder
 public class User {
 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @TimeOrderedId
     @Column(name = "user_id")
     private Long userId;
 
-    @Id
     @Column(name = "email", nullable = false, unique = true, length = 255)
     private String email;
 
@@ -73,9 +76,11 @@ public class User {
     @Column(name = "account_locked_until")
     private LocalDateTime accountLockedUntil;
 
+    @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
@@ -1,9 +0,0 @@
-package com.titanbank.user.model.enums;
-
-public enum UserRole {
-    USER,
-    TRADER,
-    PREMIUM,
-    ADMIN,
-    COMPLIANCE_OFFICER
-}
\ No newline at end of file
@@ -11,16 +11,17 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
+// KYCDocument maps the owner as "user", so derived queries traverse user.userId
 @Repository
 public interface KYCDocumentRepository extends JpaRepository<KYCDocument, Long> {
 
     // Spring Data automatically generates:
     // SELECT * FROM kyc_documents WHERE user_id = ?
-    List<KYCDocument> findByUserId(Long userId);
+    List<KYCDocument> findByUserUserId(Long userId);
 
     // Spring Data automatically generates:
     // SELECT * FROM kyc_documents WHERE user_id = ? AND document_type = ?
-    Optional<KYCDocument> findByUserIdAndDocumentType(Long userId, DocumentType documentType);
+    Optional<KYCDocument> findByUserUserIdAndDocumentType(Long userId, DocumentType documentType);
 
     // Spring Data automatically generates:
     // SELECT * FROM kyc_documents WHERE verification_status = ?
@@ -28,14 +29,14 @@ public interface KYCDocumentRepository extends JpaRepository<KYCDocument, Long>
 
     // Spring Data automatically generates COUNT query:
     // SELECT COUNT(*) FROM kyc_documents WHERE user_id = ? AND verification_status = ?
-    Long countByUserIdAndVerificationStatus(Long userId, VerificationStatus status);
+    Long countByUserUserIdAndVerificationStatus(Long userId, VerificationStatus status);
 
     // Custom JPQL with JOIN FETCH for performance (loads user in same query)
     @Query("SELECT kd FROM KYCDocument kd JOIN FETCH kd.user WHERE kd.verificationStatus = :status")
     List<KYCDocument> findByVerificationStatusWithUser(@Param("status") VerificationStatus status);
 
     // Additional useful queries
-    List<KYCDocument> findByUserIdOrderByUploadedAtDesc(Long userId);
+    List<KYCDocument> findByUserUserIdOrderByUploadedAtDesc(Long userId);
 
-    boolean existsByUserIdAndDocumentType(Long userId, DocumentType documentType);
+    boolean existsByUserUserIdAndDocumentType(Long userId, DocumentType documentType);
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.titanbank.user.repository;
+
+import com.titanbank.user.model.entity.User;
+import com.titanbank.user.model.enums.KYCStatus;
+import com.titanbank.common.security.UserRole;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Non-blocking access to the same {@code users} / {@code user_roles} tables the
+ * JPA {@link UserRepository} maps, limited to what the auth path needs.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private static final String USER_COLUMNS =
+            "user_id, email, password_hash, first_name, last_name, kyc_status, is_active, "
+                    + "is_email_verified, failed_login_attempts, account_locked_until, "
+                    + "created_at, last_login_at";
+
+    private final DatabaseClient databaseClient;
+
+    // SELECT ... FROM users WHERE email = ? AND is_active = true
+    public Mono<User> findActiveUserByEmail(String email) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE email = :email AND is_active = true")
+                .bind("email", email)
+                .map((row, metadata) -> mapUser(row))
+                .one()
+                .flatMap(this::withRoles);
+    }
+
+    // SELECT ... FROM users WHERE user_id = ?
+    public Mono<User> findById(Long userId) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map((row, metadata) -> mapUser(row))
+                .one()
+                .flatMap(this::withRoles);
+    }
+
+    // Persist the lockout counters set by User.incrementFailedLoginAttempts()
+    public Mono<Void> recordFailedLogin(User user) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "UPDATE users SET failed_login_attempts = :attempts, account_locked_until = :lockedUntil, "
+                                + "version = COALESCE(version, 0) + 1 WHERE email = :email")
+                .bind("attempts", user.getFailedLoginAttempts())
+                .bind("email", user.getEmail());
+
+        spec = user.getAccountLockedUntil() != null
+                ? spec.bind("lockedUntil", user.getAccountLockedUntil())
+                : spec.bindNull("lockedUntil", LocalDateTime.class);
+
+        return spec.fetch().rowsUpdated().then();
+    }
+
+    // Persist User.resetFailedLoginAttempts() and the new last-login timestamp
+    public Mono<Void> recordSuccessfulLogin(User user) {
+        return databaseClient.sql(
+                        "UPDATE users SET failed_login_attempts = 0, account_locked_until = NULL, "
+                                + "last_login_at = :loginTime, version = COALESCE(version, 0) + 1 WHERE email = :email")
+                .bind("loginTime", user.getLastLoginAt())
+                .bind("email", user.getEmail())
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    // user_roles is keyed by the owning entity's @Id, which is the user_id column
+    private Mono<User> withRoles(User user) {
+        return databaseClient.sql("SELECT role FROM user_roles WHERE user_id = :owner")
+                .bind("owner", user.getUserId())
+                .map((row, metadata) -> UserRole.valueOf(row.get("role", String.class)))
+                .all()
+                .doOnNext(user::addRole)
+                .then(Mono.just(user));
+    }
+
+    private static User mapUser(Row row) {
+        return User.builder()
+                .userId(row.get("user_id", Long.class))
+                .email(row.get("email", String.class))
+                .passwordHash(row.get("password_hash", String.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .kycStatus(KYCStatus.valueOf(row.get("kyc_status", String.class)))
+                .isActive(row.get("is_active", Boolean.class))
+                .isEmailVerified(Objects.requireNonNullElse(row.get("is_email_verified", Boolean.class), false))
+                .failedLoginAttempts(Objects.requireNonNullElse(row.get("failed_login_attempts", Integer.class), 0))
+                .accountLockedUntil(row.get("account_locked_until", LocalDateTime.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .lastLoginAt(row.get("last_login_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -1,110 +0,0 @@
-package com.titanbank.user.security;
-
-import com.titanbank.user.model.entity.User;
-import com.titanbank.user.model.enums.UserRole;
-import com.titanbank.user.repository.UserRepository;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import java.io.IOException;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-@Component
-@RequiredArgsConstructor
-@Slf4j
-public class JwtAuthenticationFilter extends OncePerRequestFilter {
-
-    private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
-    private final RedisTemplate<String, String> redisTemplate;
-
-    @Override
-    protected void doFilterInternal(
-            HttpServletRequest request,
-            HttpServletResponse response,
-            FilterChain filterChain) throws ServletException, IOException {
-
-        try {
-            // Extract JWT token from Authorization header
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt)) {
-                // Check if token is blacklisted (logged out)
-                if (isTokenBlacklisted(jwt)) {
-                    log.warn("Token is blacklisted (user logged out)");
-                    filterChain.doFilter(request, response);
-                    return;
-                }
-
-                // Validate token
-                if (tokenProvider.validateToken(jwt)) {
-                    // Extract user ID from token
-                    Long userId = tokenProvider.getUserIdFromToken(jwt);
-                    String email = tokenProvider.getEmailFromToken(jwt);
-                    Set<UserRole> roles = tokenProvider.getRolesFromToken(jwt);
-
-                    // Convert roles to GrantedAuthorities
-                    var authorities = roles.stream()
-                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
-                            .collect(Collectors.toList());
-
-                    // Create authentication object
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userId, // Principal (userId)
-                                    null,   // Credentials (not needed after authentication)
-                                    authorities
-                            );
-
-                    authentication.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-
-                    // Set authentication in SecurityContext
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                    log.debug("Authenticated user: {} with roles: {}", email, roles);
-                }
-            }
-        } catch (Exception e) {
-            log.error("Could not set user authentication in security context", e);
-        }
-
-        // Continue filter chain
-        filterChain.doFilter(request, response);
-    }
-
-    /**
-     * Extract JWT token from Authorization header
-     */
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7); // Remove "Bearer " prefix
-        }
-
-        return null;
-    }
-
-    /**
-     * Check if token is blacklisted (user logged out)
-     */
-    private boolean isTokenBlacklisted(String token) {
-        String key = "blacklisted_token:" + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
-    }
-}
\ No newline at end of file
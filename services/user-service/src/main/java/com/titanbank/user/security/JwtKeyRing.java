@@ -0,0 +1,238 @@
+package com.titanbank.user.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Signing keys for access tokens, selected by {@code kid}.
+ *
+ * <p>Keys are derived once at startup. {@link #refresh()} recomputes which key signs and which keys
+ * still verify; readers only see the immutable {@link Snapshot} it publishes.
+ */
+@Component
+@EnableConfigurationProperties(JwtKeyRingProperties.class)
+@Slf4j
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private final List<RingKey> keys;
+    private final String defaultKid;
+    private final Duration overlap;
+
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(
+            JwtKeyRingProperties properties,
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.access-token-expiration}") Long accessTokenExpiration) {
+
+        this.defaultKid = properties.getDefaultKid();
+        this.overlap = properties.getOverlap() != null
+                ? properties.getOverlap()
+                : Duration.ofSeconds(accessTokenExpiration);
+
+        List<RingKey> ring = new ArrayList<>();
+        ring.add(hmacKey(defaultKid, jwtSecret, Instant.EPOCH));
+        for (JwtKeyRingProperties.Key key : properties.getKeys()) {
+            if (!"HS512".equals(key.getAlgorithm()) && isBlank(key.getPrivateKey()) && isBlank(key.getPublicKey())) {
+                continue;
+            }
+            ring.add(ringKey(key));
+        }
+        if (properties.isRequireAsymmetricKey()
+                && ring.stream().noneMatch(key -> key.verificationKey() instanceof PublicKey)) {
+            throw new IllegalStateException("No ES256 or EdDSA key in jwt.key-ring.keys: set JWT_ES256_PRIVATE_KEY"
+                    + " and JWT_ES256_PUBLIC_KEY, or run with the dev profile");
+        }
+        ring.sort(Comparator.comparing(RingKey::activateAt));
+
+        Set<String> kids = new HashSet<>();
+        for (RingKey key : ring) {
+            if (!kids.add(key.kid())) {
+                throw new IllegalStateException("Duplicate JWT key id: " + key.kid());
+            }
+        }
+        this.keys = List.copyOf(ring);
+
+        refresh(Instant.now());
+    }
+
+    /**
+     * Re-evaluate the signing key and the verification window
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-ring.refresh-interval-ms:60000}")
+    public void refresh() {
+        refresh(Instant.now());
+    }
+
+    void refresh(Instant now) {
+        RingKey signing = keys.get(0);
+        for (RingKey key : keys) {
+            if (!key.activateAt().isAfter(now)) {
+                signing = key;
+            }
+        }
+
+        // Upcoming keys verify (and are published) before they sign, so instances with slightly
+        // different clocks and JWKS caches accept each other's tokens. Superseded keys verify
+        // until the overlap window closes.
+        Map<String, RingKey> verification = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            RingKey key = keys.get(i);
+            Instant supersededAt = i + 1 < keys.size() ? keys.get(i + 1).activateAt() : null;
+            boolean expired = supersededAt != null
+                    && !supersededAt.isAfter(now)
+                    && supersededAt.plus(overlap).isBefore(now);
+            if (!expired) {
+                verification.put(key.kid(), key);
+            }
+        }
+
+        Snapshot previous = snapshot;
+        snapshot = new Snapshot(signing, Map.copyOf(verification));
+
+        if (previous == null || !previous.signing().kid().equals(signing.kid())) {
+            log.info("JWT signing key is now '{}' ({}) (verifying: {})", signing.kid(), signing.algorithm().getId(),
+                    verification.keySet().stream().sorted().collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * Key that new tokens are signed with
+     */
+    public RingKey signingKey() {
+        return snapshot.signing();
+    }
+
+    /**
+     * Key for a token's kid header; tokens issued before kids existed map to the default key
+     */
+    public Key verificationKey(String kid) {
+        return ringKey(kid).verificationKey();
+    }
+
+    /**
+     * Public keys that currently verify, by kid, for the JWKS endpoint
+     */
+    public Map<String, PublicKey> publicKeys() {
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        snapshot.verification().forEach((kid, key) -> {
+            if (key.verificationKey() instanceof PublicKey publicKey) {
+                publicKeys.put(kid, publicKey);
+            }
+        });
+        return publicKeys;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        RingKey key = ringKey(header.getKeyId());
+        // The kid pins the algorithm; never verify e.g. an HS512 token against a public key
+        if (!key.algorithm().getId().equals(header.getAlgorithm())) {
+            throw new SignatureException("JWT algorithm " + header.getAlgorithm()
+                    + " does not match key '" + key.kid() + "'");
+        }
+        return key.verificationKey();
+    }
+
+    private RingKey ringKey(String kid) {
+        RingKey key = snapshot.verification().get(kid != null ? kid : defaultKid);
+        if (key == null) {
+            throw new SignatureException("Unknown or retired JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    private static RingKey ringKey(JwtKeyRingProperties.Key key) {
+        if (key.getKid() == null) {
+            throw new IllegalStateException("jwt.key-ring.keys entries need a kid");
+        }
+        Instant activateAt = key.getActivateAt() != null ? key.getActivateAt() : Instant.EPOCH;
+
+        return switch (key.getAlgorithm()) {
+            case "HS512" -> {
+                if (key.getSecret() == null) {
+                    throw new IllegalStateException("HS512 key '" + key.getKid() + "' needs a secret");
+                }
+                yield hmacKey(key.getKid(), key.getSecret(), activateAt);
+            }
+            case "ES256" -> keyPair(key, "EC", Jwts.SIG.ES256, activateAt);
+            case "EdDSA" -> keyPair(key, "Ed25519", Jwts.SIG.EdDSA, activateAt);
+            default -> throw new IllegalStateException(
+                    "Unsupported JWT algorithm '" + key.getAlgorithm() + "' for key '" + key.getKid() + "'");
+        };
+    }
+
+    private static RingKey hmacKey(String kid, String secret, Instant activateAt) {
+        Key secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return new RingKey(kid, algorithm(PooledHmacSha512.INSTANCE), secretKey, secretKey, activateAt);
+    }
+
+    private static RingKey keyPair(JwtKeyRingProperties.Key key, String jcaName,
+                                   SecureDigestAlgorithm<?, ?> algorithm, Instant activateAt) {
+        if (key.getPrivateKey() == null || key.getPublicKey() == null) {
+            throw new IllegalStateException(key.getAlgorithm() + " key '" + key.getKid()
+                    + "' needs both private-key and public-key");
+        }
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(jcaName);
+            Key privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(key.getPrivateKey())));
+            Key publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(key.getPublicKey())));
+            return new RingKey(key.getKid(), algorithm(algorithm), privateKey, publicKey, activateAt);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + key.getAlgorithm() + " key '" + key.getKid() + "'", e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SecureDigestAlgorithm<Key, Key> algorithm(SecureDigestAlgorithm<?, ?> algorithm) {
+        return (SecureDigestAlgorithm<Key, Key>) algorithm;
+    }
+
+    /**
+     * One ring entry; for HS512 the signing and verification key are the same secret
+     */
+    public record RingKey(String kid, SecureDigestAlgorithm<Key, Key> algorithm,
+                          Key signingKey, Key verificationKey, Instant activateAt) {
+    }
+
+    private record Snapshot(RingKey signing, Map<String, RingKey> verification) {
+    }
+}
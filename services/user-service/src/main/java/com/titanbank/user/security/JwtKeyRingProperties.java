@@ -0,0 +1,52 @@
+package com.titanbank.user.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Additional signing keys on top of {@code jwt.secret}.
+ *
+ * <p>{@code jwt.secret} is always part of the ring under {@link #defaultKid}. Keys listed here
+ * become the signing key once {@code activate-at} has passed; the key they supersede keeps
+ * verifying for {@link #overlap} so tokens issued just before the switch stay valid.
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt.key-ring")
+public class JwtKeyRingProperties {
+
+    /** Key id of the key derived from {@code jwt.secret}; also used for tokens without a kid */
+    private String defaultKid = "default";
+
+    /** How long a superseded key is still accepted; defaults to the access token lifetime */
+    private Duration overlap;
+
+    private List<Key> keys = new ArrayList<>();
+
+    /**
+     * Refuse to start without an ES256 or EdDSA key in {@link #keys}: other services only trust
+     * keys published on the JWKS endpoint. An asymmetric entry whose keys are both unset is skipped.
+     */
+    private boolean requireAsymmetricKey;
+
+    @Data
+    public static class Key {
+        private String kid;
+
+        /** HS512, ES256 or EdDSA (Ed25519); only the asymmetric ones are published on the JWKS endpoint */
+        private String algorithm = "HS512";
+
+        /** HS512 only */
+        private String secret;
+
+        /** ES256/EdDSA only: base64 PKCS#8 private key and X.509 public key, PEM armour optional */
+        private String privateKey;
+        private String publicKey;
+
+        private Instant activateAt;
+    }
+}
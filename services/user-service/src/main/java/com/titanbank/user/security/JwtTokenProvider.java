@@ -1,15 +1,14 @@
 package com.titanbank.user.security;
 
+import com.titanbank.common.id.SecureTokens;
+import com.titanbank.common.security.AuthenticatedUser;
+import com.titanbank.common.security.UserRole;
 import com.titanbank.user.model.entity.User;
-import com.titanbank.user.model.enums.UserRole;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -20,21 +19,24 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${jwt.access-token-expiration}")
-    private Long accessTokenExpiration; // 15 minutes (900 seconds)
-
-    @Value("${jwt.refresh-token-expiration}")
-    private Long refreshTokenExpiration; // 7 days (604800 seconds)
-
-    /**
-     * Generate signing key from secret
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final JwtKeyRing keyRing;
+    private final Long accessTokenExpiration; // 15 minutes (900 seconds)
+    private final Long refreshTokenExpiration; // 7 days (604800 seconds)
+
+    // Thread-safe and immutable; keys are resolved per token through the key ring
+    private final JwtParser jwtParser;
+
+    public JwtTokenProvider(
+            JwtKeyRing keyRing,
+            @Value("${jwt.access-token-expiration}") Long accessTokenExpiration,
+            @Value("${jwt.refresh-token-expiration}") Long refreshTokenExpiration) {
+        this.keyRing = keyRing;
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .sig().clear().add(PooledHmacSha512.INSTANCE).add(Jwts.SIG.ES256).add(Jwts.SIG.EdDSA).and()
+                .build();
     }
 
     /**
@@ -51,12 +53,15 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration * 1000);
 
+        JwtKeyRing.RingKey signingKey = keyRing.signingKey();
+
         return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(user.getUserId().toString())
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .header().keyId(signingKey.kid()).and()
+                .claims(claims)
+                .subject(user.getUserId().toString())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
 
@@ -64,18 +69,14 @@ public class JwtTokenProvider {
      * Generate refresh token (simple UUID stored in Redis)
      */
     public String generateRefreshToken() {
-        return java.util.UUID.randomUUID().toString();
+        return SecureTokens.randomUuid().toString();
     }
 
     /**
      * Extract userId from JWT token
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
 
         return Long.parseLong(claims.getSubject());
     }
@@ -84,11 +85,7 @@ public class JwtTokenProvider {
      * Extract email from JWT token
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
 
         return claims.get("email", String.class);
     }
@@ -98,26 +95,34 @@ public class JwtTokenProvider {
      */
     @SuppressWarnings("unchecked")
     public Set<UserRole> getRolesFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
 
         return ((java.util.List<String>) claims.get("roles")).stream()
                 .map(UserRole::valueOf)
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Verify the token once and map its claims to the request principal
+     */
+    @SuppressWarnings("unchecked")
+    public AuthenticatedUser authenticate(String token) {
+        Claims claims = parseClaims(token);
+
+        return AuthenticatedUser.of(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                (java.util.List<String>) claims.get("roles"),
+                claims.getExpiration().getTime()
+        );
+    }
+
     /**
      * Validate JWT token
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
@@ -129,16 +134,19 @@ public class JwtTokenProvider {
      * Get token expiration time in seconds
      */
     public Long getTokenTTL(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
 
         Date expiration = claims.getExpiration();
         return (expiration.getTime() - System.currentTimeMillis()) / 1000;
     }
 
+    /**
+     * Verify signature and expiry, returning the claims
+     */
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
     /**
      * Get access token expiration
      */
@@ -0,0 +1,21 @@
+package com.titanbank.user.security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Shared by the servlet and reactive security configurations.
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * Password encoder (BCrypt)
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder(12); // Cost factor 12
+    }
+}
@@ -0,0 +1,86 @@
+package com.titanbank.user.security;
+
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SecureRequest;
+import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.security.VerifySecureDigestRequest;
+import io.jsonwebtoken.security.WeakKeyException;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * HS512 with one pre-initialized {@link Mac} per thread and key.
+ *
+ * <p>jjwt's built-in HS512 looks up the JCA provider and initializes a new {@code Mac} for every
+ * sign and verify. Keys come from {@link JwtKeyRing}, which hands out the same instances for its
+ * whole lifetime, so an identity map per thread is enough.
+ */
+final class PooledHmacSha512 implements SecureDigestAlgorithm<SecretKey, SecretKey> {
+
+    static final PooledHmacSha512 INSTANCE = new PooledHmacSha512();
+
+    private static final String JCA_NAME = "HmacSHA512";
+    private static final int MIN_KEY_BYTES = 64;
+    private static final int MAX_KEYS_PER_THREAD = 16;
+
+    private static final ThreadLocal<Map<SecretKey, Mac>> MACS =
+            ThreadLocal.withInitial(IdentityHashMap::new);
+
+    private PooledHmacSha512() {
+    }
+
+    @Override
+    public String getId() {
+        return "HS512";
+    }
+
+    @Override
+    public byte[] digest(SecureRequest<InputStream, SecretKey> request) {
+        Mac mac = macFor(request.getKey());
+        try (InputStream payload = request.getPayload()) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = payload.read(buffer)) != -1) {
+                mac.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            mac.reset();
+            throw new SignatureException("Unable to read JWS payload", e);
+        }
+        return mac.doFinal();
+    }
+
+    @Override
+    public boolean verify(VerifySecureDigestRequest<SecretKey> request) {
+        return MessageDigest.isEqual(digest(request), request.getDigest());
+    }
+
+    private static Mac macFor(SecretKey key) {
+        Map<SecretKey, Mac> macs = MACS.get();
+        Mac mac = macs.get(key);
+        if (mac == null) {
+            byte[] encoded = key.getEncoded();
+            if (encoded == null || encoded.length < MIN_KEY_BYTES) {
+                throw new WeakKeyException("HS512 requires a key of at least 512 bits");
+            }
+            try {
+                mac = Mac.getInstance(JCA_NAME);
+                mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new SignatureException("Unable to initialize " + JCA_NAME, e);
+            }
+            if (macs.size() >= MAX_KEYS_PER_THREAD) {
+                macs.clear();
+            }
+            macs.put(key, mac);
+        }
+        return mac;
+    }
+}
@@ -0,0 +1,97 @@
+package com.titanbank.user.security;
+
+import com.titanbank.common.security.TokenAuthentication;
+import com.titanbank.common.security.UserRole;
+import io.jsonwebtoken.JwtException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * WebFlux counterpart of {@link SecurityConfig} for the reactive auth deployment.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            ReactiveAuthenticationManager jwtAuthenticationManager) {
+
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(jwtAuthenticationManager);
+        jwtFilter.setServerAuthenticationConverter(ReactiveSecurityConfig::bearerToken);
+        jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return http
+                // Disable CSRF (we're using JWT, not cookies)
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+
+                // Stateless (no session stored on server)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+                // Configure authorization rules
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers(
+                                "/api/v1/auth/login",
+                                "/api/v1/auth/refresh",
+                                "/.well-known/jwks.json",
+                                "/actuator/health",
+                                "/actuator/prometheus"
+                        ).permitAll()
+                        .pathMatchers("/api/v1/auth/logout").hasRole(UserRole.USER.name())
+                        .anyExchange().authenticated()
+                )
+
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * Same checks as the servlet chain's LeanAuthenticationFilter: not blacklisted, valid signature and expiry.
+     */
+    @Bean
+    public ReactiveAuthenticationManager jwtAuthenticationManager(
+            JwtTokenProvider tokenProvider,
+            ReactiveStringRedisTemplate redisTemplate) {
+
+        return authentication -> {
+            String jwt = (String) authentication.getCredentials();
+
+            return redisTemplate.hasKey("blacklisted_token:" + jwt)
+                    .filter(blacklisted -> !blacklisted)
+                    .map(notBlacklisted -> (Authentication) new TokenAuthentication(tokenProvider.authenticate(jwt), jwt))
+                    .onErrorResume(e -> e instanceof JwtException || e instanceof IllegalArgumentException, e -> Mono.empty())
+                    .switchIfEmpty(Mono.error(() -> new BadCredentialsException("Invalid or revoked token")));
+        };
+    }
+
+    private static Mono<Authentication> bearerToken(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
+            return Mono.empty();
+        }
+
+        String jwt = bearerToken.substring(7);
+        return Mono.just(new UsernamePasswordAuthenticationToken(jwt, jwt));
+    }
+}
@@ -1,8 +1,15 @@
 package com.titanbank.user.security;
 
+import com.titanbank.common.security.ForwardedPrincipal;
+import com.titanbank.common.security.ForwardedPrincipalFilter;
+import com.titanbank.common.security.LeanAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -10,18 +17,21 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @EnableMethodSecurity // Enables @PreAuthorize, @PostAuthorize annotations
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final JwtTokenProvider tokenProvider;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    // Present when titanbank.gateway.principal-secret is set
+    private final ObjectProvider<ForwardedPrincipal> forwardedPrincipal;
 
     /**
      * Configure HTTP security
@@ -45,12 +55,15 @@ public class SecurityConfig {
                                 "/api/v1/users/verify-email",
                                 "/api/v1/users/password/reset-request",
                                 "/api/v1/users/password/reset",
+                                // Token signing keys for other services
+                                "/.well-known/jwks.json",
                                 // Swagger/OpenAPI endpoints
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/swagger-resources/**",
-                                // Actuator health check
-                                "/actuator/health"
+                                // Actuator health check and metrics scrape
+                                "/actuator/health",
+                                "/actuator/prometheus"
                         ).permitAll()
 
                         // All other endpoints require authentication
@@ -64,19 +77,24 @@ public class SecurityConfig {
 
                 // Add JWT authentication filter before UsernamePasswordAuthenticationFilter
                 .addFilterBefore(
-                        jwtAuthenticationFilter,
+                        new LeanAuthenticationFilter(tokenProvider::authenticate, this::isTokenBlacklisted,
+                                meterRegistry),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
+        // Behind the gateway the principal arrives signed and the token is not verified again
+        forwardedPrincipal.ifAvailable(principal -> http.addFilterBefore(
+                new ForwardedPrincipalFilter(principal, this::isTokenBlacklisted, meterRegistry),
+                LeanAuthenticationFilter.class));
+
         return http.build();
     }
 
     /**
-     * Password encoder (BCrypt)
+     * Check if token is blacklisted (user logged out)
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // Cost factor 12
+    private boolean isTokenBlacklisted(String token) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey("blacklisted_token:" + token));
     }
 
     /**
@@ -1,15 +1,13 @@
 package com.titanbank.user.security;
 
+import com.titanbank.common.security.RoleAuthorities;
 import com.titanbank.user.model.entity.User;
-import com.titanbank.user.model.enums.UserRole;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
 
 @AllArgsConstructor
 @Getter
@@ -27,15 +25,11 @@ public class UserPrincipal implements UserDetails {
      * Create UserPrincipal from User entity
      */
     public static UserPrincipal create(User user) {
-        Collection<GrantedAuthority> authorities = user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
-                .collect(Collectors.toList());
-
         return new UserPrincipal(
                 user.getUserId(),
                 user.getEmail(),
                 user.getPasswordHash(),
-                authorities,
+                RoleAuthorities.of(user.getRoles()),
                 user.getIsActive(),
                 user.getIsEmailVerified(),
                 user.isAccountLocked()
@@ -1,8 +1,9 @@
 package com.titanbank.user.service;
 
+import com.titanbank.common.metrics.LatencyTimers;
+import com.titanbank.events.UserLoggedInEvent;
 import com.titanbank.user.dto.request.LoginRequest;
 import com.titanbank.user.dto.response.LoginResponse;
-import com.titanbank.user.event.UserLoggedInEvent;
 import com.titanbank.user.exception.AccountLockedException;
 import com.titanbank.user.exception.InvalidCredentialsException;
 import com.titanbank.user.exception.InvalidTokenException;
@@ -10,7 +11,8 @@ import com.titanbank.user.exception.UserNotFoundException;
 import com.titanbank.user.model.entity.User;
 import com.titanbank.user.repository.UserRepository;
 import com.titanbank.user.security.JwtTokenProvider;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -19,27 +21,66 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AuthServiceImpl implements AuthService {
 
+    private static final String LOGIN_PHASE_TIMER = "auth.login.phase";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
+    // Login phases, registered once so recording allocates nothing
+    private final Timer dbLookupTimer;
+    private final Timer dbUpdateTimer;
+    private final Timer bcryptTimer;
+    private final Timer tokenSignTimer;
+    private final Timer redisTimer;
+    private final Timer kafkaTimer;
+
+    public AuthServiceImpl(UserRepository userRepository,
+                           PasswordEncoder passwordEncoder,
+                           JwtTokenProvider jwtTokenProvider,
+                           RedisTemplate<String, String> redisTemplate,
+                           KafkaTemplate<String, Object> kafkaTemplate,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.redisTemplate = redisTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.dbLookupTimer = loginPhaseTimer(meterRegistry, "db_lookup");
+        this.dbUpdateTimer = loginPhaseTimer(meterRegistry, "db_update");
+        this.bcryptTimer = loginPhaseTimer(meterRegistry, "bcrypt");
+        this.tokenSignTimer = loginPhaseTimer(meterRegistry, "token_sign");
+        this.redisTimer = loginPhaseTimer(meterRegistry, "redis");
+        this.kafkaTimer = loginPhaseTimer(meterRegistry, "kafka");
+    }
+
+    private static Timer loginPhaseTimer(MeterRegistry meterRegistry, String phase) {
+        return LatencyTimers.timer(meterRegistry, LOGIN_PHASE_TIMER, "Time spent in each login phase",
+                "phase", phase);
+    }
+
     @Override
     @Transactional
     public LoginResponse login(LoginRequest request) {
         log.info("Login attempt for email: {}", request.getEmail());
 
         // Find user by email
+        long start = System.nanoTime();
         User user = userRepository.findActiveUserByEmail(request.getEmail())
-                .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
+                .orElse(null);
+        LatencyTimers.recordSince(dbLookupTimer, start);
+        if (user == null) {
+            throw new InvalidCredentialsException("Invalid email or password");
+        }
 
         // Check if account is locked
         if (user.isAccountLocked()) {
@@ -49,10 +90,16 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        start = System.nanoTime();
+        boolean passwordMatches = passwordEncoder.matches(request.getPassword(), user.getPasswordHash());
+        LatencyTimers.recordSince(bcryptTimer, start);
+
+        if (!passwordMatches) {
             // Increment failed attempts
             user.incrementFailedLoginAttempts();
+            start = System.nanoTime();
             userRepository.save(user);
+            LatencyTimers.recordSince(dbUpdateTimer, start);
 
             log.warn("Failed login attempt for email: {}", request.getEmail());
             throw new InvalidCredentialsException("Invalid email or password");
@@ -61,17 +108,25 @@ public class AuthServiceImpl implements AuthService {
         // Successful login - reset failed attempts
         user.resetFailedLoginAttempts();
         user.setLastLoginAt(LocalDateTime.now());
+        start = System.nanoTime();
         userRepository.save(user);
+        LatencyTimers.recordSince(dbUpdateTimer, start);
 
         // Generate tokens
+        start = System.nanoTime();
         String accessToken = jwtTokenProvider.generateAccessToken(user);
         String refreshToken = jwtTokenProvider.generateRefreshToken();
+        LatencyTimers.recordSince(tokenSignTimer, start);
 
         // Store refresh token in Redis
+        start = System.nanoTime();
         storeRefreshToken(user.getUserId(), refreshToken, request.getRememberMe());
+        LatencyTimers.recordSince(redisTimer, start);
 
-        // Publish UserLoggedIn event
+        // Publish UserLoggedIn event (send() hands off to the producer; broker acks are not timed)
+        start = System.nanoTime();
         publishLoginEvent(user);
+        LatencyTimers.recordSince(kafkaTimer, start);
 
         log.info("User logged in successfully: userId={}, email={}",
                 user.getUserId(), user.getEmail());
@@ -178,7 +233,7 @@ public class AuthServiceImpl implements AuthService {
         UserLoggedInEvent event = UserLoggedInEvent.builder()
                 .userId(user.getUserId())
                 .email(user.getEmail())
-                .timestamp(LocalDateTime.now())
+                .timestamp(Instant.now())
                 .build();
 
         kafkaTemplate.send("user-events", event);
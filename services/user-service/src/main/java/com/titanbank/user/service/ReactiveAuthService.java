@@ -0,0 +1,26 @@
+package com.titanbank.user.service;
+
+import com.titanbank.user.dto.request.LoginRequest;
+import com.titanbank.user.dto.response.LoginResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AuthService} for reactive edge deployments.
+ */
+public interface ReactiveAuthService {
+
+    /**
+     * Authenticate user and generate tokens
+     */
+    Mono<LoginResponse> login(LoginRequest request);
+
+    /**
+     * Generate new access token using refresh token
+     */
+    Mono<LoginResponse> refreshToken(String refreshToken);
+
+    /**
+     * Logout user and invalidate tokens
+     */
+    Mono<Void> logout(String accessToken);
+}
@@ -0,0 +1,204 @@
+package com.titanbank.user.service;
+
+import com.titanbank.events.UserLoggedInEvent;
+import com.titanbank.user.dto.request.LoginRequest;
+import com.titanbank.user.dto.response.LoginResponse;
+import com.titanbank.user.exception.AccountLockedException;
+import com.titanbank.user.exception.InvalidCredentialsException;
+import com.titanbank.user.exception.InvalidTokenException;
+import com.titanbank.user.exception.TitanBankException;
+import com.titanbank.user.exception.UserNotFoundException;
+import com.titanbank.user.model.entity.User;
+import com.titanbank.user.repository.ReactiveUserRepository;
+import com.titanbank.user.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Same rules as {@link AuthServiceImpl}, but nothing blocks an event-loop thread:
+ * Postgres via R2DBC, Redis via reactive Lettuce, BCrypt on a bounded scheduler
+ * and the Kafka hand-off on the elastic scheduler.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+
+    private final ReactiveUserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Scheduler bcryptScheduler;
+
+    public ReactiveAuthServiceImpl(
+            ReactiveUserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            JwtTokenProvider jwtTokenProvider,
+            ReactiveStringRedisTemplate redisTemplate,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Qualifier("bcryptScheduler") Scheduler bcryptScheduler) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.redisTemplate = redisTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.bcryptScheduler = bcryptScheduler;
+    }
+
+    @Override
+    public Mono<LoginResponse> login(LoginRequest request) {
+        log.info("Login attempt for email: {}", request.getEmail());
+
+        return userRepository.findActiveUserByEmail(request.getEmail())
+                .switchIfEmpty(Mono.error(() -> new InvalidCredentialsException("Invalid email or password")))
+                .flatMap(user -> {
+                    // Check if account is locked
+                    if (user.isAccountLocked()) {
+                        return Mono.error(new AccountLockedException(
+                                "Account is temporarily locked due to multiple failed login attempts. Try again later."
+                        ));
+                    }
+
+                    // Verify password off the event loop
+                    return Mono.fromCallable(() -> passwordEncoder.matches(request.getPassword(), user.getPasswordHash()))
+                            .subscribeOn(bcryptScheduler)
+                            .flatMap(matches -> matches
+                                    ? onSuccessfulLogin(user, request)
+                                    : onFailedLogin(user, request));
+                });
+    }
+
+    @Override
+    public Mono<LoginResponse> refreshToken(String refreshToken) {
+        log.info("Refreshing access token");
+
+        return redisTemplate.opsForValue().get("refresh_token:" + refreshToken)
+                .switchIfEmpty(Mono.error(() -> new InvalidTokenException("Invalid or expired refresh token")))
+                .map(Long::parseLong)
+                .flatMap(userId -> userRepository.findById(userId)
+                        .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found: " + userId))))
+                .flatMap(user -> {
+                    // Verify user is still active
+                    if (!user.getIsActive()) {
+                        return Mono.error(new InvalidTokenException("User account is no longer active"));
+                    }
+
+                    log.info("Access token refreshed for user: {}", user.getEmail());
+                    return Mono.just(buildResponse(user, jwtTokenProvider.generateAccessToken(user), refreshToken));
+                });
+    }
+
+    @Override
+    public Mono<Void> logout(String accessToken) {
+        log.info("Logging out user");
+
+        return Mono.fromCallable(() -> jwtTokenProvider.getUserIdFromToken(accessToken))
+                .flatMap(userId -> {
+                    ReactiveValueOperations<String, String> ops = redisTemplate.opsForValue();
+
+                    // Find and delete refresh token from Redis
+                    Mono<Long> revokeRefreshToken = ops.get("user_refresh_token:" + userId)
+                            .flatMap(refreshToken -> redisTemplate.delete(
+                                    "refresh_token:" + refreshToken,
+                                    "user_refresh_token:" + userId
+                            ));
+
+                    // Blacklist access token (until it expires)
+                    long ttl = jwtTokenProvider.getTokenTTL(accessToken);
+                    Mono<Boolean> blacklist = ttl > 0
+                            ? ops.set("blacklisted_token:" + accessToken, "true", Duration.ofSeconds(ttl))
+                            : Mono.empty();
+
+                    return Mono.when(revokeRefreshToken, blacklist)
+                            .doOnSuccess(done -> log.info("User logged out successfully: userId={}", userId));
+                })
+                .onErrorMap(e -> !(e instanceof TitanBankException), e -> {
+                    log.error("Error during logout", e);
+                    return new InvalidTokenException("Invalid token");
+                });
+    }
+
+    // Helper methods
+
+    private Mono<LoginResponse> onFailedLogin(User user, LoginRequest request) {
+        user.incrementFailedLoginAttempts();
+
+        return userRepository.recordFailedLogin(user)
+                .then(Mono.error(() -> {
+                    log.warn("Failed login attempt for email: {}", request.getEmail());
+                    return new InvalidCredentialsException("Invalid email or password");
+                }));
+    }
+
+    private Mono<LoginResponse> onSuccessfulLogin(User user, LoginRequest request) {
+        user.resetFailedLoginAttempts();
+        user.setLastLoginAt(LocalDateTime.now());
+
+        String accessToken = jwtTokenProvider.generateAccessToken(user);
+        String refreshToken = jwtTokenProvider.generateRefreshToken();
+
+        return userRepository.recordSuccessfulLogin(user)
+                .then(storeRefreshToken(user.getUserId(), refreshToken, request.getRememberMe()))
+                .then(publishLoginEvent(user))
+                .then(Mono.fromSupplier(() -> {
+                    log.info("User logged in successfully: userId={}, email={}",
+                            user.getUserId(), user.getEmail());
+                    return buildResponse(user, accessToken, refreshToken);
+                }));
+    }
+
+    private Mono<Void> storeRefreshToken(Long userId, String refreshToken, Boolean rememberMe) {
+        Duration expiry = Boolean.TRUE.equals(rememberMe) ?
+                Duration.ofDays(30) : Duration.ofDays(7);
+
+        ReactiveValueOperations<String, String> ops = redisTemplate.opsForValue();
+        return Mono.when(
+                ops.set("refresh_token:" + refreshToken, userId.toString(), expiry),
+                ops.set("user_refresh_token:" + userId, refreshToken, expiry)
+        );
+    }
+
+    private Mono<Void> publishLoginEvent(User user) {
+        UserLoggedInEvent event = UserLoggedInEvent.builder()
+                .userId(user.getUserId())
+                .email(user.getEmail())
+                .timestamp(Instant.now())
+                .build();
+
+        // send() can block on a metadata refresh, so hand it off like the servlet path would
+        return Mono.fromRunnable(() -> kafkaTemplate.send("user-events", event))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private LoginResponse buildResponse(User user, String accessToken, String refreshToken) {
+        return LoginResponse.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .tokenType("Bearer")
+                .expiresIn(jwtTokenProvider.getAccessTokenExpiration())
+                .userInfo(LoginResponse.UserInfoDTO.builder()
+                        .userId(user.getUserId())
+                        .email(user.getEmail())
+                        .firstName(user.getFirstName())
+                        .lastName(user.getLastName())
+                        .roles(user.getRoles())
+                        .kycStatus(user.getKycStatus())
+                        .build())
+                .build();
+    }
+}
@@ -1,11 +1,13 @@
 package com.titanbank.user.service;
 
+import com.titanbank.common.id.SecureTokens;
+import com.titanbank.common.id.UuidV7;
+import com.titanbank.events.UserProfileUpdatedEvent;
+import com.titanbank.events.UserRegisteredEvent;
 import com.titanbank.user.dto.request.UserProfileUpdateRequest;
 import com.titanbank.user.dto.request.UserRegistrationRequest;
 import com.titanbank.user.dto.response.UserProfileResponse;
 import com.titanbank.user.dto.response.UserRegistrationResponse;
-import com.titanbank.user.event.UserProfileUpdatedEvent;
-import com.titanbank.user.event.UserRegisteredEvent;
 import com.titanbank.user.exception.DuplicateEmailException;
 import com.titanbank.user.exception.InvalidFileException;
 import com.titanbank.user.exception.InvalidTokenException;
@@ -14,7 +16,7 @@ import com.titanbank.user.model.entity.User;
 import com.titanbank.user.model.entity.UserProfile;
 import com.titanbank.user.model.enums.DocumentType;
 import com.titanbank.user.model.enums.KYCStatus;
-import com.titanbank.user.model.enums.UserRole;
+import com.titanbank.common.security.UserRole;
 import com.titanbank.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,9 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -74,15 +76,17 @@ public class UserServiceImpl implements UserService {
 
         // Publish UserRegistered event to Kafka
         UserRegisteredEvent event = UserRegisteredEvent.builder()
+                .eventId(UuidV7.next())
                 .userId(savedUser.getUserId())
                 .email(savedUser.getEmail())
                 .firstName(savedUser.getFirstName())
                 .lastName(savedUser.getLastName())
                 .verificationToken(verificationToken)
-                .timestamp(java.time.LocalDateTime.now())
+                .timestamp(Instant.now())
                 .build();
 
-        kafkaTemplate.send("user-events", event);
+        // Keyed by user so all of a user's events stay ordered on one partition
+        kafkaTemplate.send("user-events", savedUser.getUserId().toString(), event);
         log.info("Published UserRegistered event for user: {}", savedUser.getUserId());
 
         return UserRegistrationResponse.builder()
@@ -93,6 +97,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserProfileResponse getUserProfile(Long userId) {
         log.info("Fetching profile for user: {}", userId);
 
@@ -136,7 +141,7 @@ public class UserServiceImpl implements UserService {
         // Publish UserProfileUpdated event
         UserProfileUpdatedEvent event = UserProfileUpdatedEvent.builder()
                 .userId(updatedUser.getUserId())
-                .timestamp(java.time.LocalDateTime.now())
+                .timestamp(Instant.now())
                 .build();
 
         kafkaTemplate.send("user-events", event);
@@ -197,7 +202,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
 
         // Generate reset token
-        String resetToken = UUID.randomUUID().toString();
+        String resetToken = SecureTokens.randomUuid().toString();
 
         // Store in Redis (1 hour expiry)
         redisTemplate.opsForValue().set(
@@ -237,7 +242,7 @@ public class UserServiceImpl implements UserService {
     // Helper methods
 
     private String generateVerificationToken(Long userId) {
-        String token = UUID.randomUUID().toString();
+        String token = SecureTokens.randomUuid().toString();
         redisTemplate.opsForValue().set(
                 "email_verification:" + token,
                 userId.toString(),
@@ -0,0 +1,136 @@
+package com.titanbank.user.analytics;
+
+import com.titanbank.events.UserLoggedInEvent;
+import com.titanbank.user.dto.response.LoginAnalyticsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LoginAnalyticsTest {
+
+    private static final Instant T0 = Instant.parse("2026-05-01T10:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testLoginsPerMinute_TumblingWindows() {
+        // Given
+        LoginAnalytics analytics = analytics(new LoginAnalyticsProperties());
+
+        // When
+        analytics.recordAll(List.of(
+                login(1, T0),
+                login(2, T0.plusSeconds(59)),
+                login(3, T0.plusSeconds(60)),
+                login(1, T0.plusSeconds(185))));
+
+        // Then
+        LoginAnalyticsResponse snapshot = analytics.snapshot();
+        assertThat(snapshot.getLoginsPerMinute())
+                .extracting(LoginAnalyticsResponse.WindowCount::getWindowStart, LoginAnalyticsResponse.WindowCount::getCount)
+                .containsExactly(
+                        tuple(T0, 2L),
+                        tuple(T0.plusSeconds(60), 1L),
+                        tuple(T0.plusSeconds(180), 1L));
+        assertThat(snapshot.getWatermark()).isEqualTo(T0.plusSeconds(185));
+    }
+
+    @Test
+    void testDistinctUsersPerHour_EstimatedWithinTwoPercent() {
+        // Given
+        LoginAnalytics analytics = analytics(new LoginAnalyticsProperties());
+        List<UserLoggedInEvent> logins = new ArrayList<>();
+        for (long userId = 1; userId <= 200_000; userId++) {
+            // Every user twice, Snowflake-like ids
+            logins.add(login(userId << 22, T0.plusMillis(userId)));
+            logins.add(login(userId << 22, T0.plusMillis(userId + 1)));
+        }
+
+        // When
+        analytics.recordAll(logins);
+
+        // Then
+        LoginAnalyticsResponse.WindowCount hour = analytics.snapshot().getDistinctUsersPerHour().get(0);
+        assertThat(hour.getWindowStart()).isEqualTo(T0);
+        assertThat(hour.getCount()).isBetween(196_000L, 204_000L);
+    }
+
+    @Test
+    void testOldWindowsRecycled_LateLoginsDropped() {
+        // Given
+        LoginAnalyticsProperties properties = new LoginAnalyticsProperties();
+        properties.setMinutes(5);
+        LoginAnalytics analytics = analytics(properties);
+
+        // When - minute 7 reuses minute 2's slot, after which minute 2 is late
+        analytics.recordAll(List.of(login(1, T0.plusSeconds(120)), login(1, T0.plusSeconds(420))));
+        analytics.recordAll(List.of(login(2, T0.plusSeconds(130))));
+
+        // Then
+        LoginAnalyticsResponse snapshot = analytics.snapshot();
+        assertThat(snapshot.getLoginsPerMinute())
+                .extracting(LoginAnalyticsResponse.WindowCount::getWindowStart)
+                .containsExactly(T0.plusSeconds(420));
+        assertThat(snapshot.getLateEvents()).isEqualTo(1);
+        assertThat(meterRegistry.get("login.analytics.events").tag("outcome", "late").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testBurst_ReportedOncePerWindow() {
+        // Given
+        LoginAnalyticsProperties properties = new LoginAnalyticsProperties();
+        properties.setBurstThreshold(3);
+        properties.setBurstWindow(Duration.ofMinutes(1));
+        LoginAnalytics analytics = analytics(properties);
+
+        // When - user 9: four logins in 30 s; user 5: three logins spread over two minutes
+        analytics.recordAll(List.of(
+                login(9, T0),
+                login(5, T0),
+                login(9, T0.plusSeconds(10)),
+                login(5, T0.plusSeconds(70)),
+                login(9, T0.plusSeconds(20)),
+                login(9, T0.plusSeconds(30)),
+                login(5, T0.plusSeconds(140))));
+
+        // Then
+        assertThat(analytics.snapshot().getRecentBursts())
+                .extracting(LoginAnalyticsResponse.Burst::getUserId, LoginAnalyticsResponse.Burst::getFirstLoginAt,
+                        LoginAnalyticsResponse.Burst::getLastLoginAt)
+                .containsExactly(tuple(9L, T0, T0.plusSeconds(20)));
+    }
+
+    @Test
+    void testTrackedUsers_Bounded() {
+        // Given
+        LoginAnalyticsProperties properties = new LoginAnalyticsProperties();
+        properties.setMaxTrackedUsers(1_000);
+        LoginAnalytics analytics = analytics(properties);
+        List<UserLoggedInEvent> logins = new ArrayList<>();
+        for (long userId = 1; userId <= 5_000; userId++) {
+            logins.add(login(userId, T0));
+        }
+
+        // When
+        analytics.recordAll(logins);
+
+        // Then
+        assertThat(analytics.snapshot().getTrackedUsers()).isEqualTo(1_000);
+    }
+
+    private LoginAnalytics analytics(LoginAnalyticsProperties properties) {
+        return new LoginAnalytics(properties, meterRegistry);
+    }
+
+    private static UserLoggedInEvent login(long userId, Instant at) {
+        return new UserLoggedInEvent(userId, "user" + userId + "@example.com", at);
+    }
+}
@@ -0,0 +1,146 @@
+package com.titanbank.user.dashboard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.titanbank.user.dto.response.DashboardResponse;
+import com.titanbank.user.dto.response.DashboardResponse.AccountSummary;
+import com.titanbank.user.dto.response.UserProfileResponse;
+import com.titanbank.user.exception.UserNotFoundException;
+import com.titanbank.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardAggregatorTest {
+
+    private static final String BEARER = "Bearer token";
+
+    private final UserService userService = mock(UserService.class);
+    private final AccountsClient accountsClient = mock(AccountsClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testDashboard_FetchesPartsInParallel() {
+        // Given
+        DashboardAggregator aggregator = aggregator(new DashboardProperties());
+        when(userService.getUserProfile(1L)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return profile(1L);
+        });
+        when(accountsClient.fetchAccounts(BEARER)).thenReturn(
+                CompletableFuture.supplyAsync(() -> List.of(account()),
+                        CompletableFuture.delayedExecutor(300, TimeUnit.MILLISECONDS)));
+
+        // When
+        long start = System.nanoTime();
+        DashboardResponse dashboard = aggregator.dashboard(1L, BEARER);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(dashboard.getProfile().getUserId()).isEqualTo(1L);
+        assertThat(dashboard.getAccounts()).hasSize(1);
+        assertThat(dashboard.getUnavailable()).isEmpty();
+        assertThat(elapsedMillis).isLessThan(550);
+        assertThat(meterRegistry.counter("user.dashboard.responses", "outcome", "complete").count()).isEqualTo(1);
+    }
+
+    @Test
+    void testDashboard_SlowAccounts_ReturnsPartialAndDoesNotCache() {
+        // Given
+        DashboardProperties properties = new DashboardProperties();
+        properties.setAccountsTimeout(Duration.ofMillis(100));
+        DashboardAggregator aggregator = aggregator(properties);
+        when(userService.getUserProfile(1L)).thenReturn(profile(1L));
+        when(accountsClient.fetchAccounts(BEARER)).thenReturn(new CompletableFuture<>());
+
+        // When
+        DashboardResponse first = aggregator.dashboard(1L, BEARER);
+        aggregator.dashboard(1L, BEARER);
+
+        // Then
+        assertThat(first.getProfile().getUserId()).isEqualTo(1L);
+        assertThat(first.getAccounts()).isNull();
+        assertThat(first.getUnavailable()).containsExactly(DashboardAggregator.ACCOUNTS);
+        verify(accountsClient, times(2)).fetchAccounts(BEARER);
+        assertThat(meterRegistry.counter("user.dashboard.responses", "outcome", "partial").count()).isEqualTo(2);
+    }
+
+    @Test
+    void testDashboard_CompleteResultIsCachedPerUser() {
+        // Given
+        DashboardAggregator aggregator = aggregator(new DashboardProperties());
+        when(userService.getUserProfile(1L)).thenReturn(profile(1L));
+        when(accountsClient.fetchAccounts(BEARER)).thenReturn(CompletableFuture.completedFuture(List.of(account())));
+
+        // When
+        DashboardResponse first = aggregator.dashboard(1L, BEARER);
+        DashboardResponse second = aggregator.dashboard(1L, BEARER);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(userService, times(1)).getUserProfile(1L);
+        verify(accountsClient, times(1)).fetchAccounts(BEARER);
+        assertThat(meterRegistry.counter("user.dashboard.responses", "outcome", "cached").count()).isEqualTo(1);
+    }
+
+    @Test
+    void testDashboard_UnknownUser_Throws() {
+        // Given
+        DashboardAggregator aggregator = aggregator(new DashboardProperties());
+        when(userService.getUserProfile(9L)).thenThrow(new UserNotFoundException("User not found"));
+        when(accountsClient.fetchAccounts(BEARER)).thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        // When / Then
+        assertThatThrownBy(() -> aggregator.dashboard(9L, BEARER)).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void testDashboard_SnowflakeUserIdIsWrittenAsString() throws Exception {
+        // Given - above 2^53, where a JavaScript number would round it
+        long userId = 364_385_627_498_389_505L;
+        DashboardAggregator aggregator = aggregator(new DashboardProperties());
+        when(userService.getUserProfile(userId)).thenReturn(profile(userId));
+        when(accountsClient.fetchAccounts(BEARER)).thenReturn(CompletableFuture.completedFuture(List.of()));
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        // When
+        String json = objectMapper.writeValueAsString(aggregator.dashboard(userId, BEARER));
+
+        // Then
+        assertThat(objectMapper.readTree(json).at("/profile/userId").isTextual()).isTrue();
+        assertThat(objectMapper.readTree(json).at("/profile/userId").asText()).isEqualTo("364385627498389505");
+        assertThat(objectMapper.readValue(json, DashboardResponse.class).getProfile().getUserId()).isEqualTo(userId);
+    }
+
+    private DashboardAggregator aggregator(DashboardProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+        return new DashboardAggregator(userService, accountsClient, executor, properties, meterRegistry);
+    }
+
+    private static UserProfileResponse profile(Long userId) {
+        return UserProfileResponse.builder().userId(userId).email("user" + userId + "@titanbank.com").build();
+    }
+
+    private static AccountSummary account() {
+        return AccountSummary.builder()
+                .accountId(UUID.randomUUID())
+                .accountType("SAVINGS")
+                .currency("USD")
+                .balance(new BigDecimal("100.0000"))
+                .status("ACTIVE")
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.titanbank.user.repository;
+
+import com.titanbank.common.security.UserRole;
+import com.titanbank.user.model.entity.User;
+import com.titanbank.user.model.enums.KYCStatus;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Reads over R2DBC the rows JPA committed, on the schema Hibernate generates for the entities
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReactiveUserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String url;
+        try (Connection connection = dataSource.getConnection()) {
+            url = connection.getMetaData().getURL();
+        }
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(url.substring("jdbc:h2:".length()))
+                .username("sa")
+                .build());
+        reactiveUserRepository = new ReactiveUserRepository(DatabaseClient.create(connectionFactory));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testFindActiveUserByEmail_LoadsRoles() {
+        // Given
+        User user = User.builder()
+                .email("roles@example.com")
+                .passwordHash("hash")
+                .firstName("Role")
+                .lastName("Holder")
+                .kycStatus(KYCStatus.APPROVED)
+                .isActive(true)
+                .build();
+        user.addRole(UserRole.USER);
+        user.addRole(UserRole.ADMIN);
+        User saved = userRepository.save(user);
+
+        // When
+        User found = reactiveUserRepository.findActiveUserByEmail("roles@example.com").block();
+
+        // Then
+        assertThat(found).isNotNull();
+        assertThat(found.getUserId()).isEqualTo(saved.getUserId());
+        assertThat(found.getRoles()).containsExactlyInAnyOrder(UserRole.USER, UserRole.ADMIN);
+    }
+
+    @Test
+    void testFindById_LoadsOnlyItsOwnRoles() {
+        // Given
+        User admin = User.builder()
+                .email("admin@example.com")
+                .passwordHash("hash")
+                .firstName("Admin")
+                .lastName("User")
+                .kycStatus(KYCStatus.APPROVED)
+                .isActive(true)
+                .build();
+        admin.addRole(UserRole.ADMIN);
+        User customer = User.builder()
+                .email("customer@example.com")
+                .passwordHash("hash")
+                .firstName("Plain")
+                .lastName("User")
+                .kycStatus(KYCStatus.PENDING)
+                .isActive(true)
+                .build();
+        customer.addRole(UserRole.USER);
+        userRepository.save(admin);
+        User savedCustomer = userRepository.save(customer);
+
+        // When
+        User found = reactiveUserRepository.findById(savedCustomer.getUserId()).block();
+
+        // Then
+        assertThat(found).isNotNull();
+        assertThat(found.getRoles()).containsExactly(UserRole.USER);
+    }
+}
@@ -2,7 +2,7 @@ package com.titanbank.user.repository;
 
 import com.titanbank.user.model.entity.User;
 import com.titanbank.user.model.enums.KYCStatus;
-import com.titanbank.user.model.enums.UserRole;
+import com.titanbank.common.security.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
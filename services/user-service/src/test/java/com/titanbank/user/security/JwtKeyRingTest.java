@@ -0,0 +1,198 @@
+package com.titanbank.user.security;
+
+import com.titanbank.user.model.entity.User;
+import com.titanbank.common.security.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Base64;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET =
+            "test-secret-test-secret-test-secret-test-secret-test-secret-test";
+
+    private final Instant rotation = Instant.now().plus(Duration.ofDays(1));
+
+    private KeyPair ecKeyPair;
+    private JwtKeyRing keyRing;
+    private JwtTokenProvider tokenProvider;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyRingProperties.Key next = new JwtKeyRingProperties.Key();
+        next.setKid("next");
+        next.setSecret(SECRET + "-next");
+        next.setActivateAt(rotation);
+
+        ecKeyPair = Jwts.SIG.ES256.keyPair().build();
+        JwtKeyRingProperties.Key asymmetric = new JwtKeyRingProperties.Key();
+        asymmetric.setKid("es-1");
+        asymmetric.setAlgorithm("ES256");
+        asymmetric.setPrivateKey(Base64.getEncoder().encodeToString(ecKeyPair.getPrivate().getEncoded()));
+        asymmetric.setPublicKey(Base64.getEncoder().encodeToString(ecKeyPair.getPublic().getEncoded()));
+        asymmetric.setActivateAt(rotation.plus(Duration.ofDays(1)));
+
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setKeys(List.of(next, asymmetric));
+        properties.setOverlap(Duration.ofMinutes(15));
+
+        keyRing = new JwtKeyRing(properties, SECRET, 900L);
+        tokenProvider = new JwtTokenProvider(keyRing, 900L, 604800L);
+
+        testUser = User.builder()
+                .userId(1L)
+                .email("test@example.com")
+                .build();
+        testUser.addRole(UserRole.USER);
+    }
+
+    @Test
+    void testSignsWithDefaultKeyBeforeRotation() {
+        // When
+        String token = tokenProvider.generateAccessToken(testUser);
+
+        // Then
+        assertThat(keyRing.signingKey().kid()).isEqualTo("default");
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+        assertThat(tokenProvider.getUserIdFromToken(token)).isEqualTo(1L);
+        assertThat(tokenProvider.getRolesFromToken(token)).containsExactly(UserRole.USER);
+    }
+
+    @Test
+    void testOldKeyStillVerifiesDuringOverlap() {
+        // Given
+        String issuedBeforeRotation = tokenProvider.generateAccessToken(testUser);
+
+        // When
+        keyRing.refresh(rotation.plus(Duration.ofMinutes(10)));
+        String issuedAfterRotation = tokenProvider.generateAccessToken(testUser);
+
+        // Then
+        assertThat(keyRing.signingKey().kid()).isEqualTo("next");
+        assertThat(tokenProvider.getEmailFromToken(issuedBeforeRotation)).isEqualTo("test@example.com");
+        assertThat(tokenProvider.getEmailFromToken(issuedAfterRotation)).isEqualTo("test@example.com");
+    }
+
+    @Test
+    void testOldKeyRejectedAfterOverlap() {
+        // Given
+        String issuedBeforeRotation = tokenProvider.generateAccessToken(testUser);
+
+        // When
+        keyRing.refresh(rotation.plus(Duration.ofMinutes(16)));
+
+        // Then
+        assertThat(tokenProvider.validateToken(issuedBeforeRotation)).isFalse();
+        assertThatThrownBy(() -> keyRing.verificationKey("default"))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void testTokenWithoutKidUsesDefaultKey() {
+        // Given - token issued before kid headers were introduced
+        String legacyToken = Jwts.builder()
+                .subject("1")
+                .claim("email", "test@example.com")
+                .expiration(new java.util.Date(System.currentTimeMillis() + 60_000))
+                .signWith((SecretKey) keyRing.verificationKey("default"), Jwts.SIG.HS512)
+                .compact();
+
+        // When & Then
+        assertThat(tokenProvider.getUserIdFromToken(legacyToken)).isEqualTo(1L);
+    }
+
+    @Test
+    void testUnknownKidRejected() {
+        // Given
+        String foreignToken = Jwts.builder()
+                .header().keyId("unknown").and()
+                .subject("1")
+                .signWith((SecretKey) keyRing.verificationKey("default"), Jwts.SIG.HS512)
+                .compact();
+
+        // When & Then
+        assertThat(tokenProvider.validateToken(foreignToken)).isFalse();
+    }
+
+    @Test
+    void testSignsWithEs256OnceActive() {
+        // When
+        keyRing.refresh(rotation.plus(Duration.ofDays(1)));
+        String token = tokenProvider.generateAccessToken(testUser);
+
+        // Then
+        assertThat(keyRing.signingKey().kid()).isEqualTo("es-1");
+        assertThat(token).startsWith(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"kid\":\"es-1\",\"alg\":\"ES256\"}".getBytes()));
+        assertThat(tokenProvider.getUserIdFromToken(token)).isEqualTo(1L);
+    }
+
+    @Test
+    void testPublishesOnlyAsymmetricKeys() {
+        // When & Then - upcoming keys are published ahead of activation
+        assertThat(keyRing.publicKeys()).containsOnlyKeys("es-1");
+        assertThat(keyRing.publicKeys().get("es-1")).isEqualTo(ecKeyPair.getPublic());
+    }
+
+    @Test
+    void testAlgorithmPinnedToKid() {
+        // Given - HS512 token claiming the ES256 key id
+        String forged = Jwts.builder()
+                .header().keyId("es-1").and()
+                .subject("1")
+                .signWith((SecretKey) keyRing.verificationKey("default"), Jwts.SIG.HS512)
+                .compact();
+
+        // When & Then
+        assertThat(tokenProvider.validateToken(forged)).isFalse();
+    }
+
+    @Test
+    void testRequireAsymmetricKey_UnsetKeyPair_RefusesToStart() {
+        // Given - the deployed configuration with no key pair in the environment
+        JwtKeyRingProperties.Key unset = new JwtKeyRingProperties.Key();
+        unset.setKid("es256");
+        unset.setAlgorithm("ES256");
+        unset.setPrivateKey("");
+        unset.setPublicKey("");
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setKeys(List.of(unset));
+        properties.setRequireAsymmetricKey(true);
+
+        // When & Then
+        assertThatThrownBy(() -> new JwtKeyRing(properties, SECRET, 900L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No ES256 or EdDSA key");
+    }
+
+    @Test
+    void testRequireAsymmetricKey_KeyPairConfigured_Starts() {
+        // Given
+        JwtKeyRingProperties.Key asymmetric = new JwtKeyRingProperties.Key();
+        asymmetric.setKid("es-1");
+        asymmetric.setAlgorithm("ES256");
+        asymmetric.setPrivateKey(Base64.getEncoder().encodeToString(ecKeyPair.getPrivate().getEncoded()));
+        asymmetric.setPublicKey(Base64.getEncoder().encodeToString(ecKeyPair.getPublic().getEncoded()));
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setKeys(List.of(asymmetric));
+        properties.setRequireAsymmetricKey(true);
+
+        // When
+        JwtKeyRing started = new JwtKeyRing(properties, SECRET, 900L);
+
+        // Then
+        assertThat(started.publicKeys()).containsOnlyKeys("es-1");
+    }
+}
@@ -1,26 +1,20 @@
 package com.titanbank.user.security;
 
+import com.titanbank.common.security.UserRole;
 import com.titanbank.user.model.entity.User;
 import com.titanbank.user.model.enums.KYCStatus;
-import com.titanbank.user.model.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
-import org.testng.annotations.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.TestPropertySource;
+import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
-@TestPropertySource(properties = {
-        "jwt.secret=testSecretKeyForJwtTokenGenerationAndValidationPurposesOnly",
-        "jwt.access-token-expiration=900",
-        "jwt.refresh-token-expiration=604800"
-})
 class JwtTokenProviderTest {
 
-    @Autowired
-    private JwtTokenProvider tokenProvider;
+    private static final String SECRET =
+            "testSecretKeyForJwtTokenGenerationAndValidationPurposesOnly-testSecretKeyForJwtTokenGeneration";
+
+    private final JwtTokenProvider tokenProvider =
+            new JwtTokenProvider(new JwtKeyRing(new JwtKeyRingProperties(), SECRET, 900L), 900L, 604800L);
 
     private User testUser;
 
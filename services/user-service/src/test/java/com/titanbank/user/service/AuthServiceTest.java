@@ -1,18 +1,21 @@
 package com.titanbank.user.service;
 
+import com.titanbank.common.security.UserRole;
 import com.titanbank.user.dto.request.LoginRequest;
 import com.titanbank.user.dto.response.LoginResponse;
 import com.titanbank.user.exception.InvalidCredentialsException;
 import com.titanbank.user.model.entity.User;
 import com.titanbank.user.model.enums.KYCStatus;
-import com.titanbank.user.model.enums.UserRole;
 import com.titanbank.user.repository.UserRepository;
 import com.titanbank.user.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
@@ -47,6 +50,9 @@ class AuthServiceTest {
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -73,9 +79,6 @@ class AuthServiceTest {
         loginRequest.setEmail("test@example.com");
         loginRequest.setPassword("password123");
         loginRequest.setRememberMe(false);
-
-        // Mock Redis operations
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
     @Test
@@ -91,6 +94,8 @@ class AuthServiceTest {
                 .thenReturn("refresh-token");
         when(jwtTokenProvider.getAccessTokenExpiration())
                 .thenReturn(900L);
+        when(redisTemplate.opsForValue())
+                .thenReturn(valueOperations);
 
         // When
         LoginResponse response = authService.login(loginRequest);
@@ -105,6 +110,12 @@ class AuthServiceTest {
 
         verify(userRepository).save(testUser);
         verify(kafkaTemplate).send(eq("user-events"), any());
+
+        for (String phase : new String[]{"db_lookup", "bcrypt", "db_update", "token_sign", "redis", "kafka"}) {
+            assertThat(meterRegistry.get("auth.login.phase").tag("phase", phase).timer().count())
+                    .as(phase)
+                    .isEqualTo(1);
+        }
     }
 
     @Test
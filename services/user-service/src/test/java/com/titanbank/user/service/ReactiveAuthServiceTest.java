@@ -0,0 +1,152 @@
+package com.titanbank.user.service;
+
+import com.titanbank.user.dto.request.LoginRequest;
+import com.titanbank.user.dto.response.LoginResponse;
+import com.titanbank.user.exception.InvalidCredentialsException;
+import com.titanbank.user.model.entity.User;
+import com.titanbank.user.model.enums.KYCStatus;
+import com.titanbank.common.security.UserRole;
+import com.titanbank.user.repository.ReactiveUserRepository;
+import com.titanbank.user.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAuthServiceTest {
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private ReactiveStringRedisTemplate redisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, String> valueOperations;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private ReactiveAuthServiceImpl authService;
+
+    private User testUser;
+    private LoginRequest loginRequest;
+
+    @BeforeEach
+    void setUp() {
+        authService = new ReactiveAuthServiceImpl(
+                userRepository, passwordEncoder, jwtTokenProvider,
+                redisTemplate, kafkaTemplate, Schedulers.immediate()
+        );
+
+        testUser = User.builder()
+                .userId(1L)
+                .email("test@example.com")
+                .passwordHash("hashedPassword")
+                .firstName("John")
+                .lastName("Doe")
+                .kycStatus(KYCStatus.PENDING)
+                .isActive(true)
+                .isEmailVerified(true)
+                .failedLoginAttempts(0)
+                .build();
+
+        testUser.addRole(UserRole.USER);
+
+        loginRequest = new LoginRequest();
+        loginRequest.setEmail("test@example.com");
+        loginRequest.setPassword("password123");
+        loginRequest.setRememberMe(false);
+    }
+
+    @Test
+    void testLogin_Success() {
+        // Given
+        when(userRepository.findActiveUserByEmail("test@example.com"))
+                .thenReturn(Mono.just(testUser));
+        when(passwordEncoder.matches("password123", "hashedPassword"))
+                .thenReturn(true);
+        when(userRepository.recordSuccessfulLogin(testUser))
+                .thenReturn(Mono.empty());
+        when(jwtTokenProvider.generateAccessToken(testUser))
+                .thenReturn("access-token");
+        when(jwtTokenProvider.generateRefreshToken())
+                .thenReturn("refresh-token");
+        when(jwtTokenProvider.getAccessTokenExpiration())
+                .thenReturn(900L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.set(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+
+        // When
+        LoginResponse response = authService.login(loginRequest).block();
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getAccessToken()).isEqualTo("access-token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+        assertThat(response.getExpiresIn()).isEqualTo(900L);
+        assertThat(response.getUserInfo().getUserId()).isEqualTo(1L);
+
+        verify(valueOperations).set(eq("refresh_token:refresh-token"), eq("1"), any(Duration.class));
+        verify(kafkaTemplate).send(eq("user-events"), any());
+    }
+
+    @Test
+    void testLogin_InvalidPassword() {
+        // Given
+        when(userRepository.findActiveUserByEmail("test@example.com"))
+                .thenReturn(Mono.just(testUser));
+        when(passwordEncoder.matches("wrongpassword", "hashedPassword"))
+                .thenReturn(false);
+        when(userRepository.recordFailedLogin(testUser))
+                .thenReturn(Mono.empty());
+
+        loginRequest.setPassword("wrongpassword");
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(loginRequest).block())
+                .isInstanceOf(InvalidCredentialsException.class)
+                .hasMessage("Invalid email or password");
+
+        verify(userRepository).recordFailedLogin(testUser);
+        assertThat(testUser.getFailedLoginAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void testLogin_UserNotFound() {
+        // Given
+        when(userRepository.findActiveUserByEmail("nonexistent@example.com"))
+                .thenReturn(Mono.empty());
+
+        loginRequest.setEmail("nonexistent@example.com");
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(loginRequest).block())
+                .isInstanceOf(InvalidCredentialsException.class)
+                .hasMessage("Invalid email or password");
+
+        verifyNoInteractions(passwordEncoder);
+    }
+}